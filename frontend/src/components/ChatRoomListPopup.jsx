@@ -49,6 +49,7 @@ function ChatRoomListPopup({ onClose, onUnreadCountUpdate }) {
         // 새 메시지 수신 시 채팅방 리스트 업데이트
         client.subscribe(`/queue/chat/${myId}`, (message) => {
           const body = JSON.parse(message.body);
+          if (body.type === 'UNREAD_DELTA') return; // 헤더 배지용 안 읽은 수 변화
           console.log('📨 새 메시지 수신 (리스트 업데이트):', body);
           
           // 해당 채팅방의 안 읽은 메시지 개수 증가
@@ -128,26 +128,12 @@ const Header = () => {
       () => {
         console.log('✅ 헤더 WebSocket 연결 성공');
 
-        // 새 메시지 수신 시 전체 안 읽은 메시지 개수 증가
+        // 서버가 보내는 안 읽은 수 변화(UNREAD_DELTA)로 배지 갱신 (새 메시지/읽음 처리 모두)
         client.subscribe(`/queue/chat/${myId}`, (message) => {
           const body = JSON.parse(message.body);
-          console.log('📨 새 메시지 수신 (헤더 업데이트):', body);
-          setTotalUnreadCount((prev) => prev + 1);
-        });
-
-        // 읽음 처리 시 전체 안 읽은 메시지 개수 감소
-        client.subscribe(`/queue/read/${myId}`, (message) => {
-          const body = JSON.parse(message.body);
-          console.log('👁️ 읽음 알림 수신 (헤더 업데이트):', body);
-          // 읽음 처리 시 전체 안 읽은 메시지 개수를 다시 조회하여 정확한 개수로 업데이트
-          axios
-            .get('/chat/unread-count')
-            .then((res) => {
-              setTotalUnreadCount(res.data);
-            })
-            .catch((err) =>
-              console.error('❌ 전체 안 읽은 메시지 개수 조회 실패:', err)
-            );
+          if (body.type === 'UNREAD_DELTA') {
+            setTotalUnreadCount(body.totalUnreadCount);
+          }
         });
       },
       (error) => {
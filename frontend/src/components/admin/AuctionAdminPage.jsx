@@ -21,6 +21,9 @@ const AuctionDetailModal = ({ auction, onClose, onEdit }) => (
       <div style={{ marginBottom: 8 }}><b>시작가:</b> {auction.start_price}P</div>
       <div style={{ marginBottom: 8 }}><b>경매 기간:</b> {auction.start_time?.slice(0,16).replace('T',' ')} ~ {auction.end_time?.slice(0,16).replace('T',' ')}</div>
       <div style={{ marginBottom: 8 }}><b>최소 입찰 단위:</b> {auction.bid_unit}P</div>
+      {auction.soft_close_seconds > 0 && auction.soft_close_extend_seconds > 0 && (
+        <div style={{ marginBottom: 8 }}><b>마감 연장:</b> 종료 {auction.soft_close_seconds}초 전 입찰 시 {auction.soft_close_extend_seconds}초 연장</div>
+      )}
       <div style={{ marginBottom: 8 }}><b>상태:</b> {auction.auction_status === 'SCHEDULED' ? '예정' : auction.auction_status === 'ACTIVE' ? '진행' : '완료'}</div>
       {auction.currentWinnerName && (
         <div style={{ marginBottom: 8 }}><b>입찰자:</b> {auction.currentWinnerName}</div>
@@ -45,6 +48,8 @@ const AuctionEditModal = ({ auction, onClose, onSave }) => {
     startDate: auction.start_time ? auction.start_time.slice(0,16) : '',
     endDate: auction.end_time ? auction.end_time.slice(0,16) : '',
     bidUnit: auction.bid_unit || '',
+    softCloseSeconds: auction.soft_close_seconds || '',
+    softCloseExtendSeconds: auction.soft_close_extend_seconds || '',
     description: auction.auction_description || ''
   });
   const handleChange = e => setForm({ ...form, [e.target.name]: e.target.value });
@@ -56,6 +61,8 @@ const AuctionEditModal = ({ auction, onClose, onSave }) => {
         start_time: form.startDate,
         end_time: form.endDate,
         bid_unit: form.bidUnit,
+        soft_close_seconds: form.softCloseSeconds || null,
+        soft_close_extend_seconds: form.softCloseExtendSeconds || null,
         auction_description: form.description
       });
       alert('수정 완료!');
@@ -79,6 +86,10 @@ const AuctionEditModal = ({ auction, onClose, onSave }) => {
           <input name="endDate" type="datetime-local" value={form.endDate} onChange={handleChange} style={{ width: '100%', marginBottom: 8 }} />
           <label>최소 입찰 단위</label>
           <input name="bidUnit" value={form.bidUnit} onChange={handleChange} style={{ width: '100%', marginBottom: 8 }} />
+          <label>마감 연장 구간 (초, 비우면 연장 없음)</label>
+          <input name="softCloseSeconds" type="number" min="0" value={form.softCloseSeconds} onChange={handleChange} style={{ width: '100%', marginBottom: 8 }} />
+          <label>마감 연장 시간 (초)</label>
+          <input name="softCloseExtendSeconds" type="number" min="0" value={form.softCloseExtendSeconds} onChange={handleChange} style={{ width: '100%', marginBottom: 8 }} />
           <label>경매 설명</label>
           <textarea name="description" value={form.description} onChange={handleChange} style={{ width: '100%' }} />
         </div>
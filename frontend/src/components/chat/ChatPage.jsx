@@ -4,6 +4,14 @@ import { useParams } from 'react-router-dom';
 import axios from '../../api/axios';
 import { jwtDecode } from 'jwt-decode';
 
+const PAGE_SIZE = 50; // 채팅 기록 한 번에 불러올 메시지 수
+
+// isRead가 1/0이면 true/false로 변환
+const normalizeMessages = (list) => list.map(msg => ({
+  ...msg,
+  read: msg.read === true || msg.read === 1
+}));
+
 const ChatPage = (props) => {
   const params = useParams();
   const receiverId = props.receiverId || params.receiverId; // props 우선, 없으면 URL
@@ -11,7 +19,10 @@ const ChatPage = (props) => {
   const [chatRoomId, setChatRoomId] = useState(null);
   const [messages, setMessages] = useState([]);
   const [myId, setMyId] = useState(null);
+  const [hasMore, setHasMore] = useState(false); // 이전 메시지가 더 있는지
+  const [loadingOlder, setLoadingOlder] = useState(false);
   const messagesEndRef = useRef(null);
+  const skipScrollRef = useRef(false); // 이전 메시지를 앞에 붙일 때는 맨 아래로 스크롤하지 않음
 
   // 내 ID 가져오기
   useEffect(() => {
@@ -42,16 +53,12 @@ const ChatPage = (props) => {
         const roomId = res.data;
         console.log('✅ 채팅방 ID 조회 성공:', roomId);
         setChatRoomId(roomId);
-        return axios.get(`/chat/room/${roomId}/messages`);
+        return axios.get(`/chat/room/${roomId}/messages?limit=${PAGE_SIZE}`);
       })
       .then(res => {
         console.log('✅ 메시지 조회 성공:', res.data);
-        // isRead가 1/0이면 true/false로 변환
-        const fixed = res.data.map(msg => ({
-          ...msg,
-          read: msg.read === true || msg.read === 1
-        }));
-        setMessages(fixed);
+        setMessages(normalizeMessages(res.data));
+        setHasMore(res.data.length === PAGE_SIZE);
       })
       .catch(err => {
         console.error('❌ 채팅방 or 메시지 로딩 실패:', err);
@@ -65,6 +72,20 @@ const ChatPage = (props) => {
       });
   }, [receiverId]);
 
+  // ✅ 이전 메시지 불러오기 (가장 오래된 메시지 ID 기준)
+  const loadOlderMessages = () => {
+    if (!chatRoomId || loadingOlder || messages.length === 0 || !messages[0].id) return;
+    setLoadingOlder(true);
+    axios.get(`/chat/room/${chatRoomId}/messages?before=${messages[0].id}&limit=${PAGE_SIZE}`)
+      .then(res => {
+        skipScrollRef.current = true;
+        setMessages(prev => [...normalizeMessages(res.data), ...prev]);
+        setHasMore(res.data.length === PAGE_SIZE);
+      })
+      .catch(err => console.error('❌ 이전 메시지 로딩 실패:', err))
+      .finally(() => setLoadingOlder(false));
+  };
+
   // ✅ 상대방 닉네임 가져오기
   useEffect(() => {
     if (!receiverId) return;
@@ -90,10 +111,10 @@ const ChatPage = (props) => {
     ]);
   }, []);
 
-  // 읽음 알림 수신 시 메시지 상태 갱신
-  const handleReadReceived = useCallback(({ chatRoomId, readMessageIds }) => {
+  // 읽음 알림 수신 시 메시지 상태 갱신 (fromMessageId ~ toMessageId 범위의 내 메시지가 읽음 처리됨)
+  const handleReadReceived = useCallback(({ fromMessageId, toMessageId }) => {
     setMessages(prevMsgs => prevMsgs.map(msg =>
-      readMessageIds.includes(msg.id)
+      msg.id && msg.id >= fromMessageId && msg.id <= toMessageId
         ? { ...msg, read: true }
         : msg
     ));
@@ -101,6 +122,10 @@ const ChatPage = (props) => {
 
   // messages가 바뀔 때마다 스크롤을 맨 아래로 이동
   useEffect(() => {
+    if (skipScrollRef.current) {
+      skipScrollRef.current = false;
+      return;
+    }
     if (messagesEndRef.current) {
       messagesEndRef.current.scrollIntoView({ behavior: 'smooth' });
     }
@@ -124,8 +149,27 @@ const ChatPage = (props) => {
         maxWidth: '100%',
         width: '100%'
       }}>
+        {hasMore && (
+          <div style={{ textAlign: 'center', marginBottom: '0.8rem' }}>
+            <button
+              onClick={loadOlderMessages}
+              disabled={loadingOlder}
+              style={{
+                border: '1px solid #ddd',
+                borderRadius: '12px',
+                background: '#fff',
+                color: '#1A355B',
+                padding: '0.3rem 0.9rem',
+                fontSize: '0.8rem',
+                cursor: 'pointer'
+              }}
+            >
+              {loadingOlder ? '불러오는 중...' : '이전 메시지 더 보기'}
+            </button>
+          </div>
+        )}
         {messages.map((msg, idx) => (
-          <div key={idx} style={{
+          <div key={msg.id ?? `local-${idx}`} style={{
             textAlign: msg.senderId === myId ? 'right' : 'left',
             marginBottom: '0.8rem'
           }}>
@@ -32,6 +32,7 @@ const ChatSocket = ({ receiverId, chatRoomId, myId, onMessageReceived, onReadRec
         // 내 큐에 메시지 수신 구독
         client.subscribe(`/queue/chat/${myId}`, (message) => {
           const body = JSON.parse(message.body);
+          if (body.type === 'UNREAD_DELTA') return; // 헤더 배지용 안 읽은 수 변화
           console.log('📨 새 메시지 수신:', body);
           onMessageReceived(body);
           scrollToBottom();
@@ -286,6 +286,8 @@ const AuctionItemRegister = () => {
     startDate: '',
     endDate: '',
     bidUnit: '', // 최소 입찰 단위 추가
+    softCloseSeconds: '', // 마감 연장 구간 (초)
+    softCloseExtendSeconds: '', // 마감 연장 시간 (초)
     description: ''
   });
   const [toast, setToast] = useState('');
@@ -362,6 +364,8 @@ const AuctionItemRegister = () => {
       start_time: form.startDate,
       end_time: form.endDate,
       bid_unit: form.bidUnit, // 최소 입찰 단위 추가
+      soft_close_seconds: form.softCloseSeconds || null,
+      soft_close_extend_seconds: form.softCloseExtendSeconds || null,
       auction_description: form.description
     };
 
@@ -901,6 +905,31 @@ const AuctionItemRegister = () => {
                 className={errors.bidUnit ? 'error-border' : ''}
               />
             </div>
+            <div className="form-group bid-unit-group">
+              <label htmlFor="softCloseSeconds">마감 연장 구간 (초)</label>
+              <input
+                type="number"
+                id="softCloseSeconds"
+                name="softCloseSeconds"
+                value={form.softCloseSeconds}
+                onChange={handleChange}
+                min="0"
+                placeholder="예: 30 (비우면 연장 없음)"
+              />
+              <div className="datetime-hint">종료 몇 초 전부터의 입찰에 종료 시간을 연장할지 입력해주세요</div>
+            </div>
+            <div className="form-group bid-unit-group">
+              <label htmlFor="softCloseExtendSeconds">마감 연장 시간 (초)</label>
+              <input
+                type="number"
+                id="softCloseExtendSeconds"
+                name="softCloseExtendSeconds"
+                value={form.softCloseExtendSeconds}
+                onChange={handleChange}
+                min="0"
+                placeholder="예: 30"
+              />
+            </div>
             <div className="form-group description-group">
               <label htmlFor="description">경매 설명</label>
               <textarea id="description" name="description" value={form.description} onChange={handleChange} rows={4} placeholder="경매에 대한 추가 설명을 입력하세요" />
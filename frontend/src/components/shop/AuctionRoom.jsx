@@ -197,8 +197,8 @@ const AuctionRoom = () => {
       });
   }, []);
 
-  // 입찰 기록 가져오기
-  useEffect(() => {
+  // 입찰 기록 가져오기 (상태 프레임이 건너뛰어졌을 때도 다시 호출)
+  const loadBidHistory = () => {
     const token = localStorage.getItem('token');
     if (!token || !auctionItemId) return;
 
@@ -222,8 +222,15 @@ const AuctionRoom = () => {
         console.error('입찰 기록 조회 실패:', err);
         setBidHistory([]);
       });
+  };
+
+  useEffect(() => {
+    loadBidHistory();
   }, [auctionItemId]);
 
+  // 마지막으로 받은 경매 상태 프레임 순번 (건너뛴 프레임 감지용)
+  const lastFrameSeqRef = useRef(0);
+
   // 경매 상태 및 내 낙찰 여부 fetch 함수
   const fetchAuctionStatus = async () => {
     try {
@@ -317,6 +324,8 @@ const AuctionRoom = () => {
         console.log('🔌 WebSocket 연결 시도 중...');
         const socket = new SockJS(`http://localhost:80/ws/auction?token=${token}`);
         const client = Stomp.over(socket);
+        // 서버는 하트비트가 30초 동안 끊기면 참여자를 퇴장 처리함
+        client.heartbeat = { outgoing: 10000, incoming: 10000 };
 
         client.connect(
           { Authorization: `Bearer ${token}` },
@@ -340,29 +349,40 @@ const AuctionRoom = () => {
               console.log('📨 경매 업데이트 수신:', data);
               
               // 입찰 정보 업데이트 등 처리
-              if (data.type === 'BID_SUCCESS') {
-                console.log('💰 새로운 입찰:', data.bid);
-                // 입찰 기록에 새로운 입찰 추가 (중복 방지)
-                setBidHistory(prev => {
-                  if (prev.some(bid => bid.bidId === data.bid.bidId)) return prev;
-                  return [data.bid, ...prev];
-                });
+              if (data.type === 'AUCTION_STATE') {
+                // 일정 주기마다 모아서 오는 경매 상태 프레임 (그 사이 입찰 목록은 최신순)
+                const gap = lastFrameSeqRef.current !== 0 && data.seq !== lastFrameSeqRef.current + 1;
+                lastFrameSeqRef.current = data.seq;
+                if (gap || data.bidsTruncated) {
+                  // 건너뛴 프레임이나 생략된 입찰이 있으면 입찰 기록을 다시 불러옴
+                  loadBidHistory();
+                } else {
+                  setBidHistory(prev => {
+                    const known = new Set(prev.map(bid => bid.sequence ?? `id-${bid.bidId}`));
+                    const newBids = (data.bids || []).filter(bid => !known.has(bid.sequence));
+                    return [...newBids, ...prev];
+                  });
+                }
                 
-                // 상품 정보 업데이트 (현재 가격)
-                if (data.bid && data.bid.bidAmount) {
+                // 상품 정보 업데이트 (현재 가격, 마감 연장된 종료 시간)
+                if (data.currentPrice) {
                   setItem(prev => prev ? {
                     ...prev,
-                    current_price: data.bid.bidAmount
+                    current_price: data.currentPrice,
+                    end_time: data.endTime || prev.end_time
                   } : prev);
                 }
+                if (data.extended) {
+                  console.log('⏳ 마감 직전 입찰로 경매 종료 시간 연장:', data.endTime);
+                }
                 
                 // 브라우저 알림: 상위 입찰 발생 시 (내가 입찰한 사용자가 아닌 경우)
                 const currentMemberId = parseInt(localStorage.getItem('memberId'));
-                if (data.bid && data.bid.memberId !== currentMemberId && document.visibilityState === 'hidden') {
+                if (data.leaderId && data.leaderId !== currentMemberId && document.visibilityState === 'hidden') {
                   sendBrowserNotification(
                     '🏆 새로운 입찰 발생!',
                     {
-                      body: `${data.bid.memberNickname || '익명'}님이 ${data.bid.bidAmount.toLocaleString()}P로 입찰했습니다.`,
+                      body: `${data.leaderNickname || '익명'}님이 ${data.currentPrice.toLocaleString()}P로 입찰했습니다.`,
                       data: { auctionItemId, type: 'new_bid' }
                     }
                   );
@@ -4,6 +4,9 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 
+import kr.co.shineware.nlp.komoran.constant.DEFAULT_MODEL;
+import kr.co.shineware.nlp.komoran.core.Komoran;
+
 @Configuration
 public class AppConfig {
 
@@ -11,4 +14,10 @@ public class AppConfig {
   public RestTemplate restTemplate() {
     return new RestTemplate();
   }
+
+  // 형태소 분석기: 모델 로딩이 무겁고 메모리를 많이 쓰므로 하나만 만들어 게시글 검색 색인과 NLP API가 함께 사용
+  @Bean
+  public Komoran komoran() {
+    return new Komoran(DEFAULT_MODEL.FULL);
+  }
 }
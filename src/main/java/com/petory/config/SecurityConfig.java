@@ -60,6 +60,7 @@ public class SecurityConfig {
             ).permitAll()
             .requestMatchers(HttpMethod.GET, "/api/boards", "/api/boards/**").permitAll()
             .requestMatchers("/admin/**").hasRole("ADMIN")
+            .requestMatchers("/api/admin/boards/search-index/**", "/api/admin/auction/**").hasRole("ADMIN") // 검색 인덱스 재구축, 경매 운영 통계
             .requestMatchers(HttpMethod.DELETE, "/api/**").authenticated() // DELETE 메서드 명시적 허용
             .requestMatchers("/api/**").authenticated()
             // .anyRequest().permitAll()
@@ -18,6 +18,9 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import com.petory.service.shop.AuctionParticipantService;
+import com.petory.service.auction.AuctionConnectionLiveness;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 @Configuration
 @EnableWebSocketMessageBroker
@@ -31,6 +34,8 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
   private JwtHandshakeInterceptor jwtHandshakeInterceptor;
   @Autowired
   private AuctionParticipantService auctionParticipantService;
+  @Autowired
+  private AuctionConnectionLiveness auctionConnectionLiveness;
 
   @Override
   public void registerStompEndpoints(StompEndpointRegistry registry) {
@@ -49,7 +54,9 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
   @Override
   public void configureMessageBroker(MessageBrokerRegistry registry) {
-    registry.enableSimpleBroker("/queue", "/topic"); // 브로커 구독 경로
+    registry.enableSimpleBroker("/queue", "/topic") // 브로커 구독 경로
+      .setHeartbeatValue(new long[] {10000, 10000}) // 서버/클라이언트 하트비트 10초 (경매 참여자 생존 확인용)
+      .setTaskScheduler(heartbeatScheduler());
     registry.setApplicationDestinationPrefixes("/app"); // 메시지 송신 경로
   }
 
@@ -58,8 +65,13 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     registration.interceptors(new ChannelInterceptor() {
       @Override
       public Message<?> preSend(Message<?> message, MessageChannel channel) {
-        System.out.println("preSend - 메시지 타입: " + message.getClass().getSimpleName());
         StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        // 하트비트와 모든 수신 메시지는 연결이 살아 있다는 뜻 (메모리만 갱신)
+        auctionConnectionLiveness.touch(accessor.getSessionId());
+        if (accessor.getMessageType() == SimpMessageType.HEARTBEAT) {
+          return message;
+        }
+        System.out.println("preSend - 메시지 타입: " + message.getClass().getSimpleName());
         System.out.println("preSend - accessor.getCommand(): " + accessor.getCommand());
         System.out.println("preSend - accessor.getDestination(): " + accessor.getDestination());
         System.out.println("preSend - accessor.getUser(): " + accessor.getUser());
@@ -94,7 +106,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
           String sessionId = accessor.getSessionId();
           System.out.println("🔌 WebSocket 연결 해제 감지: sessionId=" + sessionId);
           
-          // 연결 ID로 참여자 조회하여 즉시 비활성화
+          // 메모리의 경매 접속 현황에서 연결 제거 (DB 저장은 모아서 처리)
           try {
             auctionParticipantService.deactivateParticipantByConnectionId(sessionId);
             System.out.println("✅ 참여자 비활성화 완료: connectionId=" + sessionId);
@@ -105,4 +117,14 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
       }
     });
   }
+
+  /* 하트비트 전송용 스케줄러 (빈으로 등록하면 @Scheduled 기본 스케줄러가 바뀌므로 여기서만 사용) */
+  private ThreadPoolTaskScheduler heartbeatScheduler() {
+    ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+    scheduler.setPoolSize(1);
+    scheduler.setThreadNamePrefix("ws-heartbeat-");
+    scheduler.setDaemon(true);
+    scheduler.initialize();
+    return scheduler;
+  }
 }
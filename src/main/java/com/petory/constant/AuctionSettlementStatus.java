@@ -0,0 +1,7 @@
+package com.petory.constant;
+
+public enum AuctionSettlementStatus { //경매 정산 상태
+    SETTLED,    // 정산 완료 (낙찰자 마일리지 차감, 히스토리/배송 생성)
+    NO_BIDS,    // 유효한 입찰 없음 (유찰)
+    FAILED      // 정산 실패 (낙찰자 마일리지 부족 등, 다시 시도하지 않음)
+}
@@ -1,11 +1,13 @@
 package com.petory.controller;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -29,6 +31,11 @@ import com.petory.service.CleanBotService;
 import com.petory.service.MemberService;
 import com.petory.service.CreatorApplyService;
 import com.petory.service.VetApplyService;
+import com.petory.service.auction.AuctionBroadcastCoalescer;
+import com.petory.service.auction.AuctionBidSequencer;
+import com.petory.service.auction.AuctionConnectionLiveness;
+import com.petory.service.auction.AuctionPresenceRegistry;
+import com.petory.service.board.BoardSearchIndexer;
 
 import lombok.RequiredArgsConstructor;
 
@@ -42,6 +49,11 @@ public class AdminController {
     private final MemberService memberService;
     private final CreatorApplyService creatorApplyService;
     private final VetApplyService vetApplyService;
+    private final BoardSearchIndexer boardSearchIndexer;
+    private final AuctionBroadcastCoalescer auctionBroadcastCoalescer;
+    private final AuctionBidSequencer auctionBidSequencer;
+    private final AuctionPresenceRegistry auctionPresenceRegistry;
+    private final AuctionConnectionLiveness auctionConnectionLiveness;
 
     /**
      * 금지어 목록을 조회하는 API
@@ -52,6 +64,59 @@ public class AdminController {
         return ResponseEntity.ok(currentProfanityList);
     }
 
+    /**
+     * 현재 적용 중인 금지어 사전 상태(버전, 단어 수, 로드 시각/소요 시간)를 조회하는 API
+     */
+    @GetMapping("/profanity/status")
+    public ResponseEntity<Map<String, Object>> getProfanityStatus() {
+        return ResponseEntity.ok(cleanBotService.getDictionaryStatus());
+    }
+
+    /**
+     * 게시글 검색 인덱스를 DB로부터 다시 만드는 API (비동기, 진행 상황은 status API로 확인)
+     */
+    @PostMapping("/boards/search-index/rebuild")
+    public ResponseEntity<String> rebuildBoardSearchIndex() {
+        if (!boardSearchIndexer.rebuildAsync()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("이미 검색 인덱스를 재구축하는 중입니다.");
+        }
+        return ResponseEntity.accepted().body("검색 인덱스 재구축을 시작했습니다.");
+    }
+
+    /**
+     * 게시글 검색 인덱스 상태(문서 수, 재구축 여부/소요 시간)를 조회하는 API
+     */
+    @GetMapping("/boards/search-index/status")
+    public ResponseEntity<Map<String, Object>> getBoardSearchIndexStatus() {
+        return ResponseEntity.ok(boardSearchIndexer.getStatus());
+    }
+
+    /**
+     * 경매 실시간 방송 통계(받아들인 입찰 수, 보낸 상태 프레임 수)를 조회하는 API
+     */
+    @GetMapping("/auction/broadcast-stats")
+    public ResponseEntity<Map<String, Object>> getAuctionBroadcastStats() {
+        return ResponseEntity.ok(auctionBroadcastCoalescer.getStats());
+    }
+
+    /**
+     * 경매 입찰 처리 순서(lane)별 대기 입찰 수와 바로 거절한 입찰 수를 조회하는 API
+     */
+    @GetMapping("/auction/bid-lanes")
+    public ResponseEntity<Map<String, Object>> getAuctionBidLaneStats() {
+        return ResponseEntity.ok(auctionBidSequencer.getStats());
+    }
+
+    /**
+     * 경매 접속 현황(연결 수, 세션 수, 저장 대기 중인 참여자 상태 수, 하트비트 만료 수)을 조회하는 API
+     */
+    @GetMapping("/auction/presence")
+    public ResponseEntity<Map<String, Object>> getAuctionPresenceStats() {
+        Map<String, Object> stats = new HashMap<>(auctionPresenceRegistry.getStats());
+        stats.putAll(auctionConnectionLiveness.getStats());
+        return ResponseEntity.ok(stats);
+    }
+
     /**
      * 금지어 목록을 갱신하는 API
      */
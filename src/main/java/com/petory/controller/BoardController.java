@@ -188,6 +188,14 @@ public class BoardController {
     }
   }
 
+  // 제목/내용/해시태그 전문 검색 API (정확도 순)
+  @GetMapping("/search")
+  public ResponseEntity<Page<BoardListDto>> searchBoards(
+    @RequestParam String keyword,
+    @PageableDefault(size = 10) Pageable pageable) {
+    return ResponseEntity.ok(boardService.searchBoards(keyword, pageable));
+  }
+
   // ▼▼▼ 해시태그 검색 API들 추가 ▼▼▼
 
   // 단일 해시태그로 게시글 검색 API
@@ -204,12 +212,13 @@ public class BoardController {
     }
   }
 
-  // 여러 해시태그로 게시글 검색 API (OR 조건)
+  // 여러 해시태그로 게시글 검색 API (기본 OR 조건, matchAll=true면 AND 조건)
   @GetMapping("/search/hashtags")
   public ResponseEntity<Page<BoardListDto>> searchBoardsByHashtags(
     @RequestParam List<String> hashtags,
+    @RequestParam(defaultValue = "false") boolean matchAll,
     @PageableDefault(size = 10, sort = "id", direction = Sort.Direction.DESC) Pageable pageable) {
-    Page<BoardListDto> boardList = boardService.searchBoardsByHashtags(hashtags, pageable);
+    Page<BoardListDto> boardList = boardService.searchBoardsByHashtags(hashtags, matchAll, pageable);
     return ResponseEntity.ok(boardList);
   }
 
@@ -228,13 +237,14 @@ public class BoardController {
     }
   }
 
-  // 카테고리별 여러 해시태그 검색 API (효율적인 버전)
+  // 카테고리별 여러 해시태그 검색 API (기본 OR 조건, matchAll=true면 AND 조건)
   @GetMapping("/{category}/search/hashtags")
   public ResponseEntity<Page<BoardListDto>> searchBoardsByCategoryAndHashtags(
     @PathVariable String category,
     @RequestParam List<String> hashtags,
+    @RequestParam(defaultValue = "false") boolean matchAll,
     @PageableDefault(size = 10, sort = "id", direction = Sort.Direction.DESC) Pageable pageable) {
-    Page<BoardListDto> boardList = boardService.searchBoardsByCategoryAndHashtags(category, hashtags, pageable);
+    Page<BoardListDto> boardList = boardService.searchBoardsByCategoryAndHashtags(category, hashtags, matchAll, pageable);
     return ResponseEntity.ok(boardList);
   }
 
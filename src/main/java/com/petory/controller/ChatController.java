@@ -10,6 +10,7 @@ import com.petory.entity.ChatRoom;
 import com.petory.repository.ChatMessageRepository;
 import com.petory.repository.ChatRoomRepository;
 import com.petory.service.ChatService;
+import com.petory.service.ChatUnreadCounterService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.*;
@@ -18,7 +19,9 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.LocalDateTime;
@@ -30,6 +33,7 @@ import java.util.List;
 public class ChatController {
 
   private final ChatService chatService;
+  private final ChatUnreadCounterService chatUnreadCounterService;
 
   @GetMapping("/room/{receiverId}")
   public ResponseEntity<Long> getOrCreateRoom(@AuthenticationPrincipal CustomUserDetails user,
@@ -50,12 +54,14 @@ public class ChatController {
     chatService.handleReadEvent(dto);
   }
 
-  // 메시지 조회 + 읽음 처리
+  // 메시지 조회 + 읽음 처리 (before 없으면 최신 limit개, 있으면 before보다 오래된 limit개)
   @GetMapping("/room/{roomId}/messages")
   public ResponseEntity<List<ChatMessageDto>> getMessages(@PathVariable Long roomId,
+                                                          @RequestParam(required = false) Long before,
+                                                          @RequestParam(defaultValue = "50") int limit,
                                                           @AuthenticationPrincipal CustomUserDetails user) {
     Long memberId = user.getMember().getMember_Id();
-    List<ChatMessageDto> messages = chatService.getMessagesAndMarkAsRead(roomId, memberId);
+    List<ChatMessageDto> messages = chatService.getMessagesAndMarkAsRead(roomId, memberId, before, limit);
     return ResponseEntity.ok(messages);
   }
 
@@ -74,5 +80,12 @@ public class ChatController {
     int totalUnreadCount = chatService.getTotalUnreadCount(myId);
     return ResponseEntity.ok(totalUnreadCount);
   }
+
+  // 전체 안 읽은 메시지 개수 재계산 (카운터가 어긋났을 때 chat_message 기준으로 다시 계산)
+  @PostMapping("/unread-count/rebuild")
+  public ResponseEntity<Integer> rebuildTotalUnreadCount(@AuthenticationPrincipal CustomUserDetails user) {
+    Long myId = user.getMember().getMember_Id();
+    return ResponseEntity.ok(chatUnreadCounterService.rebuild(myId));
+  }
 }
 
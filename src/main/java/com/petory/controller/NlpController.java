@@ -1,16 +1,17 @@
 package com.petory.controller;
 
 import kr.co.shineware.nlp.komoran.core.Komoran;
-import kr.co.shineware.nlp.komoran.constant.DEFAULT_MODEL;
 import kr.co.shineware.nlp.komoran.model.KomoranResult;
 import kr.co.shineware.nlp.komoran.model.Token;
+import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 import java.util.*;
 
 @RestController
 @RequestMapping("/api/nlp")
+@RequiredArgsConstructor
 public class NlpController {
-    private final Komoran komoran = new Komoran(DEFAULT_MODEL.FULL);
+    private final Komoran komoran; // AppConfig의 공용 형태소 분석기
 
     @PostMapping("/emergency")
     public String analyzeEmergency(@RequestBody Map<String, String> body) {
@@ -5,6 +5,7 @@ import com.petory.entity.Member;
 import com.petory.entity.shop.AuctionBid;
 import com.petory.entity.shop.AuctionItem;
 import com.petory.service.shop.AuctionBidService;
+import com.petory.service.auction.AuctionBidRejectedException;
 import com.petory.repository.shop.AuctionItemRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -37,21 +38,15 @@ public class AuctionBidController { //입찰 처리
                 auctionItemId, member.getMemberId(), bidAmount);
 
         try {
-            // 경매 상품 조회
-            Optional<AuctionItem> auctionItemOpt = auctionItemRepository.findById(auctionItemId);
-            if (auctionItemOpt.isEmpty()) {
-                return ResponseEntity.notFound().build();
-            }
-
-            AuctionItem auctionItem = auctionItemOpt.get();
-
-            // 입찰 처리
-            AuctionBid bid = auctionBidService.placeBid(auctionItemId, member, bidAmount);
-            AuctionBidDto bidDto = convertToDto(bid);
+            // 입찰 처리 (존재하지 않는 경매는 IllegalArgumentException)
+            AuctionBidDto bidDto = auctionBidService.placeBidAndReturnDto(auctionItemId, member, bidAmount);
 
-            log.info("입찰 완료: bidId={}, bidAmount={}", bid.getId(), bidAmount);
+            log.info("입찰 완료: sequence={}, bidAmount={}", bidDto.getSequence(), bidAmount);
             return ResponseEntity.ok(bidDto);
 
+        } catch (AuctionBidRejectedException e) {
+            log.warn("입찰 거절 (처리 대기열 가득 참): auctionItemId={}", auctionItemId);
+            return ResponseEntity.status(503).build(); // Service Unavailable
         } catch (IllegalArgumentException e) {
             log.warn("입찰 실패 (유효성 검사): auctionItemId={}, error={}", auctionItemId, e.getMessage());
             return ResponseEntity.badRequest().build();
@@ -2,7 +2,6 @@ package com.petory.controller.shop;
 
 import com.petory.dto.shop.AuctionParticipantDto;
 import com.petory.entity.Member;
-import com.petory.entity.shop.AuctionParticipant;
 import com.petory.entity.shop.AuctionSession;
 import com.petory.service.shop.AuctionParticipantService;
 import com.petory.service.shop.AuctionSessionService;
@@ -44,10 +43,10 @@ public class AuctionParticipantController { //참여자관리
             }
 
             // 참여자 입장
-            AuctionParticipant participant = auctionParticipantService.joinSession(sessionId, member, connectionId);
-            AuctionParticipantDto participantDto = auctionParticipantService.convertToDto(participant);
+            AuctionParticipantDto participantDto = auctionParticipantService.joinSession(sessionId, member, connectionId);
 
-            log.info("참여자 입장 완료: participantId={}", participant.getId());
+            log.info("참여자 입장 완료: memberId={}, totalParticipants={}",
+                    member.getMemberId(), participantDto.getTotalParticipants());
             return ResponseEntity.ok(participantDto);
 
         } catch (IllegalArgumentException e) {
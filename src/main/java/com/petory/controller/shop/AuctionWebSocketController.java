@@ -6,6 +6,8 @@ import com.petory.entity.Member;
 import com.petory.service.shop.AuctionBidService;
 import com.petory.service.shop.AuctionParticipantService;
 import com.petory.service.shop.AuctionSessionService;
+import com.petory.service.auction.AuctionBidRejectedException;
+import com.petory.service.auction.AuctionSettlementService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.*;
@@ -33,8 +35,8 @@ import com.petory.repository.shop.AuctionItemRepository;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @Controller
@@ -49,13 +51,11 @@ public class AuctionWebSocketController { //실시간 통신
     private final AuctionItemRepository auctionItemRepository;
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsService userDetailsService;
+    private final AuctionSettlementService auctionSettlementService;
 
-    // 입찰 처리용 스레드 풀 (동시 입찰 처리)
-    private final ExecutorService bidExecutor = Executors.newFixedThreadPool(10);
 
 
-
-    /* 경매 입찰 처리 (즉시 처리) */
+    /* 경매 입찰 처리 (입찰 처리 순서에 넣고 바로 반환) */
     @MessageMapping("/auction.bid")
     public void handleBid(@Payload String bidMessage, Message<?> message) {
         log.info("경매 입찰 요청 수신: {}", bidMessage);
@@ -105,8 +105,8 @@ public class AuctionWebSocketController { //실시간 통신
             log.info("경매 입찰 처리: auctionItemId={}, memberId={}, bidAmount={}",
                     auctionItemId, member.getMemberId(), bidAmount);
 
-            // 입찰 즉시 처리
-            processBidImmediately(auctionItemId, member, bidAmount, accessor.getSessionId());
+            // 입찰 처리 순서에 넣고 바로 반환 (결과는 입찰 처리 스레드에서 개인 큐로 전달)
+            dispatchBid(auctionItemId, member, bidAmount, accessor.getSessionId());
 
         } catch (Exception e) {
             log.error("입찰 요청 처리 실패: memberId={}, error={}", member.getMemberId(), e.getMessage());
@@ -115,43 +115,47 @@ public class AuctionWebSocketController { //실시간 통신
         }
     }
 
-    /* 입찰 요청을 즉시 처리*/
-    private void processBidImmediately(Long auctionItemId, Member member, Integer bidAmount, String sessionId) {
-        log.info("입찰 즉시 처리 시작: auctionItemId={}, memberId={}, bidAmount={}",
+    /*
+     * 입찰 요청을 입찰 처리 순서(AuctionBidSequencer)에 넣습니다.
+     * WebSocket 메시지 처리 스레드는 결과를 기다리지 않으므로, 입찰 처리가 느려도 채팅 등 다른 메시지가 밀리지 않습니다.
+     */
+    private void dispatchBid(Long auctionItemId, Member member, Integer bidAmount, String sessionId) {
+        log.info("입찰 처리 요청: auctionItemId={}, memberId={}, bidAmount={}",
                 auctionItemId, member.getMemberId(), bidAmount);
 
-        try {
-            // 실제 입찰 처리
-            AuctionBidDto bidDto = auctionBidService.placeBidAndReturnDto(auctionItemId, member, bidAmount);
-
-            // 성공 알림 전송
-            String sessionKey = getSessionKey(auctionItemId);
-            messagingTemplate.convertAndSend("/topic/auction/" + sessionKey,
-                    createBidNotification(bidDto, "새로운 입찰이 성공했습니다."));
-
-            // 개별 성공 알림
-            messagingTemplate.convertAndSend("/queue/auction/" + member.getMemberId(),
-                    createBidNotification(bidDto, "입찰이 성공적으로 처리되었습니다."));
-
-            log.info("입찰 처리 완료: auctionItemId={}, memberId={}, bidAmount={}",
-                    auctionItemId, member.getMemberId(), bidAmount);
+        // 전체 참여자에게는 AuctionBroadcastCoalescer가 주기마다 상태 프레임(AUCTION_STATE)으로 전달
+        auctionBidService.submitBid(auctionItemId, member, bidAmount).whenComplete((bidDto, error) -> {
+            if (error == null) {
+                // 개별 성공 알림
+                messagingTemplate.convertAndSend("/queue/auction/" + member.getMemberId(),
+                        createBidNotification(bidDto, "입찰이 성공적으로 처리되었습니다."));
+                log.info("입찰 처리 완료: auctionItemId={}, memberId={}, bidAmount={}",
+                        auctionItemId, member.getMemberId(), bidAmount);
+                return;
+            }
 
-        } catch (IllegalArgumentException e) {
-            log.warn("입찰 실패 (유효성 검사): auctionItemId={}, memberId={}, error={}",
-                    auctionItemId, member.getMemberId(), e.getMessage());
-            messagingTemplate.convertAndSend("/queue/auction/" + member.getMemberId(),
-                    createErrorNotification("입찰 실패: " + e.getMessage()));
-        } catch (IllegalStateException e) {
-            log.warn("입찰 실패 (상태 오류): auctionItemId={}, memberId={}, error={}",
-                    auctionItemId, member.getMemberId(), e.getMessage());
-            messagingTemplate.convertAndSend("/queue/auction/" + member.getMemberId(),
-                    createErrorNotification("입찰 실패: " + e.getMessage()));
-        } catch (Exception e) {
-            log.error("입찰 처리 실패: auctionItemId={}, memberId={}, error={}",
-                    auctionItemId, member.getMemberId(), e.getMessage());
-            messagingTemplate.convertAndSend("/queue/auction/" + member.getMemberId(),
-                    createErrorNotification("입찰 처리 중 오류가 발생했습니다: " + e.getMessage()));
-        }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (cause instanceof AuctionBidRejectedException) {
+                log.warn("입찰 거절 (처리 대기열 가득 참): auctionItemId={}, memberId={}",
+                        auctionItemId, member.getMemberId());
+                messagingTemplate.convertAndSend("/queue/auction/" + member.getMemberId(),
+                        createErrorNotification(cause.getMessage()));
+            } else if (cause instanceof IllegalArgumentException || cause instanceof IllegalStateException) {
+                log.warn("입찰 실패: auctionItemId={}, memberId={}, error={}",
+                        auctionItemId, member.getMemberId(), cause.getMessage());
+                messagingTemplate.convertAndSend("/queue/auction/" + member.getMemberId(),
+                        createErrorNotification("입찰 실패: " + cause.getMessage()));
+            } else if (cause instanceof TimeoutException) {
+                log.warn("입찰 처리 시간 초과: auctionItemId={}, memberId={}", auctionItemId, member.getMemberId());
+                messagingTemplate.convertAndSend("/queue/auction/" + member.getMemberId(),
+                        createErrorNotification("입찰 처리 시간이 초과되었습니다. 잠시 후 다시 시도해주세요."));
+            } else {
+                log.error("입찰 처리 실패: auctionItemId={}, memberId={}, error={}",
+                        auctionItemId, member.getMemberId(), cause.getMessage());
+                messagingTemplate.convertAndSend("/queue/auction/" + member.getMemberId(),
+                        createErrorNotification("입찰 처리 중 오류가 발생했습니다: " + cause.getMessage()));
+            }
+        });
     }
 
 
@@ -238,7 +242,7 @@ public class AuctionWebSocketController { //실시간 통신
             .orElseThrow(() -> new IllegalArgumentException("사용자 정보 없음: " + email));
         log.info("경매 세션 퇴장 요청: auctionItemId={}, memberId={}", auctionItemId, member.getMemberId());
         try {
-            auctionParticipantService.leaveSession(auctionItemId, member);
+            auctionParticipantService.leaveSessionByAuctionItem(auctionItemId, member);
             String sessionKey = getSessionKey(auctionItemId);
             messagingTemplate.convertAndSend("/topic/auction/" + sessionKey,
                     createLeaveNotification(member.getMemberId(), member.getMember_NickName()));
@@ -263,8 +267,8 @@ public class AuctionWebSocketController { //실시간 통신
              .orElseThrow(() -> new IllegalArgumentException("사용자 정보 없음: " + email));
          log.info("경매 종료 처리: auctionItemId={}, memberId={}", auctionItemId, member.getMemberId());
          try {
-             // 경매 종료 처리 - 낙찰자 마일리지 차감
-             auctionBidService.processAuctionEnd(auctionItemId);
+             // 경매 정산 요청 (종료된 경매만, 이미 정산된 경매는 다시 처리하지 않음)
+             auctionSettlementService.settleAsync(auctionItemId);
 
              // 낙찰자 정보 조회
              Optional<Member> winnerOpt = auctionBidService.getCurrentHighestBidder(
@@ -10,4 +10,5 @@ import lombok.NoArgsConstructor;
 public class ChatReadEventDto {
     private Long chatRoomId;
     private Long readerId;
+    private Long lastMessageId; // 이 id까지 읽음 처리 (없으면 방의 모든 메시지)
 } 
\ No newline at end of file
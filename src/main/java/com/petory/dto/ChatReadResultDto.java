@@ -3,12 +3,17 @@ package com.petory.dto;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import java.util.List;
 
+/**
+ * 읽음 처리 결과 (상대방에게 전송)
+ * 이 방에서 상대방이 보낸 메시지 중 id가 fromMessageId ~ toMessageId 사이인 메시지가 모두 읽음 처리됨
+ */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class ChatReadResultDto {
     private Long chatRoomId;
-    private List<Long> readMessageIds;
-} 
\ No newline at end of file
+    private Long fromMessageId;
+    private Long toMessageId;
+    private int readCount;
+}
@@ -0,0 +1,24 @@
+package com.petory.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * /queue/chat/{memberId}로 보내는 안 읽은 메시지 수 변화 (헤더 배지 갱신용)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatUnreadDeltaDto {
+    public static final String TYPE = "UNREAD_DELTA";
+
+    private String type; // UNREAD_DELTA (일반 채팅 메시지와 구분)
+    private Long chatRoomId;
+    private int delta; // 새 메시지면 +1, 읽음 처리면 -읽은 개수
+    private int totalUnreadCount; // 변경 후 전체 안 읽은 메시지 수
+
+    public static ChatUnreadDeltaDto of(Long chatRoomId, int delta, int totalUnreadCount) {
+        return new ChatUnreadDeltaDto(TYPE, chatRoomId, delta, totalUnreadCount);
+    }
+}
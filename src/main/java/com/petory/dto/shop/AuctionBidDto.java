@@ -22,6 +22,7 @@ public class AuctionBidDto {
     
     private Integer bidAmount; // 입찰 금액
     private LocalDateTime bidTime; // 입찰 시간
+    private Long sequence; // 경매별 입찰 순번 (처리 순서)
     
     // 추가 정보
     private boolean isHighest; // 현재 최고가인지
@@ -32,5 +32,12 @@ public class AuctionItemDto {
 
   private String auction_description;
 
+  // 마감 연장(soft close): 종료 soft_close_seconds초 이내 입찰마다 soft_close_extend_seconds초 연장 (비우면 사용 안 함)
+  @Min(value = 0, message = "마감 연장 구간은 0초 이상이어야 합니다.")
+  private Integer soft_close_seconds;
+
+  @Min(value = 0, message = "마감 연장 시간은 0초 이상이어야 합니다.")
+  private Integer soft_close_extend_seconds;
+
   private AuctionStatus auction_status;
 } 
\ No newline at end of file
@@ -25,6 +25,8 @@ public class AuctionItemResponseDto {
   private Integer bid_unit;
   private AuctionStatus auction_status;
   private String auction_description;
+  private Integer soft_close_seconds;
+  private Integer soft_close_extend_seconds;
   
   // 입찰자 정보 (선택적)
   private String currentWinnerName;
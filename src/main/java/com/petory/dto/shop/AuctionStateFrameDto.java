@@ -0,0 +1,35 @@
+package com.petory.dto.shop;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 경매 상태 프레임 (/topic/auction/{sessionKey})
+ * 입찰마다 보내지 않고 일정 주기(tick)마다 그 사이의 변경을 하나로 모아 보냅니다.
+ * seq는 경매별로 1씩 증가하므로 클라이언트는 건너뛴 프레임을 감지해 입찰 기록을 다시 불러올 수 있습니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuctionStateFrameDto {
+
+    private String type; // AUCTION_STATE
+    private Long auctionItemId; // 경매 상품 ID
+    private long seq; // 프레임 순번 (경매별 1부터 연속)
+
+    private Integer currentPrice; // 현재 최고가
+    private Long leaderId; // 최고 입찰자 ID
+    private String leaderNickname; // 최고 입찰자 닉네임
+    private long bidCount; // 누적 입찰 수 (마지막 입찰 순번)
+    private LocalDateTime endTime; // 경매 종료 시간 (마감 연장 반영)
+    private boolean extended; // 이전 프레임 이후 마감 직전 입찰로 종료 시간이 연장되었는지
+    private boolean corrected; // 저장하지 못한 입찰이 빠져 최고 입찰을 바로잡았는지 (입찰 기록을 다시 불러와야 함)
+
+    private List<AuctionBidDto> bids; // 이전 프레임 이후 들어온 입찰 (최신순, 최대 개수 제한)
+    private boolean bidsTruncated; // 개수 제한으로 빠진 입찰이 있는지
+    private LocalDateTime timestamp;
+}
@@ -5,6 +5,10 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+  // 채팅방별 id 순 페이지 조회 / 읽음 처리 범위 검색용
+  @Index(name = "idx_chat_message_room_id", columnList = "chat_room_id, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -12,8 +16,8 @@ import java.time.LocalDateTime;
 @Builder
 public class ChatMessage {
 
+  // ChatMessageIdAllocator가 DB에서 받은 구간에서 매김 (자동 증가를 쓰면 구간과 겹칠 수 있음)
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
 
   // 채팅방
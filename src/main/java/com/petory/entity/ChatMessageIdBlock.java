@@ -0,0 +1,24 @@
+package com.petory.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * chat_message ID를 서버별 구간으로 나눠 주는 행 (id = 1 한 행만 사용)
+ * 서버는 UPDATE 한 번으로 nextId를 구간 크기만큼 올려 그 구간을 받아 가고, 받은 구간 안에서 메모리로 ID를 매깁니다.
+ */
+@Entity
+@Table(name = "chat_message_id_block")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessageIdBlock {
+
+  @Id
+  private Long id;
+
+  // 아직 어느 서버에도 나눠 주지 않은 첫 ID
+  @Column(nullable = false)
+  private Long nextId;
+}
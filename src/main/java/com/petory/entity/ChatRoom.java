@@ -2,10 +2,15 @@ package com.petory.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "chat_room")
+@Table(name = "chat_room", indexes = {
+  @Index(name = "idx_chat_room_sender", columnList = "senderId"),
+  @Index(name = "idx_chat_room_receiver", columnList = "receiverId")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -19,4 +24,30 @@ public class ChatRoom {
   private Long receiverId;
 
   private LocalDateTime createdAt;
+
+  // 채팅방 목록용 요약 (메시지 전송/읽음 처리 때 함께 갱신, 목록 조회 시 메시지를 읽지 않음)
+  private Long lastMessageId; // 마지막 메시지 ID
+
+  @Column(length = 1000)
+  private String lastMessage; // 마지막 메시지 내용
+
+  private LocalDateTime lastMessageAt; // 마지막 메시지 전송 시간
+
+  @Column(nullable = false)
+  @ColumnDefault("0")
+  private int senderUnreadCount; // senderId 회원이 안 읽은 메시지 수
+
+  @Column(nullable = false)
+  @ColumnDefault("0")
+  private int receiverUnreadCount; // receiverId 회원이 안 읽은 메시지 수
+
+  /* 해당 회원이 이 방에서 안 읽은 메시지 수 */
+  public int getUnreadCountFor(Long memberId) {
+    return senderId.equals(memberId) ? senderUnreadCount : receiverUnreadCount;
+  }
+
+  /* 해당 회원의 대화 상대 ID */
+  public Long getOtherMemberId(Long memberId) {
+    return senderId.equals(memberId) ? receiverId : senderId;
+  }
 }
@@ -0,0 +1,23 @@
+package com.petory.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 회원별 전체 안 읽은 채팅 메시지 수 (헤더 배지용)
+ * 메시지 전송/읽음 처리 때 UPDATE 한 번으로 증감하고, 행이 없으면 chat_message에서 다시 계산해서 만듭니다.
+ */
+@Entity
+@Table(name = "chat_unread_counter")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatUnreadCounter {
+
+  @Id
+  private Long memberId;
+
+  @Column(nullable = false)
+  private int unreadCount;
+}
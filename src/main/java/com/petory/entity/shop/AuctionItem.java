@@ -6,6 +6,7 @@ import com.petory.entity.Member;
 import com.petory.constant.AuctionStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
@@ -16,6 +17,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@DynamicUpdate // 변경된 컬럼만 갱신 (입찰 처리가 JDBC로 늘린 end_time을 오래된 값으로 덮어쓰지 않도록)
 public class AuctionItem extends BaseTimeEntity {
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -38,7 +40,14 @@ public class AuctionItem extends BaseTimeEntity {
   @Column(name = "bid_unit")
   private Integer bidUnit; // 최소 입찰 단위 (100, 500 등)
 
-  @Column(name = "current_price")
+  @Column(name = "soft_close_seconds")
+  private Integer softCloseSeconds; // 마감 연장 구간: 종료 몇 초 전부터의 입찰에 연장 적용 (null 또는 0이면 사용 안 함)
+
+  @Column(name = "soft_close_extend_seconds")
+  private Integer softCloseExtendSeconds; // 마감 연장 구간 입찰마다 종료 시간을 늦출 초
+
+  // 입찰 처리(AuctionBidWriter)만 JDBC로 갱신. 엔티티 저장 시 오래된 값으로 덮어쓰지 않도록 updatable = false
+  @Column(name = "current_price", updatable = false)
   private Integer currentPrice; // 현재 최고 입찰가
 
   @Enumerated(EnumType.STRING)
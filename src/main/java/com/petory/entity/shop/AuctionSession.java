@@ -5,6 +5,7 @@ import com.petory.entity.Member;
 import com.petory.constant.AuctionSessionStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDateTime;
 
 @Entity
@@ -14,6 +15,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@DynamicUpdate // 변경된 컬럼만 갱신 (마감 연장으로 늘어난 end_time을 오래된 값으로 덮어쓰지 않도록)
 public class AuctionSession extends BaseTimeEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,40 @@
+package com.petory.entity.shop;
+
+import com.petory.entity.BaseTimeEntity;
+import com.petory.constant.AuctionSettlementStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "auction_settlement")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuctionSettlement extends BaseTimeEntity {
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "auction_settlement_id")
+  private Long id; // 경매정산식별번호
+
+  @OneToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "auction_item_id", nullable = false, unique = true)
+  private AuctionItem auctionItem; // 정산한 경매 (경매당 한 번만 정산되도록 unique, 멱등 키)
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "settlement_status", nullable = false, length = 20)
+  private AuctionSettlementStatus status; // 정산 결과
+
+  @Column(name = "winner_id")
+  private Long winnerId; // 낙찰자 회원 ID
+
+  @Column(name = "final_price")
+  private Integer finalPrice; // 낙찰가 (차감한 마일리지)
+
+  @Column(name = "participant_count")
+  private Integer participantCount; // 히스토리를 만든 참여자 수
+
+  @Column(name = "failure_reason", length = 500)
+  private String failureReason; // 실패 사유
+}
@@ -1,6 +1,9 @@
 package com.petory.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -17,6 +20,19 @@ public interface BoardHashtagRepository extends JpaRepository<BoardHashtag, Boar
     @Query("SELECT bh FROM BoardHashtag bh WHERE bh.board.id = :postId")
     List<BoardHashtag> findByPostId(@Param("postId") Long postId);
     
+    // 여러 게시글의 해시태그를 한 번에 조회 (목록 화면 N+1 방지, Hashtag fetch join)
+    @Query("SELECT bh FROM BoardHashtag bh JOIN FETCH bh.hashtag WHERE bh.id.postId IN :postIds")
+    List<BoardHashtag> findWithHashtagByPostIdIn(@Param("postIds") Collection<Long> postIds);
+    
+    // 여러 게시글의 해시태그를 게시글 ID별로 묶어서 반환
+    default Map<Long, List<BoardHashtag>> findGroupedByPostIds(Collection<Long> postIds) {
+        if (postIds == null || postIds.isEmpty()) {
+            return Map.of();
+        }
+        return findWithHashtagByPostIdIn(postIds).stream()
+            .collect(Collectors.groupingBy(bh -> bh.getId().getPostId()));
+    }
+    
     // 해시태그 ID로 연결된 게시글 수 조회
     @Query("SELECT COUNT(bh) FROM BoardHashtag bh WHERE bh.hashtag.tagId = :tagId")
     Long countByTagId(@Param("tagId") Long tagId);
@@ -9,4 +9,6 @@ public interface BoardRecommendRepository extends JpaRepository<BoardRecommend,
   boolean existsByMemberAndBoard(Member member, Board board);
   // board의 id를 기준으로 관련된 모든 BoardRecommend를 삭제합니다.
   void deleteAllByBoard_Id(Long boardId);
+  // board의 id를 기준으로 추천 기록 수를 조회합니다.
+  long countByBoard_Id(Long boardId);
 }
@@ -1,11 +1,13 @@
 package com.petory.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -73,4 +75,51 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
     Pageable pageable = Pageable.ofSize(limit);
     return findPopularHashtags(monthAgo, pageable);
   }
+
+  // 10. 해시태그 ID 중 하나라도 가진 게시글 페이징 조회 (OR 조건, 정렬/페이징은 DB에서 처리)
+  @Query(value = "SELECT b FROM Board b WHERE b.id IN " +
+                 "(SELECT bh.id.postId FROM BoardHashtag bh WHERE bh.id.tagId IN :tagIds)",
+         countQuery = "SELECT COUNT(b) FROM Board b WHERE b.id IN " +
+                      "(SELECT bh.id.postId FROM BoardHashtag bh WHERE bh.id.tagId IN :tagIds)")
+  Page<Board> findByTagIds(@Param("tagIds") Collection<Long> tagIds, Pageable pageable);
+
+  // 11. 해시태그 ID를 모두 가진 게시글 페이징 조회 (AND 조건, tagCount는 tagIds의 개수)
+  @Query(value = "SELECT b FROM Board b WHERE b.id IN " +
+                 "(SELECT bh.id.postId FROM BoardHashtag bh WHERE bh.id.tagId IN :tagIds " +
+                 "GROUP BY bh.id.postId HAVING COUNT(bh.id.tagId) = :tagCount)",
+         countQuery = "SELECT COUNT(b) FROM Board b WHERE b.id IN " +
+                      "(SELECT bh.id.postId FROM BoardHashtag bh WHERE bh.id.tagId IN :tagIds " +
+                      "GROUP BY bh.id.postId HAVING COUNT(bh.id.tagId) = :tagCount)")
+  Page<Board> findByAllTagIds(@Param("tagIds") Collection<Long> tagIds,
+                              @Param("tagCount") long tagCount,
+                              Pageable pageable);
+
+  // 12. 카테고리별 해시태그 ID 중 하나라도 가진 게시글 페이징 조회 (OR 조건)
+  @Query(value = "SELECT b FROM Board b WHERE b.boardKind = :boardKind AND b.id IN " +
+                 "(SELECT bh.id.postId FROM BoardHashtag bh WHERE bh.id.tagId IN :tagIds)",
+         countQuery = "SELECT COUNT(b) FROM Board b WHERE b.boardKind = :boardKind AND b.id IN " +
+                      "(SELECT bh.id.postId FROM BoardHashtag bh WHERE bh.id.tagId IN :tagIds)")
+  Page<Board> findByTagIdsAndBoardKind(@Param("tagIds") Collection<Long> tagIds,
+                                       @Param("boardKind") BoardKind boardKind,
+                                       Pageable pageable);
+
+  // 13. 카테고리별 해시태그 ID를 모두 가진 게시글 페이징 조회 (AND 조건)
+  @Query(value = "SELECT b FROM Board b WHERE b.boardKind = :boardKind AND b.id IN " +
+                 "(SELECT bh.id.postId FROM BoardHashtag bh WHERE bh.id.tagId IN :tagIds " +
+                 "GROUP BY bh.id.postId HAVING COUNT(bh.id.tagId) = :tagCount)",
+         countQuery = "SELECT COUNT(b) FROM Board b WHERE b.boardKind = :boardKind AND b.id IN " +
+                      "(SELECT bh.id.postId FROM BoardHashtag bh WHERE bh.id.tagId IN :tagIds " +
+                      "GROUP BY bh.id.postId HAVING COUNT(bh.id.tagId) = :tagCount)")
+  Page<Board> findByAllTagIdsAndBoardKind(@Param("tagIds") Collection<Long> tagIds,
+                                          @Param("tagCount") long tagCount,
+                                          @Param("boardKind") BoardKind boardKind,
+                                          Pageable pageable);
+
+  // 14. 추천수 1 증가 (엔티티를 읽지 않고 DB에서 원자적으로 증가)
+  @Modifying
+  @Query("UPDATE Board b SET b.likeCount = b.likeCount + 1 WHERE b.id = :boardId")
+  int incrementLikeCount(@Param("boardId") Long boardId);
+
+  // 15. ID 순으로 일정 개수씩 게시글 조회 (검색 인덱스 재구축용, lastId 이후부터)
+  List<Board> findByIdGreaterThanOrderByIdAsc(Long lastId, Pageable pageable);
 }
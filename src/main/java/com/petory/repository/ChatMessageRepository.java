@@ -2,11 +2,56 @@ package com.petory.repository;
 
 import com.petory.entity.ChatMessage;
 import com.petory.entity.ChatRoom;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
   List<ChatMessage> findByChatRoomOrderBySentAtAsc(ChatRoom chatRoom);
   List<ChatMessage> findByChatRoomIdOrderBySentAtAsc(Long chatRoomId);
+
+  // 회원이 참여한 모든 채팅방에서 상대방이 보낸 안 읽은 메시지 수 (안 읽은 수 카운터 재계산용)
+  @Query("""
+        SELECT COUNT(m) FROM ChatMessage m
+        WHERE m.is_read = false AND m.senderId <> :memberId
+          AND (m.chatRoom.senderId = :memberId OR m.chatRoom.receiverId = :memberId)
+    """)
+  long countUnreadForMember(@Param("memberId") Long memberId);
+
+  // 채팅 기록 최신 페이지 (id 내림차순, 개수는 Pageable로 제한)
+  @Query("""
+        SELECT m FROM ChatMessage m
+        WHERE m.chatRoom.id = :roomId
+        ORDER BY m.id DESC
+    """)
+  List<ChatMessage> findLatestByRoomId(@Param("roomId") Long roomId, Pageable pageable);
+
+  // 채팅 기록 이전 페이지: beforeId보다 오래된 메시지 (키셋 페이지네이션, OFFSET 없음)
+  @Query("""
+        SELECT m FROM ChatMessage m
+        WHERE m.chatRoom.id = :roomId AND m.id < :beforeId
+        ORDER BY m.id DESC
+    """)
+  List<ChatMessage> findPageBefore(@Param("roomId") Long roomId, @Param("beforeId") Long beforeId, Pageable pageable);
+
+  // 읽음 처리 대상(상대방이 보낸 안 읽은 메시지 중 upToId 이하)의 id 범위 [MIN, MAX]
+  @Query("""
+        SELECT MIN(m.id), MAX(m.id) FROM ChatMessage m
+        WHERE m.chatRoom.id = :roomId AND m.senderId <> :readerId
+          AND m.is_read = false AND m.id <= :upToId
+    """)
+  List<Object[]> findUnreadRange(@Param("roomId") Long roomId, @Param("readerId") Long readerId, @Param("upToId") Long upToId);
+
+  // 상대방이 보낸 안 읽은 메시지를 UPDATE 한 번으로 읽음 처리, 바뀐 행 수 반환
+  @Modifying
+  @Query("""
+        UPDATE ChatMessage m SET m.is_read = true
+        WHERE m.chatRoom.id = :roomId AND m.senderId <> :readerId
+          AND m.is_read = false AND m.id <= :upToId
+    """)
+  int markReadUpTo(@Param("roomId") Long roomId, @Param("readerId") Long readerId, @Param("upToId") Long upToId);
 }
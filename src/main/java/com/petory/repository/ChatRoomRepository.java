@@ -3,9 +3,11 @@ package com.petory.repository;
 import com.petory.entity.ChatMessage;
 import com.petory.entity.ChatRoom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +22,61 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     """)
   Optional<ChatRoom> findRoomBetweenMembers(@Param("sender") Long senderId, @Param("receiver") Long receiverId);
 
+  // 내 채팅방 목록 + 상대방 닉네임/프로필 (senderId/receiverId 인덱스 사용, 메시지 조회 없음)
+  // [채팅방, 상대 닉네임, 상대 프로필 이미지]
+  @Query("""
+        SELECT c, m.member_NickName, m.member_ProfileImg FROM ChatRoom c
+        LEFT JOIN Member m ON m.member_Id = CASE WHEN c.senderId = :memberId THEN c.receiverId ELSE c.senderId END
+        WHERE c.senderId = :memberId OR c.receiverId = :memberId
+        ORDER BY c.lastMessageAt DESC NULLS LAST, c.id DESC
+    """)
+  List<Object[]> findInboxRowsByMemberId(@Param("memberId") Long memberId);
+
+  // 새 메시지 반영: 마지막 메시지 갱신 + 보낸 사람이 아닌 쪽의 안 읽은 수 1 증가
+  @Modifying
+  @Query("""
+        UPDATE ChatRoom c SET
+          c.lastMessageId = :messageId, c.lastMessage = :message, c.lastMessageAt = :sentAt,
+          c.senderUnreadCount = c.senderUnreadCount + CASE WHEN c.senderId = :senderId THEN 0 ELSE 1 END,
+          c.receiverUnreadCount = c.receiverUnreadCount + CASE WHEN c.receiverId = :senderId THEN 0 ELSE 1 END
+        WHERE c.id = :roomId
+    """)
+  int applyNewMessage(@Param("roomId") Long roomId, @Param("messageId") Long messageId, @Param("message") String message,
+                      @Param("sentAt") LocalDateTime sentAt, @Param("senderId") Long senderId);
+
+  // 읽음 반영: 읽은 사람 쪽의 안 읽은 수를 읽은 개수만큼 감소 (0 미만 방지)
+  @Modifying
+  @Query("""
+        UPDATE ChatRoom c SET
+          c.senderUnreadCount = CASE WHEN c.senderId = :readerId
+            THEN (CASE WHEN c.senderUnreadCount > :readCount THEN c.senderUnreadCount - :readCount ELSE 0 END)
+            ELSE c.senderUnreadCount END,
+          c.receiverUnreadCount = CASE WHEN c.receiverId = :readerId
+            THEN (CASE WHEN c.receiverUnreadCount > :readCount THEN c.receiverUnreadCount - :readCount ELSE 0 END)
+            ELSE c.receiverUnreadCount END
+        WHERE c.id = :roomId
+    """)
+  int applyRead(@Param("roomId") Long roomId, @Param("readerId") Long readerId, @Param("readCount") int readCount);
 
+  // 요약이 비어 있는 채팅방(컬럼 추가 전 데이터)을 chat_message에서 다시 계산
+  @Modifying
+  @Query("""
+        UPDATE ChatRoom c SET
+          c.lastMessageId = (SELECT MAX(m.id) FROM ChatMessage m WHERE m.chatRoom = c),
+          c.senderUnreadCount = (SELECT COUNT(m) FROM ChatMessage m
+            WHERE m.chatRoom = c AND m.senderId <> c.senderId AND m.is_read = false),
+          c.receiverUnreadCount = (SELECT COUNT(m) FROM ChatMessage m
+            WHERE m.chatRoom = c AND m.senderId <> c.receiverId AND m.is_read = false)
+        WHERE c.lastMessageId IS NULL
+    """)
+  int rebuildMissingSummaryCounters();
 
+  @Modifying
+  @Query("""
+        UPDATE ChatRoom c SET
+          c.lastMessage = (SELECT m.message FROM ChatMessage m WHERE m.id = c.lastMessageId),
+          c.lastMessageAt = (SELECT m.sentAt FROM ChatMessage m WHERE m.id = c.lastMessageId)
+        WHERE c.lastMessageId IS NOT NULL AND c.lastMessageAt IS NULL
+    """)
+  int rebuildMissingLastMessages();
 }
@@ -0,0 +1,35 @@
+package com.petory.repository;
+
+import com.petory.entity.ChatUnreadCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface ChatUnreadCounterRepository extends JpaRepository<ChatUnreadCounter, Long> {
+
+  // 회원의 전체 안 읽은 메시지 수
+  @Query("SELECT c.unreadCount FROM ChatUnreadCounter c WHERE c.memberId = :memberId")
+  Optional<Integer> findUnreadCountByMemberId(@Param("memberId") Long memberId);
+
+  // 안 읽은 수 증가 (행이 없으면 0 반환)
+  @Modifying
+  @Query("UPDATE ChatUnreadCounter c SET c.unreadCount = c.unreadCount + :count WHERE c.memberId = :memberId")
+  int increment(@Param("memberId") Long memberId, @Param("count") int count);
+
+  // 안 읽은 수 감소 (0 미만 방지, 행이 없으면 0 반환)
+  @Modifying
+  @Query("""
+        UPDATE ChatUnreadCounter c
+        SET c.unreadCount = CASE WHEN c.unreadCount > :count THEN c.unreadCount - :count ELSE 0 END
+        WHERE c.memberId = :memberId
+    """)
+  int decrement(@Param("memberId") Long memberId, @Param("count") int count);
+
+  // 다시 계산한 값으로 덮어쓰기
+  @Modifying
+  @Query("UPDATE ChatUnreadCounter c SET c.unreadCount = :count WHERE c.memberId = :memberId")
+  int overwrite(@Param("memberId") Long memberId, @Param("count") int count);
+}
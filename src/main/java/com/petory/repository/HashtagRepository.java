@@ -1,5 +1,6 @@
 package com.petory.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +15,9 @@ public interface HashtagRepository extends JpaRepository<Hashtag, Long> {
     // 태그명으로 해시태그 찾기
     Optional<Hashtag> findByTagName(String tagName);
     
+    // 여러 태그명으로 해시태그 한 번에 찾기
+    List<Hashtag> findByTagNameIn(Collection<String> tagNames);
+    
     // 태그명으로 존재 여부 확인
     boolean existsByTagName(String tagName);
     
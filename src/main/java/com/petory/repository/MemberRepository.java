@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -28,4 +29,9 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     @Query("SELECT m FROM Member m WHERE m.member_Role = :role")
     List<Member> findAllByMember_Role(@Param("role") com.petory.constant.Role role);
 
+    // 잔액이 충분할 때만 마일리지 차감 (읽고 저장하는 사이에 잔액이 바뀌어도 음수가 되지 않도록 한 번의 UPDATE로)
+    @Modifying
+    @Query("UPDATE Member m SET m.member_Mileage = m.member_Mileage - :amount WHERE m.member_Id = :memberId AND m.member_Mileage >= :amount")
+    int deductMileageIfEnough(@Param("memberId") Long memberId, @Param("amount") Integer amount);
+
 }
@@ -3,6 +3,9 @@ package com.petory.repository;
 import com.petory.entity.WalkingTrail;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,4 +17,9 @@ public interface WalkingTrailRepository extends JpaRepository<WalkingTrail, Long
 
   // 이름, 시간, 거리로 복합 검색 (정렬 포함)
   List<WalkingTrail> findByNameContainingAndTimeBetweenAndDistanceBetween(String keyword, int minTime, int maxTime, int minDistance, int maxDistance, Sort sort);
+
+  // 추천수 1 증가 (엔티티를 읽지 않고 DB에서 원자적으로 증가)
+  @Modifying
+  @Query("UPDATE WalkingTrail t SET t.recommends = t.recommends + 1 WHERE t.id = :trailId")
+  int incrementRecommends(@Param("trailId") Long trailId);
 }
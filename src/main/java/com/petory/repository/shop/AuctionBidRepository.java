@@ -3,11 +3,13 @@ package com.petory.repository.shop;
 import com.petory.entity.shop.AuctionBid;
 import com.petory.entity.shop.AuctionItem;
 import com.petory.entity.Member;
+import com.petory.constant.AuctionStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -40,4 +42,25 @@ public interface AuctionBidRepository extends JpaRepository<AuctionBid, Long> {
 
     @Query("SELECT DISTINCT b.member FROM AuctionBid b WHERE b.auctionItem = :auctionItem")
     List<Member> findAllParticipantsByAuctionItem(@Param("auctionItem") AuctionItem auctionItem);
+
+    // 경매 상태별 경매들의 최고 입찰 [auctionItemId, memberId, bidAmount, bidId] (최고 입찰 기록 복구용, 취소된 입찰 제외)
+    @Query("SELECT b.auctionItem.id, b.member.member_Id, b.bidAmount, b.id FROM AuctionBid b " +
+           "WHERE b.auctionItem.auctionStatus IN :statuses AND b.bidStatus <> com.petory.constant.AuctionBidStatus.CANCELED " +
+           "AND b.bidAmount = (SELECT MAX(b2.bidAmount) FROM AuctionBid b2 WHERE b2.auctionItem = b.auctionItem " +
+           "AND b2.bidStatus <> com.petory.constant.AuctionBidStatus.CANCELED)")
+    List<Object[]> findHighestBidRowsByAuctionStatusIn(@Param("statuses") Collection<AuctionStatus> statuses);
+
+    // 특정 경매의 최고 입찰 [auctionItemId, memberId, bidAmount, bidId] (같은 금액이면 먼저 들어온 입찰 순, 취소된 입찰 제외)
+    @Query("SELECT b.auctionItem.id, b.member.member_Id, b.bidAmount, b.id FROM AuctionBid b " +
+           "WHERE b.auctionItem.id = :auctionItemId AND b.bidStatus <> com.petory.constant.AuctionBidStatus.CANCELED " +
+           "AND b.bidAmount = (SELECT MAX(b2.bidAmount) FROM AuctionBid b2 WHERE b2.auctionItem.id = :auctionItemId " +
+           "AND b2.bidStatus <> com.petory.constant.AuctionBidStatus.CANCELED) " +
+           "ORDER BY b.id ASC")
+    List<Object[]> findHighestBidRowsByAuctionItemId(@Param("auctionItemId") Long auctionItemId);
+
+    // 특정 경매의 회원별 입찰 요약 [memberId, 최고 입찰가, 입찰 횟수] (취소된 입찰 제외, 정산용 한 번의 집계)
+    @Query("SELECT b.member.member_Id, MAX(b.bidAmount), COUNT(b) FROM AuctionBid b " +
+           "WHERE b.auctionItem.id = :auctionItemId AND b.bidStatus <> com.petory.constant.AuctionBidStatus.CANCELED " +
+           "GROUP BY b.member.member_Id")
+    List<Object[]> findBidSummaryRowsByAuctionItemId(@Param("auctionItemId") Long auctionItemId);
 }
@@ -32,6 +32,8 @@ public interface AuctionHistoryRepository extends JpaRepository<AuctionHistory,
     // 언더스코어 필드명(member_Id) 문제 해결: @Query 직접 작성
     @Query("SELECT h FROM AuctionHistory h WHERE h.auctionItem.id = :auctionItemId AND h.member.member_Id = :memberId")
     Optional<AuctionHistory> findByAuctionItemIdAndMemberId(@Param("auctionItemId") Long auctionItemId, @Param("memberId") Long memberId);
-    
 
-} 
\ No newline at end of file
+    // 특정 경매의 히스토리 존재 여부 (정산 이전 방식으로 이미 처리된 경매 확인용)
+    @Query("SELECT COUNT(h) > 0 FROM AuctionHistory h WHERE h.auctionItem.id = :auctionItemId")
+    boolean existsByAuctionItemId(@Param("auctionItemId") Long auctionItemId);
+}
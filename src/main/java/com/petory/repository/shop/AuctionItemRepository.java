@@ -26,6 +26,20 @@ public interface AuctionItemRepository extends JpaRepository<AuctionItem, Long>
     // 특정 시간 범위에 시작할 SCHEDULED 상태의 경매 상품 조회
     List<AuctionItem> findByStartTimeBetweenAndAuctionStatus(LocalDateTime startTime, LocalDateTime endTime, AuctionStatus status);
 
+    // 특정 상태들의 경매 상품 조회 (수명주기 타이머 예약용)
+    List<AuctionItem> findByAuctionStatusIn(List<AuctionStatus> statuses);
+
+    // 특정 시간 이전에 시작하는 SCHEDULED 경매 중 아직 세션이 없는 경매 상품 조회 (상품별 존재 확인 없이 한 번에)
+    @Query("SELECT ai FROM AuctionItem ai WHERE ai.auctionStatus = :status AND ai.startTime < :before " +
+           "AND NOT EXISTS (SELECT s FROM AuctionSession s WHERE s.auctionItem = ai)")
+    List<AuctionItem> findWithoutSessionByStartTimeBeforeAndAuctionStatus(@Param("before") LocalDateTime before,
+                                                                          @Param("status") AuctionStatus status);
+
+    // 종료되었지만 아직 정산 기록이 없는 경매 상품 ID 조회 (정산 재시도용)
+    @Query("SELECT ai.id FROM AuctionItem ai WHERE ai.auctionStatus = :status " +
+           "AND NOT EXISTS (SELECT st FROM AuctionSettlement st WHERE st.auctionItem = ai)")
+    List<Long> findIdsWithoutSettlementByAuctionStatus(@Param("status") AuctionStatus status);
+
     // 낙관적 락을 사용한 경매 상품 조회 (기본)
     @Lock(LockModeType.OPTIMISTIC)
     @Query("SELECT ai FROM AuctionItem ai WHERE ai.id = :id")
@@ -4,6 +4,7 @@ import com.petory.entity.shop.AuctionParticipant;
 import com.petory.entity.shop.AuctionSession;
 import com.petory.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -96,4 +97,14 @@ public interface AuctionParticipantRepository extends JpaRepository<AuctionParti
     
     // 모든 비활성 참여자들 조회 (정리용)
     List<AuctionParticipant> findByIsActiveFalse();
+
+    // 모든 비활성 참여자 일괄 삭제 (정리용)
+    @Modifying
+    @Query("DELETE FROM AuctionParticipant p WHERE p.isActive = false")
+    int deleteAllInactive();
+
+    // 특정 세션의 비활성 참여자 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM AuctionParticipant p WHERE p.session.id = :sessionId AND p.isActive = false")
+    int deleteInactiveBySessionId(@Param("sessionId") Long sessionId);
 }
@@ -3,6 +3,7 @@ package com.petory.repository.shop;
 import com.petory.entity.shop.AuctionSession;
 import com.petory.constant.AuctionSessionStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -17,6 +18,10 @@ public interface AuctionSessionRepository extends JpaRepository<AuctionSession,
     // 경매 상품 ID로 세션 조회
     Optional<AuctionSession> findByAuctionItemId(Long auctionItemId);
 
+    // 경매 상품 ID로 세션 키만 조회 (실시간 방송 채널 확인용)
+    @Query("SELECT s.sessionKey FROM AuctionSession s WHERE s.auctionItem.id = :auctionItemId")
+    Optional<String> findSessionKeyByAuctionItemId(@Param("auctionItemId") Long auctionItemId);
+
     // 세션 키로 세션 조회
     Optional<AuctionSession> findBySessionKey(String sessionKey);
 
@@ -41,6 +46,13 @@ public interface AuctionSessionRepository extends JpaRepository<AuctionSession,
     // 특정 시간 범위에 생성된 세션들 조회 (BaseTimeEntity의 regDate 사용)
     List<AuctionSession> findByRegDateBetween(LocalDateTime startTime, LocalDateTime endTime);
 
+    // 세션 상태를 조건부로 변경 (현재 상태가 from일 때만, 타이머와 보정 스케줄러가 같은 경매를 두 번 처리하지 않도록)
+    @Modifying
+    @Query("UPDATE AuctionSession s SET s.status = :to WHERE s.id = :sessionId AND s.status = :from")
+    int updateStatusIfCurrent(@Param("sessionId") Long sessionId,
+                              @Param("from") AuctionSessionStatus from,
+                              @Param("to") AuctionSessionStatus to);
+
     // 세션 존재 여부 확인
     boolean existsByAuctionItemId(Long auctionItemId);
 
@@ -0,0 +1,17 @@
+package com.petory.repository.shop;
+
+import com.petory.entity.shop.AuctionSettlement;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface AuctionSettlementRepository extends JpaRepository<AuctionSettlement, Long> {
+
+    // 경매 상품 ID로 정산 기록 조회
+    @Query("SELECT s FROM AuctionSettlement s WHERE s.auctionItem.id = :auctionItemId")
+    Optional<AuctionSettlement> findByAuctionItemId(@Param("auctionItemId") Long auctionItemId);
+}
@@ -2,11 +2,17 @@ package com.petory.service;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,7 +27,6 @@ import com.petory.entity.BoardHashtag;
 import com.petory.entity.BoardHashtagId;
 import com.petory.entity.BoardImage;
 import com.petory.entity.BoardRecommend;
-import com.petory.entity.CleanBotLog;
 import com.petory.entity.Comment;
 import com.petory.entity.Hashtag;
 import com.petory.entity.Member;
@@ -29,10 +34,15 @@ import com.petory.repository.BoardHashtagRepository;
 import com.petory.repository.BoardImageRepository;
 import com.petory.repository.BoardRecommendRepository;
 import com.petory.repository.BoardRepository;
-import com.petory.repository.CleanBotLogRepository;
 import com.petory.repository.CommentRepository;
 import com.petory.repository.HashtagRepository;
 import com.petory.repository.MemberRepository;
+import com.petory.service.board.BoardActivityEvent;
+import com.petory.service.board.BoardSearchIndex;
+import com.petory.service.board.BoardSearchIndexer;
+import com.petory.service.board.ViewCountBuffer;
+import com.petory.service.cleanbot.CleanBotDetectedEvent;
+import com.petory.service.cleanbot.ProfanityScanResult;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
@@ -51,11 +61,12 @@ public class BoardService {
   private final CleanBotService cleanBotService;
   private final HttpServletRequest httpServletRequest;
   private final BoardRecommendRepository boardRecommendRepository;
-  private final NotificationService notificationService;
-  private final CleanBotLogRepository cleanBotLogRepository;
+  private final ApplicationEventPublisher eventPublisher;
   private final HashtagRepository hashtagRepository;
   private final BoardHashtagRepository boardHashtagRepository;
   private final BoardImageRepository boardImageRepository;
+  private final ViewCountBuffer viewCountBuffer;
+  private final BoardSearchIndexer boardSearchIndexer;
 
   /**
    * 새 게시글 생성
@@ -66,9 +77,13 @@ public class BoardService {
 
     Board board = new Board();
 
+    // 클린봇 검사 (제목/내용 각각 한 번씩만 검사)
+    ProfanityScanResult titleScan = cleanBotService.scan(requestDto.getTitle());
+    ProfanityScanResult contentScan = cleanBotService.scan(requestDto.getContent());
+
     // 클린봇 필터링 적용
-    String filteredTitle = cleanBotService.filter(requestDto.getTitle());
-    String filteredContent = cleanBotService.filter(requestDto.getContent());
+    String filteredTitle = cleanBotService.filter(requestDto.getTitle(), titleScan);
+    String filteredContent = cleanBotService.filter(requestDto.getContent(), contentScan);
 
     board.setTitle(filteredTitle);
     board.setContent(filteredContent);
@@ -76,19 +91,10 @@ public class BoardService {
     board.setMember(member);
 
     // 클린봇이 부적절한 내용을 감지한 경우 블라인드 처리
-    if (cleanBotService.containsProfanity(requestDto.getTitle()) ||
-        cleanBotService.containsProfanity(requestDto.getContent())) {
+    if (titleScan.isDetected() || contentScan.isDetected()) {
       board.setOriginalTitle(requestDto.getTitle());
       board.setOriginalContent(requestDto.getContent());
       board.setBlinded(true);
-      
-      // 클린봇 감지 알림 생성
-      try {
-        notificationService.createCleanBotDetectedNotification(member, requestDto.getTitle() + " " + requestDto.getContent());
-      } catch (Exception e) {
-        log.error("클린봇 감지 알림 생성 중 오류 발생: memberId={}", member.getMember_Id(), e);
-        // 알림 생성 실패가 게시글 생성을 막지 않도록 예외를 던지지 않음
-      }
     }
 
     Board savedBoard = boardRepository.save(board);
@@ -98,21 +104,18 @@ public class BoardService {
       saveBoardHashtags(savedBoard, requestDto.getHashtags());
     }
     
-    // 클린봇이 부적절한 내용을 감지한 경우 로그 저장
+    // 클린봇이 부적절한 내용을 감지한 경우 로그 저장과 알림 생성 (커밋 후 비동기 처리)
     if (savedBoard.isBlinded()) {
-      try {
-        CleanBotLog cleanBotLog = new CleanBotLog();
-        cleanBotLog.setTargetId(savedBoard.getId());
-        cleanBotLog.setTargetType("BOARD");
-        cleanBotLog.setOriginalContent(savedBoard.getOriginalContent());
-        cleanBotLogRepository.save(cleanBotLog);
-        log.info("클린봇 로그 저장 완료: Board ID={}", savedBoard.getId());
-      } catch (Exception e) {
-        log.error("클린봇 로그 저장 중 오류 발생: Board ID={}", savedBoard.getId(), e);
-        // 로그 저장 실패가 게시글 생성을 막지 않도록 예외를 던지지 않음
-      }
+      Set<String> detectedWords = new LinkedHashSet<>(titleScan.getMatchedTexts());
+      detectedWords.addAll(contentScan.getMatchedTexts());
+      eventPublisher.publishEvent(new CleanBotDetectedEvent(
+          savedBoard.getId(), "BOARD", String.join(", ", detectedWords), savedBoard.getOriginalContent(),
+          member.getMember_Id(), requestDto.getTitle() + " " + requestDto.getContent()));
     }
     
+    // 인기 순위 갱신 알림 (커밋 후 반영)
+    eventPublisher.publishEvent(new BoardActivityEvent(savedBoard.getId(), BoardActivityEvent.Type.CREATED));
+    
     return savedBoard.getId();
   }
 
@@ -122,10 +125,7 @@ public class BoardService {
   @Transactional(readOnly = true)
   public Page<BoardListDto> getBoardList(Pageable pageable) {
     // Board 엔티티 페이지를 BoardListResponseDto 페이지로 변환하여 반환
-    return boardRepository.findAll(pageable).map(board -> {
-      List<BoardHashtag> boardHashtags = boardHashtagRepository.findByPostId(board.getId());
-      return BoardListDto.from(board, boardHashtags);
-    });
+    return toBoardListDtoPage(boardRepository.findAll(pageable));
   }
 
   /**
@@ -138,17 +138,13 @@ public class BoardService {
     BoardKind boardKind = BoardKind.valueOf(category.toUpperCase());
 
     // 2. Repository에 미리 정의해둔 findByBoardKind 메서드를 사용
-    return boardRepository.findByBoardKind(boardKind, pageable)
-      .map(board -> {
-        List<BoardHashtag> boardHashtags = boardHashtagRepository.findByPostId(board.getId());
-        return BoardListDto.from(board, boardHashtags);
-      });
+    return toBoardListDtoPage(boardRepository.findByBoardKind(boardKind, pageable));
   }
 
   /**
    * 게시글 상세 조회
    */
-  @Transactional
+  @Transactional(readOnly = true)
   public BoardDetailDto getBoardDetail(Long boardId) {
     Board board = boardRepository.findById(boardId)
       .orElseThrow(() -> new IllegalArgumentException("해당 게시글을 찾을 수 없습니다."));
@@ -159,7 +155,8 @@ public class BoardService {
     /* 현재로서는 리액트 개발 환경의 엄격 모드(StrictMode) 때문에 조회수가 2씩 증가
     * 추후 배포단계로 넘어갈 시 자연스럽게 해결될 예정*/
     if (httpServletRequest.getAttribute(sessionKey) == null) {
-      board.setViewCount(board.getViewCount() + 1);
+      // 게시글 행을 수정하지 않고 버퍼에 모았다가 주기적으로 한 번에 반영 (ViewCountFlusher)
+      viewCountBuffer.increment(boardId);
       session.setAttribute(sessionKey, true);
     }
 
@@ -172,7 +169,10 @@ public class BoardService {
     // 해당 게시글의 이미지 목록 조회
     List<BoardImage> boardImages = boardImageRepository.findByBoardIdOrderByDisplayOrderAsc(boardId);
     
-    return BoardDetailDto.from(board, comments, boardHashtags, boardImages);
+    BoardDetailDto boardDetailDto = BoardDetailDto.from(board, comments, boardHashtags, boardImages);
+    // 아직 DB에 반영되지 않은 조회수까지 포함해서 보여줌
+    boardDetailDto.setViewCount(board.getViewCount() + (int) viewCountBuffer.pending(boardId));
+    return boardDetailDto;
   }
 
   /**
@@ -189,22 +189,24 @@ public class BoardService {
 
     // DTO에 내용이 있을 경우에만 필드 업데이트
     if (requestDto.getTitle() != null) {
-      String filteredTitle = cleanBotService.filter(requestDto.getTitle());
+      ProfanityScanResult titleScan = cleanBotService.scan(requestDto.getTitle());
+      String filteredTitle = cleanBotService.filter(requestDto.getTitle(), titleScan);
       board.setTitle(filteredTitle);
 
       // 클린봇이 부적절한 내용을 감지한 경우 블라인드 처리
-      if (cleanBotService.containsProfanity(requestDto.getTitle())) {
+      if (titleScan.isDetected()) {
         board.setOriginalTitle(requestDto.getTitle());
         board.setBlinded(true);
       }
     }
 
     if (requestDto.getContent() != null) {
-      String filteredContent = cleanBotService.filter(requestDto.getContent());
+      ProfanityScanResult contentScan = cleanBotService.scan(requestDto.getContent());
+      String filteredContent = cleanBotService.filter(requestDto.getContent(), contentScan);
       board.setContent(filteredContent);
 
       // 클린봇이 부적절한 내용을 감지한 경우 블라인드 처리
-      if (cleanBotService.containsProfanity(requestDto.getContent())) {
+      if (contentScan.isDetected()) {
         board.setOriginalContent(requestDto.getContent());
         board.setBlinded(true);
       }
@@ -251,6 +253,7 @@ public class BoardService {
       }
     }
 
+    eventPublisher.publishEvent(new BoardActivityEvent(boardId, BoardActivityEvent.Type.UPDATED));
     // @Transactional 어노테이션에 의해 메서드 종료 시 자동으로 DB에 반영됨
   }
 
@@ -279,6 +282,7 @@ public class BoardService {
     boardRecommendRepository.deleteAllByBoard_Id(boardId); // 추천 기록 먼저 삭제
     commentRepository.deleteAllByBoard_Id(boardId);
     boardRepository.delete(board);
+    eventPublisher.publishEvent(new BoardActivityEvent(boardId, BoardActivityEvent.Type.DELETED));
   }
 
   /**
@@ -287,22 +291,31 @@ public class BoardService {
   public void addRecommendation(Long boardId, String email) {
     Member member = memberRepository.findByMember_Email(email)
       .orElseThrow(() -> new IllegalArgumentException("해당 회원을 찾을 수 없습니다."));
-    Board board = boardRepository.findById(boardId)
-      .orElseThrow(() -> new IllegalArgumentException("해당 게시글을 찾을 수 없습니다."));
+    if (!boardRepository.existsById(boardId)) {
+      throw new IllegalArgumentException("해당 게시글을 찾을 수 없습니다.");
+    }
+    Board board = boardRepository.getReferenceById(boardId);
 
-    // 중복 추천 확인
+    // 중복 추천 확인 (빠른 확인용, 동시에 들어온 중복 추천은 아래 유니크 제약으로 걸러짐)
     if (boardRecommendRepository.existsByMemberAndBoard(member, board)) {
       throw new IllegalStateException("이미 추천한 게시글입니다.");
     }
 
-    // 추천 기록 생성 및 저장
+    // 해당 게시물 추천수 1 증가 (엔티티를 읽어 수정하지 않고 DB에서 원자적으로 증가)
+    // 추천 기록보다 먼저 게시글 행에 배타 락을 잡음: 추천 기록을 먼저 넣으면 FK 검사로 게시글 행에 공유 락이 걸리고,
+    // 동시에 추천한 두 트랜잭션이 서로의 공유 락 때문에 증가 UPDATE에서 교착 상태가 됨
+    boardRepository.incrementLikeCount(boardId);
+
+    // 추천 기록 생성 및 저장 (recommend_uk 유니크 제약이 최종적으로 중복을 막고, 예외로 롤백되면 증가도 취소됨)
     BoardRecommend boardRecommend = new BoardRecommend();
     boardRecommend.setMember(member);
     boardRecommend.setBoard(board);
-    boardRecommendRepository.save(boardRecommend);
-
-    // 해당 게시물 추천수 1 증가
-    board.setLikeCount(board.getLikeCount() + 1);
+    try {
+      boardRecommendRepository.saveAndFlush(boardRecommend);
+    } catch (DataIntegrityViolationException e) {
+      throw new IllegalStateException("이미 추천한 게시글입니다.");
+    }
+    eventPublisher.publishEvent(new BoardActivityEvent(boardId, BoardActivityEvent.Type.RECOMMENDED));
   }
 
   @Transactional
@@ -316,6 +329,7 @@ public class BoardService {
         board.setContent(cleanBotService.filter(board.getContent()));
         board.setBlinded(true);
         boardRepository.save(board);
+        eventPublisher.publishEvent(new BoardActivityEvent(boardId, BoardActivityEvent.Type.UPDATED));
     }
   }
 
@@ -328,6 +342,7 @@ public class BoardService {
         board.setContent(board.getOriginalContent());
         board.setBlinded(false);
         boardRepository.save(board);
+        eventPublisher.publishEvent(new BoardActivityEvent(boardId, BoardActivityEvent.Type.UPDATED));
     }
   }
 
@@ -364,6 +379,7 @@ public class BoardService {
     boardRecommendRepository.deleteAllByBoard_Id(boardId);
     commentRepository.deleteAllByBoard_Id(boardId);
     boardRepository.delete(board);
+    eventPublisher.publishEvent(new BoardActivityEvent(boardId, BoardActivityEvent.Type.DELETED));
   }
 
   @Transactional
@@ -372,22 +388,24 @@ public class BoardService {
         .orElseThrow(() -> new IllegalArgumentException("해당 게시글을 찾을 수 없습니다."));
 
     if (requestDto.getTitle() != null) {
-      String filteredTitle = cleanBotService.filter(requestDto.getTitle());
+      ProfanityScanResult titleScan = cleanBotService.scan(requestDto.getTitle());
+      String filteredTitle = cleanBotService.filter(requestDto.getTitle(), titleScan);
       board.setTitle(filteredTitle);
 
       // 클린봇이 부적절한 내용을 감지한 경우 블라인드 처리
-      if (cleanBotService.containsProfanity(requestDto.getTitle())) {
+      if (titleScan.isDetected()) {
         board.setOriginalTitle(requestDto.getTitle());
         board.setBlinded(true);
       }
     }
 
     if (requestDto.getContent() != null) {
-      String filteredContent = cleanBotService.filter(requestDto.getContent());
+      ProfanityScanResult contentScan = cleanBotService.scan(requestDto.getContent());
+      String filteredContent = cleanBotService.filter(requestDto.getContent(), contentScan);
       board.setContent(filteredContent);
 
       // 클린봇이 부적절한 내용을 감지한 경우 블라인드 처리
-      if (cleanBotService.containsProfanity(requestDto.getContent())) {
+      if (contentScan.isDetected()) {
         board.setOriginalContent(requestDto.getContent());
         board.setBlinded(true);
       }
@@ -433,6 +451,7 @@ public class BoardService {
         saveBoardHashtags(board, new ArrayList<>(toAdd));
       }
     }
+    eventPublisher.publishEvent(new BoardActivityEvent(boardId, BoardActivityEvent.Type.UPDATED));
   }
 
   @Transactional(readOnly = true)
@@ -441,10 +460,7 @@ public class BoardService {
         .filter(b -> b.getBoardKind() == boardKind)
         .sorted((a, b) -> Long.compare(b.getId(), a.getId()))
         .toList();
-    return boards.stream().map(board -> {
-      List<BoardHashtag> boardHashtags = boardHashtagRepository.findByPostId(board.getId());
-      return BoardListDto.from(board, boardHashtags);
-    }).toList();
+    return toBoardListDtos(boards);
   }
 
   /**
@@ -478,10 +494,10 @@ public class BoardService {
 
         // 필터링된 내용으로 업데이트
         if (hasProfanityInTitle) {
-          board.setTitle(cleanBotService.filter(board.getTitle()));
+          board.setTitle(CleanBotService.FILTERED_MESSAGE);
         }
         if (hasProfanityInContent) {
-          board.setContent(cleanBotService.filter(board.getContent()));
+          board.setContent(CleanBotService.FILTERED_MESSAGE);
         }
       }
     }
@@ -496,6 +512,26 @@ public class BoardService {
         .orElseThrow(() -> new IllegalArgumentException("해당 게시글이 없습니다."));
   }
 
+  /**
+   * 제목/내용/해시태그 전문 검색 (형태소 단위, 정확도 순)
+   */
+  @Transactional(readOnly = true)
+  public Page<BoardListDto> searchBoards(String keyword, Pageable pageable) {
+    BoardSearchIndex.Hits hits = boardSearchIndexer.search(keyword, (int) pageable.getOffset(), pageable.getPageSize());
+    if (hits.getBoardIds().isEmpty()) {
+      return new PageImpl<>(List.of(), pageable, hits.getTotalHits());
+    }
+    
+    // 인덱스가 정한 정확도 순서대로 게시글 정렬 (인덱스 반영 전에 삭제된 게시글은 제외)
+    Map<Long, Board> boardsById = boardRepository.findAllById(hits.getBoardIds()).stream()
+        .collect(Collectors.toMap(Board::getId, board -> board));
+    List<Board> boards = hits.getBoardIds().stream()
+        .map(boardsById::get)
+        .filter(Objects::nonNull)
+        .toList();
+    return new PageImpl<>(toBoardListDtos(boards), pageable, hits.getTotalHits());
+  }
+
   /**
    * 해시태그로 게시글 검색
    */
@@ -505,40 +541,8 @@ public class BoardService {
     Hashtag hashtag = hashtagRepository.findByTagName(hashtagName)
         .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 해시태그입니다: " + hashtagName));
     
-    // 해당 해시태그를 가진 게시글 ID 목록 조회
-    List<Long> boardIds = boardHashtagRepository.findBoardIdsByTagId(hashtag.getTagId());
-    
-    if (boardIds.isEmpty()) {
-      // 해당 해시태그를 가진 게시글이 없는 경우 빈 페이지 반환
-      return Page.empty(pageable);
-    }
-    
-    // 게시글 ID 목록으로 게시글 조회
-    List<Board> boards = boardRepository.findAllById(boardIds);
-    
-    // 페이징 처리
-    int start = (int) pageable.getOffset();
-    int end = Math.min((start + pageable.getPageSize()), boards.size());
-    
-    if (start > boards.size()) {
-      return Page.empty(pageable);
-    }
-    
-    List<Board> pagedBoards = boards.subList(start, end);
-    
-    // BoardListDto로 변환
-    List<BoardListDto> boardListDtos = pagedBoards.stream()
-        .map(board -> {
-          List<BoardHashtag> boardHashtags = boardHashtagRepository.findByPostId(board.getId());
-          return BoardListDto.from(board, boardHashtags);
-        })
-        .toList();
-    
-    return new org.springframework.data.domain.PageImpl<>(
-        boardListDtos, 
-        pageable, 
-        boards.size()
-    );
+    // 해당 해시태그를 가진 게시글을 DB에서 페이징하여 조회
+    return toBoardListDtoPage(boardRepository.findByTagIds(List.of(hashtag.getTagId()), pageable));
   }
 
   /**
@@ -546,55 +550,24 @@ public class BoardService {
    */
   @Transactional(readOnly = true)
   public Page<BoardListDto> searchBoardsByHashtags(List<String> hashtagNames, Pageable pageable) {
-    if (hashtagNames == null || hashtagNames.isEmpty()) {
-      return Page.empty(pageable);
-    }
-    
-    // 해시태그 이름으로 해시태그 ID 목록 조회
-    List<Long> hashtagIds = hashtagNames.stream()
-        .map(name -> hashtagRepository.findByTagName(name))
-        .filter(java.util.Optional::isPresent)
-        .map(java.util.Optional::get)
-        .map(Hashtag::getTagId)
-        .toList();
+    return searchBoardsByHashtags(hashtagNames, false, pageable);
+  }
+
+  /**
+   * 여러 해시태그로 게시글 검색 (matchAll이 true면 AND 조건, false면 OR 조건)
+   */
+  @Transactional(readOnly = true)
+  public Page<BoardListDto> searchBoardsByHashtags(List<String> hashtagNames, boolean matchAll, Pageable pageable) {
+    List<Long> hashtagIds = findHashtagIdsForSearch(hashtagNames, matchAll);
     
     if (hashtagIds.isEmpty()) {
       return Page.empty(pageable);
     }
     
-    // 해당 해시태그들을 가진 게시글 ID 목록 조회 (OR 조건)
-    List<Long> boardIds = boardHashtagRepository.findBoardIdsByTagIds(hashtagIds);
-    
-    if (boardIds.isEmpty()) {
-      return Page.empty(pageable);
-    }
-    
-    // 게시글 ID 목록으로 게시글 조회
-    List<Board> boards = boardRepository.findAllById(boardIds);
-    
-    // 페이징 처리
-    int start = (int) pageable.getOffset();
-    int end = Math.min((start + pageable.getPageSize()), boards.size());
-    
-    if (start > boards.size()) {
-      return Page.empty(pageable);
-    }
-    
-    List<Board> pagedBoards = boards.subList(start, end);
-    
-    // BoardListDto로 변환
-    List<BoardListDto> boardListDtos = pagedBoards.stream()
-        .map(board -> {
-          List<BoardHashtag> boardHashtags = boardHashtagRepository.findByPostId(board.getId());
-          return BoardListDto.from(board, boardHashtags);
-        })
-        .toList();
-    
-    return new org.springframework.data.domain.PageImpl<>(
-        boardListDtos, 
-        pageable, 
-        boards.size()
-    );
+    Page<Board> boards = matchAll
+        ? boardRepository.findByAllTagIds(hashtagIds, hashtagIds.size(), pageable)
+        : boardRepository.findByTagIds(hashtagIds, pageable);
+    return toBoardListDtoPage(boards);
   }
 
   /**
@@ -675,98 +648,58 @@ public class BoardService {
     Hashtag hashtag = hashtagRepository.findByTagName(hashtagName)
         .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 해시태그입니다: " + hashtagName));
     
-    // 3. 해당 카테고리와 해시태그를 가진 게시글 ID 목록 조회
-    List<Long> boardIds = boardHashtagRepository.findBoardIdsByTagIdAndBoardKind(hashtag.getTagId(), boardKind);
-    
-    if (boardIds.isEmpty()) {
-      return Page.empty(pageable);
-    }
-    
-    // 4. 게시글 ID 목록으로 게시글 조회
-    List<Board> boards = boardRepository.findAllById(boardIds);
-    
-    // 5. 페이징 처리
-    int start = (int) pageable.getOffset();
-    int end = Math.min((start + pageable.getPageSize()), boards.size());
-    
-    if (start > boards.size()) {
-      return Page.empty(pageable);
-    }
-    
-    List<Board> pagedBoards = boards.subList(start, end);
-    
-    // 6. BoardListDto로 변환
-    List<BoardListDto> boardListDtos = pagedBoards.stream()
-        .map(board -> {
-          List<BoardHashtag> boardHashtags = boardHashtagRepository.findByPostId(board.getId());
-          return BoardListDto.from(board, boardHashtags);
-        })
-        .toList();
-    
-    return new org.springframework.data.domain.PageImpl<>(
-        boardListDtos, 
-        pageable, 
-        boards.size()
-    );
+    // 3. 해당 카테고리와 해시태그를 가진 게시글을 DB에서 페이징하여 조회
+    return toBoardListDtoPage(
+        boardRepository.findByTagIdsAndBoardKind(List.of(hashtag.getTagId()), boardKind, pageable));
   }
 
   /**
-   * 카테고리별 여러 해시태그로 게시글 검색 (효율적인 버전)
+   * 카테고리별 여러 해시태그로 게시글 검색 (OR 조건)
    */
   @Transactional(readOnly = true)
   public Page<BoardListDto> searchBoardsByCategoryAndHashtags(String category, List<String> hashtagNames, Pageable pageable) {
-    if (hashtagNames == null || hashtagNames.isEmpty()) {
-      return Page.empty(pageable);
-    }
-    
+    return searchBoardsByCategoryAndHashtags(category, hashtagNames, false, pageable);
+  }
+
+  /**
+   * 카테고리별 여러 해시태그로 게시글 검색 (matchAll이 true면 AND 조건, false면 OR 조건)
+   */
+  @Transactional(readOnly = true)
+  public Page<BoardListDto> searchBoardsByCategoryAndHashtags(String category, List<String> hashtagNames,
+                                                              boolean matchAll, Pageable pageable) {
     // 1. 문자열로 받은 category를 BoardKind Enum으로 변환
     BoardKind boardKind = BoardKind.valueOf(category.toUpperCase());
     
     // 2. 해시태그 이름으로 해시태그 ID 목록 조회
-    List<Long> hashtagIds = hashtagNames.stream()
-        .map(name -> hashtagRepository.findByTagName(name))
-        .filter(java.util.Optional::isPresent)
-        .map(java.util.Optional::get)
-        .map(Hashtag::getTagId)
-        .toList();
+    List<Long> hashtagIds = findHashtagIdsForSearch(hashtagNames, matchAll);
     
     if (hashtagIds.isEmpty()) {
       return Page.empty(pageable);
     }
     
-    // 3. 해당 카테고리와 해시태그들을 가진 게시글 ID 목록 조회 (OR 조건)
-    List<Long> boardIds = boardHashtagRepository.findBoardIdsByTagIdsAndBoardKind(hashtagIds, boardKind);
-    
-    if (boardIds.isEmpty()) {
-      return Page.empty(pageable);
+    // 3. 해당 카테고리와 해시태그들을 가진 게시글을 DB에서 페이징하여 조회
+    Page<Board> boards = matchAll
+        ? boardRepository.findByAllTagIdsAndBoardKind(hashtagIds, hashtagIds.size(), boardKind, pageable)
+        : boardRepository.findByTagIdsAndBoardKind(hashtagIds, boardKind, pageable);
+    return toBoardListDtoPage(boards);
+  }
+
+  /**
+   * 검색할 해시태그 이름 목록을 해시태그 ID 목록으로 변환
+   * AND 조건 검색에서 존재하지 않는 해시태그가 하나라도 있으면 결과가 없으므로 빈 목록 반환
+   */
+  private List<Long> findHashtagIdsForSearch(List<String> hashtagNames, boolean matchAll) {
+    if (hashtagNames == null || hashtagNames.isEmpty()) {
+      return List.of();
     }
     
-    // 4. 게시글 ID 목록으로 게시글 조회
-    List<Board> boards = boardRepository.findAllById(boardIds);
+    Set<String> distinctNames = new HashSet<>(hashtagNames);
+    List<Hashtag> hashtags = hashtagRepository.findByTagNameIn(distinctNames);
     
-    // 5. 페이징 처리
-    int start = (int) pageable.getOffset();
-    int end = Math.min((start + pageable.getPageSize()), boards.size());
-    
-    if (start > boards.size()) {
-      return Page.empty(pageable);
+    if (matchAll && hashtags.size() < distinctNames.size()) {
+      return List.of();
     }
-    
-    List<Board> pagedBoards = boards.subList(start, end);
-    
-    // 6. BoardListDto로 변환
-    List<BoardListDto> boardListDtos = pagedBoards.stream()
-        .map(board -> {
-          List<BoardHashtag> boardHashtags = boardHashtagRepository.findByPostId(board.getId());
-          return BoardListDto.from(board, boardHashtags);
-        })
-        .toList();
-    
-    return new org.springframework.data.domain.PageImpl<>(
-        boardListDtos, 
-        pageable, 
-        boards.size()
-    );
+    return hashtags.stream().map(Hashtag::getTagId).toList();
   }
 
   /**
@@ -774,10 +707,29 @@ public class BoardService {
    */
   @Transactional(readOnly = true)
   public Page<BoardListDto> getMyPosts(Long memberId, Pageable pageable) {
-    return boardRepository.findBoardsByMemberId(memberId, pageable)
-      .map(board -> {
-        List<BoardHashtag> boardHashtags = boardHashtagRepository.findByPostId(board.getId());
-        return BoardListDto.from(board, boardHashtags);
-      });
+    return toBoardListDtoPage(boardRepository.findBoardsByMemberId(memberId, pageable));
+  }
+
+  /**
+   * 게시글 목록을 BoardListDto 목록으로 변환 (해시태그는 한 번의 쿼리로 일괄 조회)
+   */
+  private List<BoardListDto> toBoardListDtos(List<Board> boards) {
+    if (boards.isEmpty()) {
+      return List.of();
+    }
+    Map<Long, List<BoardHashtag>> hashtagsByPostId = boardHashtagRepository.findGroupedByPostIds(
+        boards.stream().map(Board::getId).toList());
+    return boards.stream()
+        .map(board -> BoardListDto.from(board, hashtagsByPostId.getOrDefault(board.getId(), List.of())))
+        .toList();
+  }
+
+  /**
+   * 게시글 페이지를 BoardListDto 페이지로 변환 (해시태그는 한 번의 쿼리로 일괄 조회)
+   */
+  private Page<BoardListDto> toBoardListDtoPage(Page<Board> boards) {
+    Map<Long, List<BoardHashtag>> hashtagsByPostId = boardHashtagRepository.findGroupedByPostIds(
+        boards.getContent().stream().map(Board::getId).toList());
+    return boards.map(board -> BoardListDto.from(board, hashtagsByPostId.getOrDefault(board.getId(), List.of())));
   }
 }
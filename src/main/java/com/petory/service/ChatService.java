@@ -1,42 +1,59 @@
 package com.petory.service;
 
 import java.time.LocalDateTime;
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.petory.dto.ChatMessageDto;
 import com.petory.dto.ChatReadEventDto;
 import com.petory.dto.ChatReadResultDto;
 import com.petory.dto.ChatRoomListDto;
+import com.petory.dto.ChatUnreadDeltaDto;
 import com.petory.entity.ChatMessage;
 import com.petory.entity.ChatRoom;
-import com.petory.entity.Member;
 import com.petory.repository.ChatMessageRepository;
 import com.petory.repository.ChatRoomRepository;
-import com.petory.repository.MemberRepository;
+import com.petory.service.chat.ChatMessageSequencer;
+import com.petory.service.chat.ChatMessageWriter;
+import com.petory.service.chat.ChatRoomCache;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ChatService {
 
+  private static final int MAX_PAGE_SIZE = 100; // 채팅 기록 한 번에 조회할 최대 메시지 수
+
   private final ChatRoomRepository chatRoomRepository;
   private final ChatMessageRepository chatMessageRepository;
-  private final MemberRepository memberRepository;
   private final SimpMessagingTemplate messagingTemplate;
+  private final ChatUnreadCounterService chatUnreadCounterService;
+  private final ChatMessageSequencer chatMessageSequencer;
+  private final ChatMessageWriter chatMessageWriter;
+  private final ChatRoomCache chatRoomCache;
+  private final TransactionTemplate transactionTemplate;
+
+  @Value("${chat.message.persist-await-ms:500}")
+  private long persistAwaitMillis;
 
   public ChatRoom findOrCreateRoom(Long senderId, Long receiverId) {
     Long first = Math.min(senderId, receiverId);
     Long second = Math.max(senderId, receiverId);
 
-    return chatRoomRepository.findBySenderIdAndReceiverId(first, second)
+    ChatRoom chatRoom = chatRoomRepository.findBySenderIdAndReceiverId(first, second)
       .orElseGet(() -> {
         ChatRoom room = new ChatRoom();
         room.setSenderId(first);
@@ -44,108 +61,145 @@ public class ChatService {
         room.setCreatedAt(LocalDateTime.now());
         return chatRoomRepository.save(room);
       });
+    // 메시지 전송 때 채팅방을 DB에서 다시 읽지 않도록 참여자 정보 캐시
+    chatRoomCache.put(chatRoom);
+    return chatRoom;
   }
 
-  public void sendMessage(ChatMessageDto dto) {
+  public ChatMessageDto sendMessage(ChatMessageDto dto) {
     System.out.println("📦 ChatService: 저장 요청 받은 메시지 = " + dto);
-    
-    // ✅ 프론트에서 받은 chatRoomId 기준으로 채팅방 조회
-    ChatRoom room = chatRoomRepository.findById(dto.getChatRoomId())
-      .orElseThrow(() -> new IllegalArgumentException("❗유효하지 않은 채팅방 ID: " + dto.getChatRoomId()));
-
-    ChatMessage message = ChatMessage.builder()
-      .chatRoom(room)
-      .senderId(dto.getSenderId())
-      .message(dto.getMessage())
-      .sentAt(LocalDateTime.now())
-      .is_read(false)
-      .build();
-
-    chatMessageRepository.save(message);
-
-    // ✅ 수신자에게 메시지 전송 (프론트는 이걸 구독하고 있음)
-    messagingTemplate.convertAndSend("/queue/chat/" + dto.getReceiverId(), dto);
+
+    // ✅ 채팅방별 순서로 ID/전송 시간을 정해 수신자에게 바로 전송 (DB 저장, 안 읽은 수 반영은 ChatMessageWriter가 모아서 처리)
+    return chatMessageSequencer.send(dto.getChatRoomId(), dto.getSenderId(), dto.getMessage());
   }
 
-  @Transactional
-  public List<ChatMessageDto> getMessagesAndMarkAsRead(Long roomId, Long memberId) {
-    // 메시지 전체 조회
-    List<ChatMessage> messages = chatMessageRepository.findByChatRoomIdOrderBySentAtAsc(roomId);
-
-    // 읽지 않은 메시지 중, 내가 보낸 게 아닌 것만 읽음 처리
-    messages.stream()
-      .filter(msg -> !msg.getSenderId().equals(memberId) && !msg.is_read())
-      .forEach(msg -> msg.set_read(true));
-
-    return messages.stream()
-      .map(ChatMessageDto::fromEntity)
-      .collect(Collectors.toList());
+  /*
+   * 채팅 기록 조회 (키셋 페이지네이션: before가 없으면 최신 limit개, 있으면 before보다 오래된 limit개)
+   * 최신 페이지를 열 때 화면에 보인 마지막 메시지까지 상대방 메시지를 읽음 처리
+   * 방금 보낸 메시지가 아직 저장 전이면 트랜잭션을 시작하기 전에 잠깐 기다림 (기다리는 동안 DB 연결을 잡지 않음)
+   */
+  public List<ChatMessageDto> getMessagesAndMarkAsRead(Long roomId, Long memberId, Long before, int limit) {
+    requireMember(roomId, memberId);
+    awaitPersisted(roomId);
+    return transactionTemplate.execute(status -> loadMessagesAndMarkAsRead(roomId, memberId, before, limit));
+  }
+
+  private List<ChatMessageDto> loadMessagesAndMarkAsRead(Long roomId, Long memberId, Long before, int limit) {
+    Pageable page = PageRequest.of(0, Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+    List<ChatMessage> messages = before == null
+      ? chatMessageRepository.findLatestByRoomId(roomId, page)
+      : chatMessageRepository.findPageBefore(roomId, before, page);
+
+    // id 내림차순으로 조회했으므로 화면 순서(오래된 것부터)로 뒤집음
+    List<ChatMessageDto> result = new ArrayList<>(messages.size());
+    for (int i = messages.size() - 1; i >= 0; i--) {
+      result.add(ChatMessageDto.fromEntity(messages.get(i)));
+    }
+
+    if (before == null && !messages.isEmpty()) {
+      ChatReadResultDto read = markRead(roomId, memberId, messages.get(0).getId());
+      if (read != null) {
+        // 일괄 UPDATE는 조회한 엔티티에 반영되지 않으므로 응답 DTO에 직접 반영
+        result.stream()
+          .filter(msg -> !msg.getSenderId().equals(memberId)
+            && msg.getId() >= read.getFromMessageId() && msg.getId() <= read.getToMessageId())
+          .forEach(msg -> msg.setRead(true));
+      }
+    }
+    return result;
   }
 
   // ✅ 채팅방 리스트 반환 (내가 senderId 또는 receiverId인 모든 방)
+  // 채팅방에 저장된 요약(마지막 메시지, 안 읽은 수)과 상대방 정보를 쿼리 한 번으로 조회
   public List<ChatRoomListDto> getChatRoomsForMember(Long myId) {
-    List<ChatRoom> rooms = chatRoomRepository.findAll();
-    return rooms.stream()
-      .filter(room -> room.getSenderId().equals(myId) || room.getReceiverId().equals(myId))
-      .map(room -> {
-        Long otherId = room.getSenderId().equals(myId) ? room.getReceiverId() : room.getSenderId();
-        Optional<Member> otherOpt = memberRepository.findByMember_Id(otherId);
-        String otherNickname = otherOpt.map(Member::getMember_NickName).orElse("알수없음");
-        String otherProfile = otherOpt.map(Member::getMember_ProfileImg).orElse(null);
-        // 마지막 메시지
-        List<ChatMessage> msgs = chatMessageRepository.findByChatRoomOrderBySentAtAsc(room);
-        ChatMessage lastMsg = msgs.isEmpty() ? null : msgs.get(msgs.size()-1);
-        String lastMessage = lastMsg != null ? lastMsg.getMessage() : "";
-        String lastMessageTime = lastMsg != null && lastMsg.getSentAt() != null ? lastMsg.getSentAt().toString() : "";
-        
-        // 안 읽은 메시지 개수 계산 (내가 보낸 메시지가 아닌 것만)
-        int unreadCount = (int) msgs.stream()
-          .filter(msg -> !msg.getSenderId().equals(myId) && !msg.is_read())
-          .count();
-        
+    return chatRoomRepository.findInboxRowsByMemberId(myId).stream()
+      .map(row -> {
+        ChatRoom room = (ChatRoom) row[0];
+        String otherNickname = row[1] != null ? (String) row[1] : "알수없음";
         return new ChatRoomListDto(
           room.getId(),
-          otherId,
+          room.getOtherMemberId(myId),
           otherNickname,
-          otherProfile,
-          lastMessage,
-          lastMessageTime,
-          unreadCount
+          (String) row[2],
+          room.getLastMessage() != null ? room.getLastMessage() : "",
+          room.getLastMessageAt() != null ? room.getLastMessageAt().toString() : "",
+          room.getUnreadCountFor(myId)
         );
       })
-      .sorted(Comparator.comparing(ChatRoomListDto::getLastMessageTime, Comparator.nullsLast(Comparator.reverseOrder())))
       .toList();
   }
 
+  // 요약 컬럼이 생기기 전의 채팅방은 서버 시작 시 chat_message에서 한 번 채움
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional
+  public void rebuildMissingRoomSummaries() {
+    int rebuilt = chatRoomRepository.rebuildMissingSummaryCounters();
+    chatRoomRepository.rebuildMissingLastMessages();
+    log.info("채팅방 요약 재계산: {}개", rebuilt);
+  }
+
   public void handleReadEvent(ChatReadEventDto dto) {
-    // 1. 해당 채팅방에서 readerId가 아닌 사람이 보낸, is_read=false인 메시지 모두 읽음 처리
-    List<ChatMessage> unread = chatMessageRepository.findByChatRoomIdOrderBySentAtAsc(dto.getChatRoomId())
-      .stream()
-      .filter(msg -> !msg.getSenderId().equals(dto.getReaderId()) && !msg.is_read())
-      .toList();
-    List<Long> readIds = unread.stream().map(ChatMessage::getId).toList();
-    unread.forEach(msg -> msg.set_read(true));
-    // 2. 상대방에게 읽음 처리된 메시지 ID 리스트를 WebSocket으로 전송
-    // 상대방 ID 구하기
-    ChatRoom room = chatRoomRepository.findById(dto.getChatRoomId()).orElse(null);
-    if (room != null) {
-      Long otherId = room.getSenderId().equals(dto.getReaderId()) ? room.getReceiverId() : room.getSenderId();
-      messagingTemplate.convertAndSend("/queue/read/" + otherId, new ChatReadResultDto(dto.getChatRoomId(), readIds));
-    }
+    // 해당 채팅방에서 readerId가 아닌 사람이 보낸 안 읽은 메시지를 한 번에 읽음 처리 (lastMessageId가 있으면 거기까지)
+    // 저장 대기는 트랜잭션 밖에서
+    requireMember(dto.getChatRoomId(), dto.getReaderId());
+    awaitPersisted(dto.getChatRoomId());
+    Long upToId = dto.getLastMessageId() != null ? dto.getLastMessageId() : Long.MAX_VALUE;
+    transactionTemplate.executeWithoutResult(status -> markRead(dto.getChatRoomId(), dto.getReaderId(), upToId));
   }
 
-  // 전체 안 읽은 메시지 개수 조회
+  // 전체 안 읽은 메시지 개수 조회 (회원별 카운터 한 행)
   public int getTotalUnreadCount(Long myId) {
-    List<ChatRoom> rooms = chatRoomRepository.findAll();
-    return rooms.stream()
-      .filter(room -> room.getSenderId().equals(myId) || room.getReceiverId().equals(myId))
-      .mapToInt(room -> {
-        List<ChatMessage> msgs = chatMessageRepository.findByChatRoomOrderBySentAtAsc(room);
-        return (int) msgs.stream()
-          .filter(msg -> !msg.getSenderId().equals(myId) && !msg.is_read())
-          .count();
-      })
-      .sum();
+    return chatUnreadCounterService.getUnreadCount(myId);
+  }
+
+  /*
+   * 상대방이 보낸 안 읽은 메시지(upToId 이하)를 UPDATE 한 번으로 읽음 처리
+   * 처리된 id 범위를 상대방에게 WebSocket으로 전송하고 반환 (읽음 처리할 메시지가 없으면 null)
+   */
+  private ChatReadResultDto markRead(Long roomId, Long readerId, Long upToId) {
+    Object[] range = chatMessageRepository.findUnreadRange(roomId, readerId, upToId).get(0);
+    if (range[0] == null) {
+      return null;
+    }
+    Long fromId = (Long) range[0];
+    Long toId = (Long) range[1];
+    // 범위 조회 뒤 새로 온 메시지는 이번 읽음 처리에 포함하지 않도록 toId까지만 갱신
+    int readCount = chatMessageRepository.markReadUpTo(roomId, readerId, toId);
+    if (readCount == 0) {
+      return null;
+    }
+    chatRoomRepository.applyRead(roomId, readerId, readCount);
+    publishRead(roomId, readerId, readCount);
+
+    ChatReadResultDto result = new ChatReadResultDto(roomId, fromId, toId, readCount);
+    chatRoomRepository.findById(roomId).ifPresent(room ->
+      messagingTemplate.convertAndSend("/queue/read/" + room.getOtherMemberId(readerId), result));
+    return result;
   }
-}
 
+  // 채팅방 참여자만 메시지를 조회하고 읽음 처리할 수 있음 (참여자 정보는 ChatRoomCache에서 읽음)
+  private void requireMember(Long roomId, Long memberId) {
+    ChatRoomCache.CachedRoom room = chatRoomCache.get(roomId)
+      .orElseThrow(() -> new IllegalArgumentException("❗유효하지 않은 채팅방 ID: " + roomId));
+    if (memberId == null || !room.isMember(memberId)) {
+      throw new IllegalArgumentException("채팅방 참여자가 아닙니다.");
+    }
+  }
+
+  // 해당 채팅방에 보낸 메시지가 모두 저장될 때까지 기다림 (시간이 지나면 저장된 것까지만 처리)
+  private void awaitPersisted(Long roomId) {
+    try {
+      if (!chatMessageWriter.awaitPersisted(roomId, persistAwaitMillis)) {
+        log.warn("채팅 메시지 저장 대기 시간 초과: roomId={}, pending={}", roomId, chatMessageWriter.getPendingCount());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  // 읽은 사람의 전체 안 읽은 수 감소 + 헤더 배지용 변화 전송
+  private void publishRead(Long chatRoomId, Long readerId, int readCount) {
+    chatUnreadCounterService.decrement(readerId, readCount).ifPresent(total ->
+      messagingTemplate.convertAndSend("/queue/chat/" + readerId, ChatUnreadDeltaDto.of(chatRoomId, -readCount, total)));
+  }
+}
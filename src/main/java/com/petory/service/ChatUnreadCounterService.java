@@ -0,0 +1,95 @@
+package com.petory.service;
+
+import java.util.Optional;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.petory.entity.ChatUnreadCounter;
+import com.petory.repository.ChatMessageRepository;
+import com.petory.repository.ChatUnreadCounterRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원별 전체 안 읽은 채팅 메시지 수 카운터
+ * 헤더 배지는 모든 채팅방/메시지를 읽지 않고 이 카운터 한 행만 읽습니다.
+ *
+ * - 증감은 조건부 UPDATE 한 번 (호출한 쪽 트랜잭션에 참여)
+ * - 카운터 행이 없으면 별도 트랜잭션에서 chat_message로 계산해서 만듦
+ *   (호출한 쪽에서 아직 커밋하지 않은 메시지는 세지 않으므로, 그 뒤 증가분을 더하면 맞는 값이 됨)
+ */
+@Service
+@Slf4j
+public class ChatUnreadCounterService {
+
+  private final ChatUnreadCounterRepository chatUnreadCounterRepository;
+  private final ChatMessageRepository chatMessageRepository;
+  private final TransactionTemplate newTransaction;
+
+  public ChatUnreadCounterService(ChatUnreadCounterRepository chatUnreadCounterRepository,
+                                  ChatMessageRepository chatMessageRepository,
+                                  PlatformTransactionManager transactionManager) {
+    this.chatUnreadCounterRepository = chatUnreadCounterRepository;
+    this.chatMessageRepository = chatMessageRepository;
+    this.newTransaction = new TransactionTemplate(transactionManager);
+    this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  /* 전체 안 읽은 메시지 수 조회 */
+  public int getUnreadCount(Long memberId) {
+    return chatUnreadCounterRepository.findUnreadCountByMemberId(memberId)
+      .orElseGet(() -> createFromMessages(memberId));
+  }
+
+  /* 새 메시지 수신: 안 읽은 수 증가 후 현재 값 반환 */
+  @Transactional
+  public int increment(Long memberId, int count) {
+    if (chatUnreadCounterRepository.increment(memberId, count) == 0) {
+      createFromMessages(memberId);
+      chatUnreadCounterRepository.increment(memberId, count);
+    }
+    return chatUnreadCounterRepository.findUnreadCountByMemberId(memberId).orElse(count);
+  }
+
+  /*
+   * 읽음 처리: 안 읽은 수 감소 후 현재 값 반환
+   * 카운터가 아직 없으면 다음 조회 때 (읽음 처리가 커밋된 뒤) 계산하도록 그대로 둠
+   */
+  @Transactional
+  public Optional<Integer> decrement(Long memberId, int count) {
+    if (chatUnreadCounterRepository.decrement(memberId, count) == 0) {
+      return Optional.empty();
+    }
+    return chatUnreadCounterRepository.findUnreadCountByMemberId(memberId);
+  }
+
+  /* chat_message 기준으로 다시 계산해서 덮어쓰기 (카운터가 어긋났을 때) */
+  @Transactional
+  public int rebuild(Long memberId) {
+    int count = (int) chatMessageRepository.countUnreadForMember(memberId);
+    if (chatUnreadCounterRepository.overwrite(memberId, count) == 0) {
+      chatUnreadCounterRepository.save(new ChatUnreadCounter(memberId, count));
+    }
+    log.info("안 읽은 메시지 수 재계산: memberId={}, unreadCount={}", memberId, count);
+    return count;
+  }
+
+  private int createFromMessages(Long memberId) {
+    try {
+      Integer created = newTransaction.execute(status -> {
+        int count = (int) chatMessageRepository.countUnreadForMember(memberId);
+        chatUnreadCounterRepository.saveAndFlush(new ChatUnreadCounter(memberId, count));
+        return count;
+      });
+      return created != null ? created : 0;
+    } catch (DataIntegrityViolationException e) {
+      // 동시에 다른 요청이 먼저 만든 경우
+      return chatUnreadCounterRepository.findUnreadCountByMemberId(memberId).orElse(0);
+    }
+  }
+}
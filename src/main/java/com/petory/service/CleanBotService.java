@@ -2,25 +2,60 @@ package com.petory.service;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Collections;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
+import com.petory.service.cleanbot.ProfanityDictionary;
+import com.petory.service.cleanbot.ProfanityMatcher;
+import com.petory.service.cleanbot.ProfanityNormalizer;
+import com.petory.service.cleanbot.ProfanityScanResult;
+
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
 @Slf4j
 public class CleanBotService {
 
-    private final Set<String> badWords = Collections.synchronizedSet(new HashSet<>());
+    public static final String FILTERED_MESSAGE = "클린봇이 부적절한 단어를 감지하였습니다";
+
+    // 현재 사용 중인 금지어 사전 (불변 객체이므로 갱신 시 참조만 교체합니다)
+    private volatile ProfanityDictionary dictionary = ProfanityDictionary.EMPTY;
+
+    // 마지막 사전 로드 실패 내용 (성공하면 지움, 관리자 상태 조회용)
+    private volatile String lastLoadError;
+    private volatile LocalDateTime lastLoadFailedAt;
+
+    // 사전 로드는 요청 스레드가 아닌 전용 스레드 하나에서 순서대로 처리합니다.
+    private final ExecutorService reloadExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "profanity-reloader");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     // application.properties에서 외부 파일 경로를 주입받습니다.
     @Value("${profanity.list.path}")
@@ -48,8 +83,21 @@ public class CleanBotService {
         } catch (IOException e) {
             log.error("금지어 파일을 초기화하는 중 오류 발생", e);
         }
-        // 초기 금지어 목록을 로드합니다.
-        loadProfanityList();
+        // 초기 금지어 목록을 로드합니다. (실패해도 서버는 빈 사전으로 시작하고 상태 API에 실패가 표시됩니다)
+        try {
+            reloadAsync().join();
+        } catch (CompletionException e) {
+            log.error("초기 금지어 목록을 불러오지 못했습니다. 빈 사전으로 시작합니다.", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    private void shutdown() {
+        reloadExecutor.shutdownNow();
+    }
+
+    public Path getProfanityFilePath() {
+        return filePath;
     }
 
     /**
@@ -71,24 +119,68 @@ public class CleanBotService {
      */
     public void updateProfanityList(String fullTextOfProfanityList) {
         try {
-            // 새로운 내용으로 파일을 완전히 덮어씁니다.
-            Files.writeString(filePath, fullTextOfProfanityList);
-            // 파일 내용이 변경되었으므로, 메모리에 로드된 목록을 다시 로드합니다.
-            loadProfanityList();
+            // 임시 파일에 쓴 뒤 교체하여, 다른 서버나 파일 감시가 쓰다 만 파일을 읽지 않도록 합니다.
+            Path tempFile = Files.createTempFile(filePath.getParent(), filePath.getFileName().toString(), ".tmp");
+            Files.writeString(tempFile, fullTextOfProfanityList, StandardCharsets.UTF_8);
+            Files.move(tempFile, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
         } catch (IOException e) {
             log.error("금지어 목록 파일을 저장하는 중 오류 발생", e);
             throw new RuntimeException("금지어 목록을 저장하는 데 실패했습니다.", e);
         }
+        // 파일 내용이 변경되었으므로, 메모리에 로드된 목록을 다시 로드합니다. (실패하면 기존 사전이 유지되므로 성공으로 응답하지 않음)
+        try {
+            reloadAsync().join();
+        } catch (CompletionException e) {
+            throw new IllegalStateException("금지어 목록 파일은 저장했지만 사전을 다시 불러오지 못했습니다.", e.getCause());
+        }
+    }
+
+    /**
+     * 전용 스레드에서 금지어 파일을 다시 읽어 사전을 교체합니다.
+     * 파일 내용이 현재 버전과 같으면 다시 컴파일하지 않습니다.
+     * 파일을 읽지 못하면 기존 사전을 유지하고 UncheckedIOException으로 완료됩니다.
+     */
+    public CompletableFuture<ProfanityDictionary> reloadAsync() {
+        return CompletableFuture.supplyAsync(this::loadProfanityList, reloadExecutor);
+    }
+
+    /**
+     * 현재 금지어 사전의 상태 (버전, 단어 수, 로드 시각, 로드 소요 시간, 마지막 로드 실패)
+     */
+    public Map<String, Object> getDictionaryStatus() {
+        ProfanityDictionary current = dictionary;
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("version", current.getVersion());
+        status.put("wordCount", current.getWordCount());
+        status.put("loadedAt", current.getLoadedAt());
+        status.put("loadDurationMillis", current.getLoadDurationMillis());
+        status.put("lastLoadFailed", lastLoadError != null);
+        status.put("lastLoadError", lastLoadError);
+        status.put("lastLoadFailedAt", lastLoadFailedAt);
+        return status;
     }
 
     /**
      * 욕설이 포함되어 있으면 전체를 경고 문구로 치환합니다.
      */
     public String filter(String text) {
-        if (containsProfanity(text)) {
-            return "클린봇이 부적절한 단어를 감지하였습니다";
-        }
-        return text;
+        return filter(text, scan(text));
+    }
+
+    /**
+     * 이미 검사한 결과를 이용해 치환합니다. (같은 텍스트를 다시 검사하지 않습니다)
+     */
+    public String filter(String text, ProfanityScanResult result) {
+        return result.isDetected() ? FILTERED_MESSAGE : text;
+    }
+
+    /**
+     * 텍스트를 한 번 훑어서 감지 여부와 감지된 비속어를 함께 반환합니다.
+     * 띄어쓰기·기호 삽입, 자모 분리, 유사 문자 등의 우회 표기는 정규화한 뒤 검사합니다.
+     */
+    public ProfanityScanResult scan(String text) {
+        if (!StringUtils.hasText(text)) return ProfanityScanResult.CLEAN;
+        return ProfanityNormalizer.apply(text, dictionary.getMatcher()::scan);
     }
 
     /**
@@ -96,43 +188,67 @@ public class CleanBotService {
      */
     public boolean containsProfanity(String text) {
         if (!StringUtils.hasText(text)) return false;
-        String lowerCaseText = text.toLowerCase();
-        return badWords.stream().anyMatch(lowerCaseText::contains);
+        return ProfanityNormalizer.apply(text, dictionary.getMatcher()::containsAny);
     }
 
     /**
      * 텍스트에서 감지된 비속어들을 반환합니다.
      */
     public Set<String> getDetectedProfanity(String text) {
-        Set<String> detected = new HashSet<>();
-        if (!StringUtils.hasText(text)) return detected;
-        
-        String lowerCaseText = text.toLowerCase();
-        for (String badWord : badWords) {
-            if (lowerCaseText.contains(badWord)) {
-                detected.add(badWord);
-            }
-        }
-        return detected;
+        return new HashSet<>(scan(text).getMatchedWords());
     }
 
     /**
-     * 파일에서 금지어 목록을 읽어와 메모리의 Set을 갱신하는 내부 메서드
+     * 파일에서 금지어 목록을 읽어와 새 사전을 만든 뒤 한 번에 교체하는 내부 메서드
+     * (reloadExecutor 스레드에서만 호출됩니다)
+     * 파일을 읽지 못하면 실패를 기록하고 UncheckedIOException을 던집니다. (기존 사전은 그대로 사용)
      */
-    private void loadProfanityList() {
+    private ProfanityDictionary loadProfanityList() {
+        ProfanityDictionary current = dictionary;
         try {
-            badWords.clear(); // 기존 목록을 비웁니다.
-            try (BufferedReader reader = Files.newBufferedReader(filePath)) {
+            long startNanos = System.nanoTime();
+            byte[] content = Files.readAllBytes(filePath);
+            String version = contentVersion(content);
+            if (version.equals(current.getVersion())) {
+                lastLoadError = null;
+                return current;
+            }
+
+            List<String> words = new ArrayList<>();
+            try (BufferedReader reader = new BufferedReader(
+                    new StringReader(new String(content, StandardCharsets.UTF_8)))) {
                 String line;
                 while ((line = reader.readLine()) != null) {
                     if (StringUtils.hasText(line)) {
-                        badWords.add(line.trim().toLowerCase());
+                        // 사전 단어도 검사 대상 텍스트와 같은 규칙으로 정규화합니다.
+                        words.add(ProfanityNormalizer.normalizeToString(line.trim()));
                     }
                 }
             }
-            log.info("클린봇 서비스: 욕설 사전 갱신 완료 (총 {}개 단어)", badWords.size());
+            ProfanityMatcher compiled = ProfanityMatcher.compile(words);
+            long durationMillis = (System.nanoTime() - startNanos) / 1_000_000;
+            ProfanityDictionary loaded = new ProfanityDictionary(compiled, version, LocalDateTime.now(), durationMillis);
+            this.dictionary = loaded;
+            lastLoadError = null;
+            log.info("클린봇 서비스: 욕설 사전 갱신 완료 (버전 {} → {}, 총 {}개 단어, {}ms)",
+                current.getVersion(), version, compiled.size(), durationMillis);
+            return loaded;
         } catch (IOException e) {
-            log.error("클린봇 서비스: 욕설 사전 파일 로드에 실패했습니다.", e);
+            log.error("클린봇 서비스: 욕설 사전 파일 로드에 실패했습니다. 기존 사전(버전 {})을 유지합니다.",
+                current.getVersion(), e);
+            lastLoadFailedAt = LocalDateTime.now();
+            lastLoadError = e.getClass().getSimpleName() + ": " + e.getMessage();
+            throw new UncheckedIOException("금지어 사전 파일을 읽지 못했습니다: " + filePath, e);
+        }
+    }
+
+    // 파일 내용의 SHA-256 해시 앞부분을 사전 버전으로 사용합니다.
+    private static String contentVersion(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
         }
     }
-}
\ No newline at end of file
+}
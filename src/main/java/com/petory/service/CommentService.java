@@ -1,17 +1,18 @@
 package com.petory.service;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.petory.dto.CommentCreateDto;
 import com.petory.entity.Board;
-import com.petory.entity.CleanBotLog;
 import com.petory.entity.Comment;
 import com.petory.entity.Member;
 import com.petory.repository.BoardRepository;
-import com.petory.repository.CleanBotLogRepository;
 import com.petory.repository.CommentRepository;
 import com.petory.repository.MemberRepository;
+import com.petory.service.cleanbot.CleanBotDetectedEvent;
+import com.petory.service.cleanbot.ProfanityScanResult;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,8 +27,7 @@ public class CommentService {
   private final MemberRepository memberRepository;
   private final BoardRepository boardRepository;
   private final CleanBotService cleanBotService;
-  private final NotificationService notificationService;
-  private final CleanBotLogRepository cleanBotLogRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   /**
    * 새 댓글 생성
@@ -40,38 +40,23 @@ public class CommentService {
       .orElseThrow(() -> new IllegalArgumentException("해당 게시글을 찾을 수 없습니다."));
 
     // 새 Comment 엔티티를 생성하고 정보를 설정합니다.
+    // 클린봇 검사 (한 번만 검사하고 결과를 재사용)
+    ProfanityScanResult contentScan = cleanBotService.scan(requestDto.getContent());
+
     Comment comment = new Comment();
-    comment.setContent(cleanBotService.filter(requestDto.getContent()));
+    comment.setContent(cleanBotService.filter(requestDto.getContent(), contentScan));
     comment.setBoard(board); // 연관된 게시글 설정
     comment.setMember(member); // 연관된 작성자 설정
 
     board.setCommentCount(board.getCommentCount() + 1);
 
-    // 클린봇이 부적절한 내용을 감지한 경우 알림 생성
-    if (cleanBotService.containsProfanity(requestDto.getContent())) {
-      try {
-        notificationService.createCleanBotDetectedNotification(member, requestDto.getContent());
-      } catch (Exception e) {
-        log.error("클린봇 감지 알림 생성 중 오류 발생: memberId={}", member.getMember_Id(), e);
-        // 알림 생성 실패가 댓글 생성을 막지 않도록 예외를 던지지 않음
-      }
-    }
-
     Comment savedComment = commentRepository.save(comment);
     
-    // 클린봇이 부적절한 내용을 감지한 경우 로그 저장
-    if (cleanBotService.containsProfanity(requestDto.getContent())) {
-      try {
-        CleanBotLog cleanBotLog = new CleanBotLog();
-        cleanBotLog.setTargetId(savedComment.getId());
-        cleanBotLog.setTargetType("COMMENT");
-        cleanBotLog.setOriginalContent(requestDto.getContent());
-        cleanBotLogRepository.save(cleanBotLog);
-        log.info("클린봇 로그 저장 완료: Comment ID={}", savedComment.getId());
-      } catch (Exception e) {
-        log.error("클린봇 로그 저장 중 오류 발생: Comment ID={}", savedComment.getId(), e);
-        // 로그 저장 실패가 댓글 생성을 막지 않도록 예외를 던지지 않음
-      }
+    // 클린봇이 부적절한 내용을 감지한 경우 로그 저장과 알림 생성 (커밋 후 비동기 처리)
+    if (contentScan.isDetected()) {
+      eventPublisher.publishEvent(new CleanBotDetectedEvent(
+          savedComment.getId(), "COMMENT", String.join(", ", contentScan.getMatchedTexts()),
+          requestDto.getContent(), member.getMember_Id(), requestDto.getContent()));
     }
     
     return savedComment.getId();
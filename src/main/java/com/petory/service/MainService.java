@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.stream.Collectors;
 
@@ -12,7 +13,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.petory.dto.HashtagDto;
 import com.petory.dto.RecommendationResponseDto;
 import com.petory.dto.board.BoardListDto;
 import com.petory.dto.board.PopularBoardDto;
@@ -24,6 +24,7 @@ import com.petory.repository.BoardHashtagRepository;
 import com.petory.repository.BoardRepository;
 import com.petory.repository.MemberHashtagRepository;
 import com.petory.repository.MemberRepository;
+import com.petory.service.board.PopularRankingMaterializer;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -38,6 +39,7 @@ public class MainService {
     private final MemberRepository memberRepository;
     private final MemberHashtagRepository memberHashtagRepository;
     private final BoardHashtagRepository boardHashtagRepository;
+    private final PopularRankingMaterializer popularRankingMaterializer;
 
     /**
      * 최근 일주일 인기 게시글 조회
@@ -47,6 +49,12 @@ public class MainService {
     public List<PopularBoardDto> getPopularPosts(int limit) {
         log.info("인기 게시글 조회 시작 - limit: {}", limit);
         
+        // 미리 계산된 인기 순위 스냅샷이 있으면 그대로 사용
+        List<PopularBoardDto> materialized = popularRankingMaterializer.getPopularPosts(limit);
+        if (materialized != null) {
+            return materialized;
+        }
+        
         // 일주일 전 시점 계산
         LocalDateTime weekAgo = LocalDateTime.now().minusWeeks(1);
         
@@ -56,9 +64,11 @@ public class MainService {
         // 인기 게시글 조회
         List<Board> popularBoards = boardRepository.findPopularPostsInLastWeek(weekAgo, pageable);
         
-        // DTO 변환
+        // DTO 변환 (해시태그는 한 번의 쿼리로 일괄 조회)
+        Map<Long, List<BoardHashtag>> hashtagsByPostId = findHashtagsByPostId(popularBoards);
         List<PopularBoardDto> popularBoardDtos = popularBoards.stream()
-                .map(this::convertToPopularBoardDto)
+                .map(board -> PopularRankingMaterializer.toPopularBoardDto(
+                        board, hashtagsByPostId.getOrDefault(board.getId(), List.of())))
                 .collect(Collectors.toList());
         
         log.info("인기 게시글 조회 완료 - 조회된 게시글 수: {}", popularBoardDtos.size());
@@ -115,9 +125,7 @@ public class MainService {
         List<Board> recommendedBoards = boardRepository.findBoardsByHashtags(hashtagNames, pageable);
         
         // DTO 변환
-        List<BoardListDto> boardDtos = recommendedBoards.stream()
-                .map(this::convertToBoardListDto)
-                .collect(Collectors.toList());
+        List<BoardListDto> boardDtos = convertToBoardListDtos(recommendedBoards);
         
         return RecommendationResponseDto.builder()
                 .recommendationType("personalized")
@@ -134,7 +142,7 @@ public class MainService {
         log.info("인기 해시태그 기반 추천 시작");
         
         // 인기 해시태그 TOP 10 조회
-        List<String> popularHashtags = boardRepository.findPopularHashtags(10);
+        List<String> popularHashtags = findPopularHashtags();
         
         if (popularHashtags.isEmpty()) {
             log.warn("인기 해시태그가 없습니다. 대체 추천을 반환합니다.");
@@ -149,9 +157,7 @@ public class MainService {
         List<Board> recommendedBoards = boardRepository.findBoardsByHashtags(selectedHashtags, pageable);
         
         // DTO 변환
-        List<BoardListDto> boardDtos = recommendedBoards.stream()
-                .map(this::convertToBoardListDto)
-                .collect(Collectors.toList());
+        List<BoardListDto> boardDtos = convertToBoardListDtos(recommendedBoards);
         
         return RecommendationResponseDto.builder()
                 .recommendationType("popular_hashtags")
@@ -168,7 +174,7 @@ public class MainService {
         log.info("비로그인 사용자를 위한 인기 해시태그 기반 추천 시작");
         
         // 인기 해시태그 TOP 10 조회
-        List<String> popularHashtags = boardRepository.findPopularHashtags(10);
+        List<String> popularHashtags = findPopularHashtags();
         
         if (popularHashtags.isEmpty()) {
             log.warn("인기 해시태그가 없습니다. 대체 추천을 반환합니다.");
@@ -183,9 +189,7 @@ public class MainService {
         List<Board> recommendedBoards = boardRepository.findBoardsByHashtags(selectedHashtags, pageable);
         
         // DTO 변환
-        List<BoardListDto> boardDtos = recommendedBoards.stream()
-                .map(this::convertToBoardListDto)
-                .collect(Collectors.toList());
+        List<BoardListDto> boardDtos = convertToBoardListDtos(recommendedBoards);
         
         return RecommendationResponseDto.builder()
                 .recommendationType("popular_hashtags")
@@ -207,9 +211,7 @@ public class MainService {
         List<Board> popularBoards = boardRepository.findPopularPostsInLastWeek(weekAgo, pageable);
         
         // DTO 변환
-        List<BoardListDto> boardDtos = popularBoards.stream()
-                .map(this::convertToBoardListDto)
-                .collect(Collectors.toList());
+        List<BoardListDto> boardDtos = convertToBoardListDtos(popularBoards);
         
         return RecommendationResponseDto.builder()
                 .recommendationType("fallback")
@@ -240,42 +242,36 @@ public class MainService {
     }
 
     /**
-     * Board 엔티티를 PopularBoardDto로 변환
-     * @param board Board 엔티티
-     * @return PopularBoardDto
+     * 게시글 목록의 해시태그를 게시글 ID별로 일괄 조회
+     * @param boards Board 엔티티 목록
+     * @return 게시글 ID별 해시태그 목록
      */
-    private PopularBoardDto convertToPopularBoardDto(Board board) {
-        // 게시글의 해시태그 조회
-        List<BoardHashtag> boardHashtags = boardHashtagRepository.findByPostId(board.getId());
-        
-        // 해시태그 DTO 변환
-        List<HashtagDto> hashtagDtos = boardHashtags.stream()
-                .map(bh -> HashtagDto.fromEntity(bh.getHashtag()))
-                .collect(Collectors.toList());
-        
-        return PopularBoardDto.builder()
-                .id(board.getId())
-                .title(board.getTitle())
-                .author(board.getMember().getMember_NickName()) // Member의 닉네임
-                .viewCount(board.getViewCount())
-                .likeCount(board.getLikeCount())
-                .category(board.getBoardKind().toString()) // BoardKind enum 값
-                .createdAt(board.getRegDate()) // BaseTimeEntity의 regDate (실제 필드명)
-                .hashtags(hashtagDtos)
-                .build();
+    private Map<Long, List<BoardHashtag>> findHashtagsByPostId(List<Board> boards) {
+        return boardHashtagRepository.findGroupedByPostIds(
+                boards.stream().map(Board::getId).collect(Collectors.toList()));
+    }
+
+    /**
+     * 인기 해시태그 TOP 10 (스냅샷이 없으면 DB에서 직접 조회)
+     */
+    private List<String> findPopularHashtags() {
+        List<String> materialized = popularRankingMaterializer.getPopularHashtags();
+        return materialized != null ? materialized : boardRepository.findPopularHashtags(10);
     }
 
     /**
-     * Board 엔티티를 BoardListDto로 변환
-     * @param board Board 엔티티
-     * @return BoardListDto
+     * Board 엔티티 목록을 BoardListDto 목록으로 변환
+     * @param boards Board 엔티티 목록
+     * @return BoardListDto 목록
      */
-    private BoardListDto convertToBoardListDto(Board board) {
-        // 게시글의 해시태그 조회
-        List<BoardHashtag> boardHashtags = boardHashtagRepository.findByPostId(board.getId());
+    private List<BoardListDto> convertToBoardListDtos(List<Board> boards) {
+        // 게시글들의 해시태그 일괄 조회
+        Map<Long, List<BoardHashtag>> hashtagsByPostId = findHashtagsByPostId(boards);
         
         // BoardListDto의 정적 메서드 사용
-        return BoardListDto.from(board, boardHashtags);
+        return boards.stream()
+                .map(board -> BoardListDto.from(board, hashtagsByPostId.getOrDefault(board.getId(), List.of())))
+                .collect(Collectors.toList());
     }
 
     // TODO: 나중에 추가될 메인페이지 전용 기능들
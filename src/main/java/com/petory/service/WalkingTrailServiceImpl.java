@@ -4,6 +4,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,16 +17,16 @@ import com.petory.dto.walkingTrail.AmenityDto;
 import com.petory.dto.walkingTrail.WalkingTrailCreateDto;
 import com.petory.dto.walkingTrail.WalkingTrailDetailResponseDto;
 import com.petory.dto.walkingTrail.WalkingTrailListResponseDto;
-import com.petory.entity.CleanBotLog;
 import com.petory.entity.Member;
 import com.petory.entity.WalkingTrail;
 import com.petory.entity.WalkingTrailComment;
 import com.petory.entity.WalkingTrailRecommend;
-import com.petory.repository.CleanBotLogRepository;
 import com.petory.repository.MemberRepository;
 import com.petory.repository.WalkingTrailCommentRepository;
 import com.petory.repository.WalkingTrailRecommendRepository;
 import com.petory.repository.WalkingTrailRepository;
+import com.petory.service.cleanbot.CleanBotDetectedEvent;
+import com.petory.service.cleanbot.ProfanityScanResult;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -38,7 +40,7 @@ public class WalkingTrailServiceImpl implements WalkingTrailService {
   private final WalkingTrailCommentRepository walkingTrailCommentRepository;
   private final MemberRepository memberRepository; // 사용자 정보를 가져오기 위함
   private final CleanBotService cleanBotService; // CleanBotService 주입
-  private final CleanBotLogRepository cleanBotLogRepository;
+  private final ApplicationEventPublisher eventPublisher;
   private final KakaoMapService kakaoMapService;
   private final WalkingTrailRecommendRepository walkingTrailRecommendRepository;
 
@@ -92,22 +94,31 @@ public class WalkingTrailServiceImpl implements WalkingTrailService {
   @Override
   @Transactional
   public void addRecommendation(Long trailId, String userEmail) {
-    WalkingTrail trail = walkingTrailRepository.findById(trailId)
-      .orElseThrow(() -> new EntityNotFoundException("해당 ID의 산책로를 찾을 수 없습니다: " + trailId));
+    if (!walkingTrailRepository.existsById(trailId)) {
+      throw new EntityNotFoundException("해당 ID의 산책로를 찾을 수 없습니다: " + trailId);
+    }
+    WalkingTrail trail = walkingTrailRepository.getReferenceById(trailId);
     Member member = memberRepository.findByMember_Email(userEmail)
       .orElseThrow(() -> new EntityNotFoundException("해당 이메일의 사용자를 찾을 수 없습니다: " + userEmail));
 
-    // 중복 추천 방지
+    // 중복 추천 방지 (빠른 확인용, 동시에 들어온 중복 추천은 아래 유니크 제약으로 걸러짐)
     if (walkingTrailRecommendRepository.existsByWalkingTrailAndMember(trail, member)) {
       throw new IllegalStateException("이미 추천하셨습니다.");
     }
 
+    // 추천수 1 증가 (DB에서 원자적으로 증가)
+    // 추천 기록을 넣기 전에 산책로 행에 배타 락을 잡아, FK 검사의 공유 락과 엇갈려 교착 상태가 되지 않도록 함
+    walkingTrailRepository.incrementRecommends(trailId);
+
+    // 중복 추천이면 예외로 롤백되어 위의 증가도 취소됨
     WalkingTrailRecommend recommend = new WalkingTrailRecommend();
     recommend.setWalkingTrail(trail);
     recommend.setMember(member);
-    walkingTrailRecommendRepository.save(recommend);
-
-    trail.setRecommends(trail.getRecommends() + 1);
+    try {
+      walkingTrailRecommendRepository.saveAndFlush(recommend);
+    } catch (DataIntegrityViolationException e) {
+      throw new IllegalStateException("이미 추천하셨습니다.");
+    }
   }
 
   @Override
@@ -122,11 +133,12 @@ public class WalkingTrailServiceImpl implements WalkingTrailService {
     WalkingTrailComment newComment = new WalkingTrailComment();
 
     // 1. 클린봇으로 비속어 검사 실행
-    if (cleanBotService.containsProfanity(originalContent)) {
+    ProfanityScanResult contentScan = cleanBotService.scan(originalContent);
+    if (contentScan.isDetected()) {
       // 비속어 포함 시: 블라인드 처리
       newComment.setBlinded(true);
       newComment.setOriginalContent(originalContent);
-      newComment.setContent(cleanBotService.filter(originalContent)); // 필터링된 메시지로 내용 설정
+      newComment.setContent(cleanBotService.filter(originalContent, contentScan)); // 필터링된 메시지로 내용 설정
     } else {
       // 정상 댓글
       newComment.setBlinded(false);
@@ -139,13 +151,11 @@ public class WalkingTrailServiceImpl implements WalkingTrailService {
     // 2. 댓글을 먼저 저장하여 ID 할당
     WalkingTrailComment savedComment = walkingTrailCommentRepository.save(newComment);
 
-    // 3. 비속어가 감지되었다면, 로그 기록
+    // 3. 비속어가 감지되었다면, 로그 기록 (커밋 후 비동기 처리)
     if (savedComment.isBlinded()) {
-      CleanBotLog log = new CleanBotLog();
-      log.setTargetId(savedComment.getId());
-      log.setTargetType("WALKING_TRAIL_COMMENT");
-      log.setOriginalContent(savedComment.getOriginalContent());
-      cleanBotLogRepository.save(log);
+      eventPublisher.publishEvent(new CleanBotDetectedEvent(
+          savedComment.getId(), "WALKING_TRAIL_COMMENT", String.join(", ", contentScan.getMatchedTexts()),
+          savedComment.getOriginalContent(), null, null));
     }
 
     return savedComment.getId();
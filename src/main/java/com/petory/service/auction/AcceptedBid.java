@@ -0,0 +1,47 @@
+package com.petory.service.auction;
+
+import java.time.LocalDateTime;
+
+import com.petory.constant.AuctionBidStatus;
+import com.petory.dto.shop.AuctionBidDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 입찰 장부(AuctionBidBook)가 받아들인 입찰. 경매별 sequence 순서가 곧 입찰 순서입니다.
+ * 저장 전까지 입찰 WAL(AuctionBidLog)에 한 줄(JSON)로 기록되고, AuctionBidWriter가 모아서 DB에 저장합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AcceptedBid {
+
+    private Long auctionItemId;
+    private long sequence;
+    private Long memberId;
+    private String memberNickname;
+    private int bidAmount;
+    private LocalDateTime bidTime;
+    private String auctionItemName;
+    private LocalDateTime endTime; // 이 입찰을 받아들인 뒤의 경매 종료 시간
+    private boolean extended; // 마감 직전 입찰로 종료 시간이 연장되었는지
+
+    /**
+     * 아직 저장 전이므로 bidId 대신 경매별 입찰 순번을 담은 DTO
+     */
+    public AuctionBidDto toDto() {
+        return AuctionBidDto.builder()
+            .auctionItemId(auctionItemId)
+            .auctionItemName(auctionItemName)
+            .memberId(memberId)
+            .memberNickname(memberNickname)
+            .bidAmount(bidAmount)
+            .bidTime(bidTime)
+            .sequence(sequence)
+            .isHighest(true) // 받아들인 시점의 최고가
+            .status(AuctionBidStatus.SUCCESS)
+            .build();
+    }
+}
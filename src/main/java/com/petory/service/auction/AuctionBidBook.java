@@ -0,0 +1,109 @@
+package com.petory.service.auction;
+
+import java.time.LocalDateTime;
+
+import com.petory.constant.AuctionStatus;
+
+import lombok.Getter;
+
+/**
+ * 경매 하나의 메모리 입찰 장부 (경매 조건, 입찰 순번, 마감 여부, 연장된 종료 시간)
+ * 현재 최고 입찰은 AuctionLeaderBoard의 기록을 기준으로 검증합니다.
+ * 마감 연장(soft close)이 설정된 경매는 종료 softCloseSeconds초 이내의 입찰마다 종료 시간을 softCloseExtendSeconds초 늦춥니다.
+ * 해당 경매의 입찰 처리 스레드(AuctionBidSequencer의 lane) 하나만 읽고 쓰므로 동기화하지 않습니다.
+ */
+@Getter
+class AuctionBidBook {
+
+    private static final int DEFAULT_BID_UNIT = 100;
+    private static final int MAX_PRICE_MULTIPLIER = 20;
+
+    private final Long auctionItemId;
+    private final String auctionItemName;
+    private final int startPrice;
+    private final int bidUnit;
+    private final LocalDateTime startTime;
+    private final AuctionStatus auctionStatus;
+    private final int softCloseSeconds;
+    private final int softCloseExtendSeconds;
+
+    private LocalDateTime endTime;
+
+    private long sequence;
+    private boolean closed;
+
+    AuctionBidBook(Long auctionItemId, String auctionItemName, int startPrice, Integer bidUnit,
+                   LocalDateTime startTime, LocalDateTime endTime, AuctionStatus auctionStatus,
+                   Integer softCloseSeconds, Integer softCloseExtendSeconds, long initialSequence) {
+        this.auctionItemId = auctionItemId;
+        this.auctionItemName = auctionItemName;
+        this.startPrice = startPrice;
+        this.bidUnit = bidUnit != null ? bidUnit : DEFAULT_BID_UNIT;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.auctionStatus = auctionStatus;
+        this.softCloseSeconds = softCloseSeconds != null ? softCloseSeconds : 0;
+        this.softCloseExtendSeconds = softCloseExtendSeconds != null ? softCloseExtendSeconds : 0;
+        this.sequence = initialSequence;
+    }
+
+    boolean isActive(LocalDateTime now) {
+        return !closed && auctionStatus == AuctionStatus.ACTIVE
+            && startTime.isBefore(now) && endTime.isAfter(now);
+    }
+
+    /**
+     * 현재 최고 입찰(leader) 기준으로 입찰을 검증하고, 받아들이면 다음 순번을 매깁니다.
+     * 거절 사유는 기존 입찰 서비스와 같은 예외/메시지로 던집니다.
+     */
+    AcceptedBid accept(AuctionLeader leader, Long memberId, String memberNickname, Integer mileage, int bidAmount,
+                       LocalDateTime now) {
+        if (!isActive(now)) {
+            throw new IllegalStateException("진행 중인 경매가 아닙니다: " + auctionItemId);
+        }
+
+        int minBidAmount = startPrice + bidUnit;
+        if (bidAmount < minBidAmount) {
+            throw new IllegalArgumentException("최소 입찰가는 " + minBidAmount + "원입니다.");
+        }
+        int maxBidAmount = startPrice * MAX_PRICE_MULTIPLIER;
+        if (bidAmount > maxBidAmount) {
+            throw new IllegalArgumentException("최대 입찰가는 " + maxBidAmount + "P입니다.");
+        }
+
+        int balance = mileage != null ? mileage : 0;
+        if (balance < bidAmount) {
+            throw new IllegalArgumentException("마일리지가 부족합니다. 현재 마일리지: " + balance + "P, 필요 마일리지: " + bidAmount + "P");
+        }
+
+        if (leader != null && bidAmount <= leader.getAmount()) {
+            throw new IllegalArgumentException("현재 최고가보다 높은 금액으로 입찰해야 합니다. 현재 최고가: " + leader.getAmount() + "P");
+        }
+
+        // 마감 직전 입찰이면 종료 시간 연장 (막판 입찰 몰림 방지)
+        boolean extended = false;
+        if (softCloseSeconds > 0 && softCloseExtendSeconds > 0 && !now.isBefore(endTime.minusSeconds(softCloseSeconds))) {
+            endTime = endTime.plusSeconds(softCloseExtendSeconds);
+            extended = true;
+        }
+
+        sequence++;
+        return new AcceptedBid(auctionItemId, sequence, memberId, memberNickname, bidAmount, now, auctionItemName,
+            endTime, extended);
+    }
+
+    void close() {
+        closed = true;
+    }
+
+    /**
+     * (연장을 반영한) 종료 시간이 지났으면 마감하고 true, 아직 남았으면 false
+     */
+    boolean closeIfDue(LocalDateTime now) {
+        if (!closed && endTime.isAfter(now)) {
+            return false;
+        }
+        closed = true;
+        return true;
+    }
+}
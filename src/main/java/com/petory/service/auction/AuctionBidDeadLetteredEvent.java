@@ -0,0 +1,16 @@
+package com.petory.service.auction;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 받아들인 입찰을 저장하지 못하고 dead-letter로 옮겼음을 알리는 이벤트
+ * AuctionBidSequencer가 받아, 그 입찰이 최고 입찰로 남아 있으면 DB 기준으로 바로잡고 상태 프레임을 다시 보냅니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class AuctionBidDeadLetteredEvent {
+
+    private final Long auctionItemId;
+    private final long sequence; // dead-letter로 옮긴 입찰의 순번
+}
@@ -0,0 +1,192 @@
+package com.petory.service.auction;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 받아들였지만 아직 저장하지 않은 입찰을 기록하는 로컬 WAL 파일 (AuctionBidWriter 전용)
+ * 채팅 WAL(ChatMessageLog)과 같은 방식입니다.
+ *
+ * - 입찰 하나 = JSON 한 줄, 파일 끝에 덧붙이기만 함
+ * - 기록한 순서대로 번호(sequence)를 매기고, DB 저장이 끝난 번호까지 checkpoint하면
+ *   모두 저장된 이전 파일은 지우고, 현재 파일도 전부 저장되었으면 비움
+ * - 현재 파일이 segmentMaxBytes를 넘으면 새 파일로 넘어감 (DB 장애로 저장이 밀릴 때 파일 하나가 계속 커지지 않도록)
+ * - 서버가 비정상 종료되면 다음 시작 때 남은 파일을 모두 읽어 다시 저장 (이미 저장된 입찰은 AuctionBidWriter가 건너뜀)
+ * - 다시 시도해도 저장할 수 없는 입찰은 dead-letter 파일(auction-bid-dead-letter.log)로 옮김 (복구 대상 아님)
+ */
+@Slf4j
+class AuctionBidLog {
+
+    private static final String SEGMENT_PREFIX = "auction-bid-wal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    static final String DEAD_LETTER_FILE = "auction-bid-dead-letter.log";
+
+    private final Path dir;
+    private final ObjectMapper objectMapper;
+    private final long segmentMaxBytes;
+    private final boolean fsync;
+
+    // 닫힌 파일 번호 → 그 파일의 마지막 기록 번호
+    private final TreeMap<Long, Long> closedSegments = new TreeMap<>();
+    private long currentSegment;
+    private FileChannel channel;
+    private long currentSize;
+    private long lastSequence;
+
+    AuctionBidLog(Path dir, ObjectMapper objectMapper, long segmentMaxBytes, boolean fsync) throws IOException {
+        this.dir = dir;
+        this.objectMapper = objectMapper;
+        this.segmentMaxBytes = segmentMaxBytes;
+        this.fsync = fsync;
+        Files.createDirectories(dir);
+    }
+
+    /**
+     * 지난 실행에서 남은 파일을 모두 읽고, 새 파일을 열어 기록을 시작합니다.
+     * @return 남아 있던 입찰 (기록 순서대로, 번호는 1부터)
+     */
+    synchronized List<AcceptedBid> recover() throws IOException {
+        List<AcceptedBid> bids = new ArrayList<>();
+        TreeMap<Long, Path> segments = listSegments();
+        for (Map.Entry<Long, Path> segment : segments.entrySet()) {
+            readSegment(segment.getValue(), bids);
+            closedSegments.put(segment.getKey(), (long) bids.size());
+        }
+        lastSequence = bids.size();
+        currentSegment = segments.isEmpty() ? 1 : segments.lastKey() + 1;
+        if (bids.isEmpty()) {
+            // 남은 입찰이 없으면 빈 파일만 정리
+            checkpoint(0);
+        }
+        openCurrentSegment();
+        return bids;
+    }
+
+    /**
+     * 입찰 하나를 기록합니다.
+     * @return 기록 번호
+     */
+    synchronized long append(AcceptedBid bid) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(bid);
+        ByteBuffer line = ByteBuffer.allocate(json.length + 1).put(json).put((byte) '\n').flip();
+        if (currentSize > 0 && currentSize + line.remaining() > segmentMaxBytes) {
+            rollSegment();
+        }
+        while (line.hasRemaining()) {
+            currentSize += channel.write(line);
+        }
+        if (fsync) {
+            channel.force(false);
+        }
+        return ++lastSequence;
+    }
+
+    /**
+     * sequence 번호까지 DB 저장이 끝났음을 기록합니다.
+     */
+    synchronized void checkpoint(long sequence) throws IOException {
+        while (!closedSegments.isEmpty() && closedSegments.firstEntry().getValue() <= sequence) {
+            Files.deleteIfExists(segmentPath(closedSegments.pollFirstEntry().getKey()));
+        }
+        if (closedSegments.isEmpty() && sequence >= lastSequence && channel != null && currentSize > 0) {
+            channel.truncate(0);
+            currentSize = 0;
+        }
+    }
+
+    /**
+     * 저장할 수 없는 입찰을 dead-letter 파일에 남깁니다. (항상 디스크까지 기록)
+     */
+    synchronized void appendDeadLetter(AcceptedBid bid) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(bid);
+        ByteBuffer line = ByteBuffer.allocate(json.length + 1).put(json).put((byte) '\n').flip();
+        try (FileChannel deadLetter = FileChannel.open(dir.resolve(DEAD_LETTER_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (line.hasRemaining()) {
+                deadLetter.write(line);
+            }
+            deadLetter.force(false);
+        }
+    }
+
+    synchronized void close() throws IOException {
+        if (channel != null) {
+            channel.force(false);
+            channel.close();
+        }
+    }
+
+    synchronized Map<String, Object> getStats() {
+        return Map.of(
+            "walSegments", closedSegments.size() + 1,
+            "walCurrentSegmentBytes", currentSize);
+    }
+
+    private void rollSegment() throws IOException {
+        channel.force(false);
+        channel.close();
+        closedSegments.put(currentSegment, lastSequence);
+        currentSegment++;
+        openCurrentSegment();
+    }
+
+    private void openCurrentSegment() throws IOException {
+        channel = FileChannel.open(segmentPath(currentSegment),
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        currentSize = channel.size();
+    }
+
+    private void readSegment(Path path, List<AcceptedBid> bids) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    bids.add(objectMapper.readValue(line, AcceptedBid.class));
+                } catch (IOException e) {
+                    // 기록 도중 종료되어 잘린 마지막 줄
+                    log.warn("입찰 WAL에서 읽을 수 없는 줄을 건너뜁니다: file={}", path.getFileName());
+                }
+            }
+        }
+    }
+
+    private TreeMap<Long, Path> listSegments() throws IOException {
+        TreeMap<Long, Path> segments = new TreeMap<>();
+        try (Stream<Path> files = Files.list(dir)) {
+            files.forEach(path -> {
+                String name = path.getFileName().toString();
+                if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)) {
+                    try {
+                        segments.put(Long.parseLong(
+                            name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())), path);
+                    } catch (NumberFormatException ignored) {
+                        // WAL 파일이 아님
+                    }
+                }
+            });
+        }
+        return segments;
+    }
+
+    private Path segmentPath(long segment) {
+        return dir.resolve(SEGMENT_PREFIX + segment + SEGMENT_SUFFIX);
+    }
+}
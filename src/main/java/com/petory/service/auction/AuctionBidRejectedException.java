@@ -0,0 +1,12 @@
+package com.petory.service.auction;
+
+/**
+ * 입찰 처리 대기열이 가득 차서 입찰을 검증하지 않고 바로 거절한 경우
+ * (입찰 자체의 문제가 아니므로 잠시 후 다시 시도하면 됨)
+ */
+public class AuctionBidRejectedException extends IllegalStateException {
+
+    public AuctionBidRejectedException(String message) {
+        super(message);
+    }
+}
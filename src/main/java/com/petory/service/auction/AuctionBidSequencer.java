@@ -0,0 +1,428 @@
+package com.petory.service.auction;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.petory.entity.Member;
+import com.petory.entity.shop.AuctionItem;
+import com.petory.repository.shop.AuctionBidRepository;
+import com.petory.repository.shop.AuctionItemRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 경매 입찰을 고정 개수의 처리 순서(lane)에 나눠 받아 메모리 장부에서 검증/정렬합니다.
+ *
+ * - 경매 ID를 해시해서 lane 하나에 고정하고, lane마다 전용 스레드 하나가 큐를 순서대로 처리
+ * - 같은 경매의 입찰은 항상 같은 lane에서 도착 순서대로 처리되므로 락/재시도 없이 순서가 결정되고,
+ *   서로 다른 lane의 경매는 병렬로 처리됨
+ * - lane 큐는 크기가 정해져 있어, 가득 차면 기다리지 않고 바로 AuctionBidRejectedException으로 거절
+ * - 장부는 경매별 첫 입찰 때 한 번만 DB에서 읽고, 이후 입찰은 DB를 읽지 않음 (관리자가 일정을 바꾸면 다시 읽음)
+ * - 마감 연장(soft close)으로 바뀐 종료 시간은 장부가 기준이며, 종료 처리는 closeIfDue로 장부에 먼저 확인함
+ * - 받아들인 입찰은 AuctionBidWriter가 WAL에 기록한 뒤 모아서 저장 (write-behind)하고, AuctionBroadcastCoalescer가 모아서 방송
+ */
+@Component
+@Slf4j
+public class AuctionBidSequencer {
+
+    private static final long INACTIVE_RELOAD_INTERVAL_MILLIS = 1000;
+    private static final long CLOSED_BOOK_RETENTION_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    private static final long LEADER_CORRECTION_OFFER_MILLIS = 1000;
+
+    private final AuctionItemRepository auctionItemRepository;
+    private final AuctionLeaderBoard auctionLeaderBoard;
+    private final AuctionBidWriter auctionBidWriter;
+    private final AuctionBidRepository auctionBidRepository;
+    private final AuctionBroadcastCoalescer auctionBroadcastCoalescer;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Lane[] lanes;
+    // 경매별 장부 (해당 경매가 배정된 lane 스레드에서만 읽고 씀)
+    private final Map<Long, BookHolder> books = new ConcurrentHashMap<>();
+    private final LongAdder bidsRejected = new LongAdder();
+
+    public AuctionBidSequencer(AuctionItemRepository auctionItemRepository,
+                               AuctionLeaderBoard auctionLeaderBoard,
+                               AuctionBidWriter auctionBidWriter,
+                               AuctionBidRepository auctionBidRepository,
+                               AuctionBroadcastCoalescer auctionBroadcastCoalescer,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${auction.bid.lanes:4}") int laneCount,
+                               @Value("${auction.bid.lane-queue-capacity:1024}") int queueCapacity) {
+        this.auctionItemRepository = auctionItemRepository;
+        this.auctionLeaderBoard = auctionLeaderBoard;
+        this.auctionBidWriter = auctionBidWriter;
+        this.auctionBidRepository = auctionBidRepository;
+        this.auctionBroadcastCoalescer = auctionBroadcastCoalescer;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.lanes = new Lane[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new Lane(i + 1, queueCapacity);
+        }
+    }
+
+    /**
+     * 입찰을 해당 경매의 처리 순서에 넣습니다.
+     * 받아들여지면 AcceptedBid로, 거절되면 IllegalArgumentException/IllegalStateException으로 완료됩니다.
+     * lane 큐가 가득 찬 경우에는 기다리지 않고 AuctionBidRejectedException으로 바로 완료됩니다.
+     */
+    public CompletableFuture<AcceptedBid> submitBid(Long auctionItemId, Member member, int bidAmount) {
+        CompletableFuture<AcceptedBid> result = new CompletableFuture<>();
+        BidCommand command = new BidCommand(auctionItemId,
+            member.getMemberId(), member.getMember_NickName(), member.getMember_Mileage(), bidAmount, result);
+        if (!lane(auctionItemId).queue.offer(command)) {
+            bidsRejected.increment();
+            result.completeExceptionally(
+                new AuctionBidRejectedException("입찰 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."));
+        }
+        return result;
+    }
+
+    /**
+     * 경매 입찰을 마감합니다. 마감 전에 들어온 입찰은 모두 처리되고, 이후 입찰은 거절됩니다.
+     * 마감까지 받아들인 입찰이 DB에 저장될 때까지 기다립니다.
+     * (마감 요청은 버리면 안 되므로 큐가 가득 찬 경우 자리가 날 때까지 기다림)
+     * 마감 요청을 넣지 못했거나, 마감 또는 저장이 시간 안에 끝나지 않으면 IllegalStateException을 던집니다.
+     * 이 경우 호출한 쪽은 종료/취소/삭제를 진행하지 말고 나중에 다시 시도해야 합니다. (다시 마감해도 안전)
+     */
+    public void closeAndFlush(Long auctionItemId, long timeoutMillis) {
+        close(auctionItemId, false, timeoutMillis);
+    }
+
+    /**
+     * 장부의 종료 시간(마감 연장 반영)이 지났으면 closeAndFlush와 같이 마감하고 empty를 반환합니다.
+     * 마감 직전 입찰로 종료 시간이 연장되어 아직 남았으면 마감하지 않고 연장된 종료 시간을 반환합니다.
+     * 마감하지 못한 경우에는 closeAndFlush와 같이 IllegalStateException을 던집니다.
+     */
+    public Optional<LocalDateTime> closeIfDue(Long auctionItemId, long timeoutMillis) {
+        return close(auctionItemId, true, timeoutMillis);
+    }
+
+    /* 관리자가 경매 일정을 바꾸면 다음 입찰 때 장부를 DB에서 다시 읽음 (이미 마감한 장부는 유지)*/
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onScheduleChanged(AuctionScheduleChangedEvent event) {
+        Long auctionItemId = event.getAuctionItemId();
+        if (!lane(auctionItemId).queue.offer(new ReloadCommand(auctionItemId))) {
+            log.warn("경매 장부 갱신 요청을 넣지 못했습니다 (처리 대기열 가득 참): auctionItemId={}", auctionItemId);
+        }
+    }
+
+    /*
+     * 저장하지 못한 입찰(dead-letter)이 최고 입찰로 남아 있으면 DB 기준으로 바로잡음
+     * (입찰 검증과 겹치지 않도록 해당 경매의 lane에서 처리, 큐가 가득 차 있으면 잠시 기다림)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBidDeadLettered(AuctionBidDeadLetteredEvent event) {
+        Long auctionItemId = event.getAuctionItemId();
+        try {
+            if (!lane(auctionItemId).queue.offer(new LeaderCorrectionCommand(auctionItemId, event.getSequence()),
+                    LEADER_CORRECTION_OFFER_MILLIS, TimeUnit.MILLISECONDS)) {
+                log.error("최고 입찰 바로잡기 요청을 넣지 못했습니다 (처리 대기열 가득 참): auctionItemId={}, sequence={}",
+                    auctionItemId, event.getSequence());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Optional<LocalDateTime> close(Long auctionItemId, boolean onlyIfDue, long timeoutMillis) {
+        CompletableFuture<LocalDateTime> closed = new CompletableFuture<>();
+        try {
+            if (!lane(auctionItemId).queue.offer(new CloseCommand(auctionItemId, onlyIfDue, closed), timeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("경매 입찰 마감 요청을 넣지 못했습니다 (처리 대기열 가득 참): " + auctionItemId);
+            }
+            LocalDateTime remainingEndTime = closed.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            if (remainingEndTime != null) {
+                return Optional.of(remainingEndTime);
+            }
+            if (!auctionBidWriter.awaitPersisted(auctionItemId, timeoutMillis)) {
+                throw new IllegalStateException("경매 마감 후 입찰 저장 대기 시간이 초과되었습니다: " + auctionItemId);
+            }
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("경매 마감 처리 중 중단되었습니다.");
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("경매 입찰 마감 대기 시간이 초과되었습니다: " + auctionItemId);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("경매 입찰 마감 처리에 실패했습니다: " + auctionItemId, e.getCause());
+        }
+    }
+
+    /* 마감 후 일정 시간이 지난 경매의 장부와 최고 입찰 기록을 메모리에서 제거 (다시 입찰이 오면 DB 상태로 거절됨)*/
+    @Scheduled(fixedDelay = 60000)
+    public void evictClosedBooks() {
+        long now = System.currentTimeMillis();
+        books.values().removeIf(holder -> {
+            if (holder.closedAtMillis > 0 && now - holder.closedAtMillis > CLOSED_BOOK_RETENTION_MILLIS) {
+                auctionLeaderBoard.evict(holder.auctionItemId);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * lane별 대기 중인 입찰 수와 바로 거절한 입찰 수
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        int[] queueDepths = new int[lanes.length];
+        for (int i = 0; i < lanes.length; i++) {
+            queueDepths[i] = lanes[i].queue.size();
+        }
+        stats.put("lanes", lanes.length);
+        stats.put("queueCapacity", lanes.length == 0 ? 0 : lanes[0].capacity);
+        stats.put("queueDepths", queueDepths);
+        stats.put("bidsRejected", bidsRejected.sum());
+        stats.put("books", books.size());
+        stats.putAll(auctionBidWriter.getStats());
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (Lane lane : lanes) {
+            lane.thread.interrupt();
+        }
+        for (Lane lane : lanes) {
+            lane.thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    private Lane lane(Long auctionItemId) {
+        return lanes[Math.floorMod(Long.hashCode(auctionItemId), lanes.length)];
+    }
+
+    // 경매 상품을 DB에서 읽어 장부를 만듦 (경매별 최초 1회, 또는 비활성 상태일 때 재확인)
+    private AuctionBidBook loadBook(Long auctionItemId) {
+        return readOnlyTransaction.execute(status -> {
+            AuctionItem auctionItem = auctionItemRepository.findById(auctionItemId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 경매입니다: " + auctionItemId));
+            // 입찰 순번은 누적 입찰 수와 같도록 이어서 매김 (재시작 후에도 이어짐)
+            long initialSequence = Math.max(auctionBidRepository.countByAuctionItem(auctionItem),
+                auctionBidWriter.getLastEnqueuedSequence(auctionItemId));
+            return new AuctionBidBook(auctionItemId, auctionItem.getItem().getItemName(), auctionItem.getStartPrice(),
+                auctionItem.getBidUnit(), auctionItem.getStartTime(), auctionItem.getEndTime(), auctionItem.getAuctionStatus(),
+                auctionItem.getSoftCloseSeconds(), auctionItem.getSoftCloseExtendSeconds(), initialSequence);
+        });
+    }
+
+    // 장부를 불러온 뒤에만 등록 (존재하지 않는 경매 id로 빈 항목이 쌓이지 않도록, 경매별 접근은 한 lane 스레드에서만 일어남)
+    private BookHolder holder(Long auctionItemId) {
+        BookHolder holder = books.get(auctionItemId);
+        if (holder == null) {
+            holder = new BookHolder(auctionItemId);
+            holder.book();
+            books.put(auctionItemId, holder);
+        }
+        return holder;
+    }
+
+    private interface Command {
+        void execute();
+    }
+
+    /**
+     * 전용 스레드 하나와 크기가 정해진 큐 하나로 이루어진 처리 순서
+     */
+    private final class Lane implements Runnable {
+
+        private final int capacity;
+        private final BlockingQueue<Command> queue;
+        private final Thread thread;
+
+        Lane(int number, int capacity) {
+            this.capacity = capacity;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.thread = new Thread(this, "auction-bid-lane-" + number);
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+
+        @Override
+        public void run() {
+            while (!Thread.currentThread().isInterrupted()) {
+                Command command;
+                try {
+                    command = queue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                try {
+                    command.execute();
+                } catch (RuntimeException e) {
+                    log.error("입찰 처리 명령 실행 실패: {}", e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 경매 하나의 장부와 마감 시각 (lane 스레드에서만 장부를 바꿈)
+     */
+    private final class BookHolder {
+
+        private final Long auctionItemId;
+        private AuctionBidBook book;
+        private long loadedAtMillis;
+        private volatile long closedAtMillis;
+
+        BookHolder(Long auctionItemId) {
+            this.auctionItemId = auctionItemId;
+        }
+
+        AuctionBidBook book() {
+            long now = System.currentTimeMillis();
+            boolean stale = book != null && !book.isClosed() && !book.isActive(LocalDateTime.now())
+                && now - loadedAtMillis > INACTIVE_RELOAD_INTERVAL_MILLIS;
+            if (book == null || stale) {
+                book = loadBook(auctionItemId);
+                loadedAtMillis = now;
+            }
+            return book;
+        }
+    }
+
+    private final class BidCommand implements Command {
+
+        private final Long auctionItemId;
+        private final Long memberId;
+        private final String memberNickname;
+        private final Integer mileage;
+        private final int bidAmount;
+        private final CompletableFuture<AcceptedBid> result;
+
+        BidCommand(Long auctionItemId, Long memberId, String memberNickname, Integer mileage, int bidAmount,
+                   CompletableFuture<AcceptedBid> result) {
+            this.auctionItemId = auctionItemId;
+            this.memberId = memberId;
+            this.memberNickname = memberNickname;
+            this.mileage = mileage;
+            this.bidAmount = bidAmount;
+            this.result = result;
+        }
+
+        @Override
+        public void execute() {
+            try {
+                AuctionBidBook book = holder(auctionItemId).book();
+                AuctionLeader leader = auctionLeaderBoard.getLeader(auctionItemId).orElse(null);
+                AcceptedBid accepted = book.accept(leader, memberId, memberNickname, mileage, bidAmount, LocalDateTime.now());
+                // WAL에 기록한 뒤에만 최고 입찰로 기록하고 성공을 알림 (기록하지 못하면 실패로 완료)
+                auctionBidWriter.enqueue(accepted);
+                auctionLeaderBoard.record(accepted);
+                auctionBroadcastCoalescer.onBidAccepted(accepted);
+                result.complete(accepted);
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        }
+    }
+
+    // 결과: 마감했으면 null, 종료 시간이 연장되어 마감하지 않았으면 연장된 종료 시간
+    private final class CloseCommand implements Command {
+
+        private final Long auctionItemId;
+        private final boolean onlyIfDue;
+        private final CompletableFuture<LocalDateTime> result;
+
+        CloseCommand(Long auctionItemId, boolean onlyIfDue, CompletableFuture<LocalDateTime> result) {
+            this.auctionItemId = auctionItemId;
+            this.onlyIfDue = onlyIfDue;
+            this.result = result;
+        }
+
+        @Override
+        public void execute() {
+            BookHolder holder;
+            try {
+                holder = holder(auctionItemId);
+                AuctionBidBook book = holder.book();
+                if (onlyIfDue) {
+                    if (!book.closeIfDue(LocalDateTime.now())) {
+                        result.complete(book.getEndTime());
+                        return;
+                    }
+                } else {
+                    book.close();
+                }
+            } catch (RuntimeException e) {
+                // 장부를 불러오지 못하면 마감된 것이 아니므로 실패로 알림 (호출한 쪽이 다시 시도)
+                result.completeExceptionally(e);
+                return;
+            }
+            holder.closedAtMillis = System.currentTimeMillis();
+            result.complete(null);
+        }
+    }
+
+    // dead-letter로 옮긴 입찰이 아직 최고 입찰이면 기록을 지우고 DB에서 다시 읽은 최고 입찰로 상태 프레임을 다시 보냄
+    // (그 뒤에 받아들인 입찰이 있으면 그 입찰이 최고 입찰이므로 그대로 둠)
+    private final class LeaderCorrectionCommand implements Command {
+
+        private final Long auctionItemId;
+        private final long sequence;
+
+        LeaderCorrectionCommand(Long auctionItemId, long sequence) {
+            this.auctionItemId = auctionItemId;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public void execute() {
+            AuctionLeader leader = auctionLeaderBoard.getLeader(auctionItemId).orElse(null);
+            if (leader == null || leader.getBidId() != null || leader.getBidSequence() != sequence) {
+                return;
+            }
+            // 이 입찰보다 앞선 입찰은 쓰기 순서상 이미 저장되었으므로 DB에서 다시 읽으면 올바른 최고 입찰
+            auctionLeaderBoard.evict(auctionItemId);
+            AuctionLeader corrected = auctionLeaderBoard.getLeader(auctionItemId).orElse(null);
+            log.warn("저장하지 못한 입찰이 최고 입찰이어서 바로잡습니다: auctionItemId={}, sequence={}, leaderMemberId={}",
+                auctionItemId, sequence, corrected != null ? corrected.getMemberId() : null);
+            BookHolder holder = books.get(auctionItemId);
+            if (holder != null) {
+                auctionBroadcastCoalescer.onLeaderCorrected(auctionItemId, sequence, corrected,
+                    holder.book.getStartPrice(), holder.book.getSequence(), holder.book.getEndTime());
+            }
+        }
+    }
+
+    private final class ReloadCommand implements Command {
+
+        private final Long auctionItemId;
+
+        ReloadCommand(Long auctionItemId) {
+            this.auctionItemId = auctionItemId;
+        }
+
+        @Override
+        public void execute() {
+            BookHolder holder = books.get(auctionItemId);
+            if (holder != null && !holder.book.isClosed()) {
+                // 다음 접근 때 다시 불러와 등록 (삭제된 경매면 다시 등록되지 않음)
+                books.remove(auctionItemId, holder);
+            }
+        }
+    }
+}
@@ -0,0 +1,415 @@
+package com.petory.service.auction;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petory.constant.AuctionBidStatus;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 받아들인 입찰을 auction_bid 테이블에 모아서 저장합니다. (write-behind)
+ *
+ * - 입찰 처리 스레드는 WAL 파일(AuctionBidLog)에 한 줄 기록하고 큐에 넣기만 함 (WAL 기록 순서 = 큐 순서)
+ *   WAL에 기록한 뒤에 입찰 성공을 알리므로, 서버가 죽어도 받아들인 입찰은 다음 시작 때 저장됨
+ * - 큐는 크기가 정해져 있어, DB 저장이 밀려 가득 차면 입찰 처리 스레드가 기다림
+ *   (그동안 입찰 처리 순서의 큐가 차서 새 입찰은 AuctionBidRejectedException으로 바로 거절됨)
+ * - 백그라운드 스레드가 JDBC 배치 한 번으로 입찰 기록, 경매 현재가, 참여자 마지막 활동 시간, 마감 연장된 종료 시간을 함께 저장하고 WAL을 checkpoint
+ * - 저장에 실패한 배치는 auction.bid.write-max-attempts번까지 다시 시도하고, 그래도 실패하면 한 건씩 나눠 저장
+ *   (데이터 오류(삭제된 경매의 FK 위반 등)로 저장할 수 없는 입찰은 WAL의 dead-letter 파일로 옮겨
+ *   한 입찰 때문에 다른 경매의 입찰 저장이 멈추지 않게 함, DB 연결 장애 같은 일시적 오류는 계속 다시 시도)
+ *   dead-letter로 옮긴 입찰은 AuctionBidDeadLetteredEvent로 알려 최고 입찰 기록과 방송을 바로잡음
+ * - 서버 시작 시 WAL에 남은 입찰을 먼저 저장한 뒤 입찰을 받음
+ *   (최고 입찰 기록과 입찰 순번을 DB에서 다시 만들 때 빠지지 않도록, 이미 들어간 입찰은 건너뜀)
+ */
+@Component
+@Slf4j
+public class AuctionBidWriter {
+
+    private static final String INSERT_BID_SQL =
+        "INSERT INTO auction_bid (auction_item_id, member_id, bid_amount, bid_time, bid_status) VALUES (?, ?, ?, ?, ?)";
+    private static final String UPDATE_CURRENT_PRICE_SQL =
+        "UPDATE auction_items SET current_price = ? " +
+        "WHERE auction_item_id = ? AND (current_price IS NULL OR current_price < ?)";
+    private static final String UPDATE_PARTICIPANT_ACTIVITY_SQL =
+        "UPDATE auction_participant SET last_activity = ? " +
+        "WHERE member_id = ? AND session_id IN (SELECT session_id FROM auction_session WHERE auction_item_id = ?)";
+    private static final String EXTEND_AUCTION_END_TIME_SQL =
+        "UPDATE auction_items SET end_time = ? WHERE auction_item_id = ? AND end_time < ?";
+    private static final String EXTEND_SESSION_END_TIME_SQL =
+        "UPDATE auction_session SET end_time = ? WHERE auction_item_id = ? AND end_time < ?";
+    // 같은 경매의 입찰가는 항상 이전보다 높으므로 (경매, 입찰가)로 이미 저장된 입찰을 찾음
+    private static final String SELECT_PERSISTED_AMOUNTS_SQL =
+        "SELECT bid_amount FROM auction_bid WHERE auction_item_id = ? AND bid_amount >= ?";
+    private static final long MAX_RETRY_BACKOFF_MILLIS = 5000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AuctionBidLog bidLog;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final LongAdder deadLettered = new LongAdder();
+
+    private final BlockingQueue<Pending> queue;
+    private final Object appendLock = new Object();
+    // 경매별로 큐에 넣은 마지막 순번 / 저장을 마친 마지막 순번
+    private final Map<Long, Long> enqueuedSequences = new ConcurrentHashMap<>();
+    private final Map<Long, Long> persistedSequences = new ConcurrentHashMap<>();
+    private final Object persistedMonitor = new Object();
+    // 종료 중 저장하지 못하고 남은 배치 (worker 스레드가 남기고 stop에서 저장)
+    private final List<Pending> unflushed = new ArrayList<>();
+    private Thread worker;
+    private volatile boolean running;
+
+    public AuctionBidWriter(JdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate,
+                            ApplicationEventPublisher eventPublisher,
+                            ObjectMapper objectMapper,
+                            @Value("${auction.bid.wal-dir:./data/auction-bid-wal}") String walDir,
+                            @Value("${auction.bid.wal-segment-bytes:16777216}") long walSegmentBytes,
+                            @Value("${auction.bid.wal-fsync:true}") boolean walFsync,
+                            @Value("${auction.bid.write-batch-size:500}") int batchSize,
+                            @Value("${auction.bid.write-max-attempts:5}") int maxAttempts,
+                            @Value("${auction.bid.write-queue-capacity:10000}") int queueCapacity) throws IOException {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.bidLog = new AuctionBidLog(Paths.get(walDir), objectMapper, walSegmentBytes, walFsync);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    void start() throws IOException, InterruptedException {
+        // 지난 실행에서 저장하지 못한 입찰을 입찰을 받기 전에 먼저 저장
+        List<AcceptedBid> recovered = bidLog.recover();
+        if (!recovered.isEmpty()) {
+            log.info("입찰 WAL에서 저장하지 못한 입찰 복구: {}건", recovered.size());
+            List<Pending> batch = new ArrayList<>(batchSize);
+            long sequence = 0;
+            for (AcceptedBid bid : recovered) {
+                enqueuedSequences.merge(bid.getAuctionItemId(), bid.getSequence(), Math::max);
+                batch.add(new Pending(bid, ++sequence, true));
+                if (batch.size() == batchSize) {
+                    flushWithRetry(batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                flushWithRetry(batch);
+            }
+        }
+
+        running = true;
+        worker = new Thread(this::drainLoop, "auction-bid-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException, IOException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+        // 종료 전에 남은 입찰을 모두 저장 (실패해도 WAL에 남아 있으므로 다음 시작 때 저장됨)
+        List<Pending> remaining = new ArrayList<>(unflushed);
+        queue.drainTo(remaining);
+        try {
+            if (!remaining.isEmpty()) {
+                flush(remaining);
+            }
+        } catch (Exception e) {
+            log.error("종료 중 입찰 저장 실패, 다음 시작 때 WAL에서 저장합니다: {}건", remaining.size(), e);
+        } finally {
+            bidLog.close();
+        }
+    }
+
+    /**
+     * 받아들인 입찰을 WAL에 기록하고 저장 큐에 넣습니다. (입찰 처리 스레드에서 경매별로 순번 순서대로 호출)
+     * 저장 큐가 가득 차 있으면 자리가 날 때까지 기다립니다.
+     * WAL에 기록하지 못하면 IllegalStateException (입찰을 받아들이지 않은 것으로 처리해야 함)
+     */
+    public void enqueue(AcceptedBid bid) {
+        synchronized (appendLock) {
+            long sequence;
+            try {
+                sequence = bidLog.append(bid);
+            } catch (IOException e) {
+                throw new IllegalStateException("입찰을 기록하지 못했습니다.", e);
+            }
+            enqueuedSequences.put(bid.getAuctionItemId(), bid.getSequence());
+            try {
+                queue.put(new Pending(bid, sequence, false));
+            } catch (InterruptedException e) {
+                // 종료 중: WAL에는 기록되었으므로 다음 시작 때 저장됨
+                Thread.currentThread().interrupt();
+                log.warn("종료 중이라 입찰을 저장 큐에 넣지 못했습니다. 다음 시작 때 WAL에서 저장합니다: auctionItemId={}, sequence={}",
+                    bid.getAuctionItemId(), bid.getSequence());
+            }
+        }
+    }
+
+    /**
+     * 해당 경매에서 지금까지 받아들인 입찰이 모두 DB에 저장될 때까지 기다립니다.
+     * @return 시간 안에 모두 저장되었으면 true
+     */
+    public boolean awaitPersisted(Long auctionItemId, long timeoutMillis) throws InterruptedException {
+        long target = enqueuedSequences.getOrDefault(auctionItemId, 0L);
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        synchronized (persistedMonitor) {
+            while (persistedSequences.getOrDefault(auctionItemId, 0L) < target) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    return false;
+                }
+                persistedMonitor.wait(remaining);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 해당 경매에서 마지막으로 큐에 넣은 입찰 순번 (장부를 다시 만들 때 이어서 번호를 매기기 위함)
+     */
+    public long getLastEnqueuedSequence(Long auctionItemId) {
+        return enqueuedSequences.getOrDefault(auctionItemId, 0L);
+    }
+
+    /**
+     * 저장 대기 중인 입찰 수
+     */
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>(bidLog.getStats());
+        stats.put("pendingBids", queue.size());
+        stats.put("queueRemainingCapacity", queue.remainingCapacity());
+        stats.put("deadLetteredBids", deadLettered.sum());
+        return stats;
+    }
+
+    private void drainLoop() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, batchSize - 1);
+                flushWithRetry(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                // 저장하지 못한 배치는 종료 처리(stop)에서 큐에 남은 입찰보다 먼저 저장
+                unflushed.addAll(batch);
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flushWithRetry(List<Pending> batch) throws InterruptedException {
+        long backoffMillis = 100;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                flush(batch);
+                return;
+            } catch (Exception e) {
+                log.error("입찰 일괄 저장 실패 ({}/{}), {}ms 후 다시 시도합니다: {}건",
+                    attempt, maxAttempts, backoffMillis, batch.size(), e);
+                Thread.sleep(backoffMillis);
+                backoffMillis = Math.min(backoffMillis * 2, MAX_RETRY_BACKOFF_MILLIS);
+            }
+        }
+        // 배치가 계속 실패하면 한 건씩 저장해서 문제가 되는 입찰만 골라냄 (WAL 순서대로 처리하므로 checkpoint도 순서대로)
+        for (Pending pending : batch) {
+            flushSingle(pending);
+        }
+    }
+
+    private void flushSingle(Pending pending) throws InterruptedException {
+        long backoffMillis = 100;
+        while (true) {
+            try {
+                flush(List.of(pending));
+                return;
+            } catch (Exception e) {
+                if (isPoison(e) && deadLetter(pending, e)) {
+                    return;
+                }
+                log.error("입찰 저장 실패 (일시적 오류), {}ms 후 다시 시도합니다: auctionItemId={}",
+                    backoffMillis, pending.bid.getAuctionItemId(), e);
+                Thread.sleep(backoffMillis);
+                backoffMillis = Math.min(backoffMillis * 2, MAX_RETRY_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    /* 다시 시도해도 같은 결과인 데이터 오류 (제약 조건 위반, 잘못된 값 등). 연결 장애는 제외 */
+    private static boolean isPoison(Exception e) {
+        return e instanceof NonTransientDataAccessException && !(e instanceof DataAccessResourceFailureException);
+    }
+
+    /*
+     * 저장할 수 없는 입찰을 dead-letter 파일로 옮기고 WAL에서는 저장한 것으로 처리 (기다리는 쪽이 멈추지 않도록)
+     * dead-letter 파일에 기록하지 못하면 WAL에 남겨 두고 다시 시도 (false)
+     */
+    private boolean deadLetter(Pending pending, Exception cause) {
+        AcceptedBid bid = pending.bid;
+        try {
+            bidLog.appendDeadLetter(bid);
+        } catch (IOException e) {
+            log.error("입찰 dead-letter 기록 실패: auctionItemId={}", bid.getAuctionItemId(), e);
+            return false;
+        }
+        log.error("저장할 수 없는 입찰을 dead-letter로 옮깁니다: auctionItemId={}, memberId={}, amount={}, sequence={}, error={}",
+            bid.getAuctionItemId(), bid.getMemberId(), bid.getBidAmount(), bid.getSequence(), cause.getMessage());
+        deadLettered.increment();
+        synchronized (persistedMonitor) {
+            persistedSequences.merge(bid.getAuctionItemId(), bid.getSequence(), Math::max);
+            persistedMonitor.notifyAll();
+        }
+        checkpoint(pending.walSequence);
+        eventPublisher.publishEvent(new AuctionBidDeadLetteredEvent(bid.getAuctionItemId(), bid.getSequence()));
+        return true;
+    }
+
+    /**
+     * 저장하지 못하고 dead-letter로 옮긴 입찰 수
+     */
+    public long getDeadLetteredCount() {
+        return deadLettered.sum();
+    }
+
+    private void flush(List<Pending> batch) {
+        List<AcceptedBid> bids = new ArrayList<>(batch.size());
+        batch.forEach(pending -> bids.add(pending.bid));
+        // 경매별 배치 내 마지막(=최고가) 입찰
+        Map<Long, AcceptedBid> lastBidByAuction = new LinkedHashMap<>();
+        for (AcceptedBid bid : bids) {
+            lastBidByAuction.put(bid.getAuctionItemId(), bid);
+        }
+        List<AcceptedBid> lastBids = new ArrayList<>(lastBidByAuction.values());
+        // 경매/회원별 한 번만 활동 시간 갱신
+        Map<String, AcceptedBid> bidByParticipant = new LinkedHashMap<>();
+        for (AcceptedBid bid : bids) {
+            bidByParticipant.put(bid.getAuctionItemId() + ":" + bid.getMemberId(), bid);
+        }
+        List<AcceptedBid> participantBids = new ArrayList<>(bidByParticipant.values());
+        // 경매별 배치 내 마지막으로 종료 시간을 연장한 입찰
+        Map<Long, AcceptedBid> extensionByAuction = new LinkedHashMap<>();
+        for (AcceptedBid bid : bids) {
+            if (bid.isExtended()) {
+                extensionByAuction.put(bid.getAuctionItemId(), bid);
+            }
+        }
+        List<AcceptedBid> extensions = new ArrayList<>(extensionByAuction.values());
+        boolean replay = batch.stream().anyMatch(pending -> pending.recovered);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // WAL에서 다시 저장하는 경우에만 이미 들어간 입찰을 제외 (나머지 갱신은 여러 번 해도 결과가 같음)
+            List<AcceptedBid> fresh = replay ? excludePersisted(bids) : bids;
+            if (!fresh.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_BID_SQL, fresh, fresh.size(), (ps, bid) -> {
+                    ps.setLong(1, bid.getAuctionItemId());
+                    ps.setLong(2, bid.getMemberId());
+                    ps.setInt(3, bid.getBidAmount());
+                    ps.setTimestamp(4, Timestamp.valueOf(bid.getBidTime()));
+                    ps.setString(5, AuctionBidStatus.SUCCESS.name());
+                });
+            }
+            jdbcTemplate.batchUpdate(UPDATE_CURRENT_PRICE_SQL, lastBids, lastBids.size(), (ps, bid) -> {
+                ps.setInt(1, bid.getBidAmount());
+                ps.setLong(2, bid.getAuctionItemId());
+                ps.setInt(3, bid.getBidAmount());
+            });
+            jdbcTemplate.batchUpdate(UPDATE_PARTICIPANT_ACTIVITY_SQL, participantBids, participantBids.size(), (ps, bid) -> {
+                ps.setTimestamp(1, now);
+                ps.setLong(2, bid.getMemberId());
+                ps.setLong(3, bid.getAuctionItemId());
+            });
+            if (!extensions.isEmpty()) {
+                for (String sql : List.of(EXTEND_AUCTION_END_TIME_SQL, EXTEND_SESSION_END_TIME_SQL)) {
+                    jdbcTemplate.batchUpdate(sql, extensions, extensions.size(), (ps, bid) -> {
+                        Timestamp endTime = Timestamp.valueOf(bid.getEndTime());
+                        ps.setTimestamp(1, endTime);
+                        ps.setLong(2, bid.getAuctionItemId());
+                        ps.setTimestamp(3, endTime);
+                    });
+                }
+            }
+        });
+
+        synchronized (persistedMonitor) {
+            lastBids.forEach(bid -> persistedSequences.merge(bid.getAuctionItemId(), bid.getSequence(), Math::max));
+            persistedMonitor.notifyAll();
+        }
+        checkpoint(batch.get(batch.size() - 1).walSequence);
+        log.debug("입찰 일괄 저장 완료: {}건", batch.size());
+    }
+
+    /* WAL에서 다시 저장하는 입찰 중 이미 auction_bid에 들어간 입찰 제외 */
+    private List<AcceptedBid> excludePersisted(List<AcceptedBid> bids) {
+        Map<Long, Integer> minAmountByAuction = new LinkedHashMap<>();
+        bids.forEach(bid -> minAmountByAuction.merge(bid.getAuctionItemId(), bid.getBidAmount(), Math::min));
+        Map<Long, Set<Integer>> persistedAmounts = new LinkedHashMap<>();
+        minAmountByAuction.forEach((auctionItemId, minAmount) -> persistedAmounts.put(auctionItemId,
+            new HashSet<>(jdbcTemplate.queryForList(SELECT_PERSISTED_AMOUNTS_SQL, Integer.class, auctionItemId, minAmount))));
+        List<AcceptedBid> fresh = new ArrayList<>(bids.size());
+        for (AcceptedBid bid : bids) {
+            if (!persistedAmounts.get(bid.getAuctionItemId()).contains(bid.getBidAmount())) {
+                fresh.add(bid);
+            }
+        }
+        return fresh;
+    }
+
+    // DB 저장은 끝났으므로 checkpoint 실패는 다시 저장하지 않음 (다음 시작 때 WAL에서 다시 읽어도 이미 저장된 입찰은 건너뜀)
+    private void checkpoint(long walSequence) {
+        try {
+            bidLog.checkpoint(walSequence);
+        } catch (IOException e) {
+            log.warn("입찰 WAL checkpoint 실패: sequence={}", walSequence, e);
+        }
+    }
+
+    private static class Pending {
+        private final AcceptedBid bid;
+        private final long walSequence; // WAL 기록 번호
+        private final boolean recovered; // 지난 실행의 WAL에서 복구한 입찰
+
+        private Pending(AcceptedBid bid, long walSequence, boolean recovered) {
+            this.bid = bid;
+            this.walSequence = walSequence;
+            this.recovered = recovered;
+        }
+    }
+}
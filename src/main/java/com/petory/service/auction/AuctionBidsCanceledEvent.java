@@ -0,0 +1,15 @@
+package com.petory.service.auction;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 경매 강제 종료로 해당 경매의 입찰이 모두 취소되었음을 알리는 이벤트
+ * 커밋 후 AuctionLeaderBoard가 받아 메모리의 최고 입찰 기록을 지웁니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class AuctionBidsCanceledEvent {
+
+    private final Long auctionItemId;
+}
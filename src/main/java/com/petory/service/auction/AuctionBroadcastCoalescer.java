@@ -0,0 +1,316 @@
+package com.petory.service.auction;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.petory.dto.shop.AuctionBidDto;
+import com.petory.dto.shop.AuctionStateFrameDto;
+import com.petory.entity.Member;
+import com.petory.repository.MemberRepository;
+import com.petory.repository.shop.AuctionSessionRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 경매 실시간 가격 방송을 주기(auction.broadcast.tick-ms)마다 하나의 상태 프레임으로 모아 보냅니다.
+ *
+ * 입찰 처리 순서에서 받아들인 입찰을 경매별 채널에 쌓아 두고, tick마다 변경이 있는 경매만
+ * 최신 가격/최고 입찰자/누적 입찰 수/종료 시간(마감 연장 반영)과 그 사이의 입찰 목록을 담은 프레임 하나를 /topic/auction/{sessionKey}로 보냅니다.
+ * 입찰이 초당 수백 건이어도 구독자에게는 경매당 tick마다 최대 한 프레임만 전달됩니다.
+ * 프레임 번호(seq)는 경매별로 채널 밖에 두어, 한동안 입찰이 없어 채널을 정리했다가 다시 만들어도 이어서 매깁니다.
+ * (경매가 끝나면 마지막 프레임을 보낸 뒤 채널과 번호를 함께 정리)
+ * 저장하지 못한 입찰(dead-letter)이 최고 입찰이었으면 바로잡은 최고 입찰로 프레임을 다시 보내고 corrected로 표시합니다.
+ * tick은 전용 스케줄러 스레드에서 돌리므로 @Scheduled 기본 스케줄러(스레드 1개)의 다른 작업이 길어져도 밀리지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuctionBroadcastCoalescer {
+
+    private static final int MAX_BIDS_PER_FRAME = 20;
+    private static final long IDLE_CHANNEL_RETENTION_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final AuctionSessionRepository auctionSessionRepository;
+    private final MemberRepository memberRepository;
+    private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+    // 경매별 마지막 프레임 번호 (구독자가 빠진 프레임을 알아챌 수 있도록 채널을 다시 만들어도 유지)
+    private final Map<Long, AtomicLong> frameSeqs = new ConcurrentHashMap<>();
+
+    private final LongAdder bidsAccepted = new LongAdder();
+    private final LongAdder framesSent = new LongAdder();
+    private final LongAdder framesDropped = new LongAdder();
+
+    @Value("${auction.broadcast.tick-ms:100}")
+    private long tickMillis;
+
+    private ThreadPoolTaskScheduler scheduler;
+
+    @PostConstruct
+    private void start() {
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("auction-broadcast-");
+        scheduler.setDaemon(true);
+        scheduler.initialize();
+        scheduler.scheduleAtFixedRate(this::tick, Duration.ofMillis(tickMillis));
+    }
+
+    @PreDestroy
+    private void stop() {
+        scheduler.shutdown();
+    }
+
+    /**
+     * 입찰 처리 순서에서 입찰을 받아들일 때마다 호출
+     */
+    public void onBidAccepted(AcceptedBid bid) {
+        bidsAccepted.increment();
+        Long auctionItemId = bid.getAuctionItemId();
+        while (true) {
+            Channel channel = channels.computeIfAbsent(auctionItemId,
+                id -> new Channel(id, frameSeqs.computeIfAbsent(id, key -> new AtomicLong())));
+            if (channel.add(bid)) {
+                return;
+            }
+            // tick에서 막 정리한 채널이면 새 채널로 다시 시도
+            channels.remove(auctionItemId, channel);
+        }
+    }
+
+    /**
+     * 저장하지 못한 입찰이 최고 입찰이었을 때 입찰 처리 순서에서 호출 (leader가 null이면 남은 입찰 없음)
+     * 다음 tick에 바로잡은 가격/최고 입찰자로 프레임을 보내고, 보내지 않은 입찰 목록에서 그 입찰을 뺌
+     */
+    public void onLeaderCorrected(Long auctionItemId, long canceledSequence, AuctionLeader leader, int startPrice,
+                                  long bidCount, LocalDateTime endTime) {
+        String leaderNickname = leader == null ? null
+            : memberRepository.findById(leader.getMemberId()).map(Member::getMember_NickName).orElse(null);
+        Correction correction = new Correction(canceledSequence,
+            leader != null ? leader.getAmount() : startPrice,
+            leader != null ? leader.getMemberId() : null,
+            leaderNickname, bidCount, endTime);
+        while (true) {
+            Channel channel = channels.computeIfAbsent(auctionItemId,
+                id -> new Channel(id, frameSeqs.computeIfAbsent(id, key -> new AtomicLong())));
+            if (channel.correct(correction)) {
+                return;
+            }
+            channels.remove(auctionItemId, channel);
+        }
+    }
+
+    /**
+     * 경매가 끝나면 남은 프레임을 보낸 뒤 다음 tick에서 채널과 프레임 번호를 정리
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAuctionEnded(AuctionEndedEvent event) {
+        Channel channel = channels.get(event.getAuctionItemId());
+        if (channel != null) {
+            channel.markEnded();
+        } else {
+            frameSeqs.remove(event.getAuctionItemId());
+        }
+    }
+
+    public void tick() {
+        long now = System.currentTimeMillis();
+        for (Channel channel : channels.values()) {
+            AuctionStateFrameDto frame = channel.drain();
+            if (frame != null) {
+                send(channel, frame);
+            } else if (channel.closeIfIdle(now)) {
+                // 닫힌 채널에는 입찰이 더 쌓이지 않으므로 (onBidAccepted가 새 채널을 만듦) 잃는 입찰 없이 제거
+                channels.remove(channel.auctionItemId, channel);
+                if (channel.ended) {
+                    frameSeqs.remove(channel.auctionItemId, channel.frameSeq);
+                }
+            }
+        }
+    }
+
+    /**
+     * 방송 통계 (받아들인 입찰 수 대비 보낸 프레임 수)
+     */
+    public Map<String, Object> getStats() {
+        long accepted = bidsAccepted.sum();
+        long frames = framesSent.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("bidsAccepted", accepted);
+        stats.put("framesSent", frames);
+        stats.put("bidsPerFrame", frames == 0 ? 0.0 : (double) accepted / frames);
+        stats.put("framesDropped", framesDropped.sum());
+        stats.put("activeChannels", channels.size());
+        return stats;
+    }
+
+    private void send(Channel channel, AuctionStateFrameDto frame) {
+        String sessionKey = channel.sessionKey;
+        if (sessionKey == null) {
+            sessionKey = auctionSessionRepository.findSessionKeyByAuctionItemId(channel.auctionItemId).orElse(null);
+            channel.sessionKey = sessionKey;
+        }
+        if (sessionKey == null) {
+            framesDropped.increment();
+            log.debug("경매 세션이 없어 상태 프레임을 보내지 않습니다: auctionItemId={}", channel.auctionItemId);
+            return;
+        }
+        try {
+            messagingTemplate.convertAndSend("/topic/auction/" + sessionKey, frame);
+            framesSent.increment();
+        } catch (Exception e) {
+            framesDropped.increment();
+            log.warn("경매 상태 프레임 전송 실패: auctionItemId={}, seq={}, error={}",
+                channel.auctionItemId, frame.getSeq(), e.getMessage());
+        }
+    }
+
+    private static final class Channel {
+
+        private final Long auctionItemId;
+        private final AtomicLong frameSeq;
+        private final Deque<AcceptedBid> pendingBids = new ArrayDeque<>();
+        // 저장하지 못해 빼야 하는 입찰 순번 / 바로잡은 최고 입찰 (이후 입찰이 오면 그 입찰이 최고 입찰)
+        private final Set<Long> canceledSequences = new HashSet<>();
+        private Correction correction;
+        private boolean corrected;
+        private AcceptedBid latest;
+        private boolean truncated;
+        private boolean extended;
+        private boolean closed;
+        private volatile boolean ended;
+        // tick 스레드에서만 접근
+        private String sessionKey;
+        private volatile long lastActivityMillis = System.currentTimeMillis();
+
+        Channel(Long auctionItemId, AtomicLong frameSeq) {
+            this.auctionItemId = auctionItemId;
+            this.frameSeq = frameSeq;
+        }
+
+        // 이미 정리된 채널이면 false
+        synchronized boolean add(AcceptedBid bid) {
+            if (closed) {
+                return false;
+            }
+            latest = bid;
+            correction = null;
+            extended |= bid.isExtended();
+            pendingBids.addLast(bid);
+            if (pendingBids.size() > MAX_BIDS_PER_FRAME) {
+                pendingBids.removeFirst();
+                truncated = true;
+            }
+            lastActivityMillis = System.currentTimeMillis();
+            return true;
+        }
+
+        // 이미 정리된 채널이면 false
+        synchronized boolean correct(Correction correction) {
+            if (closed) {
+                return false;
+            }
+            this.correction = correction;
+            corrected = true;
+            canceledSequences.add(correction.canceledSequence);
+            lastActivityMillis = System.currentTimeMillis();
+            return true;
+        }
+
+        void markEnded() {
+            ended = true;
+        }
+
+        // 보낼 입찰이 없고 경매가 끝났거나 오래 입찰이 없으면 닫음 (add와 같은 락 안에서 확인)
+        synchronized boolean closeIfIdle(long now) {
+            if (pendingBids.isEmpty() && !corrected && (ended || now - lastActivityMillis > IDLE_CHANNEL_RETENTION_MILLIS)) {
+                closed = true;
+            }
+            return closed;
+        }
+
+        // 변경이 없으면 null
+        synchronized AuctionStateFrameDto drain() {
+            if (pendingBids.isEmpty() && !corrected) {
+                return null;
+            }
+            List<AuctionBidDto> bids = new ArrayList<>(pendingBids.size());
+            pendingBids.descendingIterator().forEachRemaining(bid -> {
+                if (!canceledSequences.contains(bid.getSequence())) {
+                    bids.add(bid.toDto());
+                }
+            });
+            AuctionStateFrameDto.AuctionStateFrameDtoBuilder frame = AuctionStateFrameDto.builder()
+                .type("AUCTION_STATE")
+                .auctionItemId(auctionItemId)
+                .seq(frameSeq.incrementAndGet())
+                .extended(extended)
+                .corrected(corrected)
+                .bids(bids)
+                .bidsTruncated(truncated)
+                .timestamp(LocalDateTime.now());
+            if (correction != null) {
+                frame.currentPrice(correction.currentPrice)
+                    .leaderId(correction.leaderId)
+                    .leaderNickname(correction.leaderNickname)
+                    .bidCount(correction.bidCount)
+                    .endTime(correction.endTime);
+            } else {
+                frame.currentPrice(latest.getBidAmount())
+                    .leaderId(latest.getMemberId())
+                    .leaderNickname(latest.getMemberNickname())
+                    .bidCount(latest.getSequence())
+                    .endTime(latest.getEndTime());
+            }
+            pendingBids.clear();
+            canceledSequences.clear();
+            correction = null;
+            corrected = false;
+            truncated = false;
+            extended = false;
+            return frame.build();
+        }
+    }
+
+    private static final class Correction {
+
+        private final long canceledSequence;
+        private final int currentPrice;
+        private final Long leaderId;
+        private final String leaderNickname;
+        private final long bidCount;
+        private final LocalDateTime endTime;
+
+        Correction(long canceledSequence, int currentPrice, Long leaderId, String leaderNickname, long bidCount,
+                   LocalDateTime endTime) {
+            this.canceledSequence = canceledSequence;
+            this.currentPrice = currentPrice;
+            this.leaderId = leaderId;
+            this.leaderNickname = leaderNickname;
+            this.bidCount = bidCount;
+            this.endTime = endTime;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.petory.service.auction;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 경매 WebSocket 연결의 생존 여부를 STOMP 하트비트로 판단합니다.
+ * 하트비트/메시지가 올 때는 메모리의 마지막 수신 시간만 바꾸고(DB 쓰기 없음),
+ * 만료 검사는 timing wheel로 처리해 매 주기마다 만료 시각이 된 칸의 연결만 확인합니다.
+ *
+ * - 칸 하나 = auction.presence.liveness-tick-ms, 전체 칸 수 = 만료 시간 / 칸 크기 + 1
+ * - 만료 시각이 된 연결이 그 사이 하트비트를 보냈으면 새 만료 시각의 칸으로 옮기고, 아니면 연결 해제로 처리
+ * - 만료된 연결은 AuctionPresenceRegistry에서 빠지고, 최종 상태만 다음 일괄 저장에서 한 번에 저장됩니다.
+ * - 주기 확인은 전용 스케줄러 스레드에서 실행 (@Scheduled 기본 스케줄러의 다른 작업에 밀리지 않도록)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuctionConnectionLiveness {
+
+    private final AuctionPresenceRegistry auctionPresenceRegistry;
+
+    @Value("${auction.presence.liveness-timeout-ms:30000}")
+    private long timeoutMillis;
+
+    @Value("${auction.presence.liveness-tick-ms:1000}")
+    private long tickMillis;
+
+    // 연결 ID → 마지막 하트비트/메시지 수신 시간
+    private final Map<String, Long> lastSeen = new ConcurrentHashMap<>();
+    private final LongAdder expiredCount = new LongAdder();
+    private List<Set<String>> wheel;
+    private long lastSweptTick;
+    private ThreadPoolTaskScheduler scheduler;
+
+    @PostConstruct
+    private void init() {
+        int slots = (int) (timeoutMillis / tickMillis) + 1;
+        wheel = new ArrayList<>(slots);
+        for (int i = 0; i < slots; i++) {
+            wheel.add(ConcurrentHashMap.newKeySet());
+        }
+        lastSweptTick = System.currentTimeMillis() / tickMillis;
+
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("auction-liveness-");
+        scheduler.setDaemon(true);
+        scheduler.initialize();
+        scheduler.scheduleAtFixedRate(this::sweep, Duration.ofMillis(tickMillis));
+    }
+
+    @PreDestroy
+    private void stop() {
+        scheduler.shutdown();
+    }
+
+    /**
+     * 경매 세션에 입장한 연결을 생존 확인 대상으로 등록
+     */
+    public void register(String connectionId) {
+        if (connectionId == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (lastSeen.put(connectionId, now) == null) {
+            bucketFor(now + timeoutMillis).add(connectionId);
+        }
+    }
+
+    /**
+     * 하트비트나 메시지를 받았을 때 호출 (등록된 경매 연결만 갱신, 채팅 연결 등은 무시)
+     */
+    public void touch(String connectionId) {
+        if (connectionId != null) {
+            lastSeen.computeIfPresent(connectionId, (id, seen) -> System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * 지난 주기 이후 만료 시각이 된 칸들을 확인합니다.
+     * @return 이번에 만료 처리한 연결 수
+     */
+    public synchronized int sweep() {
+        long now = System.currentTimeMillis();
+        long currentTick = now / tickMillis;
+        // 스케줄이 밀렸어도 한 바퀴 이상은 돌 필요 없음
+        long fromTick = Math.max(lastSweptTick + 1, currentTick - wheel.size() + 1);
+        int expired = 0;
+        for (long tick = fromTick; tick <= currentTick; tick++) {
+            expired += sweepBucket(wheel.get((int) (tick % wheel.size())), now, currentTick);
+        }
+        lastSweptTick = currentTick;
+        if (expired > 0) {
+            expiredCount.add(expired);
+            log.info("하트비트가 끊긴 경매 연결 정리: {}개", expired);
+        }
+        return expired;
+    }
+
+    public Map<String, Object> getStats() {
+        return Map.of(
+            "trackedConnections", lastSeen.size(),
+            "expiredConnections", expiredCount.sum(),
+            "timeoutMillis", timeoutMillis);
+    }
+
+    private int sweepBucket(Set<String> bucket, long now, long currentTick) {
+        int expired = 0;
+        for (String connectionId : new ArrayList<>(bucket)) {
+            bucket.remove(connectionId);
+            Long seen = lastSeen.get(connectionId);
+            if (seen == null) {
+                continue;
+            }
+            if (!auctionPresenceRegistry.isConnected(connectionId)) {
+                // 이미 퇴장/연결 해제된 연결은 추적만 그만둠
+                lastSeen.remove(connectionId, seen);
+                continue;
+            }
+            long deadline = seen + timeoutMillis;
+            if (deadline > now) {
+                long deadlineTick = Math.max(deadline / tickMillis, currentTick + 1);
+                wheel.get((int) (deadlineTick % wheel.size())).add(connectionId);
+                continue;
+            }
+            if (lastSeen.remove(connectionId, seen)) {
+                auctionPresenceRegistry.disconnect(connectionId);
+                expired++;
+            } else {
+                // 확인하는 사이 하트비트가 들어온 경우 다음 주기에 다시 확인
+                wheel.get((int) ((currentTick + 1) % wheel.size())).add(connectionId);
+            }
+        }
+        return expired;
+    }
+
+    private Set<String> bucketFor(long deadlineMillis) {
+        return wheel.get((int) ((deadlineMillis / tickMillis) % wheel.size()));
+    }
+}
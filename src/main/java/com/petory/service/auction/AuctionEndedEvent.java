@@ -0,0 +1,15 @@
+package com.petory.service.auction;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 경매가 종료 시간이 되어 ENDED로 바뀌었음을 알리는 이벤트
+ * 커밋 후 AuctionSettlementService가 받아 정산(낙찰자 마일리지 차감, 히스토리/배송 생성)을 시작합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class AuctionEndedEvent {
+
+    private final Long auctionItemId;
+}
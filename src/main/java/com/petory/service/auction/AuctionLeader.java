@@ -0,0 +1,25 @@
+package com.petory.service.auction;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 경매의 현재 최고 입찰 기록 (불변)
+ * 새 입찰이 받아들여질 때마다 새 기록으로 통째로 교체되고 version이 1씩 증가합니다.
+ * 방금 받아들여 아직 저장되지 않은 입찰은 bidId가 null이며, bidSequence로 식별합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class AuctionLeader {
+
+    private final Long auctionItemId;
+    private final Long memberId;
+    private final int amount;
+    private final Long bidId;
+    private final long bidSequence;
+    private final long version;
+
+    AuctionLeader next(AcceptedBid bid) {
+        return new AuctionLeader(auctionItemId, bid.getMemberId(), bid.getBidAmount(), null, bid.getSequence(), version + 1);
+    }
+}
@@ -0,0 +1,139 @@
+package com.petory.service.auction;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.petory.constant.AuctionStatus;
+import com.petory.repository.shop.AuctionBidRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 경매별 현재 최고 입찰(AuctionLeader)의 기준 기록
+ *
+ * 입찰이 받아들여질 때마다 입찰 처리 순서(AuctionBidSequencer)에서 갱신하며,
+ * 최고가/최고 입찰자 조회는 MAX() 집계 대신 이 기록을 읽습니다.
+ * 서버 시작 시 진행 중/예정 경매는 auction_bid에서 다시 만들고, 그 밖의 경매는 처음 조회할 때 한 번 읽어 둡니다.
+ *
+ * 기록이 계속 쌓이지 않도록
+ * - 입찰 마감 후 장부를 정리할 때(AuctionBidSequencer) 함께 지우고, 강제 종료로 입찰이 취소되면 커밋 후 바로 지움
+ * - DB에서 읽기만 하고 그 뒤 받아들인 입찰이 없는 기록(종료된 경매 조회 등)은 일정 시간이 지나면 지움
+ *   (DB와 같은 내용이므로 다시 조회하면 그대로 읽어 옴)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuctionLeaderBoard {
+
+    private static final long LOADED_RETENTION_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+    private final AuctionBidRepository auctionBidRepository;
+    // 입찰이 없는 경매도 다시 조회하지 않도록 Optional.empty()로 기록
+    private final Map<Long, Optional<AuctionLeader>> leaders = new ConcurrentHashMap<>();
+    // DB에서 읽은 뒤 받아들인 입찰이 없는 기록 → 읽은 시각 (leaders의 같은 키 compute 안에서만 바꿈)
+    private final Map<Long, Long> loadedAt = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Object[]> rows = auctionBidRepository.findHighestBidRowsByAuctionStatusIn(
+            List.of(AuctionStatus.SCHEDULED, AuctionStatus.ACTIVE));
+        rows.forEach(row -> load((Long) row[0], Optional.of(fromRow(row))));
+        log.info("경매 최고 입찰 기록 복구 완료: {}개 경매", rows.size());
+    }
+
+    /**
+     * 현재 최고 입찰 (입찰이 없으면 empty)
+     */
+    public Optional<AuctionLeader> getLeader(Long auctionItemId) {
+        Optional<AuctionLeader> leader = leaders.get(auctionItemId);
+        if (leader != null) {
+            return leader;
+        }
+        Optional<AuctionLeader> loaded = auctionBidRepository.findHighestBidRowsByAuctionItemId(auctionItemId).stream()
+            .findFirst()
+            .map(AuctionLeaderBoard::fromRow);
+        return load(auctionItemId, loaded);
+    }
+
+    /**
+     * 경매의 최고 입찰 기록을 지웁니다. (입찰이 모두 저장된 뒤에만 호출, 다음 조회 때 DB에서 다시 읽음)
+     */
+    void evict(Long auctionItemId) {
+        leaders.compute(auctionItemId, (id, current) -> {
+            loadedAt.remove(id);
+            return null;
+        });
+    }
+
+    /* 강제 종료로 입찰이 모두 취소되면 최고 입찰 기록도 지움 (입찰은 취소 전에 모두 저장됨)*/
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBidsCanceled(AuctionBidsCanceledEvent event) {
+        evict(event.getAuctionItemId());
+    }
+
+    /* DB에서 읽기만 한 기록 중 오래된 것을 지움 (그 사이 입찰이 받아들여졌으면 유지)*/
+    @Scheduled(fixedDelay = 60000)
+    public void evictIdleLoaded() {
+        long now = System.currentTimeMillis();
+        loadedAt.forEach((auctionItemId, loadedMillis) -> {
+            if (now - loadedMillis > LOADED_RETENTION_MILLIS) {
+                leaders.computeIfPresent(auctionItemId,
+                    (id, current) -> loadedAt.remove(id, loadedMillis) ? null : current);
+            }
+        });
+    }
+
+    /**
+     * 받아들인 입찰을 최고 입찰로 기록 (입찰 처리 순서에서만 호출)
+     */
+    AuctionLeader record(AcceptedBid bid) {
+        Optional<AuctionLeader> updated = leaders.compute(bid.getAuctionItemId(), (id, current) -> {
+            // 메모리에만 있는 입찰이 생겼으므로 저장될 때까지 지우지 않음
+            loadedAt.remove(id);
+            AuctionLeader previous = current != null ? current.orElse(null) : null;
+            if (previous != null && previous.getAmount() >= bid.getBidAmount()) {
+                return current;
+            }
+            return Optional.of(previous != null ? previous.next(bid)
+                : new AuctionLeader(id, bid.getMemberId(), bid.getBidAmount(), null, bid.getSequence(), 1));
+        });
+        return updated.orElseThrow();
+    }
+
+    // DB에서 읽은 기록 반영 (읽는 사이에 입찰이 받아들여졌으면 더 높은 쪽을 유지)
+    private Optional<AuctionLeader> load(Long auctionItemId, Optional<AuctionLeader> loaded) {
+        return leaders.compute(auctionItemId, (id, current) -> {
+            if (current == null) {
+                loadedAt.put(id, System.currentTimeMillis());
+                return loaded;
+            }
+            return higher(current, loaded);
+        });
+    }
+
+    private static Optional<AuctionLeader> higher(Optional<AuctionLeader> a, Optional<AuctionLeader> b) {
+        if (a.isEmpty()) {
+            return b;
+        }
+        if (b.isEmpty()) {
+            return a;
+        }
+        return a.get().getAmount() >= b.get().getAmount() ? a : b;
+    }
+
+    // [auctionItemId, memberId, bidAmount, bidId]
+    private static AuctionLeader fromRow(Object[] row) {
+        return new AuctionLeader((Long) row[0], (Long) row[1], (Integer) row[2], (Long) row[3], 0, 1);
+    }
+}
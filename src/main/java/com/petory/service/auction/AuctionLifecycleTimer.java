@@ -0,0 +1,217 @@
+package com.petory.service.auction;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.petory.constant.AuctionStatus;
+import com.petory.entity.shop.AuctionItem;
+import com.petory.repository.shop.AuctionItemRepository;
+import com.petory.service.shop.AuctionSessionService;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 경매 세션 생성/시작/종료를 정해진 시각에 바로 실행하는 타이머
+ *
+ * - 서버 시작 시 예정/진행 중 경매를 읽어 DelayQueue에 예약하고, 경매 등록/수정 시 다시 예약
+ * - 예약이 바뀌면 경매별 세대(generation)를 올려서 이전 예약은 실행하지 않고 버림
+ * - 종료는 입찰 장부에 먼저 확인하므로 마감 연장(soft close)된 경매는 연장된 시각에 다시 확인
+ * - 실행 시점에 DB 상태를 다시 확인하므로 (AuctionSessionService의 ...IfDue) 중복 실행되어도 안전
+ * - 타이머 스레드는 꺼내기만 하고, 실행은 경매 ID를 해시한 실행 스레드(auction.lifecycle.fire-threads개)에 넘김
+ *   (종료 처리가 입찰 저장을 기다리며 길어져도 다른 경매의 예약이 밀리지 않고, 같은 경매는 순서대로 실행)
+ * - 1분 cron(AuctionSessionService.createSessionsForScheduledAuctions)은 놓친 경매를 잡는 보정용으로만 남김
+ */
+@Component
+@Slf4j
+public class AuctionLifecycleTimer {
+
+    // 경매 시작 몇 분 전에 세션을 미리 만들어 둘지 (기존 스케줄러와 같은 5분)
+    private static final long SESSION_OPEN_LEAD_MINUTES = 5;
+    // 실행에 실패한 예약(입찰 마감/저장 지연 등)을 다시 시도하는 간격과 횟수 (이후는 보정 스케줄러가 처리)
+    private static final long RETRY_DELAY_MILLIS = 1000;
+    private static final int MAX_FIRE_ATTEMPTS = 5;
+
+    private final AuctionItemRepository auctionItemRepository;
+    private final AuctionSessionService auctionSessionService;
+    private final DelayQueue<Transition> queue = new DelayQueue<>();
+    private final Map<Long, Long> generations = new ConcurrentHashMap<>();
+    private final AtomicLong generationCounter = new AtomicLong();
+    private final Thread worker;
+    private final ExecutorService[] firers;
+
+    public AuctionLifecycleTimer(AuctionItemRepository auctionItemRepository,
+                                 AuctionSessionService auctionSessionService,
+                                 @Value("${auction.lifecycle.fire-threads:4}") int fireThreads) {
+        if (fireThreads <= 0) {
+            throw new IllegalArgumentException("auction.lifecycle.fire-threads는 1 이상이어야 합니다: " + fireThreads);
+        }
+        this.auctionItemRepository = auctionItemRepository;
+        this.auctionSessionService = auctionSessionService;
+        this.worker = new Thread(this::fireLoop, "auction-lifecycle-timer");
+        this.worker.setDaemon(true);
+        this.firers = new ExecutorService[fireThreads];
+        for (int i = 0; i < fireThreads; i++) {
+            String name = "auction-lifecycle-fire-" + i;
+            firers[i] = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, name);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        List<AuctionItem> items = auctionItemRepository.findByAuctionStatusIn(
+            List.of(AuctionStatus.SCHEDULED, AuctionStatus.ACTIVE));
+        items.forEach(this::schedule);
+        worker.start();
+        log.info("경매 수명주기 타이머 시작: {}개 경매 예약", items.size());
+    }
+
+    @PreDestroy
+    public void stop() {
+        worker.interrupt();
+        for (ExecutorService firer : firers) {
+            firer.shutdownNow();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onScheduleChanged(AuctionScheduleChangedEvent event) {
+        auctionItemRepository.findById(event.getAuctionItemId())
+            .ifPresentOrElse(this::schedule, () -> cancel(event.getAuctionItemId()));
+    }
+
+    /**
+     * 경매 상태와 시작/종료 시간에 맞춰 세션 생성, 시작, 종료를 다시 예약합니다. (이전 예약은 무효)
+     */
+    public void schedule(AuctionItem item) {
+        Long auctionItemId = item.getId();
+        if (item.getAuctionStatus() != AuctionStatus.SCHEDULED && item.getAuctionStatus() != AuctionStatus.ACTIVE) {
+            cancel(auctionItemId);
+            return;
+        }
+        long generation = generationCounter.incrementAndGet();
+        generations.put(auctionItemId, generation);
+
+        if (item.getAuctionStatus() == AuctionStatus.SCHEDULED) {
+            queue.add(new Transition(auctionItemId, Phase.OPEN,
+                toEpochMillis(item.getStartTime().minusMinutes(SESSION_OPEN_LEAD_MINUTES)), generation, 1));
+            queue.add(new Transition(auctionItemId, Phase.START, toEpochMillis(item.getStartTime()), generation, 1));
+        }
+        queue.add(new Transition(auctionItemId, Phase.END, toEpochMillis(item.getEndTime()), generation, 1));
+    }
+
+    public void cancel(Long auctionItemId) {
+        generations.remove(auctionItemId);
+    }
+
+    private void fireLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            Transition transition;
+            try {
+                transition = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (isCurrent(transition)) {
+                firers[Math.floorMod(Long.hashCode(transition.auctionItemId), firers.length)]
+                    .execute(() -> run(transition));
+            }
+        }
+    }
+
+    // 다시 예약되었거나 취소된 경매의 예약이면 false
+    private boolean isCurrent(Transition transition) {
+        Long generation = generations.get(transition.auctionItemId);
+        return generation != null && generation == transition.generation;
+    }
+
+    // 실행 스레드에서 실행 (실패하면 잠시 뒤 다시 예약)
+    private void run(Transition transition) {
+        if (!isCurrent(transition)) {
+            return; // 실행 대기 중에 다시 예약되었거나 취소됨
+        }
+        try {
+            fire(transition);
+        } catch (Exception e) {
+            if (transition.attempt < MAX_FIRE_ATTEMPTS) {
+                log.warn("경매 수명주기 처리 실패 ({}/{}), {}ms 후 다시 시도합니다: auctionItemId={}, phase={}, error={}",
+                    transition.attempt, MAX_FIRE_ATTEMPTS, RETRY_DELAY_MILLIS, transition.auctionItemId,
+                    transition.phase, e.getMessage());
+                queue.add(new Transition(transition.auctionItemId, transition.phase,
+                    System.currentTimeMillis() + RETRY_DELAY_MILLIS, transition.generation, transition.attempt + 1));
+            } else {
+                log.error("경매 수명주기 처리 실패 (보정 스케줄러에서 다시 처리됨): auctionItemId={}, phase={}, error={}",
+                    transition.auctionItemId, transition.phase, e.getMessage(), e);
+            }
+        }
+    }
+
+    private void fire(Transition transition) {
+        switch (transition.phase) {
+            case OPEN -> auctionSessionService.openSessionIfDue(transition.auctionItemId);
+            case START -> auctionSessionService.startAuctionIfDue(transition.auctionItemId);
+            // 마감 연장으로 아직 끝나지 않았으면 연장된 종료 시각에 다시 확인
+            case END -> auctionSessionService.endAuctionIfDue(transition.auctionItemId).ifPresentOrElse(
+                endTime -> queue.add(new Transition(transition.auctionItemId, Phase.END,
+                    toEpochMillis(endTime), transition.generation, 1)),
+                () -> cancel(transition.auctionItemId));
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private enum Phase { OPEN, START, END }
+
+    private static final class Transition implements Delayed {
+
+        private final Long auctionItemId;
+        private final Phase phase;
+        private final long fireAtMillis;
+        private final long generation;
+        private final int attempt;
+
+        Transition(Long auctionItemId, Phase phase, long fireAtMillis, long generation, int attempt) {
+            this.auctionItemId = auctionItemId;
+            this.phase = phase;
+            this.fireAtMillis = fireAtMillis;
+            this.generation = generation;
+            this.attempt = attempt;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(fireAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            Transition that = (Transition) other;
+            int byTime = Long.compare(fireAtMillis, that.fireAtMillis);
+            // 같은 시각이면 세션 생성 → 시작 → 종료 순서
+            return byTime != 0 ? byTime : phase.compareTo(that.phase);
+        }
+    }
+}
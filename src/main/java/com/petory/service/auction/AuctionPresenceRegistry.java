@@ -0,0 +1,505 @@
+package com.petory.service.auction;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 경매 세션 접속 현황을 메모리에서 관리합니다.
+ * 입장/퇴장/연결 해제와 참여자 수 조회는 DB를 거치지 않고, 바뀐 참여자 상태와 세션 참여자 수만
+ * 주기적으로(auction.presence.flush-interval-ms) JDBC 배치 한 번에 auction_participant / auction_session에 저장합니다.
+ *
+ * - 연결 ID → (세션, 회원), 세션별 회원 → 연결 ID들, 세션별 참여 회원 수(AtomicInteger)
+ * - 같은 회원이 여러 탭으로 접속해도 한 명으로 셉니다. (마지막 연결이 끊길 때 퇴장)
+ * - 참여 회원이 모두 나간 세션은 바로 정리합니다. (세션별 변경은 sessions.compute 안에서 처리)
+ * - auction.presence.redis-enabled=true면 서버별로 세션 참여 회원을 Redis set에 저장하고, 모든 서버의 set을 합친 수를 돌려줍니다.
+ *   서버별 set은 TTL을 짧게(REDIS_NODE_TTL) 두고 heartbeat로 갱신하므로, 서버가 죽으면 그 서버의 참여자는 곧 빠집니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuctionPresenceRegistry {
+
+    private static final String REDIS_KEY_PREFIX = "auction:presence:";
+    private static final Duration REDIS_NODE_TTL = Duration.ofSeconds(30);
+    private static final long REDIS_HEARTBEAT_MILLIS = 10000;
+    private static final String SELECT_EXISTING_PARTICIPANTS_SQL =
+        "SELECT session_id, member_id FROM auction_participant WHERE session_id IN (%s)";
+    private static final String UPDATE_PARTICIPANT_SQL =
+        "UPDATE auction_participant SET is_active = ?, connection_id = ?, last_activity = ? " +
+        "WHERE session_id = ? AND member_id = ?";
+    private static final String INSERT_PARTICIPANT_SQL =
+        "INSERT INTO auction_participant (session_id, member_id, connection_id, joined_at, last_activity, is_active) " +
+        "VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_SESSION_COUNT_SQL =
+        "UPDATE auction_session SET participant_count = ? WHERE session_id = ?";
+    private static final String RESET_ACTIVE_PARTICIPANTS_SQL =
+        "UPDATE auction_participant SET is_active = false WHERE is_active = true";
+    private static final String RESET_SESSION_COUNTS_SQL =
+        "UPDATE auction_session SET participant_count = 0 WHERE participant_count <> 0";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${auction.presence.redis-enabled:false}")
+    private boolean redisEnabled;
+
+    // 연결 ID → 접속 정보
+    private final Map<String, Presence> connections = new ConcurrentHashMap<>();
+    // 세션 ID → 세션 접속 현황
+    private final Map<Long, SessionPresence> sessions = new ConcurrentHashMap<>();
+    // 아직 저장하지 않은 참여자 상태 ("세션ID:회원ID" → 마지막 상태) / 참여자 수가 바뀐 세션
+    private final Map<String, PendingParticipant> pendingParticipants = new ConcurrentHashMap<>();
+    private final Set<Long> pendingSessions = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean flushing = new AtomicBoolean(false);
+    // Redis에서 이 서버의 참여자 set을 구분하는 ID (실행마다 새로 만듦)
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * 서버가 뜰 때는 접속 중인 연결이 없으므로 단일 서버에서는 이전에 남은 활성 상태를 정리합니다.
+     * (여러 서버를 쓰면 다른 서버의 접속자가 있으므로 건드리지 않습니다.)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resetStalePresence() {
+        if (redisEnabled) {
+            return;
+        }
+        try {
+            int deactivated = jdbcTemplate.update(RESET_ACTIVE_PARTICIPANTS_SQL);
+            jdbcTemplate.update(RESET_SESSION_COUNTS_SQL);
+            log.info("이전 실행에서 남은 경매 참여자 활성 상태 정리: {}명", deactivated);
+        } catch (Exception e) {
+            log.error("경매 참여자 활성 상태 정리 실패", e);
+        }
+    }
+
+    /**
+     * 세션 입장. 같은 연결이 다른 세션에 있었다면 그 세션에서는 퇴장시킵니다.
+     * @return 입장 후 세션 참여자 수
+     */
+    public int join(Long sessionId, Long memberId, String connectionId) {
+        String connectionKey = connectionId != null ? connectionId : sessionId + ":" + memberId;
+        Presence presence = new Presence(sessionId, memberId, connectionKey, LocalDateTime.now());
+        Presence previous = connections.put(connectionKey, presence);
+        if (previous != null && !previous.isSameParticipant(presence)) {
+            detach(previous);
+        }
+
+        boolean[] entered = new boolean[1];
+        sessions.compute(sessionId, (id, sessionPresence) -> {
+            if (sessionPresence == null) {
+                sessionPresence = new SessionPresence();
+            }
+            entered[0] = sessionPresence.add(memberId, connectionKey);
+            return sessionPresence;
+        });
+        if (entered[0]) {
+            pendingSessions.add(sessionId);
+        }
+        markPending(presence, true);
+        if (redisEnabled) {
+            redisJoin(sessionId, memberId);
+        }
+        return getActiveCount(sessionId);
+    }
+
+    /**
+     * 세션 퇴장 (해당 회원의 모든 연결)
+     * @return 퇴장 처리했으면 true, 세션에 없던 회원이면 false
+     */
+    public boolean leave(Long sessionId, Long memberId) {
+        Set<String> memberConnections = new HashSet<>();
+        sessions.computeIfPresent(sessionId, (id, sessionPresence) -> {
+            memberConnections.addAll(sessionPresence.removeMember(memberId));
+            return sessionPresence.isEmpty() ? null : sessionPresence;
+        });
+        if (memberConnections.isEmpty()) {
+            return false;
+        }
+        Presence last = null;
+        for (String connectionKey : memberConnections) {
+            Presence removed = connections.remove(connectionKey);
+            if (removed != null) {
+                last = removed;
+            }
+        }
+        if (redisEnabled) {
+            redisLeave(sessionId, memberId);
+        }
+        pendingSessions.add(sessionId);
+        if (last != null) {
+            markPending(last, false);
+        }
+        return true;
+    }
+
+    /**
+     * WebSocket 연결 해제. 회원의 마지막 연결이었으면 세션에서 퇴장시킵니다.
+     * @return 연결이 속해 있던 접속 정보 (경매 세션에 입장하지 않은 연결이면 empty)
+     */
+    public Optional<Presence> disconnect(String connectionId) {
+        Presence presence = connectionId != null ? connections.remove(connectionId) : null;
+        if (presence == null) {
+            return Optional.empty();
+        }
+        detach(presence);
+        return Optional.of(presence);
+    }
+
+    /**
+     * 세션 참여자 수 (Redis를 쓰면 모든 서버 합계, 여러 서버에 접속한 회원은 한 명)
+     */
+    public int getActiveCount(Long sessionId) {
+        if (redisEnabled) {
+            try {
+                Set<String> nodes = redisTemplate.opsForSet().members(nodesKey(sessionId));
+                if (nodes != null) {
+                    List<String> nodeKeys = nodes.stream().map(node -> nodeKey(sessionId, node)).collect(Collectors.toList());
+                    Set<String> members = nodeKeys.isEmpty() ? Set.of() : redisTemplate.opsForSet().union(nodeKeys);
+                    return Math.max(members != null ? members.size() : 0, getLocalActiveCount(sessionId));
+                }
+            } catch (Exception e) {
+                log.warn("Redis 경매 참여자 수 조회 실패, 이 서버의 참여자 수를 사용합니다: sessionId={}", sessionId, e);
+            }
+        }
+        return getLocalActiveCount(sessionId);
+    }
+
+    /**
+     * 이 서버에 접속한 세션 참여자 수
+     */
+    public int getLocalActiveCount(Long sessionId) {
+        SessionPresence sessionPresence = sessions.get(sessionId);
+        return sessionPresence != null ? sessionPresence.getActiveMembers() : 0;
+    }
+
+    public boolean isConnected(String connectionId) {
+        return connectionId != null && connections.containsKey(connectionId);
+    }
+
+    public boolean isActive(Long sessionId, Long memberId) {
+        SessionPresence sessionPresence = sessions.get(sessionId);
+        return sessionPresence != null && sessionPresence.contains(memberId);
+    }
+
+    public Map<String, Object> getStats() {
+        return Map.of(
+            "connections", connections.size(),
+            "sessions", sessions.size(),
+            "pendingParticipants", pendingParticipants.size(),
+            "pendingSessions", pendingSessions.size(),
+            "redisEnabled", redisEnabled);
+    }
+
+    /**
+     * 바뀐 참여자 상태와 세션 참여자 수를 한 번에 저장합니다.
+     * 참여자 행이 없으면(처음 입장) 새로 만들고, 있으면 활성 여부/연결 ID/마지막 활동 시간만 바꿉니다.
+     */
+    @Scheduled(fixedDelayString = "${auction.presence.flush-interval-ms:1000}")
+    public void flush() {
+        if (!flushing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            flushPending();
+        } finally {
+            flushing.set(false);
+        }
+    }
+
+    /**
+     * 이 서버의 세션별 참여자 set TTL을 갱신합니다. (Redis 장애로 set이 사라졌으면 다시 채움)
+     */
+    @Scheduled(fixedDelay = REDIS_HEARTBEAT_MILLIS)
+    public void heartbeat() {
+        if (!redisEnabled) {
+            return;
+        }
+        sessions.forEach((sessionId, sessionPresence) -> {
+            String[] members = sessionPresence.getMemberIds().stream().map(String::valueOf).toArray(String[]::new);
+            if (members.length == 0) {
+                return;
+            }
+            try {
+                String nodeKey = nodeKey(sessionId, nodeId);
+                redisTemplate.opsForSet().add(nodeKey, members);
+                redisTemplate.expire(nodeKey, REDIS_NODE_TTL);
+                registerNode(sessionId);
+            } catch (Exception e) {
+                log.warn("Redis 경매 참여자 heartbeat 실패: sessionId={}", sessionId, e);
+            }
+        });
+    }
+
+    @PreDestroy
+    private void stop() {
+        flush();
+        if (redisEnabled) {
+            // 다른 서버가 TTL 만료를 기다리지 않도록 이 서버의 참여자를 바로 뺌
+            sessions.keySet().forEach(sessionId -> {
+                try {
+                    redisTemplate.delete(nodeKey(sessionId, nodeId));
+                    redisTemplate.opsForSet().remove(nodesKey(sessionId), nodeId);
+                } catch (Exception e) {
+                    log.warn("Redis 경매 참여자 정리 실패: sessionId={}", sessionId, e);
+                }
+            });
+        }
+    }
+
+    private void flushPending() {
+        List<PendingParticipant> participants = new ArrayList<>();
+        for (String key : new ArrayList<>(pendingParticipants.keySet())) {
+            PendingParticipant pending = pendingParticipants.remove(key);
+            if (pending != null) {
+                participants.add(pending);
+            }
+        }
+        List<Long> sessionIds = new ArrayList<>();
+        for (Long sessionId : new ArrayList<>(pendingSessions)) {
+            if (pendingSessions.remove(sessionId)) {
+                sessionIds.add(sessionId);
+            }
+        }
+        if (participants.isEmpty() && sessionIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                writeParticipants(participants);
+                jdbcTemplate.batchUpdate(UPDATE_SESSION_COUNT_SQL, sessionIds, sessionIds.size(), (ps, sessionId) -> {
+                    ps.setInt(1, getActiveCount(sessionId));
+                    ps.setLong(2, sessionId);
+                });
+            });
+            log.debug("경매 참여자 상태 일괄 저장 완료: 참여자 {}명, 세션 {}개", participants.size(), sessionIds.size());
+        } catch (Exception e) {
+            // 그 사이 새로 바뀐 상태가 있으면 그쪽이 최신이므로 덮어쓰지 않음
+            participants.forEach(pending -> pendingParticipants.putIfAbsent(pending.key(), pending));
+            pendingSessions.addAll(sessionIds);
+            log.error("경매 참여자 상태 일괄 저장 실패, 다음 주기에 다시 시도합니다: 참여자 {}명", participants.size(), e);
+        }
+    }
+
+    private void writeParticipants(List<PendingParticipant> participants) {
+        if (participants.isEmpty()) {
+            return;
+        }
+        Set<Long> sessionIds = participants.stream().map(PendingParticipant::getSessionId).collect(Collectors.toSet());
+        String placeholders = String.join(",", Collections.nCopies(sessionIds.size(), "?"));
+        Set<String> existing = new HashSet<>(jdbcTemplate.query(
+            String.format(SELECT_EXISTING_PARTICIPANTS_SQL, placeholders),
+            (rs, rowNum) -> rs.getLong("session_id") + ":" + rs.getLong("member_id"),
+            sessionIds.toArray()));
+
+        List<PendingParticipant> updates = new ArrayList<>();
+        List<PendingParticipant> inserts = new ArrayList<>();
+        for (PendingParticipant pending : participants) {
+            if (existing.contains(pending.key())) {
+                updates.add(pending);
+            } else if (pending.isActive()) {
+                inserts.add(pending);
+            }
+        }
+
+        jdbcTemplate.batchUpdate(UPDATE_PARTICIPANT_SQL, updates, updates.size(), (ps, pending) -> {
+            ps.setBoolean(1, pending.isActive());
+            ps.setString(2, pending.getConnectionId());
+            ps.setTimestamp(3, Timestamp.valueOf(pending.getAt()));
+            ps.setLong(4, pending.getSessionId());
+            ps.setLong(5, pending.getMemberId());
+        });
+        jdbcTemplate.batchUpdate(INSERT_PARTICIPANT_SQL, inserts, inserts.size(), (ps, pending) -> {
+            Timestamp at = Timestamp.valueOf(pending.getAt());
+            ps.setLong(1, pending.getSessionId());
+            ps.setLong(2, pending.getMemberId());
+            ps.setString(3, pending.getConnectionId());
+            ps.setTimestamp(4, at);
+            ps.setTimestamp(5, at);
+            ps.setBoolean(6, true);
+        });
+    }
+
+    private void detach(Presence presence) {
+        boolean[] left = new boolean[1];
+        sessions.computeIfPresent(presence.getSessionId(), (id, sessionPresence) -> {
+            left[0] = sessionPresence.remove(presence.getMemberId(), presence.getConnectionId());
+            return sessionPresence.isEmpty() ? null : sessionPresence;
+        });
+        if (left[0]) {
+            pendingSessions.add(presence.getSessionId());
+            markPending(presence, false);
+            if (redisEnabled) {
+                redisLeave(presence.getSessionId(), presence.getMemberId());
+            }
+        }
+    }
+
+    private void markPending(Presence presence, boolean active) {
+        PendingParticipant pending = new PendingParticipant(presence.getSessionId(), presence.getMemberId(),
+            presence.getConnectionId(), active, LocalDateTime.now());
+        pendingParticipants.put(pending.key(), pending);
+    }
+
+    /*
+     * Redis: (세션, 서버)별 참여 회원 set과 세션별 서버 ID set
+     * 회원의 연결은 서버 안에서만 세고(SessionPresence), 이 서버의 마지막 연결이 끊기면 이 서버 set에서만 뺍니다.
+     * 두 set 모두 REDIS_NODE_TTL로 두고 입장과 heartbeat 때 갱신합니다.
+     */
+    private void redisJoin(Long sessionId, Long memberId) {
+        try {
+            String nodeKey = nodeKey(sessionId, nodeId);
+            redisTemplate.opsForSet().add(nodeKey, String.valueOf(memberId));
+            redisTemplate.expire(nodeKey, REDIS_NODE_TTL);
+            registerNode(sessionId);
+        } catch (Exception e) {
+            log.warn("Redis 경매 참여자 입장 기록 실패: sessionId={}, memberId={}", sessionId, memberId, e);
+        }
+    }
+
+    private void redisLeave(Long sessionId, Long memberId) {
+        try {
+            redisTemplate.opsForSet().remove(nodeKey(sessionId, nodeId), String.valueOf(memberId));
+        } catch (Exception e) {
+            log.warn("Redis 경매 참여자 퇴장 기록 실패: sessionId={}, memberId={}", sessionId, memberId, e);
+        }
+    }
+
+    private void registerNode(Long sessionId) {
+        String nodesKey = nodesKey(sessionId);
+        redisTemplate.opsForSet().add(nodesKey, nodeId);
+        redisTemplate.expire(nodesKey, REDIS_NODE_TTL);
+    }
+
+    private static String nodesKey(Long sessionId) {
+        return REDIS_KEY_PREFIX + sessionId + ":nodes";
+    }
+
+    private static String nodeKey(Long sessionId, String nodeId) {
+        return REDIS_KEY_PREFIX + sessionId + ":node:" + nodeId;
+    }
+
+    /**
+     * 연결 하나의 접속 정보
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Presence {
+        private final Long sessionId;
+        private final Long memberId;
+        private final String connectionId;
+        private final LocalDateTime joinedAt;
+
+        boolean isSameParticipant(Presence other) {
+            return sessionId.equals(other.sessionId) && memberId.equals(other.memberId);
+        }
+    }
+
+    /*
+     * 세션 하나의 접속 현황. 회원별 연결 set의 추가/삭제와 참여 회원 수 증감을
+     * ConcurrentHashMap.compute 안에서 함께 처리해 회원 단위로 원자적으로 바뀝니다.
+     * (변경은 sessions.compute 안에서만 하므로, 비었을 때 sessions에서 빼도 그 사이 입장이 사라지지 않음)
+     */
+    private static class SessionPresence {
+        private final Map<Long, Set<String>> connectionsByMember = new ConcurrentHashMap<>();
+        private final AtomicInteger activeMembers = new AtomicInteger();
+
+        /** @return 회원이 새로 입장했으면 true */
+        boolean add(Long memberId, String connectionId) {
+            boolean[] entered = new boolean[1];
+            connectionsByMember.compute(memberId, (id, memberConnections) -> {
+                if (memberConnections == null) {
+                    memberConnections = new HashSet<>();
+                    activeMembers.incrementAndGet();
+                    entered[0] = true;
+                }
+                memberConnections.add(connectionId);
+                return memberConnections;
+            });
+            return entered[0];
+        }
+
+        /** @return 회원의 마지막 연결이라 퇴장했으면 true */
+        boolean remove(Long memberId, String connectionId) {
+            boolean[] left = new boolean[1];
+            connectionsByMember.computeIfPresent(memberId, (id, memberConnections) -> {
+                if (!memberConnections.remove(connectionId) || !memberConnections.isEmpty()) {
+                    return memberConnections;
+                }
+                activeMembers.decrementAndGet();
+                left[0] = true;
+                return null;
+            });
+            return left[0];
+        }
+
+        /** @return 회원이 가지고 있던 연결 ID들 */
+        Set<String> removeMember(Long memberId) {
+            Set<String> removed = new HashSet<>();
+            connectionsByMember.computeIfPresent(memberId, (id, memberConnections) -> {
+                removed.addAll(memberConnections);
+                activeMembers.decrementAndGet();
+                return null;
+            });
+            return removed;
+        }
+
+        boolean contains(Long memberId) {
+            return connectionsByMember.containsKey(memberId);
+        }
+
+        boolean isEmpty() {
+            return activeMembers.get() == 0;
+        }
+
+        Set<Long> getMemberIds() {
+            return connectionsByMember.keySet();
+        }
+
+        int getActiveMembers() {
+            return activeMembers.get();
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class PendingParticipant {
+        private final Long sessionId;
+        private final Long memberId;
+        private final String connectionId;
+        private final boolean active;
+        private final LocalDateTime at;
+
+        String key() {
+            return sessionId + ":" + memberId;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.petory.service.auction;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 경매 상품의 시작/종료 시간이나 상태가 바뀌었음을 알리는 이벤트 (등록, 수정, 강제 시작/종료, 삭제)
+ * 커밋 후 AuctionLifecycleTimer가 받아 해당 경매의 시작/종료 예약을 다시 잡습니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class AuctionScheduleChangedEvent {
+
+    private final Long auctionItemId;
+}
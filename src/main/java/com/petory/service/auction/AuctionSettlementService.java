@@ -0,0 +1,259 @@
+package com.petory.service.auction;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.petory.constant.AuctionSettlementStatus;
+import com.petory.constant.AuctionStatus;
+import com.petory.constant.AuctionWinStatus;
+import com.petory.entity.shop.AuctionHistory;
+import com.petory.entity.shop.AuctionItem;
+import com.petory.entity.shop.AuctionSettlement;
+import com.petory.repository.MemberRepository;
+import com.petory.repository.shop.AuctionBidRepository;
+import com.petory.repository.shop.AuctionHistoryRepository;
+import com.petory.repository.shop.AuctionItemRepository;
+import com.petory.repository.shop.AuctionSettlementRepository;
+import com.petory.service.shop.AuctionDeliveryService;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 종료된 경매의 정산 (낙찰자 마일리지 차감, 참여자별 AuctionHistory, 낙찰자 AuctionDelivery)
+ *
+ * - 경매마다 작은 트랜잭션 하나로 처리하고, 서로 다른 경매는 정산 스레드 풀에서 병렬로 처리
+ * - 참여자별 최고 입찰가/입찰 횟수는 GROUP BY 한 번으로 집계하고, 히스토리는 JDBC 배치로 한 번에 저장
+ * - auction_settlement.auction_item_id(unique)가 멱등 키: 정산 트랜잭션 처음에 먼저 기록하므로
+ *   같은 경매를 동시에/다시 정산해도 한 번만 반영되고, 중간에 실패하면 전부 롤백되어 다시 정산할 수 있음
+ * - 정산 기록이 없는 종료 경매는 주기적으로 다시 정산 (서버 재시작, 처리 중 오류 등)
+ */
+@Component
+@Slf4j
+public class AuctionSettlementService {
+
+    private static final String INSERT_HISTORY_SQL =
+        "INSERT INTO auction_history (auction_item_id, member_id, my_highest_bid, is_winner, total_bids, final_price, " +
+        "auction_win_status, order_date, update_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int DELIVERY_DEADLINE_DAYS = 5;
+
+    private final AuctionItemRepository auctionItemRepository;
+    private final AuctionBidRepository auctionBidRepository;
+    private final AuctionHistoryRepository auctionHistoryRepository;
+    private final AuctionSettlementRepository auctionSettlementRepository;
+    private final MemberRepository memberRepository;
+    private final AuctionDeliveryService auctionDeliveryService;
+    private final AuctionBidSequencer auctionBidSequencer;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService settlementExecutor;
+    // 진행 중인 정산 (같은 경매의 정산 요청이 겹치면 하나만 실행)
+    private final Map<Long, CompletableFuture<AuctionSettlementStatus>> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${auction.bid.timeout-ms:3000}")
+    private long flushTimeoutMillis;
+
+    public AuctionSettlementService(AuctionItemRepository auctionItemRepository,
+                                    AuctionBidRepository auctionBidRepository,
+                                    AuctionHistoryRepository auctionHistoryRepository,
+                                    AuctionSettlementRepository auctionSettlementRepository,
+                                    MemberRepository memberRepository,
+                                    AuctionDeliveryService auctionDeliveryService,
+                                    AuctionBidSequencer auctionBidSequencer,
+                                    JdbcTemplate jdbcTemplate,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${auction.settlement.threads:4}") int threads) {
+        this.auctionItemRepository = auctionItemRepository;
+        this.auctionBidRepository = auctionBidRepository;
+        this.auctionHistoryRepository = auctionHistoryRepository;
+        this.auctionSettlementRepository = auctionSettlementRepository;
+        this.memberRepository = memberRepository;
+        this.auctionDeliveryService = auctionDeliveryService;
+        this.auctionBidSequencer = auctionBidSequencer;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.settlementExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "auction-settlement-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAuctionEnded(AuctionEndedEvent event) {
+        settleAsync(event.getAuctionItemId());
+    }
+
+    /* 종료되었지만 정산 기록이 없는 경매 다시 정산 (서버 시작 직후에도 한 번 실행)*/
+    @Scheduled(initialDelayString = "${auction.settlement.retry-initial-delay-ms:30000}",
+               fixedDelayString = "${auction.settlement.retry-interval-ms:60000}")
+    public void settleUnsettledAuctions() {
+        List<Long> auctionItemIds = auctionItemRepository.findIdsWithoutSettlementByAuctionStatus(AuctionStatus.ENDED);
+        if (!auctionItemIds.isEmpty()) {
+            log.info("정산 기록이 없는 종료 경매 다시 정산: {}개", auctionItemIds.size());
+            auctionItemIds.forEach(this::settleAsync);
+        }
+    }
+
+    /**
+     * 경매 정산을 정산 스레드 풀에 넣습니다. 이미 정산 중이면 진행 중인 정산을 반환합니다.
+     * 결과는 정산 상태 (종료되지 않은 경매면 null)
+     */
+    public CompletableFuture<AuctionSettlementStatus> settleAsync(Long auctionItemId) {
+        CompletableFuture<AuctionSettlementStatus> future = inFlight.computeIfAbsent(auctionItemId,
+            id -> CompletableFuture.supplyAsync(() -> settle(id), settlementExecutor));
+        // 반환한 future가 완료되었을 때는 진행 중 목록에서도 빠져 있음 (바로 다시 요청하면 새로 정산)
+        return future.whenComplete((status, error) -> inFlight.remove(auctionItemId, future));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        settlementExecutor.shutdown();
+        settlementExecutor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private AuctionSettlementStatus settle(Long auctionItemId) {
+        // 마감 전에 받아들인 입찰이 모두 저장된 뒤에 정산
+        // (저장이 끝나지 않았으면 트랜잭션을 열지 않고 실패 → 정산 기록이 없으므로 settleUnsettledAuctions가 다시 정산)
+        try {
+            auctionBidSequencer.closeAndFlush(auctionItemId, flushTimeoutMillis);
+        } catch (IllegalStateException e) {
+            log.warn("입찰 저장이 끝나지 않아 정산을 미룹니다 (다시 시도 예정): auctionItemId={}, error={}",
+                auctionItemId, e.getMessage());
+            throw new IllegalStateException("입찰 저장이 끝나지 않아 정산하지 않았습니다: " + auctionItemId, e);
+        }
+        try {
+            AuctionSettlementStatus status = transactionTemplate.execute(tx -> settleInTransaction(auctionItemId));
+            log.info("경매 정산 완료: auctionItemId={}, status={}", auctionItemId, status);
+            return status;
+        } catch (DataIntegrityViolationException e) {
+            // 다른 스레드(또는 서버)가 먼저 정산 기록을 남김
+            log.info("이미 정산된 경매: auctionItemId={}", auctionItemId);
+            return auctionSettlementRepository.findByAuctionItemId(auctionItemId)
+                .map(AuctionSettlement::getStatus)
+                .orElse(null);
+        } catch (SettlementFailedException e) {
+            log.error("경매 정산 실패: auctionItemId={}, reason={}", auctionItemId, e.getMessage());
+            recordFailure(auctionItemId, e.getMessage());
+            return AuctionSettlementStatus.FAILED;
+        } catch (RuntimeException e) {
+            // 정산 기록까지 롤백되었으므로 다음 재시도 때 다시 정산
+            log.error("경매 정산 중 오류 (다시 시도 예정): auctionItemId={}, error={}", auctionItemId, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    private AuctionSettlementStatus settleInTransaction(Long auctionItemId) {
+        Optional<AuctionSettlement> existing = auctionSettlementRepository.findByAuctionItemId(auctionItemId);
+        if (existing.isPresent()) {
+            return existing.get().getStatus();
+        }
+        AuctionItem auctionItem = auctionItemRepository.findById(auctionItemId)
+            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 경매입니다: " + auctionItemId));
+        if (auctionItem.getAuctionStatus() != AuctionStatus.ENDED) {
+            log.warn("종료되지 않은 경매는 정산하지 않습니다: auctionItemId={}, status={}",
+                auctionItemId, auctionItem.getAuctionStatus());
+            return null;
+        }
+
+        // 1. 멱등 키 선점 (이미 있으면 unique 제약으로 실패)
+        AuctionSettlement settlement = auctionSettlementRepository.saveAndFlush(AuctionSettlement.builder()
+            .auctionItem(auctionItem)
+            .status(AuctionSettlementStatus.SETTLED)
+            .participantCount(0)
+            .build());
+
+        // 2. 참여자별 [memberId, 최고 입찰가, 입찰 횟수] 한 번에 집계
+        List<Object[]> rows = auctionBidRepository.findBidSummaryRowsByAuctionItemId(auctionItemId);
+        if (rows.isEmpty()) {
+            settlement.setStatus(AuctionSettlementStatus.NO_BIDS);
+            return AuctionSettlementStatus.NO_BIDS;
+        }
+        Object[] winnerRow = rows.stream()
+            .max(Comparator.comparingInt(row -> ((Number) row[1]).intValue()))
+            .orElseThrow();
+        Long winnerId = (Long) winnerRow[0];
+        int finalPrice = ((Number) winnerRow[1]).intValue();
+        settlement.setWinnerId(winnerId);
+        settlement.setFinalPrice(finalPrice);
+
+        // 정산 기록이 생기기 전 방식(processAuctionEnd)으로 이미 처리된 경매는 다시 차감하지 않음
+        if (auctionHistoryRepository.existsByAuctionItemId(auctionItemId)) {
+            log.info("이전 방식으로 이미 처리된 경매, 정산 기록만 남깁니다: auctionItemId={}", auctionItemId);
+            return AuctionSettlementStatus.SETTLED;
+        }
+
+        // 3. 낙찰자 마일리지 차감 (잔액이 충분할 때만)
+        if (memberRepository.deductMileageIfEnough(winnerId, finalPrice) == 0) {
+            Integer balance = memberRepository.findById(winnerId).map(member -> member.getMember_Mileage()).orElse(0);
+            throw new SettlementFailedException("낙찰자의 마일리지가 부족합니다. 낙찰가: " + finalPrice + "P, 보유 마일리지: " + balance + "P");
+        }
+
+        // 4. 참여자별 히스토리 일괄 저장
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_HISTORY_SQL, rows, rows.size(), (ps, row) -> {
+            boolean isWinner = winnerId.equals(row[0]);
+            ps.setLong(1, auctionItemId);
+            ps.setLong(2, (Long) row[0]);
+            ps.setInt(3, ((Number) row[1]).intValue());
+            ps.setBoolean(4, isWinner);
+            ps.setInt(5, ((Number) row[2]).intValue());
+            ps.setInt(6, finalPrice);
+            ps.setString(7, isWinner ? AuctionWinStatus.WIN.name() : null);
+            ps.setTimestamp(8, now);
+            ps.setTimestamp(9, now);
+        });
+
+        // 5. 낙찰자 배송 정보 생성
+        AuctionHistory winnerHistory = auctionHistoryRepository.findByAuctionItemIdAndMemberId(auctionItemId, winnerId)
+            .orElseThrow(() -> new IllegalStateException("낙찰자 히스토리가 저장되지 않았습니다: " + auctionItemId));
+        auctionDeliveryService.createDelivery(winnerHistory, LocalDateTime.now().plusDays(DELIVERY_DEADLINE_DAYS));
+
+        settlement.setParticipantCount(rows.size());
+        log.info("경매 정산: auctionItemId={}, winnerId={}, finalPrice={}, participants={}",
+            auctionItemId, winnerId, finalPrice, rows.size());
+        return AuctionSettlementStatus.SETTLED;
+    }
+
+    // 다시 시도해도 결과가 같은 실패 (마일리지 부족 등)는 FAILED로 기록해 재시도하지 않음
+    private void recordFailure(Long auctionItemId, String reason) {
+        try {
+            transactionTemplate.executeWithoutResult(tx -> auctionItemRepository.findById(auctionItemId)
+                .ifPresent(auctionItem -> auctionSettlementRepository.save(AuctionSettlement.builder()
+                    .auctionItem(auctionItem)
+                    .status(AuctionSettlementStatus.FAILED)
+                    .failureReason(reason)
+                    .build())));
+        } catch (DataIntegrityViolationException e) {
+            log.info("이미 정산 기록이 있는 경매: auctionItemId={}", auctionItemId);
+        }
+    }
+
+    private static class SettlementFailedException extends IllegalStateException {
+
+        SettlementFailedException(String message) {
+            super(message);
+        }
+    }
+}
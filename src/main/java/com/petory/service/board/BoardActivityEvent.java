@@ -0,0 +1,17 @@
+package com.petory.service.board;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 생성/수정/삭제/추천 등 인기 순위에 영향을 주는 변경이 커밋되었음을 알리는 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class BoardActivityEvent {
+
+    public enum Type { CREATED, UPDATED, DELETED, RECOMMENDED }
+
+    private final Long boardId;
+    private final Type type;
+}
@@ -0,0 +1,195 @@
+package com.petory.service.board;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherFactory;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.StoredFields;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 제목/내용/해시태그 전문 검색 인덱스 (Lucene, 스프링에 의존하지 않음)
+ *
+ * 게시글 하나가 문서 하나이며 게시글 ID로 교체/삭제합니다.
+ * 검색은 BM25 점수 순이며 검색어의 모든 형태소가 제목/내용/해시태그 중 어딘가에 있어야 합니다.
+ * 제목과 해시태그에서 일치하면 가중치를 더 줍니다.
+ */
+public class BoardSearchIndex implements Closeable {
+
+    public static final String FIELD_ID = "id";
+    public static final String FIELD_TITLE = "title";
+    public static final String FIELD_CONTENT = "content";
+    public static final String FIELD_HASHTAGS = "hashtags";
+
+    private static final float TITLE_BOOST = 3.0f;
+    private static final float HASHTAG_BOOST = 2.0f;
+    private static final float CONTENT_BOOST = 1.0f;
+
+    private final Directory directory;
+    private final Analyzer analyzer;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    public BoardSearchIndex(Path indexPath, Analyzer analyzer) throws IOException {
+        this.directory = FSDirectory.open(indexPath);
+        this.analyzer = analyzer;
+        IndexWriterConfig config = new IndexWriterConfig(analyzer);
+        config.setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        this.writer = new IndexWriter(directory, config);
+        this.searcherManager = new SearcherManager(writer, new SearcherFactory());
+    }
+
+    /**
+     * 게시글 문서를 추가하거나 같은 ID의 기존 문서를 교체합니다. (검색 반영은 refresh 이후)
+     */
+    public void upsert(Long boardId, String title, String content, Collection<String> hashtags) throws IOException {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, boardId.toString(), Field.Store.YES));
+        document.add(new TextField(FIELD_TITLE, nullToEmpty(title), Field.Store.NO));
+        document.add(new TextField(FIELD_CONTENT, nullToEmpty(content), Field.Store.NO));
+        document.add(new TextField(FIELD_HASHTAGS, String.join(" ", hashtags), Field.Store.NO));
+        writer.updateDocument(new Term(FIELD_ID, boardId.toString()), document);
+    }
+
+    public void delete(Long boardId) throws IOException {
+        writer.deleteDocuments(new Term(FIELD_ID, boardId.toString()));
+    }
+
+    public void deleteAll() throws IOException {
+        writer.deleteAll();
+    }
+
+    /**
+     * 변경 내용을 검색에 반영 (디스크 커밋 없이 near-real-time 반영)
+     */
+    public void refresh() throws IOException {
+        searcherManager.maybeRefresh();
+    }
+
+    /**
+     * 변경 내용을 디스크에 커밋 (재시작 후에도 유지)
+     */
+    public void commit() throws IOException {
+        if (writer.hasUncommittedChanges()) {
+            writer.commit();
+        }
+    }
+
+    public int numDocs() {
+        return writer.getDocStats().numDocs;
+    }
+
+    /**
+     * 검색어를 형태소 분석해 점수 순으로 offset부터 limit개의 게시글 ID를 반환합니다.
+     */
+    public Hits search(String keyword, int offset, int limit) throws IOException {
+        Query query = buildQuery(keyword);
+        if (query == null) {
+            return new Hits(List.of(), 0);
+        }
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            int totalHits = searcher.count(query);
+            if (offset >= totalHits || limit <= 0) {
+                return new Hits(List.of(), totalHits);
+            }
+            TopDocs topDocs = searcher.search(query, offset + limit);
+            StoredFields storedFields = searcher.storedFields();
+            List<Long> boardIds = new ArrayList<>(limit);
+            ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+            for (int i = offset; i < scoreDocs.length; i++) {
+                boardIds.add(Long.valueOf(storedFields.document(scoreDocs[i].doc).get(FIELD_ID)));
+            }
+            return new Hits(boardIds, totalHits);
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    // 형태소마다 (제목^3 OR 해시태그^2 OR 내용) 조건을 만들고 모든 형태소를 AND로 묶음
+    private Query buildQuery(String keyword) throws IOException {
+        Set<String> terms = analyze(keyword);
+        if (terms.isEmpty()) {
+            return null;
+        }
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String term : terms) {
+            BooleanQuery perTerm = new BooleanQuery.Builder()
+                .add(new BoostQuery(new TermQuery(new Term(FIELD_TITLE, term)), TITLE_BOOST), BooleanClause.Occur.SHOULD)
+                .add(new BoostQuery(new TermQuery(new Term(FIELD_HASHTAGS, term)), HASHTAG_BOOST), BooleanClause.Occur.SHOULD)
+                .add(new BoostQuery(new TermQuery(new Term(FIELD_CONTENT, term)), CONTENT_BOOST), BooleanClause.Occur.SHOULD)
+                .build();
+            query.add(perTerm, BooleanClause.Occur.MUST);
+        }
+        return query.build();
+    }
+
+    private Set<String> analyze(String keyword) throws IOException {
+        Set<String> terms = new LinkedHashSet<>();
+        if (keyword == null || keyword.isBlank()) {
+            return terms;
+        }
+        try (TokenStream stream = analyzer.tokenStream(FIELD_CONTENT, keyword)) {
+            CharTermAttribute termAttribute = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(termAttribute.toString());
+            }
+            stream.end();
+        }
+        return terms;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            searcherManager.close();
+            writer.close();
+        } finally {
+            directory.close();
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    /**
+     * 검색 결과 한 페이지의 게시글 ID (점수 순)와 전체 일치 건수
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Hits {
+        private final List<Long> boardIds;
+        private final int totalHits;
+    }
+}
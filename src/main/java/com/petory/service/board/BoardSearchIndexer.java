@@ -0,0 +1,217 @@
+package com.petory.service.board;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.petory.entity.Board;
+import com.petory.entity.BoardHashtag;
+import com.petory.repository.BoardHashtagRepository;
+import com.petory.repository.BoardRepository;
+
+import jakarta.annotation.PreDestroy;
+import kr.co.shineware.nlp.komoran.core.Komoran;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 검색 인덱스를 DB와 동기화합니다.
+ *
+ * - 게시글 생성/수정/삭제(BoardActivityEvent)가 커밋되면 전용 스레드에서 해당 문서만 다시 색인
+ * - 색인 변경은 즉시 검색에 반영되고, 디스크 커밋은 board.search.commit-interval-ms 주기로 모아서 수행
+ * - 인덱스가 비어 있으면 서버 시작 시 DB 전체로 재구축 (관리자 API로도 재구축 가능)
+ */
+@Component
+@Slf4j
+public class BoardSearchIndexer {
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final BoardRepository boardRepository;
+    private final BoardHashtagRepository boardHashtagRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final BoardSearchIndex index;
+    private final ExecutorService writerExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "board-search-indexer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    private volatile long lastRebuildMillis;
+    private volatile int lastRebuildCount;
+
+    public BoardSearchIndexer(BoardRepository boardRepository,
+                              BoardHashtagRepository boardHashtagRepository,
+                              PlatformTransactionManager transactionManager,
+                              Komoran komoran,
+                              @Value("${board.search.index-dir:./data/board-index}") String indexDir) throws IOException {
+        this.boardRepository = boardRepository;
+        this.boardHashtagRepository = boardHashtagRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        Path indexPath = Paths.get(indexDir);
+        Files.createDirectories(indexPath);
+        this.index = new BoardSearchIndex(indexPath, new KomoranAnalyzer(komoran));
+    }
+
+    /**
+     * 검색어로 게시글 ID를 점수 순으로 조회
+     */
+    public BoardSearchIndex.Hits search(String keyword, int offset, int limit) {
+        try {
+            return index.search(keyword, offset, limit);
+        } catch (IOException e) {
+            throw new IllegalStateException("게시글 검색 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (index.numDocs() == 0 && boardRepository.count() > 0) {
+            log.info("게시글 검색 인덱스가 비어 있어 DB로부터 재구축합니다.");
+            rebuildAsync();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBoardActivity(BoardActivityEvent event) {
+        if (event.getType() == BoardActivityEvent.Type.RECOMMENDED) {
+            return; // 추천은 검색 대상 필드를 바꾸지 않음
+        }
+        writerExecutor.execute(() -> reindex(event.getBoardId()));
+    }
+
+    /**
+     * DB 전체로 인덱스를 다시 만듭니다. 이미 재구축 중이면 false를 반환합니다.
+     * 재구축이 끝날 때까지는 기존 인덱스로 검색됩니다.
+     */
+    public boolean rebuildAsync() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        writerExecutor.execute(() -> {
+            try {
+                rebuild();
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+        return true;
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("documentCount", index.numDocs());
+        status.put("rebuilding", rebuilding.get());
+        status.put("lastRebuildCount", lastRebuildCount);
+        status.put("lastRebuildMillis", lastRebuildMillis);
+        return status;
+    }
+
+    @Scheduled(fixedDelayString = "${board.search.commit-interval-ms:30000}")
+    public void commit() {
+        writerExecutor.execute(() -> {
+            try {
+                index.commit();
+            } catch (IOException e) {
+                log.error("게시글 검색 인덱스 커밋 실패", e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        writerExecutor.shutdown();
+        writerExecutor.awaitTermination(30, TimeUnit.SECONDS);
+        try {
+            index.commit();
+            index.close();
+        } catch (IOException e) {
+            log.error("게시글 검색 인덱스 종료 중 오류 발생", e);
+        }
+    }
+
+    private void reindex(Long boardId) {
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                Board board = boardRepository.findById(boardId).orElse(null);
+                try {
+                    if (board == null) {
+                        index.delete(boardId);
+                    } else {
+                        Map<Long, List<BoardHashtag>> hashtags = boardHashtagRepository.findGroupedByPostIds(List.of(boardId));
+                        upsert(board, hashtags.getOrDefault(boardId, List.of()));
+                    }
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            index.refresh();
+        } catch (Exception e) {
+            log.error("게시글 검색 인덱스 갱신 실패: boardId={}", boardId, e);
+        }
+    }
+
+    private void rebuild() {
+        long startMillis = System.currentTimeMillis();
+        try {
+            index.deleteAll();
+            long lastId = 0L;
+            int count = 0;
+            while (true) {
+                long afterId = lastId;
+                List<Board> boards = readOnlyTransaction.execute(status -> indexBatch(afterId));
+                if (boards.isEmpty()) {
+                    break;
+                }
+                count += boards.size();
+                lastId = boards.get(boards.size() - 1).getId();
+            }
+            index.commit();
+            index.refresh();
+            lastRebuildCount = count;
+            lastRebuildMillis = System.currentTimeMillis() - startMillis;
+            log.info("게시글 검색 인덱스 재구축 완료: {}건, {}ms", count, lastRebuildMillis);
+        } catch (Exception e) {
+            log.error("게시글 검색 인덱스 재구축 실패", e);
+        }
+    }
+
+    private List<Board> indexBatch(long afterId) {
+        List<Board> boards = boardRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+        Map<Long, List<BoardHashtag>> hashtagsByPostId = boardHashtagRepository.findGroupedByPostIds(
+            boards.stream().map(Board::getId).toList());
+        try {
+            for (Board board : boards) {
+                upsert(board, hashtagsByPostId.getOrDefault(board.getId(), List.of()));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return boards;
+    }
+
+    private void upsert(Board board, List<BoardHashtag> boardHashtags) throws IOException {
+        index.upsert(board.getId(), board.getTitle(), board.getContent(),
+            boardHashtags.stream().map(bh -> bh.getHashtag().getTagName()).toList());
+    }
+}
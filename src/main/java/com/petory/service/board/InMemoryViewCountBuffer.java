@@ -0,0 +1,81 @@
+package com.petory.service.board;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서버 메모리에 게시글별 LongAdder로 조회수를 모으는 버퍼 (단일 서버용, 기본값)
+ * 인기 게시글에 조회가 몰려도 LongAdder가 내부적으로 셀을 나눠 경합 없이 증가시킵니다.
+ *
+ * drain은 카운터를 맵에서 먼저 떼어낸 뒤 합계를 읽으므로, 그 뒤의 조회는 새 카운터에 쌓입니다.
+ * 떼어내기 직전에 카운터를 받아 간 조회가 늦게 증가시킨 몫은 다음 drain에서 한 번 더 읽어 함께 반영합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "board.view-count.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryViewCountBuffer implements ViewCountBuffer {
+
+    private final ConcurrentHashMap<Long, LongAdder> counters = new ConcurrentHashMap<>();
+    // 지난 drain에서 떼어낸 카운터 (drain 안에서만 접근)
+    private List<Retired> retired = new ArrayList<>();
+
+    @Override
+    public void increment(Long boardId) {
+        counters.computeIfAbsent(boardId, id -> new LongAdder()).increment();
+    }
+
+    @Override
+    public long pending(Long boardId) {
+        LongAdder adder = counters.get(boardId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    @Override
+    public synchronized Map<Long, Long> drain() {
+        Map<Long, Long> drained = new HashMap<>();
+        for (Retired previous : retired) {
+            long late = previous.adder.sum() - previous.counted;
+            if (late > 0) {
+                drained.merge(previous.boardId, late, Long::sum);
+            }
+        }
+        List<Retired> next = new ArrayList<>();
+        for (Long boardId : counters.keySet()) {
+            // 떼어낸 뒤 합계를 읽음 (조회가 없던 게시글도 함께 빠지므로 맵이 계속 커지지 않음)
+            LongAdder adder = counters.remove(boardId);
+            if (adder == null) {
+                continue;
+            }
+            long count = adder.sum();
+            if (count > 0) {
+                drained.merge(boardId, count, Long::sum);
+            }
+            next.add(new Retired(boardId, adder, count));
+        }
+        retired = next;
+        return drained;
+    }
+
+    @Override
+    public void restore(Map<Long, Long> counts) {
+        counts.forEach((boardId, count) -> counters.computeIfAbsent(boardId, id -> new LongAdder()).add(count));
+    }
+
+    private static final class Retired {
+        private final Long boardId;
+        private final LongAdder adder;
+        private final long counted; // 떼어낼 때 이미 반영한 수
+
+        Retired(Long boardId, LongAdder adder, long counted) {
+            this.boardId = boardId;
+            this.adder = adder;
+            this.counted = counted;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.petory.service.board;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.analysis.tokenattributes.OffsetAttribute;
+
+import kr.co.shineware.nlp.komoran.core.Komoran;
+import kr.co.shineware.nlp.komoran.model.Token;
+
+/**
+ * KOMORAN 형태소 분석 결과 중 검색에 의미 있는 형태소(명사, 동사/형용사 어간, 외국어, 숫자 등)만
+ * 토큰으로 내보내는 Lucene Analyzer. 조사/어미가 빠지므로 "산책을", "산책하고"가 모두 "산책"으로 검색됩니다.
+ * Komoran 인스턴스는 모델 로딩 비용이 커서 하나를 공유합니다.
+ */
+public class KomoranAnalyzer extends Analyzer {
+
+    // 색인 대상 품사 (일반/고유/의존 명사, 수사, 동사, 형용사, 어근, 외국어, 한자, 숫자)
+    private static final Set<String> INDEXED_POS = Set.of(
+        "NNG", "NNP", "NR", "VV", "VA", "XR", "SL", "SH", "SN");
+
+    private final Komoran komoran;
+
+    public KomoranAnalyzer(Komoran komoran) {
+        this.komoran = komoran;
+    }
+
+    @Override
+    protected TokenStreamComponents createComponents(String fieldName) {
+        KomoranTokenizer tokenizer = new KomoranTokenizer(komoran);
+        TokenStream stream = new LowerCaseFilter(tokenizer);
+        return new TokenStreamComponents(tokenizer, stream);
+    }
+
+    private static final class KomoranTokenizer extends Tokenizer {
+
+        private final Komoran komoran;
+        private final CharTermAttribute termAttribute = addAttribute(CharTermAttribute.class);
+        private final OffsetAttribute offsetAttribute = addAttribute(OffsetAttribute.class);
+        private Iterator<Token> tokens = Collections.emptyIterator();
+        private int textLength;
+
+        KomoranTokenizer(Komoran komoran) {
+            this.komoran = komoran;
+        }
+
+        @Override
+        public void reset() throws IOException {
+            super.reset();
+            String text = readAll();
+            textLength = text.length();
+            List<Token> tokenList = text.isBlank() ? List.of() : komoran.analyze(text).getTokenList();
+            tokens = tokenList.iterator();
+        }
+
+        @Override
+        public boolean incrementToken() {
+            clearAttributes();
+            while (tokens.hasNext()) {
+                Token token = tokens.next();
+                if (!INDEXED_POS.contains(token.getPos()) || token.getMorph().isEmpty()) {
+                    continue;
+                }
+                int begin = Math.min(token.getBeginIndex(), textLength);
+                int end = Math.min(Math.max(token.getEndIndex(), begin), textLength);
+                termAttribute.setEmpty().append(token.getMorph());
+                offsetAttribute.setOffset(correctOffset(begin), correctOffset(end));
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void end() throws IOException {
+            super.end();
+            int finalOffset = correctOffset(textLength);
+            offsetAttribute.setOffset(finalOffset, finalOffset);
+        }
+
+        @Override
+        public void close() throws IOException {
+            super.close();
+            tokens = Collections.emptyIterator();
+        }
+
+        private String readAll() throws IOException {
+            StringBuilder text = new StringBuilder();
+            char[] buffer = new char[4096];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                text.append(buffer, 0, read);
+            }
+            return text.toString();
+        }
+    }
+}
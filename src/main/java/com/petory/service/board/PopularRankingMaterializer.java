@@ -0,0 +1,265 @@
+package com.petory.service.board;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petory.dto.HashtagDto;
+import com.petory.dto.board.PopularBoardDto;
+import com.petory.entity.Board;
+import com.petory.entity.BoardHashtag;
+import com.petory.repository.BoardHashtagRepository;
+import com.petory.repository.BoardRepository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메인 페이지의 인기 게시글(최근 7일 추천순)과 인기 해시태그(최근 30일 사용 빈도순)를
+ * 주기적으로 미리 계산해 메모리에 보관합니다. 메인 페이지는 DB 집계 없이 이 스냅샷을 읽습니다.
+ *
+ * - 주기적 전체 갱신 (main.popular.refresh-interval-ms)
+ * - 게시글 생성/수정/삭제가 커밋되면 다음 짧은 주기(main.popular.dirty-check-interval-ms)에 갱신
+ * - 이미 순위에 있는 게시글의 추천은 스냅샷에 바로 반영
+ * - 변경 표시는 새 스냅샷을 게시한 뒤에만 지움 (계산 중에 들어온 변경이나 갱신 실패는 다음 짧은 주기에 다시 갱신)
+ * - 조회 결과는 복사본이므로 호출한 쪽에서 바꿔도 스냅샷에는 영향 없음
+ * - main.popular.redis-enabled=true면 스냅샷을 Redis에도 저장하고, 서버 시작 시 먼저 읽어옴
+ */
+@Component
+@Slf4j
+public class PopularRankingMaterializer {
+
+    private static final String REDIS_KEY = "main:popular:snapshot";
+    private static final Comparator<PopularBoardDto> RANKING_ORDER =
+        Comparator.comparingInt(PopularBoardDto::getLikeCount).reversed()
+            .thenComparing(PopularBoardDto::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private final BoardRepository boardRepository;
+    private final BoardHashtagRepository boardHashtagRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @Value("${main.popular.max-posts:50}")
+    private int maxPosts;
+
+    @Value("${main.popular.max-hashtags:10}")
+    private int maxHashtags;
+
+    @Value("${main.popular.redis-enabled:false}")
+    private boolean redisEnabled;
+
+    private volatile Snapshot snapshot;
+    // 게시글 변경 횟수 / 마지막으로 게시한 스냅샷에 반영된 변경 횟수 (다르면 갱신 필요)
+    private final AtomicLong changeCount = new AtomicLong();
+    private volatile long publishedChangeCount;
+    private volatile boolean refreshing;
+
+    public PopularRankingMaterializer(BoardRepository boardRepository,
+                                      BoardHashtagRepository boardHashtagRepository,
+                                      StringRedisTemplate redisTemplate,
+                                      ObjectMapper objectMapper,
+                                      PlatformTransactionManager transactionManager) {
+        this.boardRepository = boardRepository;
+        this.boardHashtagRepository = boardHashtagRepository;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 인기 게시글 상위 limit개. 스냅샷이 없거나 보관 개수보다 많이 요청하면 null을 반환합니다.
+     */
+    public List<PopularBoardDto> getPopularPosts(int limit) {
+        Snapshot current = snapshot;
+        if (current == null || limit > maxPosts) {
+            return null;
+        }
+        return current.getPosts().stream().limit(limit).map(PopularRankingMaterializer::copyOf).toList();
+    }
+
+    /**
+     * 인기 해시태그 목록. 스냅샷이 없으면 null을 반환합니다.
+     */
+    public List<String> getPopularHashtags() {
+        Snapshot current = snapshot;
+        return current == null ? null : List.copyOf(current.getHashtags());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (redisEnabled) {
+            loadFromRedis();
+        }
+        refresh();
+    }
+
+    @Scheduled(initialDelayString = "${main.popular.refresh-interval-ms:300000}",
+               fixedDelayString = "${main.popular.refresh-interval-ms:300000}")
+    public void refresh() {
+        // 계산을 시작하기 전까지의 변경만 이번 스냅샷에 반영된 것으로 봄
+        long seenChangeCount = changeCount.get();
+        long startMillis = System.currentTimeMillis();
+        refreshing = true;
+        try {
+            Snapshot refreshed = readOnlyTransaction.execute(status -> compute());
+            publish(refreshed);
+            publishedChangeCount = seenChangeCount;
+            log.info("인기 순위 스냅샷 갱신 완료: 게시글 {}개, 해시태그 {}개, {}ms",
+                refreshed.getPosts().size(), refreshed.getHashtags().size(), System.currentTimeMillis() - startMillis);
+        } catch (Exception e) {
+            // 다음 짧은 주기에 다시 시도
+            changeCount.incrementAndGet();
+            log.error("인기 순위 스냅샷 갱신 중 오류 발생, 기존 스냅샷을 유지합니다.", e);
+        } finally {
+            refreshing = false;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${main.popular.dirty-check-interval-ms:10000}")
+    public void refreshIfDirty() {
+        if (changeCount.get() != publishedChangeCount) {
+            refresh();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBoardActivity(BoardActivityEvent event) {
+        // 갱신 중이면 계산 중인 새 스냅샷에 추천이 빠졌을 수 있으므로 다시 갱신
+        if (event.getType() == BoardActivityEvent.Type.RECOMMENDED && applyRecommendation(event.getBoardId())
+            && !refreshing) {
+            return;
+        }
+        changeCount.incrementAndGet();
+    }
+
+    // 이미 순위에 있는 게시글의 추천수를 스냅샷에 바로 반영 (순위 밖 게시글이면 false)
+    private boolean applyRecommendation(Long boardId) {
+        synchronized (this) {
+            Snapshot current = snapshot;
+            if (current == null) {
+                return false;
+            }
+            List<PopularBoardDto> posts = new ArrayList<>(current.getPosts().size());
+            boolean found = false;
+            for (PopularBoardDto post : current.getPosts()) {
+                if (post.getId().equals(boardId)) {
+                    post = copyOf(post);
+                    post.setLikeCount(post.getLikeCount() + 1);
+                    found = true;
+                }
+                posts.add(post);
+            }
+            if (!found) {
+                return false;
+            }
+            posts.sort(RANKING_ORDER);
+            snapshot = new Snapshot(List.copyOf(posts), current.getHashtags(), current.getRefreshedAt());
+            return true;
+        }
+    }
+
+    private Snapshot compute() {
+        LocalDateTime weekAgo = LocalDateTime.now().minusWeeks(1);
+        List<Board> boards = boardRepository.findPopularPostsInLastWeek(weekAgo, PageRequest.of(0, maxPosts));
+        Map<Long, List<BoardHashtag>> hashtagsByPostId = boardHashtagRepository.findGroupedByPostIds(
+            boards.stream().map(Board::getId).toList());
+        List<PopularBoardDto> posts = boards.stream()
+            .map(board -> toPopularBoardDto(board, hashtagsByPostId.getOrDefault(board.getId(), List.of())))
+            .toList();
+        List<String> hashtags = List.copyOf(boardRepository.findPopularHashtags(maxHashtags));
+        return new Snapshot(posts, hashtags, LocalDateTime.now());
+    }
+
+    private synchronized void publish(Snapshot refreshed) {
+        snapshot = refreshed;
+        if (redisEnabled) {
+            try {
+                redisTemplate.opsForValue().set(REDIS_KEY, objectMapper.writeValueAsString(refreshed));
+            } catch (Exception e) {
+                log.warn("인기 순위 스냅샷을 Redis에 저장하지 못했습니다.", e);
+            }
+        }
+    }
+
+    private void loadFromRedis() {
+        try {
+            String json = redisTemplate.opsForValue().get(REDIS_KEY);
+            if (json != null) {
+                snapshot = objectMapper.readValue(json, Snapshot.class);
+                log.info("Redis에서 인기 순위 스냅샷을 불러왔습니다: {}", snapshot.getRefreshedAt());
+            }
+        } catch (Exception e) {
+            log.warn("Redis에서 인기 순위 스냅샷을 불러오지 못했습니다.", e);
+        }
+    }
+
+    /**
+     * Board 엔티티를 PopularBoardDto로 변환
+     */
+    public static PopularBoardDto toPopularBoardDto(Board board, List<BoardHashtag> boardHashtags) {
+        return PopularBoardDto.builder()
+            .id(board.getId())
+            .title(board.getTitle())
+            .author(board.getMember().getMember_NickName()) // Member의 닉네임
+            .viewCount(board.getViewCount())
+            .likeCount(board.getLikeCount())
+            .category(board.getBoardKind().toString()) // BoardKind enum 값
+            .createdAt(board.getRegDate()) // BaseTimeEntity의 regDate (실제 필드명)
+            .hashtags(boardHashtags.stream().map(bh -> HashtagDto.fromEntity(bh.getHashtag())).toList())
+            .build();
+    }
+
+    private static PopularBoardDto copyOf(PopularBoardDto post) {
+        return PopularBoardDto.builder()
+            .id(post.getId())
+            .title(post.getTitle())
+            .author(post.getAuthor())
+            .viewCount(post.getViewCount())
+            .likeCount(post.getLikeCount())
+            .category(post.getCategory())
+            .createdAt(post.getCreatedAt())
+            .hashtags(post.getHashtags() == null ? null : post.getHashtags().stream()
+                .map(tag -> HashtagDto.builder()
+                    .tagId(tag.getTagId())
+                    .tagName(tag.getTagName())
+                    .tagCount(tag.getTagCount())
+                    .createdAt(tag.getCreatedAt())
+                    .build())
+                .toList())
+            .build();
+    }
+
+    /**
+     * 미리 계산된 인기 순위 (Redis 저장을 위해 JSON 직렬화 가능)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Snapshot {
+        private List<PopularBoardDto> posts;
+        private List<String> hashtags;
+        private LocalDateTime refreshedAt;
+    }
+}
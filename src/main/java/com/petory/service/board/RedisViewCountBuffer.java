@@ -0,0 +1,64 @@
+package com.petory.service.board;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Redis 해시에 조회수를 모으는 버퍼 (여러 서버에서 같은 카운터를 공유)
+ * drain 시 키를 임시 키로 RENAME 하므로, 여러 서버가 동시에 반영해도 같은 증가분을 두 번 반영하지 않습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "board.view-count.store", havingValue = "redis")
+@RequiredArgsConstructor
+public class RedisViewCountBuffer implements ViewCountBuffer {
+
+    private static final String PENDING_KEY = "board:view-count:pending";
+    private static final String DRAINING_KEY_PREFIX = "board:view-count:draining:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public void increment(Long boardId) {
+        redisTemplate.opsForHash().increment(PENDING_KEY, boardId.toString(), 1);
+    }
+
+    @Override
+    public long pending(Long boardId) {
+        Object value = redisTemplate.opsForHash().get(PENDING_KEY, boardId.toString());
+        return value == null ? 0 : Long.parseLong(value.toString());
+    }
+
+    @Override
+    public Map<Long, Long> drain() {
+        String drainingKey = DRAINING_KEY_PREFIX + UUID.randomUUID();
+        // RENAMENX는 원자적이므로, 이 시점 이후의 증가분은 새 PENDING_KEY에 쌓입니다.
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(PENDING_KEY))
+                || !Boolean.TRUE.equals(redisTemplate.renameIfAbsent(PENDING_KEY, drainingKey))) {
+                return Map.of();
+            }
+        } catch (DataAccessException e) {
+            // 다른 서버가 먼저 가져가서 키가 없어진 경우
+            return Map.of();
+        }
+        Map<Long, Long> drained = new HashMap<>();
+        redisTemplate.opsForHash().entries(drainingKey).forEach((boardId, count) ->
+            drained.put(Long.valueOf(boardId.toString()), Long.valueOf(count.toString())));
+        redisTemplate.delete(drainingKey);
+        return drained;
+    }
+
+    @Override
+    public void restore(Map<Long, Long> counts) {
+        counts.forEach((boardId, count) ->
+            redisTemplate.opsForHash().increment(PENDING_KEY, boardId.toString(), count));
+    }
+}
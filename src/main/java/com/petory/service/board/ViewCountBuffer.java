@@ -0,0 +1,30 @@
+package com.petory.service.board;
+
+import java.util.Map;
+
+/**
+ * 게시글 조회수 증가분을 모아 두었다가 주기적으로 DB에 한 번에 반영하기 위한 버퍼
+ * (board.view-count.store=memory | redis)
+ */
+public interface ViewCountBuffer {
+
+    /**
+     * 조회수 1 증가 (DB에는 아직 반영되지 않음)
+     */
+    void increment(Long boardId);
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수 증가분
+     */
+    long pending(Long boardId);
+
+    /**
+     * 쌓인 증가분을 꺼내고 버퍼를 비웁니다. (게시글 ID → 증가분)
+     */
+    Map<Long, Long> drain();
+
+    /**
+     * DB 반영에 실패한 증가분을 다시 버퍼에 넣습니다.
+     */
+    void restore(Map<Long, Long> counts);
+}
@@ -0,0 +1,51 @@
+package com.petory.service.board;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 버퍼에 모인 조회수 증가분을 주기적으로 하나의 배치 UPDATE로 DB에 반영합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ViewCountFlusher {
+
+    private static final String UPDATE_SQL = "UPDATE board SET view_count = view_count + ? WHERE post_id = ?";
+
+    private final ViewCountBuffer viewCountBuffer;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Scheduled(fixedDelayString = "${board.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        Map<Long, Long> counts = viewCountBuffer.drain();
+        if (counts.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(counts.entrySet());
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, entries, entries.size(), (ps, entry) -> {
+                ps.setLong(1, entry.getValue());
+                ps.setLong(2, entry.getKey());
+            });
+            log.debug("조회수 반영 완료: 게시글 {}건", entries.size());
+        } catch (Exception e) {
+            log.error("조회수 반영 중 오류 발생, 다음 주기에 다시 시도합니다: 게시글 {}건", entries.size(), e);
+            viewCountBuffer.restore(counts);
+        }
+    }
+
+    @PreDestroy
+    private void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,100 @@
+package com.petory.service.chat;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * chat_message ID를 DB에서 구간(hi-lo)으로 받아 와서 메모리에서 매깁니다.
+ *
+ * - chat_message_id_block 행을 UPDATE 한 번으로 blockSize만큼 올리고 그 구간을 이 서버가 사용
+ *   (행 락으로 서버 여러 대가 동시에 받아도 구간이 겹치지 않음)
+ * - 행이 없으면 chat_message의 최대 ID(와 WAL에 남은 최대 ID) 다음부터 시작하도록 만듦
+ * - 서버가 재시작하면 쓰지 않은 구간은 버림 (ID에 빈 번호가 생길 수 있음)
+ * - 구간은 별도 트랜잭션에서 받아 바로 커밋 (메시지 저장 트랜잭션과 무관)
+ */
+@Component
+@Slf4j
+public class ChatMessageIdAllocator {
+
+    private static final long BLOCK_ROW_ID = 1L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate newTransaction;
+    private final ChatMessageWriter chatMessageWriter;
+    private final int blockSize;
+
+    // 이 서버가 받은 구간 [nextId, blockEnd)
+    private long nextId;
+    private long blockEnd;
+
+    public ChatMessageIdAllocator(JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  ChatMessageWriter chatMessageWriter,
+                                  @Value("${chat.message.id-block-size:1000}") int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("chat.message.id-block-size는 1 이상이어야 합니다: " + blockSize);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.chatMessageWriter = chatMessageWriter;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * 다음 메시지 ID (구간을 다 쓰면 DB에서 새 구간을 받음)
+     */
+    public synchronized long nextId() {
+        if (nextId >= blockEnd) {
+            allocateBlock();
+        }
+        return nextId++;
+    }
+
+    /* 첫 호출 때 행이 없으면 만듦 (서버 시작 시점에는 테이블이 아직 없을 수 있어 늦게 만듦) */
+    private void allocateBlock() {
+        Long end = reserve();
+        if (end == null) {
+            createBlockRow();
+            end = reserve();
+            if (end == null) {
+                throw new IllegalStateException("채팅 메시지 ID 구간을 받지 못했습니다.");
+            }
+        }
+        nextId = end - blockSize;
+        blockEnd = end;
+        log.debug("채팅 메시지 ID 구간: [{}, {})", nextId, blockEnd);
+    }
+
+    // 받은 구간의 끝 (행이 없으면 null)
+    private Long reserve() {
+        return newTransaction.execute(status -> {
+            if (jdbcTemplate.update("UPDATE chat_message_id_block SET next_id = next_id + ? WHERE id = ?",
+                    blockSize, BLOCK_ROW_ID) == 0) {
+                return null;
+            }
+            return jdbcTemplate.queryForObject("SELECT next_id FROM chat_message_id_block WHERE id = ?",
+                Long.class, BLOCK_ROW_ID);
+        });
+    }
+
+    private void createBlockRow() {
+        try {
+            newTransaction.executeWithoutResult(status -> {
+                Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM chat_message", Long.class);
+                long start = Math.max(maxId != null ? maxId : 0L, chatMessageWriter.getMaxRecoveredId()) + 1;
+                jdbcTemplate.update("INSERT INTO chat_message_id_block (id, next_id) VALUES (?, ?)", BLOCK_ROW_ID, start);
+                log.info("채팅 메시지 ID 시작값: {}", start);
+            });
+        } catch (DuplicateKeyException e) {
+            // 다른 서버가 먼저 만듦
+        }
+    }
+}
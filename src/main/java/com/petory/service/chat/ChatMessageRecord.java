@@ -0,0 +1,41 @@
+package com.petory.service.chat;
+
+import java.time.LocalDateTime;
+
+import com.petory.dto.ChatMessageDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * ChatMessageSequencer가 ID/전송 시간을 정한 채팅 메시지.
+ * 수신자에게 먼저 전송된 뒤 WAL 파일에 한 줄(JSON)로 기록되고, ChatMessageWriter가 모아서 DB에 저장합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessageRecord {
+
+    private Long id; // chat_message.id (채팅방 안에서는 보낸 순서대로 증가)
+    private Long chatRoomId;
+    private Long senderId;
+    private Long receiverId;
+    private String message;
+    private LocalDateTime sentAt;
+
+    /**
+     * 아직 저장 전이지만 ID가 정해져 있으므로 저장된 메시지와 같은 모양의 DTO
+     */
+    public ChatMessageDto toDto() {
+        return ChatMessageDto.builder()
+            .id(id)
+            .senderId(senderId)
+            .receiverId(receiverId)
+            .message(message)
+            .chatRoomId(chatRoomId)
+            .isRead(false)
+            .sentAt(sentAt)
+            .build();
+    }
+}
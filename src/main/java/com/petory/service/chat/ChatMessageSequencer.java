@@ -0,0 +1,80 @@
+package com.petory.service.chat;
+
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import com.petory.dto.ChatMessageDto;
+
+/**
+ * 채팅 메시지를 DB 저장 전에 수신자에게 먼저 전송합니다. (delivery-first)
+ *
+ * - 채팅방 ID를 해시한 락 안에서 메시지 ID와 전송 시간을 정하고, WAL 기록 → 수신자 전송까지 처리
+ *   (같은 채팅방 메시지는 ID 순서 = 전송 시간 순서 = 수신자가 받는 순서)
+ * - 메시지 ID는 ChatMessageIdAllocator가 DB에서 받아 온 구간에서 매김 (서버 여러 대여도 겹치지 않음,
+ *   서버 간에는 ID 순서가 전송 순서와 다를 수 있음)
+ * - 채팅방 참여자는 ChatRoomCache에서 읽으므로 전송 경로에서 DB를 읽지 않음
+ * - DB 저장은 ChatMessageWriter가 모아서 처리
+ */
+@Component
+public class ChatMessageSequencer {
+
+    private static final int MAX_MESSAGE_LENGTH = 1000; // chat_message.message 컬럼 길이
+
+    private final ChatRoomCache chatRoomCache;
+    private final ChatMessageWriter chatMessageWriter;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatMessageIdAllocator chatMessageIdAllocator;
+    private final Object[] roomLocks;
+
+    public ChatMessageSequencer(ChatRoomCache chatRoomCache,
+                                ChatMessageWriter chatMessageWriter,
+                                SimpMessagingTemplate messagingTemplate,
+                                ChatMessageIdAllocator chatMessageIdAllocator,
+                                @Value("${chat.message.room-lock-stripes:256}") int lockStripes) {
+        this.chatRoomCache = chatRoomCache;
+        this.chatMessageWriter = chatMessageWriter;
+        this.messagingTemplate = messagingTemplate;
+        this.chatMessageIdAllocator = chatMessageIdAllocator;
+        this.roomLocks = new Object[lockStripes];
+        for (int i = 0; i < lockStripes; i++) {
+            roomLocks[i] = new Object();
+        }
+    }
+
+    /**
+     * 메시지에 ID/전송 시간을 정해 수신자에게 전송하고 저장 큐에 넣습니다.
+     * @return 전송한 메시지
+     */
+    public ChatMessageDto send(Long chatRoomId, Long senderId, String message) {
+        if (message == null || message.isBlank()) {
+            throw new IllegalArgumentException("메시지 내용이 없습니다.");
+        }
+        if (message.length() > MAX_MESSAGE_LENGTH) {
+            throw new IllegalArgumentException("메시지는 " + MAX_MESSAGE_LENGTH + "자까지 보낼 수 있습니다.");
+        }
+        ChatRoomCache.CachedRoom room = chatRoomCache.get(chatRoomId)
+            .orElseThrow(() -> new IllegalArgumentException("❗유효하지 않은 채팅방 ID: " + chatRoomId));
+        if (!room.isMember(senderId)) {
+            throw new IllegalArgumentException("채팅방 참여자가 아닙니다.");
+        }
+
+        synchronized (roomLocks[Math.floorMod(chatRoomId.hashCode(), roomLocks.length)]) {
+            LocalDateTime sentAt = LocalDateTime.now();
+            if (room.getLastSentAt() != null && sentAt.isBefore(room.getLastSentAt())) {
+                sentAt = room.getLastSentAt();
+            }
+            room.setLastSentAt(sentAt);
+
+            ChatMessageRecord record = new ChatMessageRecord(chatMessageIdAllocator.nextId(),
+                chatRoomId, senderId, room.getOtherMemberId(senderId), message, sentAt);
+            chatMessageWriter.append(record);
+
+            ChatMessageDto dto = record.toDto();
+            messagingTemplate.convertAndSend("/queue/chat/" + record.getReceiverId(), dto);
+            return dto;
+        }
+    }
+}
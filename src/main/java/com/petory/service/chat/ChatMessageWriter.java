@@ -0,0 +1,386 @@
+package com.petory.service.chat;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petory.dto.ChatUnreadDeltaDto;
+import com.petory.service.ChatUnreadCounterService;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 수신자에게 먼저 전송한 채팅 메시지를 chat_message 테이블에 모아서 저장합니다. (write-behind)
+ *
+ * - 전송 스레드는 WAL 파일에 한 줄 기록하고 큐에 넣기만 함 (WAL 기록 순서 = 큐 순서)
+ * - 백그라운드 스레드가 JDBC 배치 한 번으로 메시지, 채팅방 요약(마지막 메시지, 안 읽은 수), 회원별 안 읽은 수를 함께 저장
+ * - 저장이 끝나면 WAL을 checkpoint하고 수신자에게 헤더 배지용 안 읽은 수 변화를 전송
+ * - 저장에 실패한 배치는 chat.message.write-max-attempts번까지 다시 시도하고, 그래도 실패하면 한 건씩 나눠 저장
+ *   (데이터 오류로 한 건도 저장할 수 없는 메시지는 WAL의 dead-letter 파일로 옮겨 다른 채팅방 저장이 멈추지 않게 함,
+ *   DB 연결 장애 같은 일시적 오류는 계속 다시 시도)
+ * - 서버가 죽으면 다음 시작 때 WAL에서 다시 저장 (at-least-once)
+ * - 다시 저장할 때 이미 들어간 메시지 ID는 건너뛰므로 안 읽은 수가 두 번 늘지 않음
+ */
+@Component
+@Slf4j
+public class ChatMessageWriter {
+
+    private static final String INSERT_MESSAGE_SQL =
+        "INSERT INTO chat_message (id, chat_room_id, sender_id, message, sent_at, is_read) VALUES (?, ?, ?, ?, ?, false)";
+    private static final String UPDATE_LAST_MESSAGE_SQL =
+        "UPDATE chat_room SET last_message_id = ?, last_message = ?, last_message_at = ? " +
+        "WHERE id = ? AND (last_message_id IS NULL OR last_message_id < ?)";
+    // 수신자가 채팅방의 sender_id 쪽인지 receiver_id 쪽인지에 따라 해당 안 읽은 수를 증가
+    private static final String ADD_ROOM_UNREAD_SQL =
+        "UPDATE chat_room SET " +
+        "sender_unread_count = sender_unread_count + CASE WHEN sender_id = ? THEN ? ELSE 0 END, " +
+        "receiver_unread_count = receiver_unread_count + CASE WHEN sender_id = ? THEN 0 ELSE ? END " +
+        "WHERE id = ?";
+    private static final long MAX_RETRY_BACKOFF_MILLIS = 5000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ChatUnreadCounterService chatUnreadCounterService;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatMessageLog messageLog;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final LongAdder deadLettered = new LongAdder();
+
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private final Object appendLock = new Object();
+    // 채팅방별로 큐에 넣은 마지막 메시지 ID / 저장을 마친 마지막 메시지 ID
+    private final Map<Long, Long> enqueuedIds = new ConcurrentHashMap<>();
+    private final Map<Long, Long> persistedIds = new ConcurrentHashMap<>();
+    private final Object persistedMonitor = new Object();
+    private long maxRecoveredId;
+    private Thread worker;
+    private volatile boolean running;
+
+    public ChatMessageWriter(JdbcTemplate jdbcTemplate,
+                             TransactionTemplate transactionTemplate,
+                             ChatUnreadCounterService chatUnreadCounterService,
+                             SimpMessagingTemplate messagingTemplate,
+                             ObjectMapper objectMapper,
+                             @Value("${chat.message.wal-dir:./data/chat-wal}") String walDir,
+                             @Value("${chat.message.wal-segment-bytes:16777216}") long walSegmentBytes,
+                             @Value("${chat.message.wal-fsync:true}") boolean walFsync,
+                             @Value("${chat.message.write-batch-size:500}") int batchSize,
+                             @Value("${chat.message.write-max-attempts:5}") int maxAttempts) throws IOException {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.chatUnreadCounterService = chatUnreadCounterService;
+        this.messagingTemplate = messagingTemplate;
+        this.messageLog = new ChatMessageLog(Paths.get(walDir), objectMapper, walSegmentBytes, walFsync);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @PostConstruct
+    void start() throws IOException {
+        // 지난 실행에서 저장하지 못한 메시지를 먼저 큐에 넣음
+        List<ChatMessageRecord> recovered = messageLog.recover();
+        long sequence = 0;
+        for (ChatMessageRecord record : recovered) {
+            queue.add(new Pending(record, ++sequence));
+            enqueuedIds.merge(record.getChatRoomId(), record.getId(), Math::max);
+            maxRecoveredId = Math.max(maxRecoveredId, record.getId());
+        }
+        if (!recovered.isEmpty()) {
+            log.info("채팅 WAL에서 저장하지 못한 메시지 복구: {}건", recovered.size());
+        }
+
+        running = true;
+        worker = new Thread(this::drainLoop, "chat-message-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException, IOException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+        // 종료 전에 남은 메시지를 모두 저장 (실패해도 WAL에 남아 있으므로 다음 시작 때 저장됨)
+        List<Pending> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        try {
+            if (!remaining.isEmpty()) {
+                flush(remaining);
+            }
+        } catch (Exception e) {
+            log.error("종료 중 채팅 메시지 저장 실패, 다음 시작 때 WAL에서 저장합니다: {}건", remaining.size(), e);
+        } finally {
+            messageLog.close();
+        }
+    }
+
+    /**
+     * 메시지를 WAL에 기록하고 저장 큐에 넣습니다. (채팅방별로 ID 순서대로 호출됨)
+     * WAL에 기록하지 못하면 IllegalStateException
+     */
+    public void append(ChatMessageRecord record) {
+        synchronized (appendLock) {
+            long sequence;
+            try {
+                sequence = messageLog.append(record);
+            } catch (IOException e) {
+                throw new IllegalStateException("채팅 메시지를 기록하지 못했습니다.", e);
+            }
+            enqueuedIds.merge(record.getChatRoomId(), record.getId(), Math::max);
+            queue.add(new Pending(record, sequence));
+        }
+    }
+
+    /**
+     * 해당 채팅방에서 지금까지 보낸 메시지가 모두 DB에 저장될 때까지 기다립니다.
+     * @return 시간 안에 모두 저장되었으면 true
+     */
+    public boolean awaitPersisted(Long chatRoomId, long timeoutMillis) throws InterruptedException {
+        long target = enqueuedIds.getOrDefault(chatRoomId, 0L);
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        synchronized (persistedMonitor) {
+            while (persistedIds.getOrDefault(chatRoomId, 0L) < target) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    return false;
+                }
+                persistedMonitor.wait(remaining);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * WAL에서 복구한 메시지 중 가장 큰 ID (ID 구간 행을 처음 만들 때 이 값 다음부터 시작하도록)
+     */
+    public long getMaxRecoveredId() {
+        return maxRecoveredId;
+    }
+
+    /**
+     * 저장 대기 중인 메시지 수
+     */
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>(messageLog.getStats());
+        stats.put("pendingMessages", queue.size());
+        stats.put("deadLetteredMessages", deadLettered.sum());
+        return stats;
+    }
+
+    private void drainLoop() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, batchSize - 1);
+                flushWithRetry(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                // 저장하지 못한 배치는 종료 처리(stop)에서 저장되도록 큐 앞에 되돌림
+                List<Pending> rest = new ArrayList<>(batch);
+                queue.drainTo(rest);
+                queue.addAll(rest);
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flushWithRetry(List<Pending> batch) throws InterruptedException {
+        long backoffMillis = 100;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                flush(batch);
+                return;
+            } catch (Exception e) {
+                log.error("채팅 메시지 일괄 저장 실패 ({}/{}), {}ms 후 다시 시도합니다: {}건",
+                    attempt, maxAttempts, backoffMillis, batch.size(), e);
+                Thread.sleep(backoffMillis);
+                backoffMillis = Math.min(backoffMillis * 2, MAX_RETRY_BACKOFF_MILLIS);
+            }
+        }
+        // 배치가 계속 실패하면 한 건씩 저장해서 문제가 되는 메시지만 골라냄 (WAL 순서대로 처리하므로 checkpoint도 순서대로)
+        for (Pending pending : batch) {
+            flushSingle(pending);
+        }
+    }
+
+    private void flushSingle(Pending pending) throws InterruptedException {
+        long backoffMillis = 100;
+        while (true) {
+            try {
+                flush(List.of(pending));
+                return;
+            } catch (Exception e) {
+                if (isPoison(e) && deadLetter(pending, e)) {
+                    return;
+                }
+                log.error("채팅 메시지 저장 실패 (일시적 오류), {}ms 후 다시 시도합니다: id={}",
+                    backoffMillis, pending.record.getId(), e);
+                Thread.sleep(backoffMillis);
+                backoffMillis = Math.min(backoffMillis * 2, MAX_RETRY_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    /* 다시 시도해도 같은 결과인 데이터 오류 (FK/제약 조건 위반, 문자셋 오류 등). 연결 장애는 제외 */
+    static boolean isPoison(Exception e) {
+        return e instanceof NonTransientDataAccessException && !(e instanceof DataAccessResourceFailureException);
+    }
+
+    /*
+     * 저장할 수 없는 메시지를 dead-letter 파일로 옮기고 WAL에서는 저장한 것으로 처리
+     * dead-letter 파일에 기록하지 못하면 WAL에 남겨 두고 다시 시도 (false)
+     */
+    private boolean deadLetter(Pending pending, Exception cause) {
+        ChatMessageRecord record = pending.record;
+        try {
+            messageLog.appendDeadLetter(record);
+        } catch (IOException e) {
+            log.error("채팅 메시지 dead-letter 기록 실패: id={}", record.getId(), e);
+            return false;
+        }
+        log.error("저장할 수 없는 채팅 메시지를 dead-letter로 옮깁니다: id={}, chatRoomId={}, senderId={}, error={}",
+            record.getId(), record.getChatRoomId(), record.getSenderId(), cause.getMessage());
+        deadLettered.increment();
+        synchronized (persistedMonitor) {
+            persistedIds.merge(record.getChatRoomId(), record.getId(), Math::max);
+            persistedMonitor.notifyAll();
+        }
+        try {
+            messageLog.checkpoint(pending.sequence);
+        } catch (IOException e) {
+            log.warn("채팅 WAL checkpoint 실패: sequence={}", pending.sequence, e);
+        }
+        return true;
+    }
+
+    private void flush(List<Pending> batch) throws IOException {
+        // 수신자별 증가 후 전체 안 읽은 수 (저장 후 배지 갱신용)
+        Map<Long, Integer> totalUnreadByReceiver = new HashMap<>();
+        List<UnreadDelta> deltas = transactionTemplate.execute(status -> {
+            List<ChatMessageRecord> fresh = excludePersisted(batch);
+            if (fresh.isEmpty()) {
+                return Collections.<UnreadDelta>emptyList();
+            }
+            jdbcTemplate.batchUpdate(INSERT_MESSAGE_SQL, fresh, fresh.size(), (ps, record) -> {
+                ps.setLong(1, record.getId());
+                ps.setLong(2, record.getChatRoomId());
+                ps.setLong(3, record.getSenderId());
+                ps.setString(4, record.getMessage());
+                ps.setTimestamp(5, Timestamp.valueOf(record.getSentAt()));
+            });
+
+            // 채팅방별 배치 내 마지막 메시지
+            Map<Long, ChatMessageRecord> lastByRoom = new LinkedHashMap<>();
+            // 채팅방/수신자별 새 메시지 수
+            Map<List<Long>, UnreadDelta> deltaByRoomReceiver = new LinkedHashMap<>();
+            for (ChatMessageRecord record : fresh) {
+                lastByRoom.merge(record.getChatRoomId(), record, (a, b) -> a.getId() > b.getId() ? a : b);
+                deltaByRoomReceiver.computeIfAbsent(List.of(record.getChatRoomId(), record.getReceiverId()),
+                    key -> new UnreadDelta(record.getChatRoomId(), record.getReceiverId())).count++;
+            }
+            List<ChatMessageRecord> lastMessages = new ArrayList<>(lastByRoom.values());
+            List<UnreadDelta> roomDeltas = new ArrayList<>(deltaByRoomReceiver.values());
+
+            jdbcTemplate.batchUpdate(UPDATE_LAST_MESSAGE_SQL, lastMessages, lastMessages.size(), (ps, record) -> {
+                ps.setLong(1, record.getId());
+                ps.setString(2, record.getMessage());
+                ps.setTimestamp(3, Timestamp.valueOf(record.getSentAt()));
+                ps.setLong(4, record.getChatRoomId());
+                ps.setLong(5, record.getId());
+            });
+            jdbcTemplate.batchUpdate(ADD_ROOM_UNREAD_SQL, roomDeltas, roomDeltas.size(), (ps, delta) -> {
+                ps.setLong(1, delta.receiverId);
+                ps.setInt(2, delta.count);
+                ps.setLong(3, delta.receiverId);
+                ps.setInt(4, delta.count);
+                ps.setLong(5, delta.chatRoomId);
+            });
+
+            Map<Long, Integer> countByReceiver = new LinkedHashMap<>();
+            roomDeltas.forEach(delta -> countByReceiver.merge(delta.receiverId, delta.count, Integer::sum));
+            countByReceiver.forEach((receiverId, count) ->
+                totalUnreadByReceiver.put(receiverId, chatUnreadCounterService.increment(receiverId, count)));
+            return roomDeltas;
+        });
+
+        synchronized (persistedMonitor) {
+            batch.forEach(pending -> persistedIds.merge(pending.record.getChatRoomId(), pending.record.getId(), Math::max));
+            persistedMonitor.notifyAll();
+        }
+        messageLog.checkpoint(batch.get(batch.size() - 1).sequence);
+
+        if (deltas != null) {
+            deltas.forEach(delta -> messagingTemplate.convertAndSend("/queue/chat/" + delta.receiverId,
+                ChatUnreadDeltaDto.of(delta.chatRoomId, delta.count, totalUnreadByReceiver.get(delta.receiverId))));
+        }
+        log.debug("채팅 메시지 일괄 저장 완료: {}건", batch.size());
+    }
+
+    /* WAL에서 다시 저장하는 경우 이미 들어간 메시지는 제외 */
+    private List<ChatMessageRecord> excludePersisted(List<Pending> batch) {
+        String placeholders = String.join(",", Collections.nCopies(batch.size(), "?"));
+        Object[] ids = batch.stream().map(pending -> pending.record.getId()).toArray();
+        Set<Long> existing = new HashSet<>(jdbcTemplate.queryForList(
+            "SELECT id FROM chat_message WHERE id IN (" + placeholders + ")", Long.class, ids));
+        List<ChatMessageRecord> fresh = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            if (!existing.contains(pending.record.getId())) {
+                fresh.add(pending.record);
+            }
+        }
+        return fresh;
+    }
+
+    private static class Pending {
+        private final ChatMessageRecord record;
+        private final long sequence; // WAL 기록 번호
+
+        private Pending(ChatMessageRecord record, long sequence) {
+            this.record = record;
+            this.sequence = sequence;
+        }
+    }
+
+    private static class UnreadDelta {
+        private final Long chatRoomId;
+        private final Long receiverId;
+        private int count;
+
+        private UnreadDelta(Long chatRoomId, Long receiverId) {
+            this.chatRoomId = chatRoomId;
+            this.receiverId = receiverId;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.petory.service.chat;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.petory.entity.ChatRoom;
+import com.petory.repository.ChatRoomRepository;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 메시지 전송 때마다 채팅방을 DB에서 읽지 않도록 채팅방 참여자 정보를 메모리에 둡니다.
+ * 채팅방의 두 참여자는 만들어진 뒤 바뀌지 않으므로 만료 없이 최근에 쓴 순서로 chat.room-cache.max-size개까지만 유지합니다.
+ * (전송 시간 순서를 맞추기 위한 채팅방별 마지막 전송 시간도 함께 둠)
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatRoomCache {
+
+    private final ChatRoomRepository chatRoomRepository;
+
+    @Value("${chat.room-cache.max-size:10000}")
+    private int maxSize;
+
+    private final Map<Long, CachedRoom> rooms = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, CachedRoom> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    /**
+     * 채팅방 정보 조회 (없으면 DB에서 한 번 읽어 보관)
+     */
+    public Optional<CachedRoom> get(Long roomId) {
+        synchronized (rooms) {
+            CachedRoom cached = rooms.get(roomId);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
+        // DB 조회 중에는 다른 채팅방 조회를 막지 않도록 락 밖에서 읽음
+        return chatRoomRepository.findById(roomId).map(this::put);
+    }
+
+    /**
+     * 채팅방을 만들거나 조회한 쪽에서 미리 넣어둠
+     */
+    public CachedRoom put(ChatRoom room) {
+        synchronized (rooms) {
+            return rooms.computeIfAbsent(room.getId(),
+                id -> new CachedRoom(id, room.getSenderId(), room.getReceiverId()));
+        }
+    }
+
+    public int size() {
+        synchronized (rooms) {
+            return rooms.size();
+        }
+    }
+
+    @Getter
+    public static class CachedRoom {
+        private final Long id;
+        private final Long senderId;
+        private final Long receiverId;
+        // 채팅방 안에서 전송 시간이 거꾸로 가지 않도록 마지막 전송 시간 (ChatMessageSequencer의 채팅방 락 안에서만 읽고 씀)
+        private LocalDateTime lastSentAt;
+
+        CachedRoom(Long id, Long senderId, Long receiverId) {
+            this.id = id;
+            this.senderId = senderId;
+            this.receiverId = receiverId;
+        }
+
+        public boolean isMember(Long memberId) {
+            return senderId.equals(memberId) || receiverId.equals(memberId);
+        }
+
+        public Long getOtherMemberId(Long memberId) {
+            return senderId.equals(memberId) ? receiverId : senderId;
+        }
+
+        void setLastSentAt(LocalDateTime lastSentAt) {
+            this.lastSentAt = lastSentAt;
+        }
+    }
+}
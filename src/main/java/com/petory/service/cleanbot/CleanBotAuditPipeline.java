@@ -0,0 +1,159 @@
+package com.petory.service.cleanbot;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.petory.repository.MemberRepository;
+import com.petory.service.NotificationService;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 클린봇 감지 후속 처리(CleanBotLog 저장, 감지 알림 생성)를 작성 트랜잭션 밖에서 처리합니다.
+ * 커밋된 이벤트를 제한된 크기의 큐에 넣고, 백그라운드 스레드가 모아서 한 번의 JDBC 배치로 저장합니다.
+ * 저장은 항상 새 트랜잭션에서 합니다. (큐가 가득 차서 AFTER_COMMIT 리스너에서 바로 저장할 때
+ * 이미 끝난 작성 트랜잭션에 참여하지 않도록)
+ */
+@Component
+@Slf4j
+public class CleanBotAuditPipeline {
+
+    private static final String INSERT_LOG_SQL =
+        "INSERT INTO clean_bot_log (target_id, target_type, detected_word, original_content, order_date, update_date) " +
+        "VALUES (?, ?, ?, ?, ?, ?)";
+    private static final int DETECTED_WORD_MAX_LENGTH = 255;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate newTransaction;
+    private final MemberRepository memberRepository;
+    private final NotificationService notificationService;
+
+    @Value("${cleanbot.audit.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${cleanbot.audit.batch-size:500}")
+    private int batchSize;
+
+    private BlockingQueue<CleanBotDetectedEvent> queue;
+    private Thread worker;
+    private volatile boolean running;
+
+    public CleanBotAuditPipeline(JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 MemberRepository memberRepository,
+                                 NotificationService notificationService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.memberRepository = memberRepository;
+        this.notificationService = notificationService;
+    }
+
+    @PostConstruct
+    private void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        worker = new Thread(this::drainLoop, "cleanbot-audit-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    private void stop() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+        // 종료 전에 남은 이벤트를 모두 저장합니다.
+        List<CleanBotDetectedEvent> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            flush(remaining);
+        }
+    }
+
+    /**
+     * 작성 트랜잭션이 커밋된 뒤에만 큐에 넣습니다. (롤백된 글에 대한 로그/알림이 남지 않도록)
+     * 큐가 가득 차면 호출한 스레드에서 바로 저장하여 이벤트를 잃지 않습니다. (새 트랜잭션)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCleanBotDetected(CleanBotDetectedEvent event) {
+        if (!queue.offer(event)) {
+            log.warn("클린봇 감사 큐가 가득 차서 바로 저장합니다: targetType={}, targetId={}",
+                event.getTargetType(), event.getTargetId());
+            flush(List.of(event));
+        }
+    }
+
+    private void drainLoop() {
+        List<CleanBotDetectedEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("클린봇 감사 배치 처리 중 오류 발생: {}건", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<CleanBotDetectedEvent> batch) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            newTransaction.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(INSERT_LOG_SQL, batch, batch.size(), (ps, event) -> {
+                    ps.setLong(1, event.getTargetId());
+                    ps.setString(2, event.getTargetType());
+                    ps.setString(3, truncate(event.getDetectedWord()));
+                    ps.setString(4, event.getOriginalContent());
+                    ps.setTimestamp(5, now);
+                    ps.setTimestamp(6, now);
+                }));
+            log.info("클린봇 로그 일괄 저장 완료: {}건", batch.size());
+        } catch (Exception e) {
+            log.error("클린봇 로그 일괄 저장 중 오류 발생: {}건", batch.size(), e);
+        }
+
+        List<CleanBotDetectedEvent> notifications = batch.stream()
+            .filter(event -> event.getMemberId() != null)
+            .toList();
+        if (notifications.isEmpty()) {
+            return;
+        }
+        try {
+            newTransaction.executeWithoutResult(status -> notifications.forEach(event ->
+                notificationService.createCleanBotDetectedNotification(
+                    memberRepository.getReferenceById(event.getMemberId()), event.getNotificationContent())));
+        } catch (Exception e) {
+            log.error("클린봇 감지 알림 일괄 생성 중 오류 발생: {}건", notifications.size(), e);
+        }
+    }
+
+    private static String truncate(String value) {
+        if (value == null || value.length() <= DETECTED_WORD_MAX_LENGTH) {
+            return value;
+        }
+        return value.substring(0, DETECTED_WORD_MAX_LENGTH);
+    }
+}
@@ -0,0 +1,20 @@
+package com.petory.service.cleanbot;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 클린봇이 게시글/댓글에서 부적절한 내용을 감지했을 때 발행되는 이벤트
+ * 작성 트랜잭션이 커밋된 뒤 CleanBotAuditPipeline이 로그 저장과 알림 생성을 비동기로 처리합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CleanBotDetectedEvent {
+
+    private final Long targetId;           // 감지된 게시글/댓글 ID
+    private final String targetType;       // "BOARD", "COMMENT", "WALKING_TRAIL_COMMENT"
+    private final String detectedWord;     // 감지된 표현 (여러 개면 쉼표로 구분)
+    private final String originalContent;  // 필터링 전 원본 내용
+    private final Long memberId;           // 알림을 받을 작성자 ID (null이면 알림을 만들지 않음)
+    private final String notificationContent; // 알림에 표시할 내용
+}
@@ -0,0 +1,107 @@
+package com.petory.service.cleanbot;
+
+import java.util.Arrays;
+
+/**
+ * 정규화된 텍스트와, 정규화된 각 문자가 원문의 어느 구간에서 왔는지를 담는 버퍼입니다.
+ * ProfanityNormalizer가 스레드마다 하나씩 재사용하므로, 호출한 메서드 밖으로 넘기지 말고
+ * 필요한 값은 문자열로 복사해서 사용해야 합니다.
+ */
+public final class NormalizedText implements CharSequence {
+
+    private CharSequence original;
+    private char[] chars;
+    private int[] starts;   // 원문 시작 위치 (포함)
+    private int[] ends;     // 원문 끝 위치 (미포함)
+    private int length;
+
+    NormalizedText(int capacity) {
+        this.chars = new char[capacity];
+        this.starts = new int[capacity];
+        this.ends = new int[capacity];
+    }
+
+    void reset(CharSequence original) {
+        this.original = original;
+        this.length = 0;
+        ensureCapacity(original.length());
+    }
+
+    // 원문 참조를 놓음 (크기는 그대로)
+    void clear() {
+        this.original = null;
+        this.length = 0;
+    }
+
+    int capacity() {
+        return chars.length;
+    }
+
+    void append(char c, int originalStart, int originalEnd) {
+        ensureCapacity(length + 1);
+        chars[length] = c;
+        starts[length] = originalStart;
+        ends[length] = originalEnd;
+        length++;
+    }
+
+    void set(int index, char c, int originalStart, int originalEnd) {
+        chars[index] = c;
+        starts[index] = originalStart;
+        ends[index] = originalEnd;
+    }
+
+    void truncate(int newLength) {
+        this.length = newLength;
+    }
+
+    /**
+     * 정규화된 텍스트의 index 위치 문자가 시작되는 원문 위치
+     */
+    public int originalStart(int index) {
+        return starts[index];
+    }
+
+    /**
+     * 정규화된 텍스트의 index 위치 문자가 끝나는 원문 위치 (미포함)
+     */
+    public int originalEnd(int index) {
+        return ends[index];
+    }
+
+    /**
+     * 정규화된 텍스트의 [start, end) 구간에 해당하는 원문 조각
+     */
+    public String originalText(int start, int end) {
+        return original.subSequence(starts[start], ends[end - 1]).toString();
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return chars[index];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return new String(chars, start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        return new String(chars, 0, length);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > chars.length) {
+            int newCapacity = Math.max(capacity, chars.length * 2);
+            chars = Arrays.copyOf(chars, newCapacity);
+            starts = Arrays.copyOf(starts, newCapacity);
+            ends = Arrays.copyOf(ends, newCapacity);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.petory.service.cleanbot;
+
+import java.time.LocalDateTime;
+
+import lombok.Getter;
+
+/**
+ * 한 번 로드된 금지어 사전의 스냅샷 (컴파일된 오토마타와 로드 정보)
+ * version은 파일 내용의 해시이므로 같은 파일을 읽은 서버들은 같은 버전을 가집니다.
+ */
+@Getter
+public final class ProfanityDictionary {
+
+    public static final ProfanityDictionary EMPTY =
+        new ProfanityDictionary(ProfanityMatcher.EMPTY, "empty", null, 0L);
+
+    private final ProfanityMatcher matcher;
+    private final String version;
+    private final LocalDateTime loadedAt;
+    private final long loadDurationMillis;
+
+    public ProfanityDictionary(ProfanityMatcher matcher, String version, LocalDateTime loadedAt,
+                               long loadDurationMillis) {
+        this.matcher = matcher;
+        this.version = version;
+        this.loadedAt = loadedAt;
+        this.loadDurationMillis = loadDurationMillis;
+    }
+
+    public int getWordCount() {
+        return matcher.size();
+    }
+}
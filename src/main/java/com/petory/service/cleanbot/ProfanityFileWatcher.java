@@ -0,0 +1,117 @@
+package com.petory.service.cleanbot;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.petory.service.CleanBotService;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 금지어 파일이 디스크에서 직접 수정되면 사전을 다시 로드합니다.
+ * 공유 스토리지처럼 파일 변경 이벤트가 오지 않는 환경을 위해 주기적으로 내용 해시도 비교하므로,
+ * 같은 파일을 보는 여러 서버는 결국 같은 사전 버전으로 수렴합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProfanityFileWatcher {
+
+    // 편집기가 파일을 여러 번 나눠 쓰는 경우를 한 번의 갱신으로 묶기 위한 대기 시간
+    private static final long DEBOUNCE_MILLIS = 300;
+
+    private final CleanBotService cleanBotService;
+
+    @Value("${profanity.reload.watch-enabled:true}")
+    private boolean watchEnabled;
+
+    private WatchService watchService;
+    private Thread watchThread;
+
+    @PostConstruct
+    private void start() {
+        if (!watchEnabled) {
+            log.info("금지어 파일 감시가 비활성화되어 있습니다.");
+            return;
+        }
+        Path filePath = cleanBotService.getProfanityFilePath().toAbsolutePath();
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            filePath.getParent().register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            log.error("금지어 파일 감시를 시작하지 못했습니다. 주기적 확인으로만 갱신합니다: {}", filePath, e);
+            return;
+        }
+        watchThread = new Thread(() -> watchLoop(filePath.getFileName()), "profanity-file-watcher");
+        watchThread.setDaemon(true);
+        watchThread.start();
+        log.info("금지어 파일 감시 시작: {}", filePath);
+    }
+
+    @PreDestroy
+    private void stop() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    /**
+     * 파일 변경 이벤트를 놓친 경우에 대비해 주기적으로 내용이 바뀌었는지 확인합니다.
+     * (내용 해시가 같으면 다시 컴파일하지 않습니다)
+     */
+    @Scheduled(fixedDelayString = "${profanity.reload.check-interval-ms:60000}")
+    public void reconcile() {
+        cleanBotService.reloadAsync();
+    }
+
+    private void watchLoop(Path fileName) {
+        while (true) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+            boolean changed = false;
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (fileName.equals(event.context())) {
+                    changed = true;
+                }
+            }
+            if (!key.reset()) {
+                log.warn("금지어 파일 디렉토리를 더 이상 감시할 수 없습니다.");
+                return;
+            }
+            if (changed) {
+                try {
+                    // 잠시 기다린 뒤 쌓인 이벤트를 비워서 한 번만 다시 로드합니다.
+                    TimeUnit.MILLISECONDS.sleep(DEBOUNCE_MILLIS);
+                    WatchKey pending;
+                    while ((pending = watchService.poll()) != null) {
+                        pending.pollEvents();
+                        pending.reset();
+                    }
+                } catch (InterruptedException | ClosedWatchServiceException e) {
+                    return;
+                }
+                log.info("금지어 파일 변경 감지, 사전을 다시 로드합니다.");
+                cleanBotService.reloadAsync();
+            }
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.petory.service.cleanbot;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 금지어 사전을 미리 컴파일한 Aho–Corasick 오토마타입니다.
+ * 텍스트를 한 번만 훑어서 사전의 모든 단어를 찾으며, 생성 후에는 변경되지 않으므로
+ * 여러 스레드가 동기화 없이 함께 사용할 수 있습니다.
+ * 대소문자는 구분하지 않습니다 (사전과 텍스트 모두 문자 단위로 소문자 변환).
+ * 숫자로 시작하거나 끝나는 단어는 더 긴 숫자의 일부로는 감지하지 않습니다 ("2018년"의 "18").
+ */
+public final class ProfanityMatcher {
+
+    public static final ProfanityMatcher EMPTY = compile(List.of());
+
+    private static final int NONE = -1;
+
+    private final String[] words;
+
+    // 노드별 자식 전이 (CSR 형식: childStart[n] ~ childStart[n + 1] 구간이 노드 n의 자식, 문자순 정렬)
+    private final int[] childStart;
+    private final char[] childChars;
+    private final int[] childTargets;
+
+    private final int[] fail;       // 실패 링크
+    private final int[] output;     // 이 노드에서 끝나는 단어 인덱스 (없으면 NONE)
+    private final int[] dictLink;   // 실패 링크를 따라가며 만나는, 단어가 끝나는 가장 가까운 노드 (없으면 NONE)
+
+    private ProfanityMatcher(String[] words, int[] childStart, char[] childChars, int[] childTargets,
+                             int[] fail, int[] output, int[] dictLink) {
+        this.words = words;
+        this.childStart = childStart;
+        this.childChars = childChars;
+        this.childTargets = childTargets;
+        this.fail = fail;
+        this.output = output;
+        this.dictLink = dictLink;
+    }
+
+    /**
+     * 금지어 목록으로 오토마타를 생성합니다. 빈 문자열과 중복 단어는 무시합니다.
+     */
+    public static ProfanityMatcher compile(Collection<String> dictionary) {
+        Set<String> distinctWords = new LinkedHashSet<>();
+        for (String word : dictionary) {
+            if (word == null) continue;
+            String lowered = toLowerCase(word.trim());
+            if (!lowered.isEmpty()) {
+                distinctWords.add(lowered);
+            }
+        }
+        String[] words = distinctWords.toArray(new String[0]);
+
+        // 1. 트라이 생성
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<Integer> terminal = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        terminal.add(NONE);
+        for (int w = 0; w < words.length; w++) {
+            int node = 0;
+            for (int i = 0; i < words[w].length(); i++) {
+                char c = words[w].charAt(i);
+                Integer next = trie.get(node).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.get(node).put(c, next);
+                    trie.add(new TreeMap<>());
+                    terminal.add(NONE);
+                }
+                node = next;
+            }
+            terminal.set(node, w);
+        }
+
+        // 2. 자식 전이를 배열로 압축
+        int nodeCount = trie.size();
+        int[] childStart = new int[nodeCount + 1];
+        char[] childChars = new char[nodeCount - 1];
+        int[] childTargets = new int[nodeCount - 1];
+        int[] output = new int[nodeCount];
+        int edge = 0;
+        for (int n = 0; n < nodeCount; n++) {
+            childStart[n] = edge;
+            for (var entry : trie.get(n).entrySet()) {
+                childChars[edge] = entry.getKey();
+                childTargets[edge] = entry.getValue();
+                edge++;
+            }
+            output[n] = terminal.get(n);
+        }
+        childStart[nodeCount] = edge;
+
+        // 3. BFS로 실패 링크와 출력 링크 계산
+        int[] fail = new int[nodeCount];
+        int[] dictLink = new int[nodeCount];
+        Arrays.fill(dictLink, NONE);
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int e = childStart[0]; e < childStart[1]; e++) {
+            fail[childTargets[e]] = 0;
+            queue.add(childTargets[e]);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int e = childStart[node]; e < childStart[node + 1]; e++) {
+                char c = childChars[e];
+                int child = childTargets[e];
+                int f = fail[node];
+                int target;
+                while ((target = findChild(childStart, childChars, childTargets, f, c)) == NONE && f != 0) {
+                    f = fail[f];
+                }
+                fail[child] = target == NONE ? 0 : target;
+                int failNode = fail[child];
+                dictLink[child] = output[failNode] != NONE ? failNode : dictLink[failNode];
+                queue.add(child);
+            }
+        }
+
+        return new ProfanityMatcher(words, childStart, childChars, childTargets, fail, output, dictLink);
+    }
+
+    /**
+     * 텍스트에 금지어가 하나라도 포함되어 있는지 확인합니다. 처음 발견하는 즉시 반환합니다.
+     */
+    public boolean containsAny(CharSequence text) {
+        if (text == null || words.length == 0) return false;
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, Character.toLowerCase(text.charAt(i)));
+            int node = output[state] != NONE ? state : dictLink[state];
+            while (node != NONE) {
+                if (isStandalone(text, i - words[output[node]].length() + 1, i + 1)) {
+                    return true;
+                }
+                node = dictLink[node];
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 텍스트를 한 번 훑어서 포함된 금지어를 모두 찾습니다. (처음 등장한 순서, 중복 제외)
+     */
+    public ProfanityScanResult scan(CharSequence text) {
+        return scan(text, null);
+    }
+
+    /**
+     * 정규화된 텍스트를 검사하고, 감지된 부분을 원문 기준 조각으로도 함께 반환합니다.
+     */
+    public ProfanityScanResult scan(NormalizedText text) {
+        return scan(text, text);
+    }
+
+    private ProfanityScanResult scan(CharSequence text, NormalizedText mapping) {
+        if (text == null || words.length == 0) return ProfanityScanResult.CLEAN;
+        Set<String> matched = null;
+        Set<String> fragments = null;
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, Character.toLowerCase(text.charAt(i)));
+            int node = output[state] != NONE ? state : dictLink[state];
+            while (node != NONE) {
+                String word = words[output[node]];
+                int start = i - word.length() + 1;
+                if (isStandalone(text, start, i + 1)) {
+                    if (matched == null) {
+                        matched = new LinkedHashSet<>();
+                        fragments = new LinkedHashSet<>();
+                    }
+                    matched.add(word);
+                    fragments.add(mapping != null ? mapping.originalText(start, i + 1) : word);
+                }
+                node = dictLink[node];
+            }
+        }
+        return matched == null ? ProfanityScanResult.CLEAN : new ProfanityScanResult(matched, fragments);
+    }
+
+    /**
+     * 사전에 등록된 단어 수
+     */
+    public int size() {
+        return words.length;
+    }
+
+    // [start, end) 구간의 앞뒤가 숫자로 이어지지 않는지 (숫자로 시작/끝나는 단어만 해당)
+    private static boolean isStandalone(CharSequence text, int start, int end) {
+        if (Character.isDigit(text.charAt(start)) && start > 0 && Character.isDigit(text.charAt(start - 1))) {
+            return false;
+        }
+        return !(Character.isDigit(text.charAt(end - 1)) && end < text.length() && Character.isDigit(text.charAt(end)));
+    }
+
+    private int next(int state, char c) {
+        int target;
+        while ((target = findChild(childStart, childChars, childTargets, state, c)) == NONE && state != 0) {
+            state = fail[state];
+        }
+        return target == NONE ? 0 : target;
+    }
+
+    private static int findChild(int[] childStart, char[] childChars, int[] childTargets, int node, char c) {
+        int low = childStart[node];
+        int high = childStart[node + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char midChar = childChars[mid];
+            if (midChar < c) {
+                low = mid + 1;
+            } else if (midChar > c) {
+                high = mid - 1;
+            } else {
+                return childTargets[mid];
+            }
+        }
+        return NONE;
+    }
+
+    private static String toLowerCase(String word) {
+        char[] chars = word.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+}
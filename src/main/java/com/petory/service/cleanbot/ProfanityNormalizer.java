@@ -0,0 +1,273 @@
+package com.petory.service.cleanbot;
+
+import java.text.Normalizer;
+import java.util.function.Function;
+
+/**
+ * 금지어 검사 전에 우회 표기를 정규화합니다.
+ * 1. NFKC 정규화 (전각 문자, 반각 자모, 수학 기호 문자 등)
+ * 2. 소문자 변환과 모양이 비슷한 문자 치환 (키릴/그리스 문자, 기호 대체 표기)
+ *    숫자는 영문 단어 안에 끼어 있을 때만 치환 ("sh1t" → "shit", "2018"은 그대로)
+ * 3. 공백과 기호 제거 (문자와 숫자만 남김)
+ * 4. 흩어진 자모 조합 ("ㅅㅣㅂㅏㄹ" → "시발", "바ㄹ" → "발")
+ *    자모가 연달아 남는 경우("ㅇㅇ", "ㄴㄴ", "ㅋㅋ")는 앞 음절의 받침으로 붙이지 않음 ("그래ㅇㅇ" → "그래ㅇㅇ")
+ *    단어 끝에 홀로 남은 자음은 자모로 풀어 쓴 음절 뒤에서만 붙임 ("ㅂㅏㄹ" → "발", "좋아ㅋ" → "좋아ㅋ")
+ *
+ * 결과는 스레드별로 재사용되는 NormalizedText에 쓰이며, 정규화된 문자마다 원문 위치를 기억하므로
+ * 감지된 부분을 원문 기준으로 보여줄 수 있습니다. 사전 단어도 같은 규칙으로 정규화해야 합니다.
+ * 버퍼가 원문을 붙잡고 있거나 긴 글 때문에 커진 채로 남지 않도록, 결과를 바로 쓰고 버리는 경우에는 apply를 사용합니다.
+ * (MAX_RETAINED_CAPACITY보다 긴 글은 스레드 버퍼를 쓰지 않음)
+ */
+public final class ProfanityNormalizer {
+
+    private static final int INITIAL_CAPACITY = 256;
+    // 스레드 버퍼로 다시 쓰는 최대 크기 (이보다 긴 글은 호출마다 새 버퍼 사용)
+    static final int MAX_RETAINED_CAPACITY = 8192;
+
+    private static final ThreadLocal<NormalizedText> BUFFER =
+        ThreadLocal.withInitial(() -> new NormalizedText(INITIAL_CAPACITY));
+
+    // BMP 문자별 NFKC 결과 캐시 (값이 바뀌지 않는 문자는 UNCHANGED, 아직 계산하지 않은 문자는 null)
+    private static final String UNCHANGED = new String();
+    private static final String[] NFKC_CACHE = new String[Character.MAX_VALUE + 1];
+
+    private static final int HANGUL_BASE = 0xAC00;
+    private static final int HANGUL_LAST = 0xD7A3;
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    // 호환용 자음(ㄱ U+3131 ~ ㅎ U+314E)의 초성/종성 인덱스 (해당 없으면 -1)
+    private static final int[] COMPAT_CHO = {
+        0, 1, -1, 2, -1, -1, 3, 4, 5, -1, -1, -1, -1, -1, -1, -1,
+        6, 7, 8, -1, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18
+    };
+    private static final int[] COMPAT_JONG = {
+        1, 2, 3, 4, 5, 6, 7, -1, 8, 9, 10, 11, 12, 13, 14, 15,
+        16, 17, -1, 18, 19, 20, 21, 22, -1, 23, 24, 25, 26, 27
+    };
+
+    private ProfanityNormalizer() {
+    }
+
+    /**
+     * 텍스트를 정규화합니다. 반환값은 현재 스레드의 버퍼이므로 다음 호출 시 덮어써집니다.
+     */
+    public static NormalizedText normalize(CharSequence text) {
+        NormalizedText out = text.length() > MAX_RETAINED_CAPACITY ? new NormalizedText(text.length()) : BUFFER.get();
+        out.reset(text);
+        appendFolded(text, out);
+        composeJamo(out);
+        return out;
+    }
+
+    /**
+     * 텍스트를 정규화해 action에 넘기고, 끝나면 버퍼를 비웁니다. (원문 참조를 놓고, 커진 버퍼는 버림)
+     */
+    public static <T> T apply(CharSequence text, Function<NormalizedText, T> action) {
+        NormalizedText out = normalize(text);
+        try {
+            return action.apply(out);
+        } finally {
+            out.clear();
+            if (out.capacity() > MAX_RETAINED_CAPACITY) {
+                BUFFER.remove();
+            }
+        }
+    }
+
+    /**
+     * 사전 단어처럼 결과를 보관해야 하는 경우 사용합니다.
+     */
+    public static String normalizeToString(CharSequence text) {
+        return apply(text, NormalizedText::toString);
+    }
+
+    // 1~3단계: NFKC, 소문자/유사 문자 치환, 공백·기호 제거
+    private static void appendFolded(CharSequence text, NormalizedText out) {
+        int i = 0;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            int start = i;
+            if (c < 0x80) {
+                i++;
+                appendIfKept(c >= '0' && c <= '9' && isInsideWord(text, start) ? foldDigit(c) : c, start, i, out);
+            } else if ((c >= HANGUL_BASE && c <= HANGUL_LAST) || (c >= 0x3131 && c <= 0x3163)) {
+                // 완성형 한글과 호환용 자모는 그대로 사용 (NFKC가 자모를 조합용 자모로 바꾸지 않도록)
+                i++;
+                out.append(c, start, i);
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length()
+                && Character.isLowSurrogate(text.charAt(i + 1))) {
+                i += 2;
+                String normalized = Normalizer.normalize(text.subSequence(start, i), Normalizer.Form.NFKC);
+                appendAll(normalized, start, i, out);
+            } else {
+                i++;
+                String normalized = nfkc(c);
+                if (normalized == UNCHANGED) {
+                    appendIfKept(c, start, i, out);
+                } else {
+                    appendAll(normalized, start, i, out);
+                }
+            }
+        }
+    }
+
+    private static void appendAll(String normalized, int start, int end, NormalizedText out) {
+        for (int k = 0; k < normalized.length(); k++) {
+            appendIfKept(normalized.charAt(k), start, end, out);
+        }
+    }
+
+    private static void appendIfKept(char c, int start, int end, NormalizedText out) {
+        char folded = fold(Character.toLowerCase(c));
+        if (Character.isLetterOrDigit(folded)) {
+            out.append(folded, start, end);
+        }
+    }
+
+    // 숫자가 영문자 옆에 있고 다른 숫자와 붙어 있지 않으면 글자를 대신 쓴 것으로 봄 ("sh1t", "5hit")
+    private static boolean isInsideWord(CharSequence text, int index) {
+        char prev = index > 0 ? text.charAt(index - 1) : ' ';
+        char next = index + 1 < text.length() ? text.charAt(index + 1) : ' ';
+        return (isLatinLetter(prev) || isLatinLetter(next)) && !Character.isDigit(prev) && !Character.isDigit(next);
+    }
+
+    private static boolean isLatinLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static char foldDigit(char c) {
+        switch (c) {
+            case '0': return 'o';
+            case '1': return 'i';
+            case '3': return 'e';
+            case '4': return 'a';
+            case '5': return 's';
+            case '7': return 't';
+            default: return c;
+        }
+    }
+
+    private static String nfkc(char c) {
+        String cached = NFKC_CACHE[c];
+        if (cached == null) {
+            String single = String.valueOf(c);
+            String normalized = Normalizer.normalize(single, Normalizer.Form.NFKC);
+            cached = normalized.equals(single) ? UNCHANGED : normalized;
+            NFKC_CACHE[c] = cached;
+        }
+        return cached;
+    }
+
+    // 모양이 비슷한 문자를 라틴 소문자로 치환 (소문자 변환 후 호출, 숫자는 foldDigit에서 따로 처리)
+    private static char fold(char c) {
+        switch (c) {
+            case 'о': case 'ο': return 'o';
+            case 'і': case 'ι': return 'i';
+            case 'е': case 'ε': return 'e';
+            case '@': case 'а': case 'α': return 'a';
+            case '$': case 'ѕ': return 's';
+            case 'т': case 'τ': return 't';
+            case 'р': case 'ρ': return 'p';
+            case 'с': case '©': return 'c';
+            case 'х': case 'χ': return 'x';
+            case 'у': return 'y';
+            case 'к': case 'κ': return 'k';
+            case 'м': return 'm';
+            case 'н': return 'h';
+            case 'в': return 'b';
+            case 'ј': return 'j';
+            case 'ν': return 'v';
+            case 'υ': case 'ᴜ': case 'ц': return 'u';
+            case 'ƒ': return 'f';
+            default: return c;
+        }
+    }
+
+    // 4단계: 초성+중성(+종성) 자모 조합, 받침 없는 음절 뒤에 떨어진 받침 붙이기
+    // 받침 후보 뒤에 모음이 오면 다음 음절의 초성이고, 홀로 남는 자음이 오면 "ㅇㅇ"처럼 자음을 늘어놓은 것이므로 붙이지 않음
+    private static void composeJamo(NormalizedText text) {
+        int length = text.length();
+        int write = 0;
+        int read = 0;
+        while (read < length) {
+            char c = text.charAt(read);
+            int cho = choIndex(c);
+            int jung = read + 1 < length ? jungIndex(text.charAt(read + 1)) : -1;
+            if (cho >= 0 && jung >= 0) {
+                int consumed = 2;
+                int jong = 0;
+                if (read + 2 < length) {
+                    int candidate = jongIndex(text.charAt(read + 2));
+                    if (candidate > 0 && canAttachJong(text, read + 2, true)) {
+                        jong = candidate;
+                        consumed = 3;
+                    }
+                }
+                char syllable = (char) (HANGUL_BASE + (cho * JUNG_COUNT + jung) * JONG_COUNT + jong);
+                text.set(write++, syllable, text.originalStart(read), text.originalEnd(read + consumed - 1));
+                read += consumed;
+            } else if (isSyllableWithoutJong(c) && read + 1 < length) {
+                int jong = jongIndex(text.charAt(read + 1));
+                if (jong > 0 && canAttachJong(text, read + 1, false)) {
+                    text.set(write++, (char) (c + jong), text.originalStart(read), text.originalEnd(read + 1));
+                    read += 2;
+                } else {
+                    text.set(write++, c, text.originalStart(read), text.originalEnd(read));
+                    read++;
+                }
+            } else {
+                text.set(write++, c, text.originalStart(read), text.originalEnd(read));
+                read++;
+            }
+        }
+        text.truncate(write);
+    }
+
+    // index 위치의 자음을 앞 음절 받침으로 붙여도 되는지 (뒤에 모음도, 홀로 남는 자음도 없을 때)
+    // 단어 끝(텍스트 끝 또는 원문에서 공백/기호로 떨어진 자리)이면 앞 음절을 자모로 풀어 쓴 경우(spelledOut)에만 붙임
+    private static boolean canAttachJong(NormalizedText text, int index, boolean spelledOut) {
+        int next = index + 1;
+        if (next >= text.length()) {
+            return spelledOut;
+        }
+        if (jungIndex(text.charAt(next)) >= 0) {
+            return false;
+        }
+        if (text.originalStart(next) > text.originalEnd(index)) {
+            return spelledOut;
+        }
+        return !isLoneConsonant(text, next);
+    }
+
+    // 모음이 뒤따르지 않아 음절을 이루지 못하는 자음
+    private static boolean isLoneConsonant(NormalizedText text, int index) {
+        char c = text.charAt(index);
+        if (choIndex(c) < 0 && jongIndex(c) <= 0) {
+            return false;
+        }
+        return index + 1 >= text.length() || jungIndex(text.charAt(index + 1)) < 0;
+    }
+
+    private static boolean isSyllableWithoutJong(char c) {
+        return c >= HANGUL_BASE && c <= HANGUL_LAST && (c - HANGUL_BASE) % JONG_COUNT == 0;
+    }
+
+    private static int choIndex(char c) {
+        if (c >= 0x3131 && c <= 0x314E) return COMPAT_CHO[c - 0x3131];
+        if (c >= 0x1100 && c <= 0x1112) return c - 0x1100;
+        return -1;
+    }
+
+    private static int jungIndex(char c) {
+        if (c >= 0x314F && c <= 0x3163) return c - 0x314F;
+        if (c >= 0x1161 && c <= 0x1175) return c - 0x1161;
+        return -1;
+    }
+
+    private static int jongIndex(char c) {
+        if (c >= 0x3131 && c <= 0x314E) return COMPAT_JONG[c - 0x3131];
+        if (c >= 0x11A8 && c <= 0x11C2) return c - 0x11A7;
+        return -1;
+    }
+}
@@ -0,0 +1,35 @@
+package com.petory.service.cleanbot;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * 금지어 검사 결과 (감지 여부, 감지된 사전 단어, 원문에서 감지된 부분)
+ */
+public final class ProfanityScanResult {
+
+    public static final ProfanityScanResult CLEAN = new ProfanityScanResult(Set.of(), Set.of());
+
+    private final Set<String> matchedWords;
+    private final Set<String> matchedTexts;
+
+    ProfanityScanResult(Set<String> matchedWords, Set<String> matchedTexts) {
+        this.matchedWords = Collections.unmodifiableSet(matchedWords);
+        this.matchedTexts = Collections.unmodifiableSet(matchedTexts);
+    }
+
+    public boolean isDetected() {
+        return !matchedWords.isEmpty();
+    }
+
+    public Set<String> getMatchedWords() {
+        return matchedWords;
+    }
+
+    /**
+     * 원문에서 감지된 부분 (예: "ㅅ ㅣ ㅂ ㅏ ㄹ"). 정규화 없이 검사한 경우 사전 단어와 같습니다.
+     */
+    public Set<String> getMatchedTexts() {
+        return matchedTexts;
+    }
+}
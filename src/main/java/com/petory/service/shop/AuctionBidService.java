@@ -8,21 +8,25 @@ import com.petory.entity.shop.AuctionItem;
 import com.petory.repository.shop.AuctionBidRepository;
 import com.petory.repository.shop.AuctionItemRepository;
 import com.petory.repository.MemberRepository;
-import com.petory.service.shop.AuctionHistoryService;
-import com.petory.service.shop.AuctionDeliveryService;
+import com.petory.service.auction.AcceptedBid;
+import com.petory.service.auction.AuctionBidSequencer;
+import com.petory.service.auction.AuctionBidsCanceledEvent;
+import com.petory.service.auction.AuctionLeader;
+import com.petory.service.auction.AuctionLeaderBoard;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.Lazy;
-import org.springframework.dao.OptimisticLockingFailureException;
-import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import com.petory.entity.shop.AuctionHistory;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @Service
@@ -32,118 +36,78 @@ public class AuctionBidService {
     private final AuctionBidRepository auctionBidRepository;
     private final AuctionItemRepository auctionItemRepository;
     private final MemberRepository memberRepository;
-    private final AuctionParticipantService auctionParticipantService;
-    private final AuctionHistoryService auctionHistoryService;
-    private final AuctionDeliveryService auctionDeliveryService;
+    private final AuctionBidSequencer auctionBidSequencer;
+    private final AuctionLeaderBoard auctionLeaderBoard;
+    private final ApplicationEventPublisher eventPublisher;
 
-
-    private static final int MAX_RETRY_COUNT = 3;
+    @Value("${auction.bid.timeout-ms:3000}")
+    private long bidTimeoutMillis;
 
     /*
-     * 입찰 처리 (동시성 제어 포함)
-     * 5분 경매 특성상 단순한 마일리지 검증:
-     * 1. 입찰 시 마일리지 잔액 확인
-     * 2. 낙찰 시 실제 마일리지 차감
-     * 3. 짧은 시간이므로 예약 시스템 불필요
+     * 입찰 처리
+     * 경매별 입찰 처리 순서(AuctionBidSequencer)에 넣고 결과를 기다립니다.
+     * 검증(경매 상태, 입찰가 범위, 마일리지 잔액, 현재 최고가)은 메모리 장부에서 도착 순서대로 처리하고,
+     * 입찰 기록과 현재가는 AuctionBidWriter가 모아서 저장합니다. (낙관적 락 재시도 없음)
+     * 5분 경매 특성상 마일리지는 입찰 시 잔액만 확인하고 낙찰 시 실제로 차감합니다.
      */
-    @Transactional
-    public AuctionBid placeBid(Long auctionItemId, Member member, Integer bidAmount) {
+    public AuctionBidDto placeBidAndReturnDto(Long auctionItemId, Member member, Integer bidAmount) {
         log.info("입찰 처리 시작: auctionItemId={}, memberId={}, bidAmount={}",
                 auctionItemId, member.getMemberId(), bidAmount);
 
-        int retryCount = 0;
-        while (retryCount < MAX_RETRY_COUNT) {
-            try {
-                return processBid(auctionItemId, member, bidAmount);
-            } catch (OptimisticLockingFailureException e) {
-                retryCount++;
-                log.warn("동시 입찰 감지 - 재시도 {}: auctionItemId={}, memberId={}, error={}",
-                        retryCount, auctionItemId, member.getMemberId(), e.getMessage());
-
-                if (retryCount >= MAX_RETRY_COUNT) {
-                    throw new IllegalStateException("동시 입찰이 너무 많습니다. 잠시 후 다시 시도해주세요.");
-                }
-
-                // 잠시 대기 후 재시도
-                try {
-                    Thread.sleep(100 * retryCount); // 재시도마다 대기 시간 증가
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                    throw new IllegalStateException("입찰 처리 중 중단되었습니다.");
-                }
+        AcceptedBid accepted;
+        try {
+            accepted = auctionBidSequencer.submitBid(auctionItemId, member, bidAmount)
+                    .get(bidTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
             }
+            throw new IllegalStateException("입찰 처리에 실패했습니다.", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("입찰 처리 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("입찰 처리 중 중단되었습니다.");
         }
 
-        throw new IllegalStateException("입찰 처리에 실패했습니다.");
+        log.info("입찰 완료: auctionItemId={}, sequence={}, currentPrice={}",
+                auctionItemId, accepted.getSequence(), accepted.getBidAmount());
+        return accepted.toDto();
     }
 
-    /* 실제 입찰 처리 로직*/
-    private AuctionBid processBid(Long auctionItemId, Member member, Integer bidAmount) {
-        // 경매 상품 조회 (버전 정보 포함)
-        Optional<AuctionItem> auctionItemOpt = auctionItemRepository.findById(auctionItemId);
-        if (auctionItemOpt.isEmpty()) {
-            throw new IllegalArgumentException("존재하지 않는 경매입니다: " + auctionItemId);
-        }
-
-        AuctionItem auctionItem = auctionItemOpt.get();
-
-        // 경매 상태 확인
-        if (!isAuctionActive(auctionItem)) {
-            throw new IllegalStateException("진행 중인 경매가 아닙니다: " + auctionItemId);
-        }
-
-        // 입찰가 유효성 검사
-        validateBidAmount(auctionItem, bidAmount);
-
-        // 마일리지 잔액 확인 (5분 경매이므로 단순 검증)
-        validateMileageBalance(member, bidAmount);
-
-        // 현재 최고가 확인 (동시성 고려)
-        Optional<Integer> currentHighestBid = getCurrentHighestBid(auctionItem);
-        if (currentHighestBid.isPresent() && bidAmount <= currentHighestBid.get()) {
-            throw new IllegalArgumentException("현재 최고가보다 높은 금액으로 입찰해야 합니다. 현재 최고가: " + currentHighestBid.get() + "P");
-        }
-
-        // 입찰 기록 생성
-        AuctionBid bid = AuctionBid.builder()
-                .auctionItem(auctionItem)
-                .member(member)
-                .bidAmount(bidAmount)
-                .bidTime(LocalDateTime.now())
-                .bidStatus(AuctionBidStatus.SUCCESS) // 반드시 명시적으로 할당
-                .build();
-
-        AuctionBid savedBid = auctionBidRepository.save(bid);
-
-        // 경매 상품 현재 가격 업데이트 (버전 체크 포함)
-        auctionItem.setCurrentPrice(bidAmount);
-        auctionItemRepository.save(auctionItem);
-        log.info("경매 상품 현재 가격 업데이트: auctionItemId={}, newPrice={}, version={}",
-                auctionItem.getId(), bidAmount, auctionItem.getVersion());
-
-        // 참여자 입찰 정보 업데이트
-        auctionParticipantService.updateBidInfo(auctionItem.getId(), member, bidAmount);
-
-        log.info("입찰 완료: bidId={}, currentPrice={}", savedBid.getId(), bidAmount);
+    /*
+     * 입찰 처리 (비동기)
+     * 호출한 스레드를 막지 않고 입찰 처리 순서에 넣기만 합니다. (WebSocket 메시지 처리 스레드용)
+     * 결과는 입찰 처리 스레드에서 완료되며, 시간이 초과되면 TimeoutException으로 완료됩니다.
+     */
+    public CompletableFuture<AuctionBidDto> submitBid(Long auctionItemId, Member member, Integer bidAmount) {
+        return auctionBidSequencer.submitBid(auctionItemId, member, bidAmount)
+                .orTimeout(bidTimeoutMillis, TimeUnit.MILLISECONDS)
+                .thenApply(AcceptedBid::toDto);
+    }
 
-        return savedBid;
+    /*
+     * 종료 시간이 된 경매의 입찰 마감 (경매 종료 처리 전에 호출)
+     * 마감 직전 입찰로 종료 시간이 연장되어 아직 남았으면 마감하지 않고 연장된 종료 시간을 반환합니다.
+     * 마감이나 입찰 저장이 시간 안에 끝나지 않으면 IllegalStateException (종료 처리하지 말고 다시 시도)
+     */
+    public Optional<LocalDateTime> closeBiddingIfDue(Long auctionItemId) {
+        return auctionBidSequencer.closeIfDue(auctionItemId, bidTimeoutMillis);
     }
 
-    /* 입찰 처리 후 DTO 반환 (트랜잭션 안에서 LAZY 필드 접근)*/
-    @Transactional
-    public AuctionBidDto placeBidAndReturnDto(Long auctionItemId, Member member, Integer bidAmount) {
-        AuctionBid bid = placeBid(auctionItemId, member, bidAmount);
-        return convertToDto(bid);
+    /* 현재 최고 입찰 기록 조회 (MAX() 집계 없이 AuctionLeaderBoard에서 조회)*/
+    public Optional<AuctionLeader> getCurrentLeader(Long auctionItemId) {
+        return auctionLeaderBoard.getLeader(auctionItemId);
     }
 
     /* 현재 최고 입찰가 조회*/
     public Optional<Integer> getCurrentHighestBid(AuctionItem auctionItem) {
-        return auctionBidRepository.findMaxBidAmountByAuctionItem(auctionItem);
+        return getCurrentLeader(auctionItem.getId()).map(AuctionLeader::getAmount);
     }
 
     /* 현재 최고 입찰자 조회*/
     public Optional<Member> getCurrentHighestBidder(AuctionItem auctionItem) {
-        return auctionBidRepository.findCurrentWinnerByAuctionItem(auctionItem);
+        return getCurrentLeader(auctionItem.getId()).flatMap(leader -> memberRepository.findById(leader.getMemberId()));
     }
 
     /* 특정 경매의 모든 입찰 내역 조회*/
@@ -166,42 +130,6 @@ public class AuctionBidService {
         return auctionBidRepository.countByAuctionItemAndMember(auctionItem, member);
     }
 
-    /* 입찰가 유효성 검사*/
-    private void validateBidAmount(AuctionItem auctionItem, Integer bidAmount) {
-        // 최소 입찰가 확인 (시작가 + 입찰 단위)
-        Integer minBidAmount = auctionItem.getStartPrice() + (auctionItem.getBidUnit() != null ? auctionItem.getBidUnit() : 100);
-
-        if (bidAmount < minBidAmount) {
-            throw new IllegalArgumentException("최소 입찰가는 " + minBidAmount + "원입니다.");
-        }
-
-        // 최대 입찰가 확인 (시작가의 20배)
-        Integer maxBidAmount = auctionItem.getStartPrice() * 20;
-        if (bidAmount > maxBidAmount) {
-            throw new IllegalArgumentException("최대 입찰가는 " + maxBidAmount + "P입니다.");
-        }
-    }
-
-    /*
-     * 마일리지 잔액 확인
-     */
-    private void validateMileageBalance(Member member, Integer bidAmount) {
-        if (member.getMember_Mileage() < bidAmount) {
-            throw new IllegalArgumentException("마일리지가 부족합니다. 현재 마일리지: " + member.getMember_Mileage() + "P, 필요 마일리지: " + bidAmount + "P");
-        }
-    }
-
-    /*
-     * 경매 활성화 상태 확인
-     */
-    private boolean isAuctionActive(AuctionItem auctionItem) {
-        LocalDateTime now = LocalDateTime.now();
-        return auctionItem.getStartTime().isBefore(now) &&
-               auctionItem.getEndTime().isAfter(now) &&
-               auctionItem.getAuctionStatus().name().equals("ACTIVE");
-    }
-
-
      /* 입찰 정보를 DTO로 변환*/
     public AuctionBidDto convertToDto(AuctionBid bid) {
         if (bid == null) return null;
@@ -223,8 +151,9 @@ public class AuctionBidService {
      * 최고가 입찰인지 확인
      */
     private boolean isHighestBid(AuctionBid bid) {
-        Optional<Integer> maxBid = getCurrentHighestBid(bid.getAuctionItem());
-        return maxBid.map(max -> bid.getBidAmount().equals(max)).orElse(false);
+        return getCurrentLeader(bid.getAuctionItem().getId())
+                .map(leader -> bid.getBidAmount().equals(leader.getAmount()))
+                .orElse(false);
     }
 
 
@@ -236,6 +165,9 @@ public class AuctionBidService {
     public void cancelAllBidsForAuction(Long auctionItemId) {
         log.info("경매 강제 종료 - 모든 입찰 취소: auctionItemId={}", auctionItemId);
 
+        // 입찰 마감 후 처리 중이던 입찰까지 저장된 뒤에 취소 (저장이 끝나지 않으면 예외로 취소하지 않음)
+        auctionBidSequencer.closeAndFlush(auctionItemId, bidTimeoutMillis);
+
         Optional<AuctionItem> auctionItemOpt = auctionItemRepository.findById(auctionItemId);
         if (auctionItemOpt.isEmpty()) {
             throw new IllegalArgumentException("존재하지 않는 경매입니다: " + auctionItemId);
@@ -249,71 +181,8 @@ public class AuctionBidService {
         }
 
         auctionBidRepository.saveAll(bids);
+        // 커밋 후 메모리의 최고 입찰 기록도 지움 (취소된 입찰이 최고 입찰로 남지 않도록)
+        eventPublisher.publishEvent(new AuctionBidsCanceledEvent(auctionItemId));
         log.info("경매 강제 종료 완료: auctionItemId={}, canceledBids={}", auctionItemId, bids.size());
     }
-
-    /*
-     * 경매 종료 시 낙찰자 마일리지 차감 (5분 경매용)
-     */
-    @Transactional
-    public void processAuctionEnd(Long auctionItemId) {
-        log.info("경매 종료 처리: auctionItemId={}", auctionItemId);
-
-        Optional<AuctionItem> auctionItemOpt = auctionItemRepository.findById(auctionItemId);
-        if (auctionItemOpt.isEmpty()) {
-            throw new IllegalArgumentException("존재하지 않는 경매입니다: " + auctionItemId);
-        }
-
-        AuctionItem auctionItem = auctionItemOpt.get();
-
-        // 현재 최고 입찰자 조회
-        Optional<Member> winnerOpt = getCurrentHighestBidder(auctionItem);
-        if (winnerOpt.isEmpty()) {
-            log.info("경매 종료: 입찰자가 없음 - auctionItemId={}", auctionItemId);
-            return;
-        }
-
-        Member winner = winnerOpt.get();
-        Optional<Integer> winningBidOpt = getCurrentHighestBid(auctionItem);
-        if (winningBidOpt.isEmpty()) {
-            log.info("경매 종료: 입찰 기록이 없음 - auctionItemId={}", auctionItemId);
-            return;
-        }
-
-        Integer winningBidAmount = winningBidOpt.get();
-
-        // 낙찰자 마일리지 차감 (5분 경매이므로 단순 처리)
-        if (winner.getMember_Mileage() < winningBidAmount) {
-            log.error("경매 종료 실패: 낙찰자 마일리지 부족 - memberId={}, required={}, available={}",
-                    winner.getMemberId(), winningBidAmount, winner.getMember_Mileage());
-            throw new IllegalStateException("낙찰자의 마일리지가 부족합니다. 낙찰가: " + winningBidAmount + "P, 보유 마일리지: " + winner.getMember_Mileage() + "P");
-        }
-
-        winner.setMember_Mileage(winner.getMember_Mileage() - winningBidAmount);
-        memberRepository.save(winner);
-
-        log.info("경매 종료 완료: auctionItemId={}, winnerId={}, winningBid={}, remainingMileage={}",
-                auctionItemId, winner.getMemberId(), winningBidAmount, winner.getMember_Mileage());
-
-        // === [추가] 모든 참여자에 대해 AuctionHistory 생성 ===
-        List<AuctionBid> allBids = auctionBidRepository.findByAuctionItemOrderByBidTimeDesc(auctionItem);
-        // 중복 없는 참여자 리스트 추출
-        List<Member> participants = allBids.stream()
-            .map(AuctionBid::getMember)
-            .distinct()
-            .toList();
-        for (Member member : participants) {
-            boolean isWinner = member.getMemberId().equals(winner.getMemberId());
-            // 내 최고 입찰가
-            Integer myHighestBid = auctionBidRepository.findMaxBidAmountByAuctionItemAndMember(auctionItem, member).orElse(0);
-            // 최종 낙찰가 (경매의 최고 입찰가)
-            Integer finalPrice = winningBidAmount;
-            AuctionHistory history = auctionHistoryService.createHistory(auctionItem, member, finalPrice, isWinner, isWinner ? com.petory.constant.AuctionWinStatus.WIN : null);
-
-            // 낙찰자인 경우 AuctionDelivery 생성
-            if (isWinner && history != null) {
-                auctionDeliveryService.createDelivery(history, LocalDateTime.now().plusDays(5));
-            }
-        }
-    }
 }
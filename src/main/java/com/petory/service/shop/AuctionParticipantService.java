@@ -8,6 +8,8 @@ import com.petory.entity.shop.AuctionSession;
 import com.petory.repository.shop.AuctionItemRepository;
 import com.petory.repository.shop.AuctionParticipantRepository;
 import com.petory.repository.shop.AuctionBidRepository;
+import com.petory.service.auction.AuctionConnectionLiveness;
+import com.petory.service.auction.AuctionPresenceRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -29,22 +31,30 @@ public class AuctionParticipantService {
     private final AuctionItemRepository auctionItemRepository;
     private final AuctionBidRepository auctionBidRepository;
     private final AuctionSessionService auctionSessionService;
+    private final AuctionPresenceRegistry auctionPresenceRegistry;
+    private final AuctionConnectionLiveness auctionConnectionLiveness;
 
     @Autowired
     public AuctionParticipantService(
             AuctionParticipantRepository auctionParticipantRepository,
             AuctionItemRepository auctionItemRepository,
             AuctionBidRepository auctionBidRepository,
-            @Lazy AuctionSessionService auctionSessionService) {
+            @Lazy AuctionSessionService auctionSessionService,
+            AuctionPresenceRegistry auctionPresenceRegistry,
+            AuctionConnectionLiveness auctionConnectionLiveness) {
         this.auctionParticipantRepository = auctionParticipantRepository;
         this.auctionItemRepository = auctionItemRepository;
         this.auctionBidRepository = auctionBidRepository;
         this.auctionSessionService = auctionSessionService;
+        this.auctionPresenceRegistry = auctionPresenceRegistry;
+        this.auctionConnectionLiveness = auctionConnectionLiveness;
     }
 
-    /* 참여자 입장*/
-    @Transactional
-    public AuctionParticipant joinSession(Long sessionId, Member member, String connectionId) {
+    /*
+     * 참여자 입장
+     * 접속 현황은 AuctionPresenceRegistry(메모리)에서 바로 바뀌고, 참여자 행과 세션 참여자 수는 모아서 저장됩니다.
+     */
+    public AuctionParticipantDto joinSession(Long sessionId, Member member, String connectionId) {
         log.info("참여자 입장: sessionId={}, memberId={}, connectionId={}", sessionId, member.getMemberId(), connectionId);
 
         // 세션 존재 확인
@@ -53,63 +63,55 @@ public class AuctionParticipantService {
             throw new IllegalArgumentException("존재하지 않는 세션입니다: " + sessionId);
         }
 
-        AuctionSession session = sessionOpt.get();
+        return joinSession(sessionOpt.get(), member, connectionId);
+    }
 
-        // 이미 참여 중인지 확인
-        Optional<AuctionParticipant> existingParticipant = auctionParticipantRepository.findBySessionAndMember(session, member);
-        if (existingParticipant.isPresent()) {
-            AuctionParticipant participant = existingParticipant.get();
-            // 연결 ID 업데이트 (새로운 탭에서 접속한 경우)
-            participant.setConnectionId(connectionId);
-            participant.setIsActive(true);
-            participant.setLastActivity(LocalDateTime.now());
-            log.info("기존 참여자 재접속: participantId={}", participant.getId());
-            return auctionParticipantRepository.save(participant);
-        }
+    private AuctionParticipantDto joinSession(AuctionSession session, Member member, String connectionId) {
+        int activeCount = auctionPresenceRegistry.join(session.getId(), member.getMemberId(), connectionId);
+        log.info("참여자 입장 완료: sessionId={}, memberId={}, activeCount={}", session.getId(), member.getMemberId(), activeCount);
 
-        // 새로운 참여자 생성
-        AuctionParticipant participant = AuctionParticipant.builder()
-                .session(session)
-                .member(member)
+        LocalDateTime now = LocalDateTime.now();
+        Long totalBids = auctionBidRepository.countByAuctionItemAndMember(session.getAuctionItem(), member);
+        Integer highestBidAmount = auctionBidRepository.findMaxBidAmountByAuctionItemAndMember(
+            session.getAuctionItem(), member).orElse(0);
+
+        return AuctionParticipantDto.builder()
+                .sessionId(session.getId())
+                .sessionKey(session.getSessionKey())
+                .memberId(member.getMemberId())
+                .memberNickname(member.getMember_NickName())
+                .memberProfileImage(member.getMember_ProfileImg())
                 .connectionId(connectionId)
-                .joinedAt(LocalDateTime.now())
-                .lastActivity(LocalDateTime.now())
+                .joinedAt(now)
+                .lastActivity(now)
                 .isActive(true)
+                .isOnline(true)
+                .totalBids(totalBids.intValue())
+                .highestBidAmount(highestBidAmount)
+                .currentStatus(totalBids > 0 ? "입찰 중" : "관찰 중")
+                .lastBidAmount(highestBidAmount)
+                .totalParticipants(activeCount)
                 .build();
-
-        AuctionParticipant savedParticipant = auctionParticipantRepository.save(participant);
-        log.info("새로운 참여자 입장: participantId={}", savedParticipant.getId());
-
-        // 참여자 수 업데이트
-        long activeCount = auctionParticipantRepository.countBySessionAndIsActiveTrue(session);
-        auctionSessionService.updateParticipantCount(sessionId, (int) activeCount);
-
-        return savedParticipant;
     }
 
     /* 참여자 퇴장*/
-    @Transactional
     public void leaveSession(Long sessionId, Member member) {
         log.info("참여자 퇴장: sessionId={}, memberId={}", sessionId, member.getMemberId());
 
-        Optional<AuctionSession> sessionOpt = auctionSessionService.getSessionById(sessionId);
-        if (sessionOpt.isEmpty()) return;
-
-        AuctionSession session = sessionOpt.get();
-        Optional<AuctionParticipant> participantOpt = auctionParticipantRepository.findBySessionAndMember(session, member);
-        if (participantOpt.isPresent()) {
-            AuctionParticipant participant = participantOpt.get();
-            participant.setIsActive(false);
-            participant.setLastActivity(LocalDateTime.now());
-            auctionParticipantRepository.save(participant);
-            log.info("참여자 퇴장 완료: participantId={}", participant.getId());
-
-            // 참여자 수 업데이트
-            long activeCount = auctionParticipantRepository.countBySessionAndIsActiveTrue(session);
-            auctionSessionService.updateParticipantCount(sessionId, (int) activeCount);
+        if (auctionPresenceRegistry.leave(sessionId, member.getMemberId())) {
+            log.info("참여자 퇴장 완료: sessionId={}, memberId={}", sessionId, member.getMemberId());
         }
     }
 
+    /* 경매 상품 ID로 세션 퇴장 (WebSocket용)*/
+    public void leaveSessionByAuctionItem(Long auctionItemId, Member member) {
+        AuctionItem auctionItem = auctionItemRepository.findById(auctionItemId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 경매입니다: " + auctionItemId));
+
+        auctionSessionService.getSessionByAuctionItem(auctionItem)
+                .ifPresent(session -> leaveSession(session.getId(), member));
+    }
+
     /* 입찰 정보 업데이트 (실시간 계산으로 변경)*/
     @Transactional
     public void updateBidInfo(Long sessionId, Member member, Integer bidAmount) {
@@ -136,12 +138,9 @@ public class AuctionParticipantService {
         return auctionParticipantRepository.findBySessionAndIsActiveTrue(sessionOpt.get());
     }
 
-    /* 활성 참여자 수 조회*/
+    /* 활성 참여자 수 조회 (메모리)*/
     public long getActiveParticipantCount(Long sessionId) {
-        Optional<AuctionSession> sessionOpt = auctionSessionService.getSessionById(sessionId);
-        if (sessionOpt.isEmpty()) return 0;
-
-        return auctionParticipantRepository.countBySessionAndIsActiveTrue(sessionOpt.get());
+        return auctionPresenceRegistry.getActiveCount(sessionId);
     }
 
     /* 연결 ID로 참여자 조회*/
@@ -150,30 +149,13 @@ public class AuctionParticipantService {
     }
 
     /* 연결 ID로 참여자 비활성화 (WebSocket 연결 해제 시)*/
-    @Transactional
     public void deactivateParticipantByConnectionId(String connectionId) {
-        log.info("🔌 WebSocket 연결 해제로 인한 참여자 비활성화: connectionId={}", connectionId);
-        
-        Optional<AuctionParticipant> participantOpt = auctionParticipantRepository.findByConnectionId(connectionId);
-        if (participantOpt.isPresent()) {
-            AuctionParticipant participant = participantOpt.get();
-            participant.setIsActive(false);
-            participant.setLastActivity(LocalDateTime.now());
-            auctionParticipantRepository.save(participant);
-            
-            // 참여자 수 업데이트
-            long activeCount = auctionParticipantRepository.countBySessionAndIsActiveTrue(participant.getSession());
-            auctionSessionService.updateParticipantCount(participant.getSession().getId(), (int) activeCount);
-            
-            log.info("✅ 참여자 비활성화 완료: participantId={}, memberId={}, sessionId={}", 
-                participant.getId(), participant.getMember().getMemberId(), participant.getSession().getId());
-        } else {
-            log.warn("⚠️ 연결 ID에 해당하는 참여자를 찾을 수 없음: connectionId={}", connectionId);
-        }
+        auctionPresenceRegistry.disconnect(connectionId).ifPresent(presence ->
+            log.info("WebSocket 연결 해제로 인한 참여자 연결 정리: connectionId={}, memberId={}, sessionId={}",
+                connectionId, presence.getMemberId(), presence.getSessionId()));
     }
 
     /* 경매 상품 ID로 세션 참여 (WebSocket용)*/
-    @Transactional
     public AuctionParticipantDto joinSessionByAuctionItem(Long auctionItemId, Member member, String connectionId) {
         log.info("경매 상품으로 세션 참여: auctionItemId={}, memberId={}", auctionItemId, member.getMemberId());
 
@@ -187,9 +169,10 @@ public class AuctionParticipantService {
             throw new IllegalArgumentException("경매 세션이 생성되지 않았습니다. 관리자에게 문의해주세요: " + auctionItemId);
         }
 
-        AuctionSession session = sessionOpt.get();
-        AuctionParticipant participant = joinSession(session.getId(), member, connectionId);
-        return convertToDto(participant);
+        AuctionParticipantDto participant = joinSession(sessionOpt.get(), member, connectionId);
+        // WebSocket 연결은 하트비트로 생존 여부를 확인
+        auctionConnectionLiveness.register(connectionId);
+        return participant;
     }
 
     /* 참여자 정보를 DTO로 변환 (실시간 계산)*/
@@ -213,7 +196,7 @@ public class AuctionParticipantService {
                 .joinedAt(participant.getJoinedAt())
                 .lastActivity(participant.getLastActivity())
                 .isActive(participant.getIsActive())
-                .isOnline(participant.getIsActive())
+                .isOnline(auctionPresenceRegistry.isActive(participant.getSession().getId(), participant.getMember().getMemberId()))
                 .totalBids(totalBids.intValue())
                 .highestBidAmount(highestBidAmount)
                 .currentStatus(totalBids > 0 ? "입찰 중" : "관찰 중")
@@ -223,124 +206,38 @@ public class AuctionParticipantService {
                 .build();
     }
     
-    /* 자동 비활성화 - 오래된 활동이 없는 활성 참여자들을 비활성화*/
-    @Transactional
+    /*
+     * 하트비트가 끊긴 연결 즉시 정리 (관리자 수동 실행용)
+     * 평소에는 AuctionConnectionLiveness가 주기적으로 처리하고, 바뀐 상태는 한 번의 일괄 저장으로 반영됩니다.
+     */
     public void deactivateInactiveParticipants() {
-        log.info("🔄 자동 비활성화 시작...");
-        
-        // 5분 이상 활동이 없는 참여자들을 비활성화
-        LocalDateTime cutoffTime = LocalDateTime.now().minusMinutes(5);
-        List<AuctionParticipant> inactiveParticipants = auctionParticipantRepository
-            .findByIsActiveTrueAndLastActivityBefore(cutoffTime);
-        
-        log.info("⏰ 비활성화 대상: {}명", inactiveParticipants.size());
-        
-        for (AuctionParticipant participant : inactiveParticipants) {
-            try {
-                participant.setIsActive(false);
-                auctionParticipantRepository.save(participant);
-                
-                // 참여자 수 업데이트
-                long activeCount = auctionParticipantRepository.countBySessionAndIsActiveTrue(participant.getSession());
-                auctionSessionService.updateParticipantCount(participant.getSession().getId(), (int) activeCount);
-                
-                log.info("✅ 참여자 비활성화 완료: participantId={}, memberId={}, sessionId={}", 
-                    participant.getId(), participant.getMember().getMemberId(), participant.getSession().getId());
-                
-            } catch (Exception e) {
-                log.error("❌ 참여자 비활성화 실패: participantId={}, error={}", 
-                    participant.getId(), e.getMessage());
-            }
-        }
-        
-        log.info("✅ 자동 비활성화 완료: {}명 처리됨", inactiveParticipants.size());
+        int expired = auctionConnectionLiveness.sweep();
+        auctionPresenceRegistry.flush();
+        log.info("하트비트가 끊긴 경매 연결 정리 완료: {}개", expired);
     }
-    
-    /* 특정 세션의 비활성화된 참여자들 정리*/
+
+    /* 특정 세션의 비활성화된 참여자들 정리 (DELETE 한 번)*/
     @Transactional
     public void cleanupInactiveParticipantsForSession(Long sessionId) {
-        log.info("🧹 세션 비활성 참여자 정리 시작: sessionId={}", sessionId);
-        
-        Optional<AuctionSession> sessionOpt = auctionSessionService.getSessionById(sessionId);
-        if (sessionOpt.isEmpty()) {
-            log.warn("⚠️ 존재하지 않는 세션: sessionId={}", sessionId);
-            return;
-        }
-        
-        AuctionSession session = sessionOpt.get();
-        List<AuctionParticipant> inactiveParticipants = auctionParticipantRepository
-            .findBySessionAndIsActiveFalse(session);
-        
-        log.info("🗑️ 정리 대상: {}명", inactiveParticipants.size());
-        
-        for (AuctionParticipant participant : inactiveParticipants) {
-            try {
-                auctionParticipantRepository.delete(participant);
-                log.info("✅ 비활성 참여자 삭제: participantId={}", participant.getId());
-            } catch (Exception e) {
-                log.error("❌ 비활성 참여자 삭제 실패: participantId={}, error={}", 
-                    participant.getId(), e.getMessage());
-            }
-        }
-        
-        log.info("✅ 세션 비활성 참여자 정리 완료: {}명 삭제됨", inactiveParticipants.size());
+        int deletedCount = auctionParticipantRepository.deleteInactiveBySessionId(sessionId);
+        log.info("세션 비활성 참여자 정리 완료: sessionId={}, {}명 삭제됨", sessionId, deletedCount);
     }
 
     // ========== 스케줄러 메서드들 ==========
-    
-    /* 1분마다 실행 - 비활성 참여자 자동 비활성화 */
-    @Scheduled(fixedRate = 60000) // 1분 = 60초 = 60000ms
-    public void scheduledDeactivateInactiveParticipants() {
-        try {
-            LocalDateTime cutoffTime = LocalDateTime.now().minusMinutes(3); // 5분 → 3분으로 변경
-            
-            List<AuctionParticipant> inactiveParticipants = 
-                auctionParticipantRepository.findByLastActivityBefore(cutoffTime);
-            
-            for (AuctionParticipant participant : inactiveParticipants) {
-                if (participant.getIsActive()) {
-                    participant.setIsActive(false);
-                    auctionParticipantRepository.save(participant);
-                    log.info("비활성 참여자 자동 비활성화: participantId={}, memberId={}", 
-                        participant.getId(), participant.getMember().getMemberId());
-                }
-            }
-        } catch (Exception e) {
-            log.error("자동 비활성화 처리 중 오류 발생", e);
-        }
-    }
-    
-    /* 매일 새벽 1시에 실행 - 모든 비활성 참여자 정리 */
+    // 참여자 비활성화는 하트비트 기반(AuctionConnectionLiveness)으로 처리하므로 여기서는 오래된 행 정리만 합니다.
+
+    /* 매일 새벽 1시에 실행 - 모든 비활성 참여자 정리 (DELETE 한 번) */
     @Scheduled(cron = "0 0 1 * * ?") // 매일 새벽 1시
+    @Transactional
     public void scheduledCleanupAllInactiveParticipants() {
         try {
-            log.info("🌅 일일 비활성 참여자 정리 시작...");
-            
-            // 모든 세션의 비활성 참여자 조회
-            List<AuctionParticipant> allInactiveParticipants = auctionParticipantRepository
-                .findByIsActiveFalse();
-            
-            log.info("🗑️ 전체 정리 대상: {}명", allInactiveParticipants.size());
-            
-            int deletedCount = 0;
-            for (AuctionParticipant participant : allInactiveParticipants) {
-                try {
-                    auctionParticipantRepository.delete(participant);
-                    deletedCount++;
-                    log.debug("✅ 비활성 참여자 삭제: participantId={}", participant.getId());
-                } catch (Exception e) {
-                    log.error("❌ 비활성 참여자 삭제 실패: participantId={}, error={}", 
-                        participant.getId(), e.getMessage());
-                }
-            }
-            
-            log.info("✅ 일일 비활성 참여자 정리 완료: {}명 삭제됨", deletedCount);
-            
+            int deletedCount = auctionParticipantRepository.deleteAllInactive();
+            log.info("일일 비활성 참여자 정리 완료: {}명 삭제됨", deletedCount);
         } catch (Exception e) {
-            log.error("❌ 스케줄러 일일 정리 실패: {}", e.getMessage(), e);
+            log.error("스케줄러 일일 정리 실패: {}", e.getMessage(), e);
         }
     }
-    
+
     /* 긴급 상황용 - 특정 세션의 비활성 참여자 즉시 정리 */
     @Transactional
     public void emergencyCleanupSession(Long sessionId) {
@@ -6,10 +6,11 @@ import com.petory.entity.shop.AuctionItem;
 import com.petory.entity.shop.Item;
 import com.petory.entity.Member;
 import com.petory.repository.shop.AuctionItemRepository;
-import com.petory.repository.shop.AuctionBidRepository;
 import com.petory.repository.shop.ItemRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import com.petory.constant.AuctionStatus;
 import com.petory.service.shop.AuctionSessionService;
@@ -20,6 +21,8 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 import com.petory.service.shop.AuctionParticipantService;
+import com.petory.service.auction.AuctionBidSequencer;
+import com.petory.service.auction.AuctionScheduleChangedEvent;
 
 @Slf4j
 @Service
@@ -27,11 +30,15 @@ import com.petory.service.shop.AuctionParticipantService;
 public class AuctionService {
 
   private final AuctionItemRepository auctionItemRepository;
-  private final AuctionBidRepository auctionBidRepository;
   private final ItemRepository itemRepository;
   private final AuctionSessionService auctionSessionService;
   private final AuctionBidService auctionBidService;
   private final AuctionParticipantService auctionParticipantService;
+  private final ApplicationEventPublisher eventPublisher;
+  private final AuctionBidSequencer auctionBidSequencer;
+
+  @Value("${auction.bid.timeout-ms:3000}")
+  private long bidTimeoutMillis;
 
   @Transactional
   public Long saveAuctionItem(AuctionItemDto auctionItemDto) { //경매상품등록
@@ -47,10 +54,14 @@ public class AuctionService {
       .endTime(auctionItemDto.getEnd_time())
       .bidUnit(auctionItemDto.getBid_unit())
       .auctionDescription(auctionItemDto.getAuction_description())
+      .softCloseSeconds(auctionItemDto.getSoft_close_seconds())
+      .softCloseExtendSeconds(auctionItemDto.getSoft_close_extend_seconds())
       .auctionStatus(AuctionStatus.SCHEDULED) // 무조건 예정으로 세팅
       .build();
 
     auctionItemRepository.save(auctionItem);
+    // 커밋 후 경매 수명주기 타이머에 시작/종료 예약
+    eventPublisher.publishEvent(new AuctionScheduleChangedEvent(auctionItem.getId()));
     return auctionItem.getId();
   }
 
@@ -64,8 +75,11 @@ public class AuctionService {
     auctionItem.setEndTime(auctionItemDto.getEnd_time());
     auctionItem.setBidUnit(auctionItemDto.getBid_unit());
     auctionItem.setAuctionDescription(auctionItemDto.getAuction_description());
+    auctionItem.setSoftCloseSeconds(auctionItemDto.getSoft_close_seconds());
+    auctionItem.setSoftCloseExtendSeconds(auctionItemDto.getSoft_close_extend_seconds());
     // 필요시 상태 등 추가 필드 업데이트
     // JPA 변경감지로 자동 반영
+    eventPublisher.publishEvent(new AuctionScheduleChangedEvent(auctionItemId));
   }
 
   @Transactional
@@ -79,6 +93,7 @@ public class AuctionService {
 
     // 세션 즉시 생성 (강제 시작이므로 ACTIVE로)
     auctionSessionService.createSession(auctionItem, true);
+    eventPublisher.publishEvent(new AuctionScheduleChangedEvent(auctionItemId));
   }
 
   @Transactional
@@ -90,6 +105,7 @@ public class AuctionService {
     auctionItem.setEndTime(LocalDateTime.now());
     auctionItem.setAuctionStatus(AuctionStatus.ENDED);
     auctionItemRepository.save(auctionItem);
+    eventPublisher.publishEvent(new AuctionScheduleChangedEvent(auctionItemId));
 
     // 모든 입찰을 CANCELED 상태로 변경 (유찰 처리)
     auctionBidService.cancelAllBidsForAuction(auctionItemId);
@@ -112,7 +128,10 @@ public class AuctionService {
 
   @Transactional
   public void deleteAuctionItem(Long auctionItemId) {
+    // 처리 중이던 입찰을 먼저 마감/저장 (삭제 뒤에 저장되면 FK 위반으로 입찰 저장이 막힘, 저장이 끝나지 않으면 예외로 삭제하지 않음)
+    auctionBidSequencer.closeAndFlush(auctionItemId, bidTimeoutMillis);
     auctionItemRepository.deleteById(auctionItemId);
+    eventPublisher.publishEvent(new AuctionScheduleChangedEvent(auctionItemId));
   }
 
   public List<AuctionItemResponseDto> getAuctionList() { //경매 상품 목록 조회
@@ -132,12 +151,12 @@ public class AuctionService {
 
   /* AuctionItem을 AuctionItemResponseDto로 변환하는 헬퍼 메서드*/
   private AuctionItemResponseDto convertToAuctionItemResponseDto(AuctionItem auctionItem) {
-    // 현재 최고 입찰가 조회
-    Integer currentPrice = auctionBidRepository.findMaxBidAmountByAuctionItem(auctionItem)
+    // 현재 최고 입찰가 조회 (최고 입찰 기록에서 조회)
+    Integer currentPrice = auctionBidService.getCurrentHighestBid(auctionItem)
         .orElse(auctionItem.getStartPrice());
 
     // 현재 최고 입찰자 조회
-    Member currentWinner = auctionBidRepository.findCurrentWinnerByAuctionItem(auctionItem)
+    Member currentWinner = auctionBidService.getCurrentHighestBidder(auctionItem)
         .orElse(null);
 
     // 썸네일 URL 처리
@@ -162,6 +181,8 @@ public class AuctionService {
       .bid_unit(auctionItem.getBidUnit())
       .auction_status(auctionItem.getAuctionStatus())
       .auction_description(auctionItem.getAuctionDescription())
+      .soft_close_seconds(auctionItem.getSoftCloseSeconds())
+      .soft_close_extend_seconds(auctionItem.getSoftCloseExtendSeconds())
       .currentWinnerName(currentWinner != null ? currentWinner.getMember_NickName() : null)
       .currentWinnerId(currentWinner != null ? currentWinner.getMemberId() : null)
       .build();
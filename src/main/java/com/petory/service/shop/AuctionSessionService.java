@@ -11,9 +11,11 @@ import com.petory.repository.shop.AuctionItemRepository;
 import com.petory.repository.shop.AuctionParticipantRepository;
 import com.petory.repository.shop.AuctionSessionRepository;
 import com.petory.service.NotificationService;
+import com.petory.service.auction.AuctionEndedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
@@ -34,6 +36,7 @@ public class AuctionSessionService {
     private final AuctionBidService auctionBidService;
     private final SimpMessagingTemplate messagingTemplate;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public AuctionSessionService(
@@ -42,13 +45,15 @@ public class AuctionSessionService {
             AuctionParticipantRepository auctionParticipantRepository,
             @Lazy AuctionBidService auctionBidService,
             SimpMessagingTemplate messagingTemplate,
-            NotificationService notificationService) {
+            NotificationService notificationService,
+            ApplicationEventPublisher eventPublisher) {
         this.auctionSessionRepository = auctionSessionRepository;
         this.auctionItemRepository = auctionItemRepository;
         this.auctionParticipantRepository = auctionParticipantRepository;
         this.auctionBidService = auctionBidService;
         this.messagingTemplate = messagingTemplate;
         this.notificationService = notificationService;
+        this.eventPublisher = eventPublisher;
     }
 
 
@@ -242,15 +247,18 @@ public class AuctionSessionService {
         }
     }
 
-    /* 앞으로 5분 이내에 시작되는 경매가 있는지 확인하고 세션 자동 생성 (스케줄러)*/
-    @org.springframework.scheduling.annotation.Scheduled(cron = "0 * * * * *") // 1분마다 실행
+    /*
+     * 놓친 경매 세션 생성/시작/종료 보정 (스케줄러)
+     * 정시 처리는 AuctionLifecycleTimer가 담당하고, 여기서는 타이머가 놓친 경매(서버 재시작, 처리 실패 등)만 잡습니다.
+     */
+    @org.springframework.scheduling.annotation.Scheduled(cron = "${auction.lifecycle.reconcile-cron:0 */5 * * * *}")
     @Transactional
     public void createSessionsForScheduledAuctions() {
         try {
             LocalDateTime now = LocalDateTime.now();
             LocalDateTime fiveMinutesFromNow = now.plusMinutes(5);
 
-            log.info("🔄 === 경매 세션 스케줄러 실행 시작: {} ===", now);
+            log.debug("🔄 === 경매 세션 보정 스케줄러 실행 시작: {} ===", now);
 
             // 1단계: 세션 생성
             createSessionsForUpcomingAuctions(now, fiveMinutesFromNow);
@@ -261,44 +269,74 @@ public class AuctionSessionService {
             // 3단계: 경매 종료
             endExpiredAuctions(now);
 
-            log.info("✅ === 경매 세션 스케줄러 실행 완료 ===");
+            log.debug("✅ === 경매 세션 보정 스케줄러 실행 완료 ===");
 
         } catch (Exception e) {
             log.error("❌ 경매 세션 스케줄러 실행 중 예상치 못한 오류 발생", e);
         }
     }
 
-    /* 1단계: 세션이 없는 SCHEDULED 상태의 경매들의 세션 생성*/
+    /* 경매 시작 5분 전 세션 미리 생성 (AuctionLifecycleTimer에서 호출)*/
     @Transactional
-    protected void createSessionsForUpcomingAuctions(LocalDateTime now, LocalDateTime fiveMinutesFromNow) {
-        try {
-            // 1. 앞으로 5분 이내에 시작할 경매들
-            List<AuctionItem> upcomingItems = auctionItemRepository
-                .findByStartTimeBetweenAndAuctionStatus(now, fiveMinutesFromNow, AuctionStatus.SCHEDULED);
+    public void openSessionIfDue(Long auctionItemId) {
+        auctionItemRepository.findById(auctionItemId)
+            .filter(item -> item.getAuctionStatus() == AuctionStatus.SCHEDULED)
+            .filter(item -> !auctionSessionRepository.existsByAuctionItemId(item.getId()))
+            .ifPresent(item -> {
+                createSession(item, false);
+                log.info("✅ 세션 생성 완료: auctionItemId={}, startTime={}", item.getId(), item.getStartTime());
+            });
+    }
 
-            // 2. 시작 시간이 지났지만 아직 세션이 없는 경매들
-            List<AuctionItem> overdueItems = auctionItemRepository
-                .findByStartTimeBeforeAndAuctionStatus(now, AuctionStatus.SCHEDULED);
+    /* 시작 시간이 된 경매 시작 (AuctionLifecycleTimer에서 호출, 세션이 없으면 ACTIVE로 생성)*/
+    @Transactional
+    public void startAuctionIfDue(Long auctionItemId) {
+        LocalDateTime now = LocalDateTime.now();
+        auctionItemRepository.findById(auctionItemId)
+            .filter(item -> item.getAuctionStatus() == AuctionStatus.SCHEDULED)
+            .filter(item -> !item.getStartTime().isAfter(now))
+            .ifPresent(item -> {
+                AuctionSession session = createSession(item, true);
+                item.setAuctionStatus(AuctionStatus.ACTIVE);
+                auctionItemRepository.save(item);
+                log.info("✅ 경매 시작: sessionId={}, auctionItemId={}", session.getId(), item.getId());
+            });
+    }
 
-            // 세션이 없는 것들만 필터링
-            List<AuctionItem> itemsToCreateSession = new ArrayList<>();
+    /*
+     * 종료 시간이 된 경매 종료 (AuctionLifecycleTimer에서 호출)
+     * 입찰 장부에서 먼저 마감하고, 마감 직전 입찰로 종료 시간이 연장되었으면 종료하지 않습니다.
+     * 마감이나 입찰 저장이 끝나지 않았으면 IllegalStateException으로 종료하지 않습니다. (타이머가 다시 시도)
+     * @return 연장되어 아직 종료하지 않은 경우 연장된 종료 시간 (종료했거나 처리할 것이 없으면 empty)
+     */
+    @Transactional
+    public Optional<LocalDateTime> endAuctionIfDue(Long auctionItemId) {
+        // 세션을 읽기 전에 마감해야 연장된 종료 시간이 저장된 뒤의 상태를 읽음
+        Optional<LocalDateTime> extendedEndTime = auctionBidService.closeBiddingIfDue(auctionItemId);
+        if (extendedEndTime.isPresent()) {
+            log.info("⏳ 마감 연장으로 경매 종료 보류: auctionItemId={}, endTime={}", auctionItemId, extendedEndTime.get());
+            return extendedEndTime;
+        }
 
-            // upcomingItems에서 세션이 없는 것들 추가
-            for (AuctionItem item : upcomingItems) {
-                if (!auctionSessionRepository.existsByAuctionItemId(item.getId())) {
-                    itemsToCreateSession.add(item);
-                }
-            }
+        LocalDateTime now = LocalDateTime.now();
+        auctionSessionRepository.findByAuctionItemId(auctionItemId)
+            .filter(session -> session.getStatus() == AuctionSessionStatus.ACTIVE)
+            .filter(session -> !session.getEndTime().isAfter(now))
+            .ifPresent(session -> endSingleAuction(session, now));
+        return Optional.empty();
+    }
 
-            // overdueItems에서 세션이 없는 것들 추가
-            for (AuctionItem item : overdueItems) {
-                if (!auctionSessionRepository.existsByAuctionItemId(item.getId())) {
-                    itemsToCreateSession.add(item);
-                }
-            }
+    /* 1단계: 세션이 없는 SCHEDULED 상태의 경매들의 세션 생성*/
+    @Transactional
+    protected void createSessionsForUpcomingAuctions(LocalDateTime now, LocalDateTime fiveMinutesFromNow) {
+        try {
+            // 앞으로 5분 이내에 시작하거나 시작 시간이 지났지만 아직 세션이 없는 경매들 (한 번의 조회로)
+            List<AuctionItem> itemsToCreateSession = auctionItemRepository
+                .findWithoutSessionByStartTimeBeforeAndAuctionStatus(fiveMinutesFromNow, AuctionStatus.SCHEDULED);
 
-            log.info("📋 세션 생성할 경매: {}개 (5분 이내: {}개, 지난 경매: {}개)",
-                itemsToCreateSession.size(), upcomingItems.size(), overdueItems.size());
+            if (!itemsToCreateSession.isEmpty()) {
+                log.info("📋 세션 생성할 경매: {}개", itemsToCreateSession.size());
+            }
 
             for (AuctionItem item : itemsToCreateSession) {
                 try {
@@ -328,7 +366,9 @@ public class AuctionSessionService {
             List<AuctionSession> sessionsToStart = auctionSessionRepository
                 .findSessionsToStart(AuctionSessionStatus.WAITING, now);
 
-            log.info("🚀 시작할 세션: {}개", sessionsToStart.size());
+            if (!sessionsToStart.isEmpty()) {
+                log.info("🚀 시작할 세션: {}개", sessionsToStart.size());
+            }
 
             for (AuctionSession session : sessionsToStart) {
                 try {
@@ -357,10 +397,18 @@ public class AuctionSessionService {
             List<AuctionSession> sessionsToEnd = auctionSessionRepository
                 .findSessionsToEnd(AuctionSessionStatus.ACTIVE, now);
 
-            log.info("⏰ 종료할 세션: {}개", sessionsToEnd.size());
+            if (!sessionsToEnd.isEmpty()) {
+                log.info("⏰ 종료할 세션: {}개", sessionsToEnd.size());
+            }
 
             for (AuctionSession session : sessionsToEnd) {
                 try {
+                    // 마감 직전 입찰로 종료 시간이 연장된 경매는 건너뜀 (연장된 시각에 타이머가 종료)
+                    Optional<LocalDateTime> extendedEndTime = auctionBidService.closeBiddingIfDue(session.getAuctionItem().getId());
+                    if (extendedEndTime.isPresent()) {
+                        log.info("⏳ 마감 연장으로 경매 종료 보류: sessionId={}, endTime={}", session.getId(), extendedEndTime.get());
+                        continue;
+                    }
                     // 각 세션별로 개별 트랜잭션 처리
                     endSingleAuction(session, now);
                 } catch (Exception e) {
@@ -377,8 +425,14 @@ public class AuctionSessionService {
     @Transactional
     protected void endSingleAuction(AuctionSession session, LocalDateTime now) {
         try {
+            // ACTIVE → ENDED 변경에 성공한 쪽만 낙찰 처리 (타이머와 보정 스케줄러가 동시에 종료하려는 경우)
+            int claimed = auctionSessionRepository.updateStatusIfCurrent(
+                session.getId(), AuctionSessionStatus.ACTIVE, AuctionSessionStatus.ENDED);
+            if (claimed == 0) {
+                log.info("이미 종료 처리된 세션: sessionId={}", session.getId());
+                return;
+            }
             session.setStatus(AuctionSessionStatus.ENDED);
-            auctionSessionRepository.save(session);
 
             // 경매 상품 상태도 ENDED로 변경
             AuctionItem item = session.getAuctionItem();
@@ -387,12 +441,8 @@ public class AuctionSessionService {
 
             log.info("✅ 경매 종료: sessionId={}, auctionItemId={}", session.getId(), item.getId());
 
-            // 경매 낙찰 처리 (마일리지 차감, 낙찰자 확정)
-            try {
-                auctionBidService.processAuctionEnd(item.getId());
-            } catch (Exception e) {
-                log.error("❌ 경매 낙찰 처리 실패: auctionItemId={}, error={}, item.getId(), e.getMessage(), e");
-            }
+            // 경매 낙찰 정산 (마일리지 차감, 히스토리/배송 생성)은 커밋 후 AuctionSettlementService에서 경매별로 병렬 처리
+            eventPublisher.publishEvent(new AuctionEndedEvent(item.getId()));
 
             // WebSocket으로 경매 종료 메시지 전송
             try {
@@ -0,0 +1,125 @@
+package com.petory.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.petory.constant.BoardKind;
+import com.petory.constant.Role;
+import com.petory.entity.Board;
+import com.petory.entity.Member;
+import com.petory.repository.BoardRecommendRepository;
+import com.petory.repository.BoardRepository;
+import com.petory.repository.MemberRepository;
+
+/**
+ * 동시에 들어온 추천이 빠짐없이, 중복 없이 반영되는지 확인합니다.
+ */
+@SpringBootTest
+class BoardRecommendConcurrencyTest {
+
+  private static final int REQUEST_COUNT = 1000;
+  private static final int THREAD_COUNT = 32;
+
+  @Autowired
+  private BoardService boardService;
+
+  @Autowired
+  private BoardRepository boardRepository;
+
+  @Autowired
+  private BoardRecommendRepository boardRecommendRepository;
+
+  @Autowired
+  private MemberRepository memberRepository;
+
+  private Board board;
+  private final List<Member> members = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    for (int i = 0; i < REQUEST_COUNT; i++) {
+      members.add(Member.builder()
+          .member_Email("recommend-test-" + i + "@petory.com")
+          .member_Pw("password")
+          .member_Role(Role.USER)
+          .member_NickName("recommender" + i)
+          .member_Phone("010-0000-0000")
+          .member_Mileage(0)
+          .build());
+    }
+    memberRepository.saveAll(members);
+
+    board = new Board();
+    board.setTitle("추천 동시성 테스트");
+    board.setContent("내용");
+    board.setBoardKind(BoardKind.FREE);
+    board.setMember(members.get(0));
+    boardRepository.save(board);
+  }
+
+  @AfterEach
+  void tearDown() {
+    boardService.deleteBoardByAdmin(board.getId());
+    memberRepository.deleteAll(members);
+  }
+
+  @Test
+  void parallelLikesFromDifferentMembersAreAllCounted() throws InterruptedException {
+    AtomicInteger rejected = runInParallel(i -> members.get(i).getMember_Email());
+
+    assertThat(rejected.get()).isZero();
+    assertThat(boardRepository.findById(board.getId()).orElseThrow().getLikeCount()).isEqualTo(REQUEST_COUNT);
+    assertThat(boardRecommendRepository.countByBoard_Id(board.getId())).isEqualTo(REQUEST_COUNT);
+  }
+
+  @Test
+  void parallelLikesFromSameMemberAreCountedOnce() throws InterruptedException {
+    String email = members.get(0).getMember_Email();
+    AtomicInteger rejected = runInParallel(i -> email);
+
+    assertThat(rejected.get()).isEqualTo(REQUEST_COUNT - 1);
+    assertThat(boardRepository.findById(board.getId()).orElseThrow().getLikeCount()).isEqualTo(1);
+    assertThat(boardRecommendRepository.countByBoard_Id(board.getId())).isEqualTo(1);
+  }
+
+  private AtomicInteger runInParallel(IntFunction<String> emailOf) throws InterruptedException {
+    ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+    CountDownLatch start = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(REQUEST_COUNT);
+    AtomicInteger rejected = new AtomicInteger();
+
+    for (int i = 0; i < REQUEST_COUNT; i++) {
+      String email = emailOf.apply(i);
+      executor.submit(() -> {
+        try {
+          start.await();
+          boardService.addRecommendation(board.getId(), email);
+        } catch (IllegalStateException e) {
+          rejected.incrementAndGet();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        } finally {
+          done.countDown();
+        }
+      });
+    }
+    start.countDown();
+    assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+    executor.shutdown();
+    return rejected;
+  }
+}
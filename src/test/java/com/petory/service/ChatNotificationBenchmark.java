@@ -0,0 +1,258 @@
+package com.petory.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.petory.constant.NotificationType;
+import com.petory.constant.Role;
+import com.petory.dto.ChatRoomListDto;
+import com.petory.dto.NotificationDto;
+import com.petory.entity.Member;
+import com.petory.repository.MemberRepository;
+import com.petory.service.chat.ChatMessageSequencer;
+import com.petory.service.chat.ChatMessageWriter;
+import com.petory.service.chat.ChatRoomCache;
+
+/**
+ * 채팅/알림 조회 경로(헤더 배지, 채팅방 목록, 알림 목록)를 실제 서비스 코드로 측정하는 벤치마크
+ * 웹/보안/WebSocket 없이 JPA + 채팅/알림 서비스만 띄우고(Spring slice), H2 메모리 DB에 운영 규모 데이터를 넣은 뒤 측정합니다.
+ *
+ * - 회원 10만 명, 채팅방 20만 개(회원당 약 4개), 채팅 메시지 100만 건(1/3 안 읽음), 알림 500만 건(회원당 50건, 1/4 안 읽음)
+ * - 회원은 JPA로, 나머지는 H2 SYSTEM_RANGE로 한 번에 넣고, 채팅방 요약/안 읽은 수 카운터는 서버 시작 때와 같은 방법으로 채움
+ * - 매 호출마다 회원을 무작위로 골라 캐시에 유리하지 않게 측정
+ * - 데이터 적재는 Setup 단계에서 수 분 걸립니다. 규모를 줄이려면 -p memberCount=10000 처럼 지정
+ *
+ * 실행: mvn test-compile 후 IDE에서 main 실행 (결과는 JSON으로 target/benchmarks/chat-notification.json)
+ *   -Dbenchmark.result=target/benchmarks/$(git rev-parse --short HEAD).json 처럼 커밋별로 남겨 두고 비교
+ *   (또는 org.openjdk.jmh.Main ChatNotificationBenchmark -rf json -rff 결과파일)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(value = 1, jvmArgs = {"-Xmx8g"})
+public class ChatNotificationBenchmark {
+
+    private static final int MEMBER_SAVE_CHUNK = 1000;
+    private static final int NOTIFICATION_PAGE_SIZE = 20;
+
+    @Param({"100000"})
+    private int memberCount;
+
+    @Param({"1000000"})
+    private int messageCount;
+
+    @Param({"5000000"})
+    private int notificationCount;
+
+    private ConfigurableApplicationContext context;
+    private ChatService chatService;
+    private NotificationService notificationService;
+    private Path walDir;
+    private long firstMemberId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        walDir = Files.createTempDirectory("chat-wal-bench");
+        context = new SpringApplicationBuilder(SliceConfig.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.datasource.url=jdbc:h2:mem:chat-notification-bench;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "spring.datasource.driver-class-name=org.h2.Driver",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.datasource.hikari.maximum-pool-size=8",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.jpa.open-in-view=false",
+                "spring.jpa.properties.hibernate.jdbc.batch_size=1000",
+                "chat.message.wal-dir=" + walDir,
+                "logging.level.com.petory=WARN",
+                "logging.level.org.hibernate=WARN")
+            .run();
+        chatService = context.getBean(ChatService.class);
+        notificationService = context.getBean(NotificationService.class);
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        try (Stream<Path> paths = Files.walk(walDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public List<ChatRoomListDto> chatRoomsForMember() {
+        return chatService.getChatRoomsForMember(randomMemberId());
+    }
+
+    @Benchmark
+    public int chatTotalUnreadCount() {
+        return chatService.getTotalUnreadCount(randomMemberId());
+    }
+
+    @Benchmark
+    public long notificationUnreadCount() {
+        return notificationService.getUnreadCount(email(randomMemberIndex()));
+    }
+
+    @Benchmark
+    public Page<NotificationDto> notificationFirstPage() {
+        return notificationService.getNotifications(email(randomMemberIndex()), PageRequest.of(0, NOTIFICATION_PAGE_SIZE));
+    }
+
+    private void seed() {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        TransactionTemplate transactionTemplate = context.getBean(TransactionTemplate.class);
+        MemberRepository memberRepository = context.getBean(MemberRepository.class);
+
+        // 회원 (Member는 컬럼이 많아 JPA로 저장)
+        for (int from = 0; from < memberCount; from += MEMBER_SAVE_CHUNK) {
+            List<Member> chunk = new ArrayList<>(MEMBER_SAVE_CHUNK);
+            for (int i = from; i < Math.min(from + MEMBER_SAVE_CHUNK, memberCount); i++) {
+                chunk.add(Member.builder()
+                    .member_Email(email(i))
+                    .member_Pw("password")
+                    .member_Role(Role.USER)
+                    .member_NickName("member" + i)
+                    .member_Phone("010-0000-0000")
+                    .member_Mileage(0)
+                    .build());
+            }
+            transactionTemplate.executeWithoutResult(status -> memberRepository.saveAll(chunk));
+        }
+        firstMemberId = jdbcTemplate.queryForObject("SELECT MIN(member_id) FROM member", Long.class);
+
+        // 채팅방: x번째 방은 (a, a+1) 또는 (a, a+38) 회원 쌍
+        int roomCount = memberCount * 2;
+        jdbcTemplate.update(
+            "INSERT INTO chat_room (id, sender_id, receiver_id, created_at, sender_unread_count, receiver_unread_count) " +
+            "SELECT X, ? + MOD(X, ?), ? + MOD(MOD(X, ?) + 1 + (X / ?) * 37, ?), TIMESTAMP '2025-01-01 00:00:00', 0, 0 " +
+            "FROM SYSTEM_RANGE(1, ?)",
+            firstMemberId, memberCount, firstMemberId, memberCount, memberCount, memberCount, roomCount);
+
+        // 채팅 메시지: 방마다 번갈아 보내고, 3건 중 1건은 안 읽음
+        jdbcTemplate.update(
+            "INSERT INTO chat_message (id, chat_room_id, sender_id, message, sent_at, is_read) " +
+            "SELECT X, r.id, CASE WHEN MOD(X / ?, 2) = 0 THEN r.sender_id ELSE r.receiver_id END, " +
+            "CONCAT('벤치마크 메시지 ', X), DATEADD('SECOND', X, TIMESTAMP '2025-01-01 00:00:00'), MOD(X, 3) <> 0 " +
+            "FROM SYSTEM_RANGE(1, ?) JOIN chat_room r ON r.id = MOD(X, ?) + 1",
+            roomCount, messageCount, roomCount);
+
+        // 채팅방 요약(마지막 메시지, 안 읽은 수)과 회원별 안 읽은 수 카운터
+        transactionTemplate.executeWithoutResult(status -> chatService.rebuildMissingRoomSummaries());
+        jdbcTemplate.update(
+            "INSERT INTO chat_unread_counter (member_id, unread_count) " +
+            "SELECT member_id, SUM(unread) FROM (" +
+            "  SELECT sender_id AS member_id, sender_unread_count AS unread FROM chat_room " +
+            "  UNION ALL SELECT receiver_id, receiver_unread_count FROM chat_room) t " +
+            "GROUP BY member_id");
+
+        // 알림: 회원당 고르게, 4건 중 1건은 안 읽음
+        jdbcTemplate.update(
+            "INSERT INTO notification (member_id, notification_type, title, message, is_read, order_date, update_date) " +
+            "SELECT ? + MOD(X, ?), ?, CONCAT('알림 ', X), '벤치마크 알림 내용', MOD(X, 4) <> 0, " +
+            "DATEADD('MINUTE', X, TIMESTAMP '2025-01-01 00:00:00'), DATEADD('MINUTE', X, TIMESTAMP '2025-01-01 00:00:00') " +
+            "FROM SYSTEM_RANGE(1, ?)",
+            firstMemberId, memberCount, NotificationType.AUCTION_END.name(), notificationCount);
+    }
+
+    private int randomMemberIndex() {
+        return ThreadLocalRandom.current().nextInt(memberCount);
+    }
+
+    private long randomMemberId() {
+        return firstMemberId + randomMemberIndex();
+    }
+
+    private static String email(int index) {
+        return "bench-" + index + "@petory.com";
+    }
+
+    /**
+     * JPA + 채팅/알림 서비스만 올리는 설정 (메시지 전송은 측정하지 않으므로 WebSocket 대신 아무 데도 보내지 않는 템플릿)
+     * @Configuration을 붙이지 않아 PetoryApplicationTests의 컴포넌트 스캔에는 잡히지 않음
+     */
+    @ImportAutoConfiguration({
+        DataSourceAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class,
+        TransactionAutoConfiguration.class,
+        JdbcTemplateAutoConfiguration.class,
+        JacksonAutoConfiguration.class
+    })
+    @EntityScan("com.petory.entity")
+    @EnableJpaRepositories("com.petory.repository")
+    @Import({
+        ChatService.class,
+        ChatUnreadCounterService.class,
+        NotificationService.class,
+        ChatMessageSequencer.class,
+        ChatMessageWriter.class,
+        ChatRoomCache.class
+    })
+    static class SliceConfig {
+
+        @Bean
+        SimpMessagingTemplate simpMessagingTemplate() {
+            return new SimpMessagingTemplate((message, timeout) -> true);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        String result = System.getProperty("benchmark.result", "target/benchmarks/chat-notification.json");
+        new File(result).getAbsoluteFile().getParentFile().mkdirs();
+        new Runner(new OptionsBuilder()
+            .include(ChatNotificationBenchmark.class.getSimpleName())
+            .resultFormat(ResultFormatType.JSON)
+            .result(result)
+            .build()).run();
+    }
+}
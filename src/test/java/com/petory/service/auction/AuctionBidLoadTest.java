@@ -0,0 +1,390 @@
+package com.petory.service.auction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petory.config.JwtTokenProvider;
+import com.petory.constant.AuctionStatus;
+import com.petory.constant.ItemStatus;
+import com.petory.constant.Role;
+import com.petory.entity.Member;
+import com.petory.entity.shop.AuctionItem;
+import com.petory.entity.shop.AuctionSession;
+import com.petory.entity.shop.Item;
+import com.petory.entity.shop.ItemCategory;
+import com.petory.repository.MemberRepository;
+import com.petory.repository.shop.AuctionItemRepository;
+import com.petory.repository.shop.ItemCategoryRepository;
+import com.petory.repository.shop.ItemRepository;
+import com.petory.service.shop.AuctionSessionService;
+
+/**
+ * /ws/auction 엔드포인트와 입찰 처리(AuctionBidSequencer)가 동시 입찰자를 얼마나 버티는지 측정하는 부하 테스트
+ * 앱을 H2 메모리 DB로 띄우고, JWT를 가진 SockJS/STOMP 클라이언트 N개가 한 경매 세션에 입장한 뒤
+ * 도착 곡선(arrival curve)에 맞춰 입찰을 보냅니다. 외부 서비스(MySQL, Redis 등) 없이 실행됩니다.
+ *
+ * 보고 항목: 보낸/성공/거절 입찰 수(거절 사유별), 입찰 → 개인 응답 지연, 입찰 → 상태 프레임(AUCTION_STATE) 방송 지연의 p50/p99,
+ * 입찰 처리 대기열이 가득 차서 바로 거절된 수. (입찰 경로는 낙관적 락을 쓰지 않으므로 재시도 수 대신 대기열 거절 수를 봅니다.)
+ *
+ * 실행: mvn test -Dtest=AuctionBidLoadTest -Dauction.loadtest=true
+ *   -Dauction.loadtest.clients=200          입찰자(연결) 수
+ *   -Dauction.loadtest.duration-seconds=20  입찰 시간
+ *   -Dauction.loadtest.peak-rate=300        초당 최대 입찰 수
+ *   -Dauction.loadtest.curve=CONSTANT       CONSTANT | RAMP | SPIKE
+ */
+@EnabledIfSystemProperty(named = "auction.loadtest", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:mem:auction-loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "auction.presence.redis-enabled=false",
+    "auction.presence.liveness-timeout-ms=600000", // 부하 클라이언트는 하트비트를 보내지 않음
+    "logging.level.com.petory=WARN"
+})
+class AuctionBidLoadTest {
+
+    private static final int START_PRICE = 100_000;
+    private static final int BID_UNIT = 100;
+    private static final long REPLY_DRAIN_MILLIS = 10_000;
+
+    private final int clientCount = Integer.getInteger("auction.loadtest.clients", 200);
+    private final int durationSeconds = Integer.getInteger("auction.loadtest.duration-seconds", 20);
+    private final double peakRate = Double.parseDouble(System.getProperty("auction.loadtest.peak-rate", "300"));
+    private final ArrivalCurve curve = ArrivalCurve.valueOf(System.getProperty("auction.loadtest.curve", "CONSTANT"));
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ItemCategoryRepository itemCategoryRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private AuctionItemRepository auctionItemRepository;
+
+    @Autowired
+    private AuctionSessionService auctionSessionService;
+
+    @Autowired
+    private AuctionBidSequencer auctionBidSequencer;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Member> members = new ArrayList<>();
+    private final List<BidderClient> bidders = new ArrayList<>();
+    private final LatencyRecorder ackLatency = new LatencyRecorder();
+    private final LatencyRecorder broadcastLatency = new LatencyRecorder();
+    private final Map<String, LongAdder> rejectReasons = new ConcurrentHashMap<>();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final AtomicInteger nextAmount = new AtomicInteger(START_PRICE);
+    private AuctionItem auctionItem;
+    private AuctionSession session;
+    private WebSocketStompClient stompClient;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        for (int i = 0; i < clientCount; i++) {
+            members.add(Member.builder()
+                .member_Email("bidder-" + i + "@petory.com")
+                .member_Pw("password")
+                .member_Role(Role.USER)
+                .member_NickName("bidder" + i)
+                .member_Phone("010-0000-0000")
+                .member_Mileage(Integer.MAX_VALUE)
+                .build());
+        }
+        memberRepository.saveAll(members);
+
+        ItemCategory category = itemCategoryRepository.save(ItemCategory.builder().optionValue("부하 테스트").build());
+        Item item = itemRepository.save(Item.builder()
+            .category(category)
+            .itemName("부하 테스트 경매 상품")
+            .itemStatus(ItemStatus.AUCTION)
+            .itemPrice(START_PRICE)
+            .isActive(true)
+            .build());
+        LocalDateTime now = LocalDateTime.now();
+        auctionItem = auctionItemRepository.save(AuctionItem.builder()
+            .item(item)
+            .startPrice(START_PRICE)
+            .bidUnit(BID_UNIT)
+            .startTime(now.minusMinutes(1))
+            .endTime(now.plusSeconds(durationSeconds).plusMinutes(10))
+            .auctionStatus(AuctionStatus.ACTIVE)
+            .build());
+        session = auctionSessionService.createSession(auctionItem, true);
+
+        stompClient = new WebSocketStompClient(
+            new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient()))));
+        for (Member member : members) {
+            BidderClient bidder = new BidderClient(member.getMemberId());
+            String token = jwtTokenProvider.createToken(member.getMember_Email(), List.of(Role.USER.name()));
+            bidder.connect("http://localhost:" + port + "/ws/auction?token=" + token);
+            bidders.add(bidder);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        bidders.forEach(BidderClient::disconnect);
+        stompClient.stop();
+    }
+
+    @Test
+    void bidderSwarm() throws Exception {
+        long startNanos = System.nanoTime();
+        long durationNanos = TimeUnit.SECONDS.toNanos(durationSeconds);
+        long nextArrival = startNanos;
+        int sent = 0;
+
+        // 도착 곡선의 순간 도착률을 따르는 포아송 도착 (지수 분포 간격)
+        while (nextArrival - startNanos < durationNanos) {
+            LockSupport.parkNanos(nextArrival - System.nanoTime());
+            BidderClient bidder = bidders.get(ThreadLocalRandom.current().nextInt(bidders.size()));
+            bidder.bid(nextAmount.addAndGet(BID_UNIT));
+            sent++;
+
+            double progress = (double) (nextArrival - startNanos) / durationNanos;
+            double rate = Math.max(curve.rate(progress, peakRate), 1.0);
+            double gapSeconds = -Math.log(1.0 - ThreadLocalRandom.current().nextDouble()) / rate;
+            nextArrival += (long) (gapSeconds * TimeUnit.SECONDS.toNanos(1));
+        }
+
+        long drainDeadline = System.currentTimeMillis() + REPLY_DRAIN_MILLIS;
+        while (accepted.sum() + rejected.sum() < sent && System.currentTimeMillis() < drainDeadline) {
+            Thread.sleep(50);
+        }
+        // 마지막 상태 프레임이 방송될 시간
+        Thread.sleep(500);
+
+        report(sent);
+
+        assertThat(accepted.sum()).isPositive();
+        assertThat(accepted.sum() + rejected.sum()).isEqualTo(sent);
+    }
+
+    private void report(int sent) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("\n===== 경매 입찰 부하 테스트 결과 =====\n");
+        sb.append(String.format("클라이언트 %d개, %d초, 곡선 %s, 최대 %.0f건/초%n", clientCount, durationSeconds, curve, peakRate));
+        sb.append(String.format("보낸 입찰: %d, 성공: %d, 거절: %d%n", sent, accepted.sum(), rejected.sum()));
+        rejectReasons.forEach((reason, count) -> sb.append(String.format("  거절 사유 [%s]: %d%n", reason, count.sum())));
+        sb.append(String.format("입찰 → 개인 응답 지연(ms): %s%n", ackLatency.summary()));
+        sb.append(String.format("입찰 → 상태 프레임 방송 지연(ms): %s%n", broadcastLatency.summary()));
+        sb.append(String.format("입찰 처리 순서 상태: %s%n", auctionBidSequencer.getStats()));
+        System.out.println(sb);
+    }
+
+    private static String rejectReasonOf(String message) {
+        if (message == null) {
+            return "기타";
+        }
+        if (message.contains("요청이 많아")) {
+            return "처리 대기열 가득 참";
+        }
+        if (message.contains("시간이 초과")) {
+            return "처리 시간 초과";
+        }
+        if (message.contains("최고가보다")) {
+            return "더 높은 입찰이 먼저 처리됨";
+        }
+        return "기타";
+    }
+
+    /**
+     * 진행률(0~1)별 초당 입찰 수
+     */
+    enum ArrivalCurve {
+        CONSTANT {
+            double rate(double progress, double peak) {
+                return peak;
+            }
+        },
+        // 0에서 최대까지 선형으로 증가
+        RAMP {
+            double rate(double progress, double peak) {
+                return peak * progress;
+            }
+        },
+        // 평소에는 최대의 20%, 가운데 20% 구간만 최대 (마감 직전 입찰 몰림 흉내)
+        SPIKE {
+            double rate(double progress, double peak) {
+                return progress >= 0.4 && progress < 0.6 ? peak : peak * 0.2;
+            }
+        };
+
+        abstract double rate(double progress, double peak);
+    }
+
+    /**
+     * 한 입찰자의 STOMP 연결. 입찰 금액별 보낸 시각을 기억해 두고 응답/방송을 받으면 지연을 기록합니다.
+     */
+    private class BidderClient extends StompSessionHandlerAdapter {
+
+        private final Long memberId;
+        private final Map<Integer, Long> pendingAcks = new ConcurrentHashMap<>();
+        private final Map<Integer, Long> pendingBroadcasts = new ConcurrentHashMap<>();
+        private StompSession stompSession;
+
+        BidderClient(Long memberId) {
+            this.memberId = memberId;
+        }
+
+        void connect(String url) throws Exception {
+            stompSession = stompClient.connectAsync(url, new WebSocketHttpHeaders(), new StompHeaders(), this)
+                .get(10, TimeUnit.SECONDS);
+            stompSession.subscribe("/queue/auction/" + memberId, this);
+            stompSession.subscribe("/topic/auction/" + session.getSessionKey(), this);
+            // 프론트엔드처럼 content-type 없이 경매 상품 ID만 보냄
+            send("/app/auction.join", String.valueOf(auctionItem.getId()));
+        }
+
+        void bid(int amount) {
+            long now = System.nanoTime();
+            pendingAcks.put(amount, now);
+            pendingBroadcasts.put(amount, now);
+            send("/app/auction.bid", "{\"auctionItemId\":" + auctionItem.getId() + ",\"bidAmount\":" + amount + "}");
+        }
+
+        void disconnect() {
+            if (stompSession != null && stompSession.isConnected()) {
+                stompSession.disconnect();
+            }
+        }
+
+        private void send(String destination, String body) {
+            StompHeaders headers = new StompHeaders();
+            headers.setDestination(destination);
+            stompSession.send(headers, body.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return byte[].class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            long now = System.nanoTime();
+            JsonNode message;
+            try {
+                message = objectMapper.readTree((byte[]) payload);
+            } catch (Exception e) {
+                return;
+            }
+            switch (message.path("type").asText()) {
+                case "BID_SUCCESS" -> {
+                    Long sentAt = pendingAcks.remove(message.path("bid").path("bidAmount").asInt());
+                    if (sentAt != null) {
+                        accepted.increment();
+                        ackLatency.record(now - sentAt);
+                    }
+                }
+                case "ERROR" -> {
+                    // 거절 응답에는 금액이 없으므로 가장 오래된 대기 입찰의 응답으로 봄 (한 입찰자 안에서는 순서대로 처리됨)
+                    pendingAcks.keySet().stream().min(Integer::compare).ifPresent(amount -> {
+                        Long sentAt = pendingAcks.remove(amount);
+                        pendingBroadcasts.remove(amount);
+                        if (sentAt != null) {
+                            rejected.increment();
+                            ackLatency.record(now - sentAt);
+                            rejectReasons.computeIfAbsent(rejectReasonOf(message.path("message").asText(null)),
+                                reason -> new LongAdder()).increment();
+                        }
+                    });
+                }
+                case "AUCTION_STATE" -> {
+                    for (JsonNode bid : message.path("bids")) {
+                        if (bid.path("memberId").asLong() == memberId) {
+                            Long sentAt = pendingBroadcasts.remove(bid.path("bidAmount").asInt());
+                            if (sentAt != null) {
+                                broadcastLatency.record(now - sentAt);
+                            }
+                        }
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+
+        @Override
+        public void handleException(StompSession session, StompCommand command, StompHeaders headers,
+                                    byte[] payload, Throwable exception) {
+            System.err.println("STOMP 처리 오류: memberId=" + memberId + ", " + exception.getMessage());
+        }
+    }
+
+    /**
+     * 지연 시간(ns)을 모아 두었다가 끝난 뒤 백분위수를 계산합니다.
+     */
+    private static class LatencyRecorder {
+
+        private long[] samples = new long[1024];
+        private int size;
+
+        synchronized void record(long nanos) {
+            if (size == samples.length) {
+                samples = Arrays.copyOf(samples, size * 2);
+            }
+            samples[size++] = nanos;
+        }
+
+        synchronized String summary() {
+            if (size == 0) {
+                return "표본 없음";
+            }
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            return String.format("n=%d, p50=%.1f, p99=%.1f, max=%.1f",
+                size, percentile(sorted, 0.50), percentile(sorted, 0.99), sorted[size - 1] / 1_000_000.0);
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
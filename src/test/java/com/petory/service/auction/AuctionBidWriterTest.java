@@ -0,0 +1,135 @@
+package com.petory.service.auction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+/**
+ * 받아들인 입찰이 WAL을 거쳐 저장되는지, 서버 시작 때 WAL에 남은 입찰을 (이미 저장된 입찰은 건너뛰고) 먼저 저장하는지 확인합니다.
+ * (입찰 저장에 쓰는 테이블만 만든 H2 메모리 DB 사용)
+ */
+class AuctionBidWriterTest {
+
+  private static final Long AUCTION_ID = 1L;
+  private static final LocalDateTime END_TIME = LocalDateTime.of(2025, 1, 1, 12, 5);
+
+  private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+  @TempDir
+  Path walDir;
+
+  private JdbcTemplate jdbcTemplate;
+  private TransactionTemplate transactionTemplate;
+  private AuctionBidWriter writer;
+
+  @BeforeEach
+  void setUp() {
+    DriverManagerDataSource dataSource =
+        new DriverManagerDataSource("jdbc:h2:mem:auction-bid-writer-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    jdbcTemplate.execute("""
+        CREATE TABLE auction_bid (
+          id BIGINT AUTO_INCREMENT PRIMARY KEY, auction_item_id BIGINT, member_id BIGINT,
+          bid_amount INT, bid_time TIMESTAMP, bid_status VARCHAR(20))
+        """);
+    jdbcTemplate.execute("""
+        CREATE TABLE auction_items (
+          auction_item_id BIGINT PRIMARY KEY, current_price INT, end_time TIMESTAMP)
+        """);
+    jdbcTemplate.execute("CREATE TABLE auction_session (session_id BIGINT PRIMARY KEY, auction_item_id BIGINT, end_time TIMESTAMP)");
+    jdbcTemplate.execute("CREATE TABLE auction_participant (member_id BIGINT, session_id BIGINT, last_activity TIMESTAMP)");
+    jdbcTemplate.update("INSERT INTO auction_items (auction_item_id, end_time) VALUES (?, ?)", AUCTION_ID, Timestamp.valueOf(END_TIME));
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    if (writer != null) {
+      writer.stop();
+    }
+    jdbcTemplate.execute("SHUTDOWN");
+  }
+
+  @Test
+  void acceptedBidIsPersistedAndCheckpointed() throws Exception {
+    writer = newWriter();
+    writer.start();
+
+    writer.enqueue(bid(1, 1100));
+    writer.enqueue(bid(2, 1200));
+
+    assertThat(writer.awaitPersisted(AUCTION_ID, 5000)).isTrue();
+    assertThat(jdbcTemplate.queryForList("SELECT bid_amount FROM auction_bid ORDER BY id", Integer.class))
+        .containsExactly(1100, 1200);
+    assertThat(jdbcTemplate.queryForObject("SELECT current_price FROM auction_items WHERE auction_item_id = ?",
+        Integer.class, AUCTION_ID)).isEqualTo(1200);
+
+    writer.stop();
+    writer = null;
+    assertThat(openLog().recover()).isEmpty();
+  }
+
+  @Test
+  void startupReplaysWalBeforeAcceptingBidsAndSkipsPersistedOnes() throws Exception {
+    // DB 저장은 끝났지만 checkpoint 전에 서버가 죽은 상황: 1, 2는 저장됨, 3은 WAL에만 있음
+    writeWal(bid(1, 1100), bid(2, 1200), bid(3, 1300));
+    insertBid(bid(1, 1100));
+    insertBid(bid(2, 1200));
+
+    writer = newWriter();
+    writer.start();
+
+    // start()가 끝났을 때 이미 저장되어 있음 (최고 입찰 기록/순번을 DB에서 다시 만들기 전)
+    assertThat(jdbcTemplate.queryForList("SELECT bid_amount FROM auction_bid ORDER BY id", Integer.class))
+        .containsExactly(1100, 1200, 1300);
+    assertThat(writer.getLastEnqueuedSequence(AUCTION_ID)).isEqualTo(3L);
+    assertThat(writer.awaitPersisted(AUCTION_ID, 0)).isTrue();
+
+    writer.stop();
+    writer = null;
+    assertThat(openLog().recover()).isEmpty();
+  }
+
+  private AuctionBidWriter newWriter() throws IOException {
+    return new AuctionBidWriter(jdbcTemplate, transactionTemplate, event -> { }, objectMapper, walDir.toString(),
+        16 * 1024, false, 500, 5, 16);
+  }
+
+  private AuctionBidLog openLog() throws IOException {
+    return new AuctionBidLog(walDir, objectMapper, 16 * 1024, false);
+  }
+
+  private void writeWal(AcceptedBid... bids) throws IOException {
+    AuctionBidLog log = openLog();
+    log.recover();
+    for (AcceptedBid bid : bids) {
+      log.append(bid);
+    }
+    log.close();
+  }
+
+  private void insertBid(AcceptedBid bid) {
+    jdbcTemplate.update("INSERT INTO auction_bid (auction_item_id, member_id, bid_amount, bid_time, bid_status) VALUES (?, ?, ?, ?, 'SUCCESS')",
+        bid.getAuctionItemId(), bid.getMemberId(), bid.getBidAmount(), Timestamp.valueOf(bid.getBidTime()));
+  }
+
+  private static AcceptedBid bid(long sequence, int amount) {
+    return new AcceptedBid(AUCTION_ID, sequence, 10L + sequence, "bidder" + sequence, amount,
+        LocalDateTime.of(2025, 1, 1, 12, 0).plusSeconds(sequence), "경매 상품", END_TIME, false);
+  }
+}
@@ -0,0 +1,132 @@
+package com.petory.service.auction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.petory.constant.AuctionSettlementStatus;
+import com.petory.constant.AuctionStatus;
+import com.petory.entity.shop.AuctionItem;
+import com.petory.entity.shop.AuctionSettlement;
+import com.petory.entity.shop.Item;
+import com.petory.repository.MemberRepository;
+import com.petory.repository.shop.AuctionBidRepository;
+import com.petory.repository.shop.AuctionHistoryRepository;
+import com.petory.repository.shop.AuctionItemRepository;
+import com.petory.repository.shop.AuctionSettlementRepository;
+import com.petory.service.shop.AuctionDeliveryService;
+
+/**
+ * 받아들인 입찰이 아직 저장 대기 중이면 정산 기록을 남기지 않고, 저장이 끝난 뒤 다시 정산하는지 확인합니다.
+ * (입찰 마감은 실제 AuctionBidSequencer로 처리하고, 저장 완료 여부만 AuctionBidWriter mock으로 정함)
+ */
+class AuctionSettlementServiceTest {
+
+  private static final Long AUCTION_ID = 7L;
+  private static final Long WINNER_ID = 5L;
+
+  private final AuctionItemRepository auctionItemRepository = mock(AuctionItemRepository.class);
+  private final AuctionBidRepository auctionBidRepository = mock(AuctionBidRepository.class);
+  private final AuctionHistoryRepository auctionHistoryRepository = mock(AuctionHistoryRepository.class);
+  private final AuctionSettlementRepository auctionSettlementRepository = mock(AuctionSettlementRepository.class);
+  private final AuctionBidWriter auctionBidWriter = mock(AuctionBidWriter.class);
+  // 정산 트랜잭션만 확인하도록 장부를 읽는 트랜잭션과 나눔
+  private final PlatformTransactionManager settlementTransactionManager = mock(PlatformTransactionManager.class);
+
+  private AuctionBidSequencer auctionBidSequencer;
+  private AuctionSettlementService auctionSettlementService;
+
+  @BeforeEach
+  void setUp() {
+    AuctionItem auctionItem = AuctionItem.builder()
+        .id(AUCTION_ID)
+        .item(Item.builder().itemName("경매 상품").build())
+        .startPrice(1000)
+        .bidUnit(100)
+        .startTime(LocalDateTime.now().minusMinutes(10))
+        .endTime(LocalDateTime.now().minusMinutes(1))
+        .auctionStatus(AuctionStatus.ENDED)
+        .build();
+    when(auctionItemRepository.findById(AUCTION_ID)).thenReturn(Optional.of(auctionItem));
+    // 마감 직전에 받아들인 입찰 1건이 아직 AuctionBidWriter 큐에 있음
+    when(auctionBidRepository.countByAuctionItem(auctionItem)).thenReturn(0L);
+    when(auctionBidWriter.getLastEnqueuedSequence(AUCTION_ID)).thenReturn(1L);
+
+    PlatformTransactionManager bookTransactionManager = mock(PlatformTransactionManager.class);
+    when(bookTransactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    when(settlementTransactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+    auctionBidSequencer = new AuctionBidSequencer(auctionItemRepository, mock(AuctionLeaderBoard.class),
+        auctionBidWriter, auctionBidRepository, mock(AuctionBroadcastCoalescer.class), bookTransactionManager, 1, 16);
+    auctionSettlementService = new AuctionSettlementService(auctionItemRepository, auctionBidRepository,
+        auctionHistoryRepository, auctionSettlementRepository, mock(MemberRepository.class),
+        mock(AuctionDeliveryService.class), auctionBidSequencer, mock(JdbcTemplate.class),
+        settlementTransactionManager, 1);
+    ReflectionTestUtils.setField(auctionSettlementService, "flushTimeoutMillis", 1000L);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    auctionSettlementService.shutdown();
+    auctionBidSequencer.shutdown();
+  }
+
+  @Test
+  void settlementIsNotRecordedWhileAcceptedBidIsStillQueued() throws Exception {
+    when(auctionBidWriter.awaitPersisted(eq(AUCTION_ID), anyLong())).thenReturn(false);
+
+    CompletableFuture<AuctionSettlementStatus> result = auctionSettlementService.settleAsync(AUCTION_ID);
+
+    assertThatThrownBy(result::join)
+        .isInstanceOf(CompletionException.class)
+        .hasCauseInstanceOf(IllegalStateException.class);
+    // 트랜잭션을 열지 않았으므로 멱등 키(auction_settlement)도, 불완전한 집계도 남지 않음
+    verify(settlementTransactionManager, never()).getTransaction(any());
+    verify(auctionSettlementRepository, never()).saveAndFlush(any());
+    verify(auctionBidRepository, never()).findBidSummaryRowsByAuctionItemId(any());
+  }
+
+  @Test
+  void settlementRunsOnRetryOnceQueuedBidIsPersisted() throws Exception {
+    when(auctionBidWriter.awaitPersisted(eq(AUCTION_ID), anyLong())).thenReturn(false, true);
+    when(auctionSettlementRepository.findByAuctionItemId(AUCTION_ID)).thenReturn(Optional.empty());
+    when(auctionSettlementRepository.saveAndFlush(any())).then(returnsFirstArg());
+    when(auctionBidRepository.findBidSummaryRowsByAuctionItemId(AUCTION_ID))
+        .thenReturn(List.<Object[]>of(new Object[] {WINNER_ID, 1200, 1}));
+    // 마일리지 차감/히스토리 저장 단계는 이 테스트의 대상이 아니므로 이전 방식으로 처리된 경매로 둠
+    when(auctionHistoryRepository.existsByAuctionItemId(AUCTION_ID)).thenReturn(true);
+
+    assertThatThrownBy(auctionSettlementService.settleAsync(AUCTION_ID)::join)
+        .isInstanceOf(CompletionException.class);
+
+    // 보정 스케줄러의 재시도
+    assertThat(auctionSettlementService.settleAsync(AUCTION_ID).join()).isEqualTo(AuctionSettlementStatus.SETTLED);
+
+    ArgumentCaptor<AuctionSettlement> settlement = ArgumentCaptor.forClass(AuctionSettlement.class);
+    verify(auctionSettlementRepository).saveAndFlush(settlement.capture());
+    assertThat(settlement.getValue().getWinnerId()).isEqualTo(WINNER_ID);
+    assertThat(settlement.getValue().getFinalPrice()).isEqualTo(1200);
+  }
+}
@@ -0,0 +1,125 @@
+package com.petory.service.board;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import kr.co.shineware.nlp.komoran.constant.DEFAULT_MODEL;
+import kr.co.shineware.nlp.komoran.core.Komoran;
+
+/**
+ * 기존 LIKE '%키워드%' 방식(전체 게시글 순회 + String.contains)과 BoardSearchIndex 검색 비교
+ * 게시글 100만 건 색인(KOMORAN 분석 포함)은 Setup 단계에서 수 분 이상 걸립니다.
+ * 실행: mvn test-compile 후 IDE에서 main 실행 (또는 org.openjdk.jmh.Main)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class BoardSearchIndexBenchmark {
+
+    private static final List<String> NOUNS = List.of(
+        "강아지", "고양이", "산책", "사료", "간식", "병원", "미용", "훈련", "장난감", "목욕",
+        "예방접종", "중성화", "입양", "분양", "배변", "털", "발톱", "동물병원", "공원", "하네스",
+        "리드줄", "캣타워", "모래", "건강", "피부", "알레르기", "치석", "간식추천", "리트리버", "푸들");
+    private static final List<String> PARTICLES = List.of("", "을", "를", "이", "가", "은", "는", "에서", "하고", "도");
+
+    @Param({"1000000"})
+    private int boardCount;
+
+    private Path indexPath;
+    private BoardSearchIndex index;
+    private String[] titles;
+    private String[] contents;
+
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        indexPath = Files.createTempDirectory("board-index-bench");
+        index = new BoardSearchIndex(indexPath, new KomoranAnalyzer(new Komoran(DEFAULT_MODEL.FULL)));
+        titles = new String[boardCount];
+        contents = new String[boardCount];
+        for (int i = 0; i < boardCount; i++) {
+            titles[i] = randomSentence(random, 4);
+            contents[i] = randomSentence(random, 40);
+            index.upsert((long) i, titles[i], contents[i], List.of(NOUNS.get(random.nextInt(NOUNS.size()))));
+        }
+        index.commit();
+        index.refresh();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        index.close();
+        try (Stream<Path> paths = Files.walk(indexPath)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public int legacyLikeScan() {
+        // findByTitleContaining / findByContentContaining 처럼 모든 행을 훑고 첫 페이지 10건 반환
+        String keyword = "예방접종";
+        int matched = 0;
+        for (int i = 0; i < boardCount; i++) {
+            if (titles[i].contains(keyword) || contents[i].contains(keyword)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    @Benchmark
+    public BoardSearchIndex.Hits indexSingleTerm() throws IOException {
+        return index.search("예방접종", 0, 10);
+    }
+
+    @Benchmark
+    public BoardSearchIndex.Hits indexMultiTermWithParticles() throws IOException {
+        return index.search("강아지 산책을 하고 간식을", 0, 10);
+    }
+
+    @Benchmark
+    public BoardSearchIndex.Hits indexDeepPage() throws IOException {
+        return index.search("고양이", 1000, 10);
+    }
+
+    private static String randomSentence(Random random, int words) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            sb.append(NOUNS.get(random.nextInt(NOUNS.size())))
+                .append(PARTICLES.get(random.nextInt(PARTICLES.size())))
+                .append(' ');
+        }
+        return sb.toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(BoardSearchIndexBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
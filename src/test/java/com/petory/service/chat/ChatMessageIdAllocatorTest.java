@@ -0,0 +1,90 @@
+package com.petory.service.chat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * 서버 여러 대가 같은 DB에서 메시지 ID 구간을 받아도 ID가 겹치지 않는지,
+ * 처음 구간은 이미 저장된 메시지와 WAL에 남은 메시지 다음부터 시작하는지 확인합니다.
+ * (chat_message/chat_message_id_block만 만든 H2 메모리 DB 사용)
+ */
+class ChatMessageIdAllocatorTest {
+
+  private JdbcTemplate jdbcTemplate;
+  private DataSourceTransactionManager transactionManager;
+  private ChatMessageWriter chatMessageWriter;
+
+  @BeforeEach
+  void setUp() {
+    DriverManagerDataSource dataSource =
+        new DriverManagerDataSource("jdbc:h2:mem:chat-id-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    transactionManager = new DataSourceTransactionManager(dataSource);
+    jdbcTemplate.execute("CREATE TABLE chat_message (id BIGINT PRIMARY KEY)");
+    jdbcTemplate.execute("CREATE TABLE chat_message_id_block (id BIGINT PRIMARY KEY, next_id BIGINT NOT NULL)");
+    chatMessageWriter = mock(ChatMessageWriter.class);
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.execute("SHUTDOWN");
+  }
+
+  @Test
+  void firstBlockStartsAfterPersistedAndRecoveredIds() {
+    jdbcTemplate.update("INSERT INTO chat_message (id) VALUES (?)", 40L);
+    when(chatMessageWriter.getMaxRecoveredId()).thenReturn(42L);
+
+    ChatMessageIdAllocator allocator = new ChatMessageIdAllocator(jdbcTemplate, transactionManager, chatMessageWriter, 10);
+
+    assertThat(allocator.nextId()).isEqualTo(43L);
+    assertThat(allocator.nextId()).isEqualTo(44L);
+    assertThat(jdbcTemplate.queryForObject("SELECT next_id FROM chat_message_id_block", Long.class)).isEqualTo(53L);
+  }
+
+  @Test
+  void allocatorsSharingTheTableNeverHandOutTheSameId() throws Exception {
+    // 서버 3대: 구간을 자주 받도록 작게 둠
+    List<ChatMessageIdAllocator> allocators = List.of(
+        new ChatMessageIdAllocator(jdbcTemplate, transactionManager, chatMessageWriter, 7),
+        new ChatMessageIdAllocator(jdbcTemplate, transactionManager, chatMessageWriter, 7),
+        new ChatMessageIdAllocator(jdbcTemplate, transactionManager, chatMessageWriter, 7));
+    ExecutorService executor = Executors.newFixedThreadPool(6);
+    try {
+      List<Future<List<Long>>> results = new ArrayList<>();
+      for (int i = 0; i < 6; i++) {
+        ChatMessageIdAllocator allocator = allocators.get(i % allocators.size());
+        results.add(executor.submit(() -> {
+          List<Long> ids = new ArrayList<>();
+          for (int n = 0; n < 200; n++) {
+            ids.add(allocator.nextId());
+          }
+          return ids;
+        }));
+      }
+      Set<Long> allIds = new HashSet<>();
+      for (Future<List<Long>> result : results) {
+        allIds.addAll(result.get());
+      }
+      assertThat(allIds).hasSize(6 * 200);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
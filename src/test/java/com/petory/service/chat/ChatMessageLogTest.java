@@ -0,0 +1,133 @@
+package com.petory.service.chat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+/**
+ * 채팅 WAL 파일의 복구, checkpoint, 파일 넘김, 잘린 줄 처리를 확인합니다.
+ */
+class ChatMessageLogTest {
+
+  private static final long SEGMENT_BYTES = 16 * 1024;
+
+  private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+  @TempDir
+  Path dir;
+
+  @Test
+  void unpersistedRecordsAreRecoveredInOrder() throws IOException {
+    ChatMessageLog log = open(SEGMENT_BYTES);
+    log.recover();
+    log.append(record(1L));
+    log.append(record(2L));
+    log.append(record(3L));
+    log.close(); // checkpoint 없이 종료
+
+    List<ChatMessageRecord> recovered = open(SEGMENT_BYTES).recover();
+
+    assertThat(recovered).extracting(ChatMessageRecord::getId).containsExactly(1L, 2L, 3L);
+    assertThat(recovered.get(0).getMessage()).isEqualTo("메시지 1");
+    assertThat(recovered.get(0).getSentAt()).isEqualTo(record(1L).getSentAt());
+  }
+
+  @Test
+  void fullCheckpointTruncatesCurrentSegment() throws IOException {
+    ChatMessageLog log = open(SEGMENT_BYTES);
+    log.recover();
+    long first = log.append(record(1L));
+    long second = log.append(record(2L));
+
+    log.checkpoint(first);
+    assertThat(log.getStats().get("currentSegmentBytes")).isNotEqualTo(0L);
+
+    log.checkpoint(second);
+    assertThat(log.getStats().get("currentSegmentBytes")).isEqualTo(0L);
+    log.close();
+
+    assertThat(open(SEGMENT_BYTES).recover()).isEmpty();
+  }
+
+  @Test
+  void rolledSegmentsAreDeletedOnceCheckpointed() throws IOException {
+    // 한 줄만 써도 넘치는 크기 → 메시지마다 새 파일
+    ChatMessageLog log = open(1);
+    log.recover();
+    log.append(record(1L));
+    log.append(record(2L));
+    long third = log.append(record(3L));
+    assertThat(segmentFiles()).hasSize(3);
+    assertThat(log.getStats().get("segments")).isEqualTo(3);
+
+    log.checkpoint(third - 1);
+    assertThat(segmentFiles()).hasSize(1);
+    log.close();
+
+    assertThat(open(1).recover()).extracting(ChatMessageRecord::getId).containsExactly(3L);
+  }
+
+  @Test
+  void truncatedLastLineIsSkipped() throws IOException {
+    ChatMessageLog log = open(SEGMENT_BYTES);
+    log.recover();
+    log.append(record(1L));
+    log.append(record(2L));
+    log.close();
+
+    Path segment = segmentFiles().get(0);
+    String truncated = objectMapper.writeValueAsString(record(3L));
+    Files.writeString(segment, truncated.substring(0, truncated.length() / 2),
+        StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+    ChatMessageLog reopened = open(SEGMENT_BYTES);
+    assertThat(reopened.recover()).extracting(ChatMessageRecord::getId).containsExactly(1L, 2L);
+
+    // 잘린 줄이 있던 파일은 닫힌 파일로 남고, 이후 기록은 새 파일에 이어짐
+    long next = reopened.append(record(4L));
+    assertThat(next).isEqualTo(3L);
+    reopened.checkpoint(next);
+    reopened.close();
+    assertThat(open(SEGMENT_BYTES).recover()).isEmpty();
+  }
+
+  @Test
+  void deadLetterFileIsNotRecovered() throws IOException {
+    ChatMessageLog log = open(SEGMENT_BYTES);
+    log.recover();
+    long sequence = log.append(record(1L));
+    log.appendDeadLetter(record(1L));
+    log.checkpoint(sequence);
+    log.close();
+
+    assertThat(dir.resolve(ChatMessageLog.DEAD_LETTER_FILE)).exists();
+    assertThat(open(SEGMENT_BYTES).recover()).isEmpty();
+  }
+
+  private ChatMessageLog open(long segmentBytes) throws IOException {
+    return new ChatMessageLog(dir, objectMapper, segmentBytes, false);
+  }
+
+  private List<Path> segmentFiles() throws IOException {
+    try (Stream<Path> files = Files.list(dir)) {
+      return files.filter(path -> path.getFileName().toString().startsWith("chat-wal-")).sorted().toList();
+    }
+  }
+
+  static ChatMessageRecord record(Long id) {
+    return new ChatMessageRecord(id, 1L, 10L, 20L, "메시지 " + id, LocalDateTime.of(2025, 1, 1, 12, 0).plusSeconds(id));
+  }
+}
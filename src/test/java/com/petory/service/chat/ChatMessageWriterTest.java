@@ -0,0 +1,164 @@
+package com.petory.service.chat;
+
+import static com.petory.service.chat.ChatMessageLogTest.record;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.petory.service.ChatUnreadCounterService;
+
+/**
+ * WAL에서 다시 저장할 때 이미 저장된 메시지를 건너뛰는지, 저장할 수 없는 메시지를 dead-letter로 옮기는지 확인합니다.
+ * (chat_message/chat_room만 만든 H2 메모리 DB 사용)
+ */
+class ChatMessageWriterTest {
+
+  private static final Long ROOM_ID = 1L;
+  private static final Long RECEIVER_ID = 20L;
+
+  private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+  @TempDir
+  Path walDir;
+
+  private JdbcTemplate jdbcTemplate;
+  private TransactionTemplate transactionTemplate;
+  private ChatUnreadCounterService chatUnreadCounterService;
+  private ChatMessageWriter writer;
+
+  @BeforeEach
+  void setUp() {
+    DriverManagerDataSource dataSource =
+        new DriverManagerDataSource("jdbc:h2:mem:chat-writer-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    jdbcTemplate.execute("""
+        CREATE TABLE chat_message (
+          id BIGINT PRIMARY KEY, chat_room_id BIGINT, sender_id BIGINT,
+          message VARCHAR(20), sent_at TIMESTAMP, is_read BOOLEAN)
+        """);
+    jdbcTemplate.execute("""
+        CREATE TABLE chat_room (
+          id BIGINT PRIMARY KEY, sender_id BIGINT, receiver_id BIGINT,
+          last_message_id BIGINT, last_message VARCHAR(1000), last_message_at TIMESTAMP,
+          sender_unread_count INT DEFAULT 0 NOT NULL, receiver_unread_count INT DEFAULT 0 NOT NULL)
+        """);
+    jdbcTemplate.update("INSERT INTO chat_room (id, sender_id, receiver_id) VALUES (?, ?, ?)", ROOM_ID, 10L, RECEIVER_ID);
+
+    chatUnreadCounterService = mock(ChatUnreadCounterService.class);
+    when(chatUnreadCounterService.increment(anyLong(), anyInt())).thenAnswer(invocation -> invocation.getArgument(1));
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    if (writer != null) {
+      writer.stop();
+    }
+    jdbcTemplate.execute("SHUTDOWN");
+  }
+
+  @Test
+  void replayFromWalSkipsAlreadyPersistedMessages() throws Exception {
+    // DB 저장은 끝났지만 checkpoint 전에 서버가 죽은 상황: 1, 2는 저장됨, 3은 WAL에만 있음
+    writeWal(record(1L), record(2L), record(3L));
+    insertMessage(record(1L));
+    insertMessage(record(2L));
+
+    writer = newWriter(5);
+    writer.start();
+
+    assertThat(writer.getMaxRecoveredId()).isEqualTo(3L);
+    assertThat(writer.awaitPersisted(ROOM_ID, 5000)).isTrue();
+    assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM chat_message", Integer.class)).isEqualTo(3);
+
+    // 안 읽은 수는 새로 저장한 1건만 증가
+    Map<String, Object> room = jdbcTemplate.queryForMap("SELECT * FROM chat_room WHERE id = ?", ROOM_ID);
+    assertThat(room.get("RECEIVER_UNREAD_COUNT")).isEqualTo(1);
+    assertThat(room.get("LAST_MESSAGE_ID")).isEqualTo(3L);
+    verify(chatUnreadCounterService).increment(RECEIVER_ID, 1);
+
+    // 저장을 마쳤으므로 다음 시작 때 다시 저장할 메시지가 없음
+    writer.stop();
+    writer = null;
+    assertThat(openLog().recover()).isEmpty();
+  }
+
+  @Test
+  void replayOfFullyPersistedWalChangesNothing() throws Exception {
+    writeWal(record(1L), record(2L));
+    insertMessage(record(1L));
+    insertMessage(record(2L));
+
+    writer = newWriter(5);
+    writer.start();
+
+    assertThat(writer.awaitPersisted(ROOM_ID, 5000)).isTrue();
+    assertThat(jdbcTemplate.queryForObject("SELECT receiver_unread_count FROM chat_room WHERE id = ?",
+        Integer.class, ROOM_ID)).isZero();
+    verify(chatUnreadCounterService, never()).increment(anyLong(), anyInt());
+  }
+
+  @Test
+  void poisonMessageIsDeadLetteredAndTheRestArePersisted() throws Exception {
+    writer = newWriter(1);
+    writer.start();
+
+    // message 컬럼(20자)보다 긴 메시지는 다시 시도해도 저장할 수 없음
+    writer.append(record(1L));
+    writer.append(new ChatMessageRecord(2L, ROOM_ID, 10L, RECEIVER_ID, "x".repeat(30), LocalDateTime.now()));
+    writer.append(record(3L));
+
+    assertThat(writer.awaitPersisted(ROOM_ID, 10000)).isTrue();
+    assertThat(jdbcTemplate.queryForList("SELECT id FROM chat_message ORDER BY id", Long.class))
+        .containsExactly(1L, 3L);
+    assertThat(writer.getStats().get("deadLetteredMessages")).isEqualTo(1L);
+    assertThat(walDir.resolve(ChatMessageLog.DEAD_LETTER_FILE)).exists();
+    assertThat(jdbcTemplate.queryForObject("SELECT receiver_unread_count FROM chat_room WHERE id = ?",
+        Integer.class, ROOM_ID)).isEqualTo(2);
+  }
+
+  private ChatMessageWriter newWriter(int maxAttempts) throws IOException {
+    return new ChatMessageWriter(jdbcTemplate, transactionTemplate, chatUnreadCounterService,
+        mock(SimpMessagingTemplate.class), objectMapper, walDir.toString(), 16 * 1024, false, 500, maxAttempts);
+  }
+
+  private ChatMessageLog openLog() throws IOException {
+    return new ChatMessageLog(walDir, objectMapper, 16 * 1024, false);
+  }
+
+  private void writeWal(ChatMessageRecord... records) throws IOException {
+    ChatMessageLog log = openLog();
+    log.recover();
+    for (ChatMessageRecord record : records) {
+      log.append(record);
+    }
+    log.close();
+  }
+
+  private void insertMessage(ChatMessageRecord record) {
+    jdbcTemplate.update("INSERT INTO chat_message (id, chat_room_id, sender_id, message, sent_at, is_read) VALUES (?, ?, ?, ?, ?, false)",
+        record.getId(), record.getChatRoomId(), record.getSenderId(), record.getMessage(), Timestamp.valueOf(record.getSentAt()));
+  }
+}
@@ -0,0 +1,119 @@
+package com.petory.service.cleanbot;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 기존 금지어 검사 방식(Set 전체 순회 + String.contains)과 ProfanityMatcher 비교
+ * 실행: mvn test-compile 후 IDE에서 main 실행 (또는 org.openjdk.jmh.Main)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProfanityMatcherBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    private int dictionarySize;
+
+    private Set<String> badWords;
+    private ProfanityMatcher matcher;
+    private String cleanText;
+    private String dirtyText;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        Set<String> words = new HashSet<>();
+        while (words.size() < dictionarySize) {
+            words.add(randomHangul(random, 2 + random.nextInt(3)));
+        }
+        badWords = Collections.synchronizedSet(new HashSet<>(words));
+        matcher = ProfanityMatcher.compile(words);
+
+        // 게시글 한 편 정도 길이 (약 1,000자)의 본문, 금지어가 없는 경우와 끝부분에 하나 있는 경우
+        StringBuilder text = new StringBuilder();
+        while (text.length() < 1000) {
+            text.append(randomHangul(random, 1 + random.nextInt(4))).append(' ');
+        }
+        List<String> dictionary = new ArrayList<>(words);
+        cleanText = removeMatches(text.toString(), dictionary);
+        dirtyText = cleanText + dictionary.get(random.nextInt(dictionary.size()));
+    }
+
+    @Benchmark
+    public boolean legacyContainsClean() {
+        String lowerCaseText = cleanText.toLowerCase();
+        return badWords.stream().anyMatch(lowerCaseText::contains);
+    }
+
+    @Benchmark
+    public Set<String> legacyDetectDirty() {
+        Set<String> detected = new HashSet<>();
+        String lowerCaseText = dirtyText.toLowerCase();
+        for (String badWord : badWords) {
+            if (lowerCaseText.contains(badWord)) {
+                detected.add(badWord);
+            }
+        }
+        return detected;
+    }
+
+    @Benchmark
+    public boolean matcherContainsClean() {
+        return matcher.containsAny(cleanText);
+    }
+
+    @Benchmark
+    public ProfanityScanResult matcherScanDirty() {
+        return matcher.scan(dirtyText);
+    }
+
+    private static String randomHangul(Random random, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            // 자주 쓰이는 음절 영역으로 범위를 좁혀 실제 텍스트처럼 부분 일치가 자주 일어나게 함
+            sb.append((char) (0xAC00 + random.nextInt(400)));
+        }
+        return sb.toString();
+    }
+
+    private static String removeMatches(String text, List<String> dictionary) {
+        ProfanityMatcher matcher = ProfanityMatcher.compile(dictionary);
+        StringBuilder sb = new StringBuilder(text);
+        for (int i = 0; i < sb.length(); i++) {
+            if (matcher.containsAny(sb.subSequence(0, i + 1))) {
+                sb.setCharAt(i, ' ');
+            }
+        }
+        return sb.toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ProfanityMatcherBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,115 @@
+package com.petory.service.cleanbot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 배열(CSR)로 압축한 Aho–Corasick 오토마타가 겹치는 단어, 실패 링크를 따라가야 나오는 단어,
+ * 원문 위치까지 기존 방식(사전 전체 순회 + String.contains)과 같은 결과를 내는지 확인합니다.
+ */
+class ProfanityMatcherTest {
+
+  @Test
+  void overlappingWordsAreAllReportedInOrderOfAppearance() {
+    ProfanityMatcher matcher = ProfanityMatcher.compile(List.of("he", "she", "his", "hers"));
+
+    ProfanityScanResult result = matcher.scan("ushers");
+
+    assertThat(result.getMatchedWords()).containsExactly("she", "he", "hers");
+    assertThat(matcher.containsAny("ushers")).isTrue();
+  }
+
+  @Test
+  void wordsEndingInsideALongerPathAreFoundThroughSuffixLinks() {
+    // "abc" 노드는 단어가 끝나지 않지만 실패 링크 쪽 "bc"는 단어
+    ProfanityMatcher partial = ProfanityMatcher.compile(List.of("abcd", "bc"));
+    assertThat(partial.scan("abce").getMatchedWords()).containsExactly("bc");
+    assertThat(partial.containsAny("abce")).isTrue();
+
+    // 한 위치에서 끝나는 단어가 출력 링크로 줄줄이 이어지는 경우
+    ProfanityMatcher chain = ProfanityMatcher.compile(List.of("abcd", "bcd", "cd", "d"));
+    assertThat(chain.scan("abcd").getMatchedWords()).containsExactly("abcd", "bcd", "cd", "d");
+
+    // 실패 링크로 되돌아가 다시 이어지는 경우
+    ProfanityMatcher retry = ProfanityMatcher.compile(List.of("aab"));
+    assertThat(retry.scan("aaab").getMatchedWords()).containsExactly("aab");
+    assertThat(retry.containsAny("abab")).isFalse();
+  }
+
+  @Test
+  void matchedTextsPointAtOriginalOffsetsOfOverlappingWords() {
+    ProfanityMatcher matcher = ProfanityMatcher.compile(List.of("she", "hers"));
+
+    ProfanityScanResult result = ProfanityNormalizer.apply("u s.h-e r!s", matcher::scan);
+
+    assertThat(result.getMatchedWords()).containsExactly("she", "hers");
+    assertThat(result.getMatchedTexts()).containsExactly("s.h-e", "h-e r!s");
+  }
+
+  @Test
+  void matchingIgnoresCaseAndNumbersInsideLongerNumbers() {
+    ProfanityMatcher matcher = ProfanityMatcher.compile(List.of("SHIT", "18"));
+
+    assertThat(matcher.scan("sHiT").getMatchedWords()).containsExactly("shit");
+    assertThat(matcher.containsAny("2018년")).isFalse();
+    assertThat(matcher.scan("18년").getMatchedWords()).containsExactly("18");
+  }
+
+  @Test
+  void emptyDictionaryAndDuplicatesAreHandled() {
+    assertThat(ProfanityMatcher.EMPTY.containsAny("아무 말")).isFalse();
+    assertThat(ProfanityMatcher.EMPTY.scan("아무 말")).isSameAs(ProfanityScanResult.CLEAN);
+
+    ProfanityMatcher matcher = ProfanityMatcher.compile(List.of("바보", " 바보 ", "", "BABO", "babo"));
+    assertThat(matcher.size()).isEqualTo(2);
+  }
+
+  @Test
+  void resultsMatchLegacySubstringScan() {
+    // 부분 일치와 겹침이 자주 생기도록 글자 종류를 줄인 사전과 텍스트 (숫자는 규칙이 달라 제외)
+    Random random = new Random(7);
+    for (int round = 0; round < 200; round++) {
+      Set<String> dictionary = new HashSet<>();
+      int size = 1 + random.nextInt(30);
+      while (dictionary.size() < size) {
+        dictionary.add(randomText(random, 1 + random.nextInt(5)));
+      }
+      ProfanityMatcher matcher = ProfanityMatcher.compile(dictionary);
+
+      for (int t = 0; t < 20; t++) {
+        String text = randomText(random, random.nextInt(40));
+        Set<String> legacy = legacyDetect(dictionary, text);
+
+        assertThat(new HashSet<>(matcher.scan(text).getMatchedWords())).as("scan: %s", text).isEqualTo(legacy);
+        assertThat(matcher.containsAny(text)).as("containsAny: %s", text).isEqualTo(!legacy.isEmpty());
+      }
+    }
+  }
+
+  // 기존 CleanBotService 방식: 사전 단어마다 String.contains
+  private static Set<String> legacyDetect(Set<String> dictionary, String text) {
+    Set<String> detected = new HashSet<>();
+    String lowerCaseText = text.toLowerCase();
+    for (String word : dictionary) {
+      if (lowerCaseText.contains(word.toLowerCase())) {
+        detected.add(word.toLowerCase());
+      }
+    }
+    return detected;
+  }
+
+  private static String randomText(Random random, int length) {
+    String alphabet = "abA바보시";
+    StringBuilder sb = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+    }
+    return sb.toString();
+  }
+}
@@ -0,0 +1,107 @@
+package com.petory.service.cleanbot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * 우회 표기 정규화 결과와, 정규화된 문자가 가리키는 원문 위치를 표로 확인합니다.
+ */
+class ProfanityNormalizerTest {
+
+  @ParameterizedTest(name = "[{index}] \"{0}\" → \"{1}\"")
+  @CsvSource(delimiter = '|', textBlock = """
+      # 자모 조합
+      ㅅㅣㅂㅏㄹ        | 시발
+      ㅅ ㅣ ㅂ ㅏ ㄹ    | 시발
+      ㅂㅏ보            | 바보
+      바ㄹ보            | 발보
+      시.발             | 시발
+      # 홀로 남은 자음은 받침으로 붙이지 않음
+      좋아ㅋ            | 좋아ㅋ
+      좋아ㅋ 진짜       | 좋아ㅋ진짜
+      그래ㅇㅇ          | 그래ㅇㅇ
+      ㅋㅋㅋ            | ㅋㅋㅋ
+      # 숫자: 영문 단어 안에 끼어 있을 때만 글자로 치환
+      sh1t              | shit
+      5hit              | shit
+      h3llo w0rld       | helloworld
+      2018년            | 2018년
+      # 전각/유사 문자
+      Ｓｈｉｔ          | shit
+      ѕhіt              | shit
+      f u c k           | fuck
+      # 정상 텍스트는 그대로
+      안녕하세요        | 안녕하세요
+      좋아요            | 좋아요
+      """)
+  void normalizesEvasiveSpelling(String text, String expected) {
+    assertThat(ProfanityNormalizer.normalizeToString(text)).isEqualTo(expected);
+  }
+
+  @ParameterizedTest(name = "[{index}] \"{0}\"")
+  @CsvSource(delimiter = '|', textBlock = """
+      # 원문 | 정규화된 문자별 원문 [시작, 끝) 구간
+      ㅅㅣㅂㅏㄹ!       | 0-2 2-5
+      ㅅ ㅣ ㅂ ㅏ ㄹ    | 0-3 4-9
+      시.발             | 0-1 2-3
+      바ㄹ보            | 0-2 2-3
+      f u c k           | 0-1 2-3 4-5 6-7
+      Ｓｈｉｔ          | 0-1 1-2 2-3 3-4
+      """)
+  void mapsEachNormalizedCharBackToOriginalRange(String text, String expectedRanges) {
+    List<String> ranges = ProfanityNormalizer.apply(text, normalized -> {
+      List<String> result = new ArrayList<>();
+      for (int i = 0; i < normalized.length(); i++) {
+        result.add(normalized.originalStart(i) + "-" + normalized.originalEnd(i));
+      }
+      return result;
+    });
+
+    assertThat(String.join(" ", ranges)).isEqualTo(expectedRanges);
+  }
+
+  @Test
+  void matchedFragmentIsReportedInOriginalSpelling() {
+    ProfanityMatcher matcher = ProfanityMatcher.compile(List.of("시발", "shit"));
+
+    ProfanityScanResult result = ProfanityNormalizer.apply("아 ㅅ ㅣ ㅂ ㅏ ㄹ 진짜 Sh1t", matcher::scan);
+
+    assertThat(result.getMatchedWords()).containsExactly("시발", "shit");
+    assertThat(result.getMatchedTexts()).containsExactly("ㅅ ㅣ ㅂ ㅏ ㄹ", "Sh1t");
+  }
+
+  @ParameterizedTest
+  @CsvSource(delimiter = '|', textBlock = """
+      시바견 너무 귀여워요
+      좋아ㅋ 발 밑에
+      2018년
+      Scunthorpe shiitake
+      """)
+  void cleanTextDoesNotMatch(String text) {
+    ProfanityMatcher matcher = ProfanityMatcher.compile(List.of("시발", "좋앜", "18", "shit"));
+
+    assertThat(ProfanityNormalizer.apply(text, matcher::containsAny)).isFalse();
+  }
+
+  @Test
+  void bufferDoesNotKeepLongTextOrItsOriginal() {
+    String longText = "가".repeat(ProfanityNormalizer.MAX_RETAINED_CAPACITY + 1);
+
+    NormalizedText shared = ProfanityNormalizer.normalize("짧은 글");
+    NormalizedText forLongText = ProfanityNormalizer.normalize(longText);
+
+    assertThat(forLongText).isNotSameAs(shared);
+    assertThat(forLongText.length()).isEqualTo(longText.length());
+    assertThat(shared.capacity()).isLessThanOrEqualTo(ProfanityNormalizer.MAX_RETAINED_CAPACITY);
+
+    // apply가 끝나면 스레드 버퍼를 비움
+    assertThat(ProfanityNormalizer.apply("짧은 글", NormalizedText::length)).isEqualTo(3);
+    assertThat(shared.length()).isZero();
+  }
+}